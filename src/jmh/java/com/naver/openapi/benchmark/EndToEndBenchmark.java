@@ -0,0 +1,322 @@
+package com.naver.openapi.benchmark;
+
+import com.naver.openapi.client.NaverApiClient;
+import com.naver.openapi.client.auth.Credential;
+import com.naver.openapi.client.metrics.LatencyHistogram;
+import com.naver.openapi.client.metrics.LatencySnapshot;
+import com.naver.openapi.config.ApiConfig;
+import com.naver.openapi.config.TransportType;
+import io.restassured.response.Response;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 루프백 종단 간 벤치마크 (클라이언트 계층이 전송 시간 위에 더하는 비용 측정)
+ * 
+ * <p>고정 응답 {@link LoopbackServer}를 별도 프로세스로 띄우고, 같은 검색 요청을 다음 경로로 반복 호출합니다.</p>
+ * <ul>
+ *   <li>restassured: NaverApiClient → RestApiClient → REST Assured (기본 전송 계층)</li>
+ *   <li>jdk: NaverApiClient → RestApiClient → java.net.http.HttpClient 전송 계층</li>
+ *   <li>raw-httpclient: java.net.http.HttpClient 직접 호출 (기준선)</li>
+ * </ul>
+ * 
+ * <p>동시 호출자 수(플랫폼 스레드)마다 워밍업 후 일정 시간 동안 처리량, p50/p99 지연 시간,
+ * 요청당 할당 bytes(이 JVM 전체 스레드 합계, 서버는 별도 프로세스라 제외)를 측정합니다.
+ * 캐시, 요청 병합, 레이트 리밋, 쿼터(Client ID별 일일 한도 포함)처럼 호출 자체를 건너뛰거나 지연시키는 기능은 끄고 측정합니다.</p>
+ * 
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec@e2e
+ * mvn -Pjmh test-compile exec:exec@e2e -De2e.args="--callers=1,64 --duration=10 --clients=restassured,raw-httpclient"
+ * </pre>
+ */
+public final class EndToEndBenchmark {
+    
+    private static final String SEARCH_PATH = "/v1/search/blog.json";
+    private static final Map<String, Object> QUERY = Map.of("query", "맛집", "display", 10, "start", 1);
+    private static final List<String> CLIENTS = List.of("restassured", "jdk", "raw-httpclient");
+    
+    /**
+     * 측정 대상 호출 (성공 시 응답 본문 크기 반환)
+     */
+    private interface Caller extends AutoCloseable {
+        int call() throws Exception;
+        
+        @Override
+        void close();
+    }
+    
+    /**
+     * 동시 호출자 수 하나에 대한 측정 결과
+     */
+    private record Result(String client, int callers, long requests, long errors, String firstError, double seconds,
+                          LatencySnapshot latency, long allocatedBytes, long responseBytes) {
+        
+        double throughput() {
+            return requests / seconds;
+        }
+        
+        long bytesPerRequest() {
+            return requests == 0 ? 0 : allocatedBytes / requests;
+        }
+    }
+    
+    private EndToEndBenchmark() {
+    }
+    
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int[] callerCounts = Arrays.stream(options.getOrDefault("callers", "1,4,64,1024").split(","))
+            .mapToInt(Integer::parseInt)
+            .toArray();
+        List<String> clients = List.of(options.getOrDefault("clients", String.join(",", CLIENTS)).split(","));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "3")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "5")));
+        Path out = Path.of(options.getOrDefault("out", "target/e2e-result.md"));
+        int maxCallers = Arrays.stream(callerCounts).max().orElse(1);
+        
+        Process server = startServer();
+        try {
+            String baseUrl = "http://127.0.0.1:" + awaitPort(server);
+            List<Result> results = new ArrayList<>();
+            for (String client : clients) {
+                try (Caller caller = createCaller(client, baseUrl, maxCallers)) {
+                    for (int callers : callerCounts) {
+                        run(client, caller, callers, warmup);
+                        Result result = run(client, caller, callers, duration);
+                        System.out.println(format(result));
+                        if (result.firstError() != null) {
+                            System.out.println("  first error: " + result.firstError());
+                        }
+                        results.add(result);
+                    }
+                }
+            }
+            String report = report(results, warmup, duration);
+            Files.createDirectories(out.toAbsolutePath().getParent());
+            Files.writeString(out, report, StandardCharsets.UTF_8);
+            System.out.println();
+            System.out.println(report);
+            System.out.println("Result written to " + out.toAbsolutePath());
+        } finally {
+            server.destroy();
+            server.waitFor(5, TimeUnit.SECONDS);
+        }
+        System.exit(0);
+    }
+    
+    /**
+     * 같은 클래스패스로 LoopbackServer 프로세스 시작
+     */
+    private static Process startServer() throws IOException {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        return new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                                  LoopbackServer.class.getName(), "0", String.valueOf(QUERY.get("display")))
+            .redirectError(ProcessBuilder.Redirect.INHERIT)
+            .start();
+    }
+    
+    private static int awaitPort(Process server) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(server.getInputStream(), StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.startsWith("READY ")) {
+                return Integer.parseInt(line.substring("READY ".length()).trim());
+            }
+        }
+        throw new IOException("Loopback server exited before becoming ready");
+    }
+    
+    private static Caller createCaller(String client, String baseUrl, int maxCallers) {
+        return switch (client) {
+            case "restassured" -> naverApiClient(baseUrl, maxCallers, TransportType.REST_ASSURED);
+            case "jdk" -> naverApiClient(baseUrl, maxCallers, TransportType.JDK);
+            case "raw-httpclient" -> rawHttpClient(baseUrl);
+            default -> throw new IllegalArgumentException("Unknown client: " + client + " (one of " + CLIENTS + ")");
+        };
+    }
+    
+    private static Caller naverApiClient(String baseUrl, int maxCallers, TransportType transportType) {
+        NaverApiClient client = new NaverApiClient(new ApiConfig.Builder()
+            .baseUrl(baseUrl)
+            .clientId("benchmark-id")
+            .clientSecret("benchmark-secret")
+            .transportType(transportType)
+            .poolMaxTotal(Math.max(maxCallers, 50))
+            .poolMaxPerRoute(Math.max(maxCallers, 50))
+            .rateLimitEnabled(false)
+            .coalescingEnabled(false)
+            .cacheEnabled(false)
+            .quotaEnabled(false)
+            .credentialDailyQuota(Long.MAX_VALUE)
+            .build());
+        return new Caller() {
+            @Override
+            public int call() {
+                Response response = client.get(SEARCH_PATH, QUERY);
+                if (response.statusCode() != 200) {
+                    throw new IllegalStateException("HTTP " + response.statusCode());
+                }
+                return response.asByteArray().length;
+            }
+            
+            @Override
+            public void close() {
+                client.close();
+            }
+        };
+    }
+    
+    private static Caller rawHttpClient(String baseUrl) {
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        Credential credential = Credential.of("benchmark-id", "benchmark-secret");
+        return new Caller() {
+            @Override
+            public int call() throws Exception {
+                StringBuilder uri = new StringBuilder(baseUrl).append(SEARCH_PATH).append('?');
+                QUERY.forEach((name, value) -> uri.append(name).append('=')
+                    .append(URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8)).append('&'));
+                HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(uri.substring(0, uri.length() - 1)))
+                    .timeout(Duration.ofSeconds(10))
+                    .header("Content-Type", "application/json");
+                credential.getHeaders().forEach(request::header);
+                HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+                if (response.statusCode() != 200) {
+                    throw new IllegalStateException("HTTP " + response.statusCode());
+                }
+                return response.body().length;
+            }
+            
+            @Override
+            public void close() {
+                client.shutdownNow();
+            }
+        };
+    }
+    
+    /**
+     * callers개 스레드로 duration 동안 호출 반복
+     */
+    private static Result run(String client, Caller caller, int callers, Duration duration)
+            throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        LongAdder errors = new LongAdder();
+        AtomicReference<String> firstError = new AtomicReference<>();
+        LongAdder responseBytes = new LongAdder();
+        CountDownLatch ready = new CountDownLatch(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        long[] deadline = new long[1];
+        List<Thread> threads = new ArrayList<>(callers);
+        for (int i = 0; i < callers; i++) {
+            threads.add(Thread.ofPlatform().name("e2e-caller-", i).start(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                while (System.nanoTime() < deadline[0]) {
+                    long startNanos = System.nanoTime();
+                    try {
+                        responseBytes.add(caller.call());
+                        histogram.recordNanos(System.nanoTime() - startNanos);
+                    } catch (Exception e) {
+                        errors.increment();
+                        firstError.compareAndSet(null, e.toString());
+                    }
+                }
+            }));
+        }
+        ready.await();
+        com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threadBean.getTotalThreadAllocatedBytes();
+        long startNanos = System.nanoTime();
+        deadline[0] = startNanos + duration.toNanos();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        long allocated = threadBean.getTotalThreadAllocatedBytes() - allocatedBefore;
+        LatencySnapshot latency = histogram.snapshot();
+        return new Result(client, callers, latency.getCount(), errors.sum(), firstError.get(), seconds, latency,
+                          allocated, responseBytes.sum());
+    }
+    
+    private static String format(Result result) {
+        return String.format("| %-14s | %7d | %10d | %10.0f | %8.2f | %8.2f | %12d | %6d |",
+                             result.client(), result.callers(), result.requests(), result.throughput(),
+                             result.latency().getP50Millis(), result.latency().getP99Millis(),
+                             result.bytesPerRequest(), result.errors());
+    }
+    
+    private static String report(List<Result> results, Duration warmup, Duration duration) {
+        StringBuilder report = new StringBuilder()
+            .append("# Loopback End-to-End Benchmark\n\n")
+            .append("- Date: ").append(LocalDate.now()).append('\n')
+            .append("- JVM: ").append(System.getProperty("java.vm.name")).append(' ')
+            .append(System.getProperty("java.runtime.version")).append('\n')
+            .append("- OS: ").append(System.getProperty("os.name")).append(' ').append(System.getProperty("os.arch"))
+            .append(", ").append(Runtime.getRuntime().availableProcessors()).append(" CPUs, max heap ")
+            .append(Runtime.getRuntime().maxMemory() / (1024 * 1024)).append(" MB\n")
+            .append("- Request: GET ").append(SEARCH_PATH).append(' ').append(QUERY)
+            .append(", response ").append(results.isEmpty() || results.get(0).requests() == 0
+                ? 0 : results.get(0).responseBytes() / results.get(0).requests()).append(" bytes\n")
+            .append("- Warmup ").append(warmup.toSeconds()).append("s, measurement ").append(duration.toSeconds())
+            .append("s per row; alloc/req is the whole client JVM (server runs in a separate process)\n");
+        int cpus = Runtime.getRuntime().availableProcessors();
+        if (results.stream().anyMatch(result -> result.callers() > cpus)) {
+            report.append("- Rows with more callers than CPUs (").append(cpus)
+                .append(") are dominated by scheduling of the caller platform threads, not by the client; ")
+                .append("compare them only against a run with the same core count\n");
+        }
+        report.append('\n')
+            .append("| client         | callers |   requests |      req/s |  p50 ms  |  p99 ms  | alloc B/req  | errors |\n")
+            .append("|----------------|--------:|-----------:|-----------:|---------:|---------:|-------------:|-------:|\n");
+        for (Result result : results) {
+            report.append(format(result)).append('\n');
+        }
+        return report.toString();
+    }
+    
+    /**
+     * --key=value 형식 인자 파싱
+     */
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value but was: " + arg);
+            }
+            int equals = arg.indexOf('=');
+            options.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+        return options;
+    }
+}
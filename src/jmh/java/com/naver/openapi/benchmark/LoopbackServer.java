@@ -0,0 +1,62 @@
+package com.naver.openapi.benchmark;
+
+import com.naver.openapi.mock.BenchmarkFixtures;
+import com.naver.openapi.mock.MockNaverApiServer;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executors;
+
+/**
+ * 고정 응답 루프백 서버 (종단 간 벤치마크용)
+ * 
+ * <p>응답 본문을 시작할 때 한 번만 만들어 두고 모든 요청에 그대로 보내므로 서버 처리 시간이 거의 0입니다.
+ * 클라이언트 할당량 측정에 섞이지 않도록 {@link EndToEndBenchmark}가 별도 프로세스로 실행하며,
+ * 준비되면 표준 출력에 {@code READY <port>}를 출력합니다.</p>
+ * 
+ * <ul>
+ *   <li>GET /v1/search/* : 블로그 검색 결과 (display건)</li>
+ *   <li>POST /v1/datalab/search : 검색어 트렌드 (월간 1년, 그룹 5개)</li>
+ * </ul>
+ */
+public final class LoopbackServer {
+    
+    private LoopbackServer() {
+    }
+    
+    /**
+     * @param args [0] 포트 (기본 0, 임의의 빈 포트), [1] 검색 응답 display (기본 10)
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 0;
+        int display = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        byte[] searchBody = BenchmarkFixtures.searchBody("blog", "맛집", display);
+        byte[] trendBody = BenchmarkFixtures.trendBody(BenchmarkFixtures.trendRequest("month", 5, 4, false));
+        
+        // 헤더와 본문을 따로 쓰므로 Nagle + delayed ACK로 응답마다 약 40ms가 더해지지 않게 TCP_NODELAY 사용
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 4096);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/v1/search/", exchange -> respond(exchange, searchBody));
+        server.createContext(MockNaverApiServer.DATALAB_PATH, exchange -> respond(exchange, trendBody));
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(0)));
+        
+        System.out.println("READY " + server.getAddress().getPort());
+        System.out.flush();
+    }
+    
+    private static void respond(HttpExchange exchange, byte[] body) throws IOException {
+        try (exchange; InputStream input = exchange.getRequestBody(); OutputStream output = exchange.getResponseBody()) {
+            input.transferTo(OutputStream.nullOutputStream());
+            exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            output.write(body);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.naver.openapi.client;
+
+import com.naver.openapi.client.auth.Credential;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link NaverApiClient#mergeHeaders(Credential, Map)} (요청마다 호출됨)
+ * 
+ * <p>커스텀 헤더가 없으면 인증 헤더 Map을 그대로 반환하므로 할당이 0이어야 합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MergeHeadersBenchmark {
+    
+    private final Credential credential = Credential.of("benchmark-id", "benchmark-secret");
+    private final Map<String, String> customHeaders = Map.of(
+        "X-Request-Id", "5f0c6a2e-7d3b-4f1a-9c8e-2b6d4a1f3e70",
+        "Accept-Language", "ko-KR");
+    
+    @Benchmark
+    public Map<String, String> withoutCustomHeaders() {
+        return NaverApiClient.mergeHeaders(credential, null);
+    }
+    
+    @Benchmark
+    public Map<String, String> withCustomHeaders() {
+        return NaverApiClient.mergeHeaders(credential, customHeaders);
+    }
+}
@@ -0,0 +1,64 @@
+package com.naver.openapi.client.transport;
+
+import com.naver.openapi.client.auth.Credential;
+import com.naver.openapi.config.ApiConfig;
+import com.naver.openapi.mock.BenchmarkFixtures;
+import com.naver.openapi.model.request.SearchTrendRequest;
+import io.restassured.specification.RequestSpecification;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RestApiClient → RestAssuredTransport 요청 스펙 구성 (전송 직전까지, 네트워크 없음)
+ * 
+ * <p>RestApiClient가 만드는 {@link ApiRequest}와 공유 스펙 복사, 헤더/파라미터/본문 적용까지 포함합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RequestSpecBenchmark {
+    
+    private RestAssuredTransport transport;
+    private Map<String, String> headers;
+    private Map<String, Object> queryParams;
+    private SearchTrendRequest trendRequest;
+    
+    @Setup
+    public void setUp() {
+        transport = new RestAssuredTransport(new ApiConfig.Builder()
+            .baseUrl("http://127.0.0.1:18080")
+            .clientId("benchmark-id")
+            .clientSecret("benchmark-secret")
+            .build());
+        headers = Credential.of("benchmark-id", "benchmark-secret").getHeaders();
+        queryParams = Map.of("query", "맛집", "display", 100, "start", 1, "sort", "sim");
+        trendRequest = BenchmarkFixtures.trendRequest("month", 5, 4, false);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        transport.close();
+    }
+    
+    @Benchmark
+    public RequestSpecification searchGet() {
+        return transport.prepare(ApiRequest.builder()
+            .method("GET")
+            .path("/v1/search/blog.json")
+            .headers(headers)
+            .queryParams(queryParams)
+            .build());
+    }
+    
+    @Benchmark
+    public RequestSpecification trendPost() {
+        return transport.prepare(ApiRequest.builder()
+            .method("POST")
+            .path("/v1/datalab/search")
+            .headers(headers)
+            .body(trendRequest)
+            .build());
+    }
+}
@@ -0,0 +1,75 @@
+package com.naver.openapi.mock;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naver.openapi.model.request.SearchTrendRequest;
+
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 응답 본문 생성 (MockNaverApiServer와 같은 생성기 사용, 항상 같은 내용)
+ */
+public final class BenchmarkFixtures {
+    
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-06-01T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+    
+    private BenchmarkFixtures() {
+    }
+    
+    /**
+     * 검색 API 응답 본문 (display건)
+     */
+    public static byte[] searchBody(String type, String query, int display) {
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(
+                new SearchResultGenerator(OBJECT_MAPPER, CLOCK).generate(type, query, 1, display, "sim"));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * DataLab 검색어 트렌드 응답 본문
+     */
+    public static byte[] trendBody(SearchTrendRequest request) {
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(new TrendResultGenerator().generate(request));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * 검색어 그룹 groups개(그룹당 검색어 keywords개)로 구성한 트렌드 요청
+     * 
+     * @param withFilters device/gender/ages까지 채울지 여부 (false면 선택 필드는 null로 제외)
+     */
+    public static SearchTrendRequest trendRequest(String timeUnit, int groups, int keywords, boolean withFilters) {
+        List<SearchTrendRequest.KeywordGroup> keywordGroups = new ArrayList<>(groups);
+        for (int g = 0; g < groups; g++) {
+            List<String> words = new ArrayList<>(keywords);
+            for (int k = 0; k < keywords; k++) {
+                words.add("검색어" + g + "-" + k);
+            }
+            keywordGroups.add(SearchTrendRequest.KeywordGroup.builder()
+                .groupName("그룹" + g)
+                .keywords(words)
+                .build());
+        }
+        SearchTrendRequest.SearchTrendRequestBuilder builder = SearchTrendRequest.builder()
+            .startDate("2023-01-01")
+            .endDate("2023-12-31")
+            .timeUnit(timeUnit)
+            .keywordGroups(keywordGroups);
+        if (withFilters) {
+            builder.device("mo").gender("f").ages(List.of("3", "4", "5"));
+        }
+        return builder.build();
+    }
+}
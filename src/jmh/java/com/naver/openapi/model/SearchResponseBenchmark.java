@@ -0,0 +1,58 @@
+package com.naver.openapi.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naver.openapi.client.decode.ResponseDecoder;
+import com.naver.openapi.mock.BenchmarkFixtures;
+import com.naver.openapi.model.response.SearchResponse;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 API 응답 역직렬화 (display 크기별)
+ * 
+ * <ul>
+ *   <li>asString: {@code response.as(SearchResponse.class)}처럼 본문을 String으로 만든 뒤 바인딩</li>
+ *   <li>decode: {@link ResponseDecoder#decodeSearch}로 본문 스트림을 바로 파싱</li>
+ *   <li>forEachItem: 아이템을 하나씩 처리 (목록을 만들지 않음)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchResponseBenchmark {
+    
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    
+    @Param({"1", "10", "50", "100"})
+    public int display;
+    
+    @Param({"blog", "shop"})
+    public String type;
+    
+    private byte[] body;
+    
+    @Setup
+    public void setUp() {
+        body = BenchmarkFixtures.searchBody(type, "맛집", display);
+    }
+    
+    @Benchmark
+    public SearchResponse asString() throws IOException {
+        return OBJECT_MAPPER.readValue(new String(body, StandardCharsets.UTF_8), SearchResponse.class);
+    }
+    
+    @Benchmark
+    public SearchResponse decode() {
+        return ResponseDecoder.decodeSearch(new ByteArrayInputStream(body));
+    }
+    
+    @Benchmark
+    public SearchResponse forEachItem(Blackhole blackhole) {
+        return ResponseDecoder.forEachSearchItem(new ByteArrayInputStream(body), blackhole::consume);
+    }
+}
@@ -0,0 +1,56 @@
+package com.naver.openapi.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naver.openapi.client.transport.ApiRequest;
+import com.naver.openapi.mock.BenchmarkFixtures;
+import com.naver.openapi.model.request.SearchTrendRequest;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SearchTrendRequest 직렬화 ({@code @JsonInclude(NON_NULL)}로 선택 필드 제외 여부 포함)
+ * 
+ * <ul>
+ *   <li>serializeBody: JDK 전송 계층/JFR 이벤트가 쓰는 {@link ApiRequest#serializeBody()}</li>
+ *   <li>writeValueAsString: REST Assured처럼 본문을 String으로 만드는 경로</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchTrendRequestBenchmark {
+    
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    
+    /**
+     * 검색어 그룹 수 (API 최대 5개, 그룹당 검색어 4개)
+     */
+    @Param({"1", "5"})
+    public int groups;
+    
+    /**
+     * device/gender/ages 포함 여부 (false면 null 필드가 모두 제외됨)
+     */
+    @Param({"false", "true"})
+    public boolean withFilters;
+    
+    private ApiRequest request;
+    
+    @Setup
+    public void setUp() {
+        SearchTrendRequest body = BenchmarkFixtures.trendRequest("month", groups, 4, withFilters);
+        request = ApiRequest.builder().method("POST").path("/v1/datalab/search").body(body).build();
+    }
+    
+    @Benchmark
+    public byte[] serializeBody() {
+        return request.serializeBody();
+    }
+    
+    @Benchmark
+    public String writeValueAsString() throws JsonProcessingException {
+        return OBJECT_MAPPER.writeValueAsString(request.getBody());
+    }
+}
@@ -0,0 +1,43 @@
+package com.naver.openapi.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naver.openapi.client.decode.ResponseDecoder;
+import com.naver.openapi.mock.BenchmarkFixtures;
+import com.naver.openapi.model.response.SearchTrendResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataLab 검색어 트렌드 응답 역직렬화 (1년 구간, 그룹 5개 기준 month 12 / week 53 / date 365 구간)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchTrendResponseBenchmark {
+    
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    
+    @Param({"month", "week", "date"})
+    public String timeUnit;
+    
+    private byte[] body;
+    
+    @Setup
+    public void setUp() {
+        body = BenchmarkFixtures.trendBody(BenchmarkFixtures.trendRequest(timeUnit, 5, 4, false));
+    }
+    
+    @Benchmark
+    public SearchTrendResponse asString() throws IOException {
+        return OBJECT_MAPPER.readValue(new String(body, StandardCharsets.UTF_8), SearchTrendResponse.class);
+    }
+    
+    @Benchmark
+    public SearchTrendResponse decode() {
+        return ResponseDecoder.decodeTrend(new ByteArrayInputStream(body));
+    }
+}
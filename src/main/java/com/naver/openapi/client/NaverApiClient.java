@@ -1,71 +1,349 @@
 package com.naver.openapi.client;
 
+import com.naver.openapi.client.auth.Credential;
+import com.naver.openapi.client.auth.CredentialPool;
+import com.naver.openapi.client.cache.DiskResponseCache;
+import com.naver.openapi.client.circuit.CircuitBreakerRegistry;
+import com.naver.openapi.client.cache.ResponseCache;
+import com.naver.openapi.client.coalesce.RequestCoalescer;
+import com.naver.openapi.client.datalab.TrendFanOut;
+import com.naver.openapi.client.datalab.TrendRangeChunker;
+import com.naver.openapi.client.decode.ResponseDecoder;
+import com.naver.openapi.client.hedge.HedgePermit;
+import com.naver.openapi.client.hedge.HedgingExecutor;
+import com.naver.openapi.client.jfr.ApiRequestEvent;
+import com.naver.openapi.client.paging.SearchItemPublisher;
+import com.naver.openapi.client.paging.SearchPaginator;
+import com.naver.openapi.client.quota.QuotaLedger;
+import com.naver.openapi.client.ratelimit.RateLimiterRegistry;
+import com.naver.openapi.client.retry.RetryExecutor;
 import com.naver.openapi.config.ApiConfig;
+import com.naver.openapi.model.request.SearchRequest;
+import com.naver.openapi.model.request.SearchTrendRequest;
+import com.naver.openapi.model.response.SearchResponse.SearchItem;
+import com.naver.openapi.model.response.SearchTrendResponse;
 import io.restassured.response.Response;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Naver Open API 전용 클라이언트
- * Client ID/Secret 헤더 자동 추가
+ * Client ID/Secret 헤더 자동 추가 (여러 Client ID 설정 시 가중치 대비 사용량이 적은 쪽으로 분산)
+ * 엔드포인트별 레이트 리밋 적용 (모든 스레드 공통)
+ * 엔드포인트 그룹별 일일 예산 관리 (예산 소진 시 요청 없이 즉시 실패, 선택적 페이싱)
+ * 엔드포인트별 서킷 브레이커로 장애 엔드포인트 요청은 즉시 실패
+ * 일시적 오류(429/5xx, 타임아웃)는 지터 백오프로 재시도 (재시도도 레이트 리밋 적용)
+ * 동시에 들어온 동일 GET 요청은 하나의 HTTP 호출로 병합
+ * (선택) 느린 GET 요청은 헤지 요청으로 tail latency 단축
+ * getAsync/postAsync: CompletableFuture 기반 비동기 API (기본 Virtual Thread)
+ * 검색 API GET 응답은 엔드포인트별 TTL로 메모리 캐싱
+ * (선택) 디스크 캐시로 재시작 후에도 DataLab 등의 응답 재사용
+ * JFR 기록 중에는 요청마다 ApiRequestEvent (캐시 적중, 재시도 횟수) 발행
  */
 @Slf4j
-public class NaverApiClient {
-    
-    private static final String HEADER_CLIENT_ID = "X-Naver-Client-Id";
-    private static final String HEADER_CLIENT_SECRET = "X-Naver-Client-Secret";
+public class NaverApiClient implements AutoCloseable {
     
     private final RestApiClient restApiClient;
     private final ApiConfig apiConfig;
+    private final CredentialPool credentials;
+    private final QuotaLedger quotaLedger;
+    private final RateLimiterRegistry rateLimiters;
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final RetryExecutor retryExecutor;
+    private final HedgingExecutor hedgingExecutor;
+    private final RequestCoalescer coalescer;
+    private final ResponseCache responseCache;
+    private final DiskResponseCache diskCache;
+    private final ExecutorService asyncExecutor;
+    private final boolean ownsAsyncExecutor;
     
     public NaverApiClient(ApiConfig apiConfig) {
+        this(apiConfig, new RestApiClient(apiConfig));
+    }
+    
+    public NaverApiClient(ApiConfig apiConfig, RestApiClient restApiClient) {
+        this(apiConfig, restApiClient, null);
+    }
+    
+    /**
+     * @param asyncExecutor 비동기 API, 페이징, DataLab 분할 조회에 사용할 Executor
+     *                      (null이면 Virtual Thread Executor를 생성하며 close 시 함께 종료)
+     */
+    public NaverApiClient(ApiConfig apiConfig, RestApiClient restApiClient, ExecutorService asyncExecutor) {
         this.apiConfig = apiConfig;
-        this.restApiClient = new RestApiClient(apiConfig);
+        this.restApiClient = restApiClient;
+        this.credentials = new CredentialPool(apiConfig);
+        this.quotaLedger = new QuotaLedger(apiConfig, credentials.getCredentials().size());
+        this.rateLimiters = new RateLimiterRegistry(apiConfig);
+        this.circuitBreakers = new CircuitBreakerRegistry(apiConfig);
+        this.retryExecutor = new RetryExecutor(apiConfig);
+        this.hedgingExecutor = new HedgingExecutor(apiConfig, rateLimiters);
+        this.coalescer = new RequestCoalescer();
+        this.responseCache = new ResponseCache(apiConfig);
+        this.diskCache = new DiskResponseCache(apiConfig);
+        this.ownsAsyncExecutor = asyncExecutor == null;
+        this.asyncExecutor = ownsAsyncExecutor 
+            ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("naver-api-async-", 0).factory())
+            : asyncExecutor;
         log.info("NaverApiClient initialized");
     }
     
     /**
-     * Naver API 인증 헤더 생성
+     * 커스텀 헤더와 대표 Client ID 인증 헤더 병합
      */
-    private Map<String, String> createAuthHeaders() {
-        Map<String, String> headers = new HashMap<>();
-        headers.put(HEADER_CLIENT_ID, apiConfig.getClientId());
-        headers.put(HEADER_CLIENT_SECRET, apiConfig.getClientSecret());
-        return headers;
+    Map<String, String> mergeHeaders(Map<String, String> customHeaders) {
+        return mergeHeaders(credentials.getPrimary(), customHeaders);
     }
     
     /**
      * 커스텀 헤더와 인증 헤더 병합
+     * 커스텀 헤더가 없으면 인증 헤더 Map을 그대로 반환 (요청당 할당 없음)
      */
-    private Map<String, String> mergeHeaders(Map<String, String> customHeaders) {
-        Map<String, String> headers = createAuthHeaders();
-        if (customHeaders != null) {
-            headers.putAll(customHeaders);
+    static Map<String, String> mergeHeaders(Credential credential, Map<String, String> customHeaders) {
+        if (customHeaders == null || customHeaders.isEmpty()) {
+            return credential.getHeaders();
         }
+        Map<String, String> headers = new HashMap<>(credential.getHeaders());
+        headers.putAll(customHeaders);
         return headers;
     }
     
+    /**
+     * 레이트 리밋 적용 후 요청 실행
+     * 재시도 정책에 따라 재시도하며, 매 시도마다 레이트 리밋 토큰을 소비
+     * 서킷이 열려 있으면 토큰을 소비하지 않고 CallNotPermittedException으로 즉시 실패
+     * Client ID는 시도마다 선택하므로 한도 초과(429) 후 재시도는 다른 Client ID로 전송
+     * 일일 예산을 다 쓴 엔드포인트 그룹은 QuotaExhaustedException으로 즉시 실패
+     * JFR 기록 중이면 재시도 횟수를 포함한 ApiRequestEvent 발행
+     */
+    private Response execute(String method, String path, Function<Credential, Response> call) {
+        ApiRequestEvent event = new ApiRequestEvent();
+        event.begin();
+        AtomicInteger attempts = new AtomicInteger();
+        Response response = null;
+        try {
+            response = retryExecutor.execute(method, path, () -> {
+                attempts.incrementAndGet();
+                return attempt(path, call);
+            });
+            return response;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.method = method;
+                event.path = path;
+                event.status = response != null ? response.statusCode() : -1;
+                event.retryCount = Math.max(0, attempts.get() - 1);
+                event.commit();
+            }
+        }
+    }
+    
+    /**
+     * 요청 1회 시도 (예산, Client ID 선택, 서킷, 레이트 리밋 적용)
+     */
+    private Response attempt(String path, Function<Credential, Response> call) {
+        Credential credential = reserveQuota(path);
+        try {
+            circuitBreakers.acquirePermission(path);
+        } catch (RuntimeException e) {
+            quotaLedger.release(path, credential);
+            throw e;
+        }
+        try {
+            rateLimiters.acquire(path);
+        } catch (RuntimeException e) {
+            // 요청을 보내지 않았으므로 결과 기록 없이 HALF_OPEN 시험 허가와 쿼터 예약을 돌려줌
+            circuitBreakers.releasePermission(path);
+            quotaLedger.release(path, credential);
+            throw e;
+        }
+        credentials.onSent(credential);
+        long startNanos = System.nanoTime();
+        Response response;
+        try {
+            response = call.apply(credential);
+        } catch (RuntimeException e) {
+            circuitBreakers.onError(path, System.nanoTime() - startNanos);
+            throw e;
+        }
+        circuitBreakers.onResult(path, response.statusCode(), System.nanoTime() - startNanos);
+        if (!credentials.onResponse(credential, response)) {
+            // 일일 한도 초과는 초당 요청 수와 무관하므로 감속하지 않음
+            rateLimiters.onResponse(path, response.statusCode());
+        }
+        return response;
+    }
+    
+    /**
+     * 예산 확인 후 Client ID를 골라 일일 쿼터 1건 예약
+     * 다른 호출이 남은 예산을 먼저 예약했으면 다시 선택 (그룹 예산이 소진됐으면 pace가 예외)
+     */
+    private Credential reserveQuota(String path) {
+        while (true) {
+            quotaLedger.pace(path);
+            Credential credential = credentials.acquire(candidate -> quotaLedger.hasRemaining(path, candidate));
+            if (quotaLedger.tryReserve(path, credential)) {
+                return credential;
+            }
+        }
+    }
+    
+    /**
+     * 헤지 요청 쿼터 예약 (같은 Client ID의 예산이 남아 있을 때만 헤지, 보내지 않으면 예약 반환)
+     */
+    private HedgePermit hedgePermit(String path, Credential credential) {
+        return new HedgePermit() {
+            @Override
+            public boolean tryAcquire() {
+                if (credentials.getRemaining(credential) <= 0 || !quotaLedger.tryReserve(path, credential)) {
+                    return false;
+                }
+                credentials.onSent(credential);
+                return true;
+            }
+            
+            @Override
+            public void release() {
+                quotaLedger.release(path, credential);
+                credentials.onUnsent(credential);
+            }
+        };
+    }
+    
+    /**
+     * GET 요청 실행
+     * 캐시 적중 시 즉시 반환하고, 동일 요청이 진행 중이면 결과를 공유
+     * 병합된 요청은 레이트 리밋 토큰도 소비하지 않음
+     * 헤지 활성화 시 비동기 전송으로 요청하여 늦은 쪽 요청을 취소할 수 있게 함
+     */
+    private Response executeGet(String path, Map<String, ?> queryParams) {
+        RequestKey key = getKey(path, queryParams);
+        Response cached = getCached(key);
+        if (cached != null) {
+            return cached;
+        }
+        
+        Supplier<Response> loader = getLoader(key, path, queryParams);
+        if (!apiConfig.isCoalescingEnabled()) {
+            return loader.get();
+        }
+        return coalescer.execute(key, loader);
+    }
+    
+    /**
+     * GET 요청 비동기 실행 (캐시 · 병합 규칙은 {@link #executeGet}과 동일)
+     * 
+     * <p>병합된 요청은 호출마다 별도 Future를 받으므로, 한 호출이 취소되거나 타임아웃되어도
+     * 그 호출만 실패하고 공유 요청은 끝까지 진행되어 다른 호출에 결과를 전달합니다.
+     * 실행 중인 스레드는 기다리는 호출이 모두 떠난 경우에만 인터럽트합니다.</p>
+     */
+    private <T> CompletableFuture<T> executeGetAsync(String path, Map<String, ?> queryParams,
+                                                     Function<Response, T> mapper, Duration timeout) {
+        if (!apiConfig.isCoalescingEnabled()) {
+            return supplyAsync(() -> mapper.apply(executeGet(path, queryParams)), timeout);
+        }
+        RequestKey key = getKey(path, queryParams);
+        Response cached = getCached(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached).thenApply(mapper);
+        }
+        
+        CompletableFuture<Response> shared = coalescer.executeAsync(key, getLoader(key, path, queryParams), 
+                                                                    asyncExecutor);
+        CompletableFuture<T> result = shared.thenApply(mapper);
+        result.whenComplete((value, error) -> {
+            if (error != null) {
+                // 이 호출만 공유 요청에서 빠짐 (마지막 호출이면 공유 요청도 중단)
+                shared.cancel(false);
+            }
+        });
+        if (timeout != null && !timeout.isZero()) {
+            result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return result;
+    }
+    
+    private RequestKey getKey(String path, Map<String, ?> queryParams) {
+        return RequestKey.of("GET", path, queryParams, credentials.getPrimary().getClientId());
+    }
+    
+    private Response getCached(RequestKey key) {
+        Response cached = responseCache.get(key);
+        if (cached != null) {
+            ApiRequestEvent.cacheHit("GET", key.getPath(), "memory", cached.statusCode());
+        }
+        return cached;
+    }
+    
+    /**
+     * 캐시 미적중 시 GET 요청 실행 (디스크 캐시 → 재시도 · 레이트 리밋 → 메모리 캐시 저장)
+     */
+    private Supplier<Response> getLoader(RequestKey key, String path, Map<String, ?> queryParams) {
+        Function<Credential, Response> call = hedgingExecutor.isEnabled()
+            ? credential -> hedgingExecutor.execute(path, 
+                () -> restApiClient.getWithHeadersAsync(path, credential.getHeaders(), queryParams),
+                hedgePermit(path, credential))
+            : credential -> restApiClient.getWithHeaders(path, credential.getHeaders(), queryParams);
+        return () -> responseCache.putIfCacheable(key, loadThroughDiskCache(key, path, call));
+    }
+    
+    /**
+     * POST 요청 실행 (디스크 캐시 대상 경로면 캐시 우선 조회)
+     */
+    private Response executePost(String path, Object body, Function<Credential, Response> call) {
+        if (!diskCache.isCacheable(path)) {
+            return execute("POST", path, call);
+        }
+        RequestKey key = RequestKey.of("POST", path, null, credentials.getPrimary().getClientId(), body);
+        return loadThroughDiskCache(key, path, call);
+    }
+    
+    /**
+     * 디스크 캐시 조회 후 없으면 요청 실행 및 저장
+     */
+    private Response loadThroughDiskCache(RequestKey key, String path, Function<Credential, Response> call) {
+        Response stored = diskCache.get(key);
+        if (stored != null) {
+            ApiRequestEvent.cacheHit(key.getMethod(), path, "disk", stored.statusCode());
+            return stored;
+        }
+        return diskCache.putIfCacheable(key, execute(key.getMethod(), path, call));
+    }
+    
     /**
      * GET 요청 (인증 헤더 자동 추가)
      */
     public Response get(String path) {
-        return restApiClient.getWithHeaders(path, createAuthHeaders());
+        return executeGet(path, null);
     }
     
     /**
      * GET 요청 with Query Parameters (인증 헤더 자동 추가)
      */
     public Response get(String path, Map<String, ?> queryParams) {
-        return restApiClient.getWithHeaders(path, createAuthHeaders(), queryParams);
+        return executeGet(path, queryParams);
     }
     
     /**
      * GET 요청 with Custom Headers (인증 헤더 자동 추가)
      */
     public Response getWithHeaders(String path, Map<String, String> customHeaders) {
-        return restApiClient.getWithHeaders(path, mergeHeaders(customHeaders));
+        return execute("GET", path, 
+            credential -> restApiClient.getWithHeaders(path, mergeHeaders(credential, customHeaders)));
     }
     
     /**
@@ -74,14 +352,16 @@ public class NaverApiClient {
     public Response getWithHeaders(String path, 
                                     Map<String, String> customHeaders,
                                     Map<String, ?> queryParams) {
-        return restApiClient.getWithHeaders(path, mergeHeaders(customHeaders), queryParams);
+        return execute("GET", path, 
+            credential -> restApiClient.getWithHeaders(path, mergeHeaders(credential, customHeaders), queryParams));
     }
     
     /**
      * POST 요청 (인증 헤더 자동 추가)
      */
     public Response post(String path, Object body) {
-        return restApiClient.postWithHeaders(path, createAuthHeaders(), body);
+        return executePost(path, body, 
+            credential -> restApiClient.postWithHeaders(path, credential.getHeaders(), body));
     }
     
     /**
@@ -90,14 +370,192 @@ public class NaverApiClient {
     public Response postWithHeaders(String path, 
                                      Map<String, String> customHeaders,
                                      Object body) {
-        return restApiClient.postWithHeaders(path, mergeHeaders(customHeaders), body);
+        return execute("POST", path, 
+            credential -> restApiClient.postWithHeaders(path, mergeHeaders(credential, customHeaders), body));
+    }
+    
+    /**
+     * GET 요청 (비동기)
+     */
+    public CompletableFuture<Response> getAsync(String path, Map<String, ?> queryParams) {
+        return executeGetAsync(path, queryParams, Function.identity(), defaultAsyncTimeout());
+    }
+    
+    /**
+     * GET 요청 (비동기, 응답 타입 변환)
+     * 200 이외의 응답은 IllegalStateException으로 실패
+     * 
+     * <pre>
+     * CompletableFuture&lt;SearchResponse&gt; blog = client.getAsync(BLOG, params, SearchResponse.class);
+     * </pre>
+     */
+    public <T> CompletableFuture<T> getAsync(String path, Map<String, ?> queryParams, Class<T> type) {
+        return getAsync(path, queryParams, type, defaultAsyncTimeout());
+    }
+    
+    /**
+     * GET 요청 (비동기, 응답 타입 변환, 호출별 타임아웃)
+     */
+    public <T> CompletableFuture<T> getAsync(String path, Map<String, ?> queryParams, Class<T> type,
+                                             Duration timeout) {
+        return executeGetAsync(path, queryParams, response -> decode(path, response, type), timeout);
+    }
+    
+    /**
+     * POST 요청 (비동기)
+     */
+    public CompletableFuture<Response> postAsync(String path, Object body) {
+        return supplyAsync(() -> post(path, body), defaultAsyncTimeout());
+    }
+    
+    /**
+     * POST 요청 (비동기, 응답 타입 변환)
+     * 200 이외의 응답은 IllegalStateException으로 실패
+     */
+    public <T> CompletableFuture<T> postAsync(String path, Object body, Class<T> type) {
+        return postAsync(path, body, type, defaultAsyncTimeout());
+    }
+    
+    /**
+     * POST 요청 (비동기, 응답 타입 변환, 호출별 타임아웃)
+     */
+    public <T> CompletableFuture<T> postAsync(String path, Object body, Class<T> type, Duration timeout) {
+        return supplyAsync(() -> decode(path, post(path, body), type), timeout);
+    }
+    
+    /**
+     * 동기 호출을 asyncExecutor에서 실행
+     * 
+     * <p>반환된 Future가 취소되거나 타임아웃되면 실행 중인 스레드를 인터럽트합니다.
+     * Virtual Thread에서는 인터럽트 시 블로킹 중인 소켓이 닫히고, JDK HttpClient는 교환을 취소하므로
+     * 진행 중인 HTTP 요청과 레이트 리밋/재시도 대기도 함께 중단됩니다.
+     * 다른 호출과 공유하지 않는 작업에만 사용합니다 (병합 가능한 GET은 {@link #executeGetAsync}).</p>
+     */
+    private <T> CompletableFuture<T> supplyAsync(Supplier<T> task, Duration timeout) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> running = asyncExecutor.submit(() -> {
+            try {
+                result.complete(task.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        result.whenComplete((value, error) -> {
+            if (error != null) {
+                running.cancel(true);
+            }
+        });
+        if (timeout != null && !timeout.isZero()) {
+            result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return result;
+    }
+    
+    private Duration defaultAsyncTimeout() {
+        return Duration.ofMillis(apiConfig.getAsyncTimeoutMillis());
+    }
+    
+    private static <T> T decode(String path, Response response, Class<T> type) {
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Request to " + path + " failed (status=" + response.statusCode() 
+                                            + "): " + response.asString());
+        }
+        return ResponseDecoder.decode(response, type);
+    }
+    
+    /**
+     * 검색 결과 자동 페이징 (display=100, 다음 페이지 병렬 선조회)
+     */
+    public SearchPaginator paginate(String path, SearchRequest request) {
+        return paginate(path, request, apiConfig.getPagingPrefetch());
+    }
+    
+    /**
+     * 검색 결과 자동 페이징 (선조회 페이지 수 지정)
+     */
+    public SearchPaginator paginate(String path, SearchRequest request, int prefetch) {
+        return new SearchPaginator(params -> get(path, params), request, prefetch, asyncExecutor);
+    }
+    
+    /**
+     * 여러 검색어의 검색 결과를 구독자 수요(request(n))에 맞춰 스트리밍
+     * 동시에 진행하거나 버퍼링하는 페이지는 최대 naver.api.paging.prefetch개
+     */
+    public Flow.Publisher<SearchItem> publish(String path, List<SearchRequest> requests) {
+        return new SearchItemPublisher(params -> get(path, params), requests, 
+                                       apiConfig.getPagingPrefetch(), asyncExecutor);
+    }
+    
+    /**
+     * DataLab 검색어 트렌드 조회
+     * 긴 기간은 겹치는 구간으로, 5개 초과 그룹은 기준 그룹을 공유하는 요청으로 나누어 병렬 조회 후
+     * 하나의 공통 비율로 병합
+     */
+    public SearchTrendResponse searchTrend(String path, SearchTrendRequest request) {
+        TrendFanOut fanOut = new TrendFanOut(body -> post(path, body), asyncExecutor);
+        return new TrendRangeChunker(fanOut::fetch, asyncExecutor, 
+                                     apiConfig.getDatalabChunkDays(), apiConfig.getDatalabOverlapDays())
+            .fetch(request);
     }
     
     public ApiConfig getApiConfig() {
         return apiConfig;
     }
     
+    /**
+     * 대표 Client ID 인증 정보
+     */
+    public Credential getCredential() {
+        return credentials.getPrimary();
+    }
+    
+    public CredentialPool getCredentialPool() {
+        return credentials;
+    }
+    
     public RestApiClient getRestApiClient() {
         return restApiClient;
     }
+    
+    public QuotaLedger getQuotaLedger() {
+        return quotaLedger;
+    }
+    
+    public RateLimiterRegistry getRateLimiters() {
+        return rateLimiters;
+    }
+    
+    public CircuitBreakerRegistry getCircuitBreakers() {
+        return circuitBreakers;
+    }
+    
+    public RetryExecutor getRetryExecutor() {
+        return retryExecutor;
+    }
+    
+    public HedgingExecutor getHedgingExecutor() {
+        return hedgingExecutor;
+    }
+    
+    public RequestCoalescer getCoalescer() {
+        return coalescer;
+    }
+    
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+    
+    public DiskResponseCache getDiskCache() {
+        return diskCache;
+    }
+    
+    @Override
+    public void close() {
+        if (ownsAsyncExecutor) {
+            asyncExecutor.shutdownNow();
+        }
+        quotaLedger.close();
+        diskCache.close();
+        restApiClient.close();
+    }
 }
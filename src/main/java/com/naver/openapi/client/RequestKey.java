@@ -0,0 +1,102 @@
+package com.naver.openapi.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+/**
+ * 요청 식별 키 (메서드 + 경로 + 정규화된 쿼리 + 본문 + 인증 주체)
+ * 
+ * <p>쿼리 파라미터는 이름순으로 정렬하고 값은 문자열로 정규화하므로
+ * {@code Map}의 구현체나 삽입 순서, 값 타입(10 vs "10")과 무관하게 같은 요청은 같은 키가 됩니다.
+ * 이름과 값은 URL 인코딩하므로 값에 {@code &}, {@code =}가 들어 있어도 다른 요청과 키가 겹치지 않습니다.
+ * 요청 본문(POST)은 속성 이름순으로 정렬한 JSON으로 정규화합니다.</p>
+ */
+@Getter
+@EqualsAndHashCode
+public final class RequestKey {
+    
+    private static final ObjectMapper CANONICAL_MAPPER = JsonMapper.builder()
+        .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+        .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+        .build();
+    
+    private final String method;
+    private final String path;
+    private final String canonicalQuery;
+    private final String canonicalBody;
+    private final String credential;
+    
+    private RequestKey(String method, String path, String canonicalQuery, String canonicalBody, String credential) {
+        this.method = method;
+        this.path = path;
+        this.canonicalQuery = canonicalQuery;
+        this.canonicalBody = canonicalBody;
+        this.credential = credential;
+    }
+    
+    public static RequestKey of(String method, String path, Map<String, ?> queryParams, String credential) {
+        return new RequestKey(method, path, canonicalize(queryParams), "", credential);
+    }
+    
+    public static RequestKey of(String method, String path, Map<String, ?> queryParams, 
+                                String credential, Object body) {
+        return new RequestKey(method, path, canonicalize(queryParams), canonicalizeBody(body), credential);
+    }
+    
+    /**
+     * 쿼리 파라미터 정규화 (이름순 정렬, 다중 값은 순서 유지, 이름과 값은 URL 인코딩)
+     */
+    static String canonicalize(Map<String, ?> queryParams) {
+        if (queryParams == null || queryParams.isEmpty()) {
+            return "";
+        }
+        StringJoiner joiner = new StringJoiner("&");
+        new TreeMap<>(queryParams).forEach((name, value) -> {
+            if (value instanceof Iterable<?> values) {
+                values.forEach(item -> joiner.add(encode(name) + "=" + encode(item)));
+            } else {
+                joiner.add(encode(name) + "=" + encode(value));
+            }
+        });
+        return joiner.toString();
+    }
+    
+    private static String encode(Object value) {
+        return URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * 요청 본문 정규화 (속성 이름순 JSON)
+     */
+    static String canonicalizeBody(Object body) {
+        if (body == null) {
+            return "";
+        }
+        if (body instanceof String text) {
+            return text;
+        }
+        try {
+            return CANONICAL_MAPPER.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to canonicalize request body: " + body.getClass().getName(), e);
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return canonicalQuery.isEmpty() 
+            ? method + " " + path 
+            : method + " " + path + "?" + canonicalQuery;
+    }
+}
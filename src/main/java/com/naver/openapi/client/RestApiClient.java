@@ -1,70 +1,62 @@
 package com.naver.openapi.client;
 
+import com.naver.openapi.client.jfr.ApiCallEvent;
+import com.naver.openapi.client.logging.ApiCallLogger;
+import com.naver.openapi.client.metrics.ApiMetrics;
+import com.naver.openapi.client.metrics.MetricsHttpServer;
+import com.naver.openapi.client.transport.ApiRequest;
+import com.naver.openapi.client.transport.ConnectionPoolStats;
+import com.naver.openapi.client.transport.HttpTransport;
+import com.naver.openapi.client.transport.JdkHttpTransport;
+import com.naver.openapi.client.transport.RestAssuredTransport;
 import com.naver.openapi.config.ApiConfig;
-import io.restassured.RestAssured;
-import io.restassured.builder.RequestSpecBuilder;
-import io.restassured.config.HttpClientConfig;
-import io.restassured.config.LogConfig;
-import io.restassured.config.RestAssuredConfig;
-import io.restassured.filter.log.RequestLoggingFilter;
-import io.restassured.filter.log.ResponseLoggingFilter;
-import io.restassured.http.ContentType;
 import io.restassured.response.Response;
-import io.restassured.specification.RequestSpecification;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * REST API 공통 클라이언트
- * RestAssured 기반의 HTTP 요청 처리
+ * 요청을 {@link HttpTransport} 구현체(REST Assured 또는 java.net.http)에 위임하여 처리
+ * 모든 호출의 지연 시간을 {@link ApiMetrics}에 기록 (선택적으로 Prometheus 엔드포인트 제공)
+ * JFR 기록 중에는 호출마다 {@link ApiCallEvent} 발행
+ * 요청/응답 로그는 {@link ApiCallLogger}가 샘플링하여 비동기로 출력
  */
 @Slf4j
-public class RestApiClient {
+public class RestApiClient implements AutoCloseable {
     
     private final ApiConfig apiConfig;
-    private final RequestSpecification requestSpec;
+    private final HttpTransport transport;
+    private final ApiMetrics metrics;
+    private final MetricsHttpServer metricsServer;
+    private final ApiCallLogger callLogger;
     
     public RestApiClient(ApiConfig apiConfig) {
-        this.apiConfig = apiConfig;
-        this.requestSpec = createRequestSpecification();
-        log.info("RestApiClient initialized for environment: {}", 
-                 apiConfig.getEnvironment().getName());
+        this(apiConfig, createTransport(apiConfig));
     }
     
-    /**
-     * RequestSpecification 생성
-     */
-    private RequestSpecification createRequestSpecification() {
-        RequestSpecBuilder builder = new RequestSpecBuilder()
-            .setBaseUri(apiConfig.getBaseUrl())
-            .setContentType(ContentType.JSON)
-            .setConfig(createRestAssuredConfig());
-        
-        // 로깅 필터 추가
-        if (apiConfig.isLoggingEnabled()) {
-            builder.addFilter(new RequestLoggingFilter())
-                   .addFilter(new ResponseLoggingFilter());
-        }
-        
-        return builder.build();
+    public RestApiClient(ApiConfig apiConfig, HttpTransport transport) {
+        this.apiConfig = apiConfig;
+        this.transport = transport;
+        this.metrics = new ApiMetrics(apiConfig.getEnvironment().getName(), apiConfig.isMetricsEnabled());
+        this.metricsServer = apiConfig.isMetricsEnabled() && apiConfig.getMetricsPort() >= 0 
+            ? MetricsHttpServer.start(metrics, apiConfig.getMetricsPort()) 
+            : null;
+        this.callLogger = new ApiCallLogger(apiConfig);
+        log.info("RestApiClient initialized for environment: {} (transport: {})", 
+                 apiConfig.getEnvironment().getName(), transport.getName());
     }
     
     /**
-     * RestAssured 설정 생성
+     * 설정된 전송 계층 생성
      */
-    private RestAssuredConfig createRestAssuredConfig() {
-        HttpClientConfig httpClientConfig = HttpClientConfig.httpClientConfig()
-            .setParam("http.connection.timeout", apiConfig.getConnectTimeout())
-            .setParam("http.socket.timeout", apiConfig.getReadTimeout());
-        
-        LogConfig logConfig = LogConfig.logConfig()
-            .enableLoggingOfRequestAndResponseIfValidationFails()
-            .enablePrettyPrinting(true);
-        
-        return RestAssuredConfig.config()
-            .httpClient(httpClientConfig)
-            .logConfig(logConfig);
+    private static HttpTransport createTransport(ApiConfig apiConfig) {
+        return switch (apiConfig.getTransportType()) {
+            case JDK -> new JdkHttpTransport(apiConfig);
+            case REST_ASSURED -> new RestAssuredTransport(apiConfig);
+        };
     }
     
     /**
@@ -72,10 +64,7 @@ public class RestApiClient {
      */
     public Response get(String path) {
         log.debug("GET request to: {}", path);
-        return RestAssured.given()
-            .spec(requestSpec)
-            .when()
-            .get(path);
+        return send(ApiRequest.of("GET", path));
     }
     
     /**
@@ -83,11 +72,11 @@ public class RestApiClient {
      */
     public Response get(String path, Map<String, ?> queryParams) {
         log.debug("GET request to: {} with params: {}", path, queryParams);
-        return RestAssured.given()
-            .spec(requestSpec)
+        return send(ApiRequest.builder()
+            .method("GET")
+            .path(path)
             .queryParams(queryParams)
-            .when()
-            .get(path);
+            .build());
     }
     
     /**
@@ -95,11 +84,11 @@ public class RestApiClient {
      */
     public Response post(String path, Object body) {
         log.debug("POST request to: {}", path);
-        return RestAssured.given()
-            .spec(requestSpec)
+        return send(ApiRequest.builder()
+            .method("POST")
+            .path(path)
             .body(body)
-            .when()
-            .post(path);
+            .build());
     }
     
     /**
@@ -107,11 +96,11 @@ public class RestApiClient {
      */
     public Response put(String path, Object body) {
         log.debug("PUT request to: {}", path);
-        return RestAssured.given()
-            .spec(requestSpec)
+        return send(ApiRequest.builder()
+            .method("PUT")
+            .path(path)
             .body(body)
-            .when()
-            .put(path);
+            .build());
     }
     
     /**
@@ -119,22 +108,19 @@ public class RestApiClient {
      */
     public Response delete(String path) {
         log.debug("DELETE request to: {}", path);
-        return RestAssured.given()
-            .spec(requestSpec)
-            .when()
-            .delete(path);
+        return send(ApiRequest.of("DELETE", path));
     }
     
     /**
      * 커스텀 헤더와 함께 GET 요청
      */
     public Response getWithHeaders(String path, Map<String, String> headers) {
-        log.debug("GET request to: {} with headers: {}", path, headers);
-        return RestAssured.given()
-            .spec(requestSpec)
+        log.debug("GET request to: {} with headers: {}", path, headerNames(headers));
+        return send(ApiRequest.builder()
+            .method("GET")
+            .path(path)
             .headers(headers)
-            .when()
-            .get(path);
+            .build());
     }
     
     /**
@@ -144,13 +130,30 @@ public class RestApiClient {
                                     Map<String, String> headers, 
                                     Map<String, ?> queryParams) {
         log.debug("GET request to: {} with headers: {} and params: {}", 
-                  path, headers, queryParams);
-        return RestAssured.given()
-            .spec(requestSpec)
+                  path, headerNames(headers), queryParams);
+        return send(ApiRequest.builder()
+            .method("GET")
+            .path(path)
+            .headers(headers)
+            .queryParams(queryParams)
+            .build());
+    }
+    
+    /**
+     * 커스텀 헤더와 함께 GET 요청 (비동기)
+     * 반환된 Future를 취소하면 전송 계층이 지원하는 범위에서 요청도 중단
+     */
+    public CompletableFuture<Response> getWithHeadersAsync(String path, 
+                                                           Map<String, String> headers, 
+                                                           Map<String, ?> queryParams) {
+        log.debug("Async GET request to: {} with headers: {} and params: {}", 
+                  path, headerNames(headers), queryParams);
+        return sendAsync(ApiRequest.builder()
+            .method("GET")
+            .path(path)
             .headers(headers)
             .queryParams(queryParams)
-            .when()
-            .get(path);
+            .build());
     }
     
     /**
@@ -159,16 +162,126 @@ public class RestApiClient {
     public Response postWithHeaders(String path, 
                                      Map<String, String> headers, 
                                      Object body) {
-        log.debug("POST request to: {} with headers: {}", path, headers);
-        return RestAssured.given()
-            .spec(requestSpec)
+        log.debug("POST request to: {} with headers: {}", path, headerNames(headers));
+        return send(ApiRequest.builder()
+            .method("POST")
+            .path(path)
             .headers(headers)
             .body(body)
-            .when()
-            .post(path);
+            .build());
+    }
+    
+    /**
+     * 요청 전송 및 지연 시간 기록 (JFR 기록 중이면 ApiCallEvent 발행)
+     */
+    private Response send(ApiRequest request) {
+        ApiCallEvent event = new ApiCallEvent();
+        event.begin();
+        long startNanos = System.nanoTime();
+        Response response;
+        try {
+            response = transport.execute(request);
+        } catch (RuntimeException e) {
+            long elapsed = System.nanoTime() - startNanos;
+            metrics.recordError(request.getMethod(), request.getPath(), elapsed);
+            callLogger.log(request, null, e, elapsed);
+            commit(event, request, null, e);
+            throw e;
+        }
+        long elapsed = System.nanoTime() - startNanos;
+        metrics.record(request.getMethod(), request.getPath(), response.statusCode(), elapsed);
+        callLogger.log(request, response, null, elapsed);
+        commit(event, request, response, null);
+        return response;
+    }
+    
+    /**
+     * 요청 전송 (비동기) 및 완료 시 지연 시간 기록 (취소된 요청은 기록하지 않음)
+     */
+    private CompletableFuture<Response> sendAsync(ApiRequest request) {
+        ApiCallEvent event = new ApiCallEvent();
+        event.begin();
+        long startNanos = System.nanoTime();
+        CompletableFuture<Response> future = transport.executeAsync(request);
+        future.whenComplete((response, error) -> {
+            long elapsed = System.nanoTime() - startNanos;
+            if (response != null) {
+                metrics.record(request.getMethod(), request.getPath(), response.statusCode(), elapsed);
+                callLogger.log(request, response, null, elapsed);
+            } else if (!(error instanceof CancellationException)) {
+                metrics.recordError(request.getMethod(), request.getPath(), elapsed);
+                callLogger.log(request, null, error, elapsed);
+            }
+            commit(event, request, response, error);
+        });
+        return future;
+    }
+    
+    /**
+     * JFR 이벤트 필드 채우기 및 기록 (기록이 꺼져 있으면 본문 크기 계산 등을 모두 건너뜀)
+     */
+    private void commit(ApiCallEvent event, ApiRequest request, Response response, Throwable error) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.method = request.getMethod();
+        event.path = request.getPath();
+        event.transport = transport.getName();
+        event.bytesOut = request.getBody() != null ? request.serializeBody().length : 0;
+        if (response != null) {
+            event.status = response.statusCode();
+            byte[] body = response.asByteArray();
+            event.bytesIn = body != null ? body.length : 0;
+        } else {
+            event.status = -1;
+            event.error = error != null ? error.getClass().getSimpleName() : null;
+        }
+        event.commit();
+    }
+    
+    /**
+     * 로그용 헤더 이름 목록 (인증 Secret 등 헤더 값은 로그에 남기지 않음)
+     */
+    private static Object headerNames(Map<String, String> headers) {
+        return headers == null ? null : headers.keySet();
     }
     
     public ApiConfig getApiConfig() {
         return apiConfig;
     }
+    
+    /**
+     * 커넥션 풀 런타임 통계
+     */
+    public ConnectionPoolStats getPoolStats() {
+        return transport.getPoolStats();
+    }
+    
+    public HttpTransport getTransport() {
+        return transport;
+    }
+    
+    /**
+     * 엔드포인트별 지연 시간 / 처리량 / 오류율
+     */
+    public ApiMetrics getMetrics() {
+        return metrics;
+    }
+    
+    /**
+     * 샘플링 요청/응답 로거 (출력/버림 건수)
+     */
+    public ApiCallLogger getCallLogger() {
+        return callLogger;
+    }
+    
+    @Override
+    public void close() {
+        callLogger.close();
+        if (metricsServer != null) {
+            metricsServer.close();
+        }
+        transport.close();
+    }
 }
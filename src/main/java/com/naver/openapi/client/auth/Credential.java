@@ -0,0 +1,43 @@
+package com.naver.openapi.client.auth;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * Naver API 인증 정보 (Client ID/Secret)
+ * 
+ * <p>인증 헤더를 생성 시점에 불변 Map으로 한 번만 만들어 두고 모든 요청에서 같은 인스턴스를 재사용합니다.
+ * {@link #toString()}은 Secret을 노출하지 않습니다.</p>
+ */
+@Getter
+@EqualsAndHashCode(of = {"clientId", "clientSecret"})
+public final class Credential {
+    
+    public static final String HEADER_CLIENT_ID = "X-Naver-Client-Id";
+    public static final String HEADER_CLIENT_SECRET = "X-Naver-Client-Secret";
+    
+    private final String clientId;
+    private final String clientSecret;
+    
+    /**
+     * 인증 헤더 (불변, 요청 간 공유)
+     */
+    private final Map<String, String> headers;
+    
+    private Credential(String clientId, String clientSecret) {
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+        this.headers = Map.of(HEADER_CLIENT_ID, clientId, HEADER_CLIENT_SECRET, clientSecret);
+    }
+    
+    public static Credential of(String clientId, String clientSecret) {
+        return new Credential(clientId, clientSecret);
+    }
+    
+    @Override
+    public String toString() {
+        return "Credential(clientId=" + clientId + ", clientSecret=****)";
+    }
+}
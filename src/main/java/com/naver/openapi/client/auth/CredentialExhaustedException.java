@@ -0,0 +1,13 @@
+package com.naver.openapi.client.auth;
+
+/**
+ * 사용 가능한 Client ID가 없어 (모두 격리되었거나 일일 한도 소진) 요청이 전송되지 않았을 때 발생
+ */
+public class CredentialExhaustedException extends RuntimeException {
+    
+    private static final long serialVersionUID = 1L;
+    
+    public CredentialExhaustedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,228 @@
+package com.naver.openapi.client.auth;
+
+import com.naver.openapi.config.ApiConfig;
+import com.naver.openapi.config.CredentialEntry;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * 여러 Client ID(애플리케이션)에 요청을 분산하는 인증 정보 풀
+ * 
+ * <p>가중치 대비 사용량이 가장 적은 Client ID를 선택합니다 (weighted least-used).
+ * Client ID별 일일 사용량과 남은 한도를 추적하고, 한도 초과 응답(429, errorCode 010)을 받은 Client ID는
+ * 격리 시간 동안 선택하지 않습니다. 사용량과 격리는 네이버 일일 한도 기준(KST 자정)에 초기화됩니다.</p>
+ * 
+ * <p>사용량은 선택({@link #acquire})이 아니라 실제 전송({@link #onSent}) 시점에 늘어나므로
+ * 서킷 차단이나 레이트 리미터 대기 중 인터럽트로 보내지 못한 요청은 집계되지 않습니다.
+ * 선택은 잠금 없이 수행되므로 동시 요청이 몰리면 한도를 몇 건 넘길 수 있습니다.</p>
+ */
+@Slf4j
+public class CredentialPool {
+    
+    /**
+     * 네이버 일일 한도 초기화 기준 시간대
+     */
+    public static final ZoneId NAVER_ZONE = ZoneId.of("Asia/Seoul");
+    
+    private static final int STATUS_TOO_MANY_REQUESTS = 429;
+    private static final Pattern QUOTA_ERROR = Pattern.compile("\"errorCode\"\\s*:\\s*\"010\"");
+    
+    private final Slot[] slots;
+    private final long quarantineMillis;
+    private final Clock clock;
+    private volatile long nextResetMillis;
+    
+    public CredentialPool(ApiConfig apiConfig) {
+        this(apiConfig.getCredentials(), apiConfig.getCredentialDailyQuota(),
+             apiConfig.getCredentialQuarantineMillis(), Clock.system(NAVER_ZONE));
+    }
+    
+    CredentialPool(List<CredentialEntry> entries, long defaultDailyQuota, long quarantineMillis, Clock clock) {
+        if (entries.isEmpty()) {
+            throw new IllegalArgumentException("At least one credential is required");
+        }
+        this.slots = entries.stream()
+            .map(entry -> new Slot(Credential.of(entry.getClientId(), entry.getClientSecret()), entry.getWeight(),
+                                   entry.getDailyQuota() > 0 ? entry.getDailyQuota() : defaultDailyQuota))
+            .toArray(Slot[]::new);
+        this.quarantineMillis = quarantineMillis;
+        this.clock = clock.withZone(NAVER_ZONE);
+        this.nextResetMillis = nextDayStartMillis();
+        log.info("Credential pool initialized - {} client ID(s)", slots.length);
+    }
+    
+    /**
+     * 요청에 사용할 Client ID 선택 (사용량은 {@link #onSent}에서 증가)
+     * 
+     * @throws CredentialExhaustedException 모든 Client ID가 격리되었거나 일일 한도를 소진한 경우
+     */
+    public Credential acquire() {
+        return acquire(credential -> true);
+    }
+    
+    /**
+     * 조건을 만족하는 Client ID 중에서 선택 (예: 엔드포인트 그룹 예산이 남은 Client ID)
+     * 
+     * @throws CredentialExhaustedException 사용 가능한 Client ID가 없는 경우
+     */
+    public Credential acquire(Predicate<Credential> usable) {
+        long now = clock.millis();
+        resetIfNewDay(now);
+        
+        Slot best = null;
+        double bestScore = Double.MAX_VALUE;
+        for (Slot slot : slots) {
+            if (slot.quarantinedUntilMillis > now || slot.remaining() <= 0 || !usable.test(slot.credential)) {
+                continue;
+            }
+            double score = (double) slot.used.get() / slot.weight;
+            if (score < bestScore) {
+                best = slot;
+                bestScore = score;
+            }
+        }
+        if (best == null) {
+            throw new CredentialExhaustedException(
+                "All " + slots.length + " client ID(s) are quarantined or out of daily quota");
+        }
+        return best.credential;
+    }
+    
+    /**
+     * 요청 1건 전송 기록 (요청 전송 직전 호출, 헤징 요청 포함)
+     */
+    public void onSent(Credential credential) {
+        Slot slot = slotOf(credential);
+        if (slot != null) {
+            slot.used.incrementAndGet();
+        }
+    }
+    
+    /**
+     * 전송 기록 취소 ({@link #onSent} 후 실제로 보내지 않은 요청)
+     */
+    public void onUnsent(Credential credential) {
+        Slot slot = slotOf(credential);
+        if (slot != null) {
+            slot.used.getAndUpdate(used -> Math.max(0, used - 1));
+        }
+    }
+    
+    /**
+     * 응답 확인 후 한도 초과 응답이면 해당 Client ID 격리
+     * 
+     * @return 한도 초과 응답이면 true
+     */
+    public boolean onResponse(Credential credential, Response response) {
+        if (response.statusCode() != STATUS_TOO_MANY_REQUESTS || !isQuotaError(response)) {
+            return false;
+        }
+        Slot slot = slotOf(credential);
+        if (slot != null) {
+            long until = Math.min(clock.millis() + quarantineMillis, nextResetMillis);
+            slot.quarantinedUntilMillis = until;
+            log.warn("Client ID {} exceeded its daily quota - quarantined for {} ms (used today: {})",
+                     credential.getClientId(), until - clock.millis(), slot.used.get());
+        }
+        return true;
+    }
+    
+    private static boolean isQuotaError(Response response) {
+        String body = response.asString();
+        return body != null && QUOTA_ERROR.matcher(body).find();
+    }
+    
+    private void resetIfNewDay(long now) {
+        if (now < nextResetMillis) {
+            return;
+        }
+        synchronized (this) {
+            if (now < nextResetMillis) {
+                return;
+            }
+            for (Slot slot : slots) {
+                slot.used.set(0);
+                slot.quarantinedUntilMillis = 0;
+            }
+            nextResetMillis = nextDayStartMillis();
+            log.info("Daily credential usage reset");
+        }
+    }
+    
+    private long nextDayStartMillis() {
+        return LocalDate.now(clock).plusDays(1).atStartOfDay(NAVER_ZONE).toInstant().toEpochMilli();
+    }
+    
+    private Slot slotOf(Credential credential) {
+        for (Slot slot : slots) {
+            if (slot.credential == credential) {
+                return slot;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * 대표 Client ID (첫 번째 항목, 캐시 키 등에 사용)
+     */
+    public Credential getPrimary() {
+        return slots[0].credential;
+    }
+    
+    public List<Credential> getCredentials() {
+        List<Credential> credentials = new ArrayList<>(slots.length);
+        for (Slot slot : slots) {
+            credentials.add(slot.credential);
+        }
+        return credentials;
+    }
+    
+    /**
+     * 오늘 사용량
+     */
+    public long getUsed(Credential credential) {
+        Slot slot = slotOf(credential);
+        return slot != null ? slot.used.get() : 0;
+    }
+    
+    /**
+     * 오늘 남은 한도 (한도 미설정 시 Long.MAX_VALUE)
+     */
+    public long getRemaining(Credential credential) {
+        Slot slot = slotOf(credential);
+        return slot != null ? slot.remaining() : 0;
+    }
+    
+    public boolean isQuarantined(Credential credential) {
+        Slot slot = slotOf(credential);
+        return slot != null && slot.quarantinedUntilMillis > clock.millis();
+    }
+    
+    private static final class Slot {
+        
+        private final Credential credential;
+        private final int weight;
+        private final long dailyQuota;
+        private final AtomicLong used = new AtomicLong();
+        private volatile long quarantinedUntilMillis;
+        
+        private Slot(Credential credential, int weight, long dailyQuota) {
+            this.credential = credential;
+            this.weight = weight;
+            this.dailyQuota = dailyQuota;
+        }
+        
+        private long remaining() {
+            return dailyQuota > 0 ? Math.max(0, dailyQuota - used.get()) : Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.naver.openapi.client.cache;
+
+import lombok.Value;
+
+/**
+ * 응답 캐시 통계 스냅샷
+ */
+@Value
+public class CacheStats {
+    
+    long hitCount;
+    long missCount;
+    long evictionCount;
+    long expirationCount;
+    long entryCount;
+    long weightedSize;
+    
+    /**
+     * 적중률 (0.0 ~ 1.0)
+     */
+    public double hitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 0.0 : (double) hitCount / requests;
+    }
+}
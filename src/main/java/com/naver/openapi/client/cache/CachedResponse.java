@@ -0,0 +1,76 @@
+package com.naver.openapi.client.cache;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 캐시에 저장되는 응답 스냅샷
+ * 
+ * <p>상태 코드, 헤더, 본문 바이트만 보관하고 조회 시마다 새 {@link Response}를 만들어 반환합니다.</p>
+ */
+@Getter
+public class CachedResponse {
+    
+    /**
+     * 본문 외 헤더/객체 오버헤드 추정치 (bytes)
+     */
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+    
+    private final int statusCode;
+    private final String statusLine;
+    private final String contentType;
+    private final List<Header> headers;
+    private final byte[] body;
+    private final long expiresAtMillis;
+    
+    public CachedResponse(int statusCode, String statusLine, String contentType,
+                          List<Header> headers, byte[] body, long expiresAtMillis) {
+        this.statusCode = statusCode;
+        this.statusLine = statusLine;
+        this.contentType = contentType;
+        this.headers = List.copyOf(headers);
+        this.body = body;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+    
+    public static CachedResponse from(Response response, long expiresAtMillis) {
+        return new CachedResponse(
+            response.statusCode(),
+            response.getStatusLine(),
+            response.getContentType(),
+            response.getHeaders().asList(),
+            response.asByteArray(),
+            expiresAtMillis);
+    }
+    
+    /**
+     * REST Assured Response로 복원
+     */
+    public Response toResponse() {
+        ResponseBuilder builder = new ResponseBuilder()
+            .setStatusCode(statusCode)
+            .setStatusLine(statusLine)
+            .setHeaders(new Headers(headers))
+            .setBody(body);
+        if (contentType != null && !contentType.isEmpty()) {
+            builder.setContentType(contentType);
+        }
+        return builder.build();
+    }
+    
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+    
+    /**
+     * 캐시 용량 계산에 사용하는 크기 (bytes)
+     */
+    public int weight() {
+        return body.length + ENTRY_OVERHEAD_BYTES;
+    }
+}
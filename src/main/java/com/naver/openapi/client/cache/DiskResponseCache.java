@@ -0,0 +1,527 @@
+package com.naver.openapi.client.cache;
+
+import com.naver.openapi.client.RequestKey;
+import com.naver.openapi.config.ApiConfig;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 디스크 기반 영구 응답 캐시 (Memory-mapped 세그먼트, append-only)
+ * 
+ * <p>재시작이 잦은 배치 작업이 이전 실행의 응답(특히 DataLab 결과)을 쿼터 소모 없이 재사용할 수 있도록
+ * 응답을 압축하여 디스크에 보관합니다. 메모리 캐시({@link ResponseCache}) 다음 단계로 조회됩니다.</p>
+ * 
+ * <p><b>저장 구조</b></p>
+ * <ul>
+ *   <li>고정 크기 세그먼트 파일({@code segment-00001.dat})을 메모리 매핑하여 끝에 레코드를 덧붙임</li>
+ *   <li>레코드: {@code [magic][length][crc32][sha-256 키][만료 시각][상태 코드][Content-Type][gzip 본문]}</li>
+ *   <li>인덱스(키 해시 → 세그먼트/오프셋)는 메모리에만 두고 시작 시 세그먼트를 스캔하여 재구성</li>
+ *   <li>magic은 레코드를 모두 쓴 뒤 마지막에 기록하므로 중간에 끊긴 레코드는 스캔 시 무시됨</li>
+ * </ul>
+ * 
+ * <p><b>Compaction</b>: 새 세그먼트로 넘어갈 때 유효 데이터 비율이 50% 미만인 세그먼트의
+ * 유효 레코드를 활성 세그먼트로 옮기고 파일을 삭제합니다. 전체 크기가 상한을 넘으면 가장 오래된 세그먼트부터 제거합니다.</p>
+ */
+@Slf4j
+public class DiskResponseCache implements AutoCloseable {
+    
+    private static final int MAGIC = 0x4E415643;
+    private static final int RECORD_HEADER_BYTES = 12;
+    private static final int HASH_BYTES = 32;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+    private static final double COMPACTION_THRESHOLD = 0.5;
+    
+    /**
+     * 세그먼트 파일 (메모리 매핑)
+     */
+    private static final class Segment {
+        final int id;
+        final Path file;
+        final FileChannel channel;
+        final MappedByteBuffer buffer;
+        final AtomicLong liveBytes = new AtomicLong();
+        volatile int writePosition;
+        
+        Segment(int id, Path file, int size) throws IOException {
+            this.id = id;
+            this.file = file;
+            this.channel = FileChannel.open(file, 
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long mappedSize = Math.max(size, channel.size());
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize);
+        }
+        
+        int capacity() {
+            return buffer.capacity();
+        }
+    }
+    
+    /**
+     * 인덱스 항목 (레코드 위치)
+     */
+    private static final class Location {
+        final Segment segment;
+        final int offset;
+        final int length;
+        final long expiresAtMillis;
+        
+        Location(Segment segment, int offset, int length, long expiresAtMillis) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+    
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentBytes;
+    private final long maxBytes;
+    private final List<Map.Entry<String, Long>> ttlByPrefix;
+    
+    private final ConcurrentHashMap<String, Location> index = new ConcurrentHashMap<>();
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    private final Object writeLock = new Object();
+    private volatile Segment activeSegment;
+    
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder expirationCount = new LongAdder();
+    
+    public DiskResponseCache(ApiConfig apiConfig) {
+        this(apiConfig.isDiskCacheEnabled(), Path.of(apiConfig.getDiskCacheDir()),
+             apiConfig.getDiskCacheSegmentBytes(), apiConfig.getDiskCacheMaxBytes(),
+             apiConfig.getDiskCacheTtlSeconds());
+    }
+    
+    public DiskResponseCache(boolean enabled, Path directory, int segmentBytes, long maxBytes,
+                             Map<String, Long> ttlSecondsByPrefix) {
+        this.enabled = enabled;
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.maxBytes = maxBytes;
+        this.ttlByPrefix = ttlSecondsByPrefix.entrySet().stream()
+            .sorted(Comparator.comparingInt((Map.Entry<String, Long> entry) -> entry.getKey().length())
+                .reversed())
+            .toList();
+        
+        if (enabled) {
+            open();
+            log.info("Disk response cache opened - dir: {}, segments: {}, entries: {}, ttl: {}",
+                     directory.toAbsolutePath(), segments.size(), index.size(), ttlSecondsByPrefix);
+        }
+    }
+    
+    /**
+     * 캐싱 대상 경로 여부 (TTL 설정 prefix와 일치)
+     */
+    public boolean isCacheable(String path) {
+        return enabled && ttlSeconds(path) > 0;
+    }
+    
+    /**
+     * 캐시 조회 (없거나 만료되었으면 null)
+     */
+    public Response get(RequestKey key) {
+        if (!isCacheable(key.getPath())) {
+            return null;
+        }
+        String hash = hash(key);
+        Location location = index.get(hash);
+        if (location == null) {
+            missCount.increment();
+            return null;
+        }
+        if (System.currentTimeMillis() >= location.expiresAtMillis) {
+            missCount.increment();
+            expirationCount.increment();
+            if (index.remove(hash, location)) {
+                location.segment.liveBytes.addAndGet(-location.length);
+            }
+            return null;
+        }
+        try {
+            CachedResponse cached = readRecord(location);
+            hitCount.increment();
+            return cached.toResponse();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to read disk cache record for {}: {}", key, e.getMessage());
+            index.remove(hash, location);
+            missCount.increment();
+            return null;
+        }
+    }
+    
+    /**
+     * 응답 저장 (캐싱 대상인 200 응답만) 후 원본 응답을 그대로 반환
+     */
+    public Response putIfCacheable(RequestKey key, Response response) {
+        if (response.statusCode() != 200 || !isCacheable(key.getPath())) {
+            return response;
+        }
+        long expiresAt = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttlSeconds(key.getPath()));
+        String hash = hash(key);
+        try {
+            byte[] payload = encodePayload(HexFormat.of().parseHex(hash), expiresAt,
+                response.statusCode(), response.getContentType(), response.asByteArray());
+            append(hash, payload, expiresAt);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to write disk cache record for {}: {}", key, e.getMessage());
+        }
+        return response;
+    }
+    
+    /**
+     * 유효 데이터 비율이 낮은 세그먼트 정리
+     */
+    public void compact() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (writeLock) {
+            compactSegments();
+        }
+    }
+    
+    public CacheStats getStats() {
+        long diskBytes = segments.stream().mapToLong(segment -> segment.writePosition).sum();
+        return new CacheStats(
+            hitCount.sum(),
+            missCount.sum(),
+            evictionCount.sum(),
+            expirationCount.sum(),
+            index.size(),
+            diskBytes);
+    }
+    
+    @Override
+    public void close() {
+        synchronized (writeLock) {
+            for (Segment segment : segments) {
+                segment.buffer.force();
+                closeQuietly(segment);
+            }
+        }
+    }
+    
+    // ------------------------------------------------------------------
+    // 세그먼트 관리
+    // ------------------------------------------------------------------
+    
+    private void open() {
+        try {
+            Files.createDirectories(directory);
+            List<Path> files;
+            try (Stream<Path> stream = Files.list(directory)) {
+                files = stream
+                    .filter(file -> file.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+            }
+            for (Path file : files) {
+                Segment segment = new Segment(segmentId(file), file, segmentBytes);
+                segments.add(segment);
+                recover(segment);
+            }
+            if (segments.isEmpty()) {
+                roll();
+            } else {
+                activeSegment = segments.get(segments.size() - 1);
+                compactSegments();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open disk cache: " + directory, e);
+        }
+    }
+    
+    /**
+     * 세그먼트 스캔으로 인덱스 재구성 (뒤에 쓰인 레코드가 앞의 레코드를 대체)
+     */
+    private void recover(Segment segment) {
+        long now = System.currentTimeMillis();
+        int position = 0;
+        while (position + RECORD_HEADER_BYTES <= segment.capacity()) {
+            if (segment.buffer.getInt(position) != MAGIC) {
+                break;
+            }
+            int payloadLength = segment.buffer.getInt(position + 4);
+            int recordLength = RECORD_HEADER_BYTES + payloadLength;
+            if (payloadLength <= HASH_BYTES || position + recordLength > segment.capacity()) {
+                break;
+            }
+            byte[] payload = new byte[payloadLength];
+            segment.buffer.get(position + RECORD_HEADER_BYTES, payload);
+            if (crc(payload) != segment.buffer.getInt(position + 8)) {
+                log.warn("Corrupted disk cache record in {} at offset {}, truncating", segment.file, position);
+                break;
+            }
+            
+            ByteBuffer view = ByteBuffer.wrap(payload);
+            byte[] hashBytes = new byte[HASH_BYTES];
+            view.get(hashBytes);
+            long expiresAt = view.getLong();
+            if (expiresAt > now) {
+                register(HexFormat.of().formatHex(hashBytes), 
+                         new Location(segment, position, recordLength, expiresAt));
+            }
+            position += recordLength;
+        }
+        segment.writePosition = position;
+    }
+    
+    private void append(String hash, byte[] payload, long expiresAt) throws IOException {
+        int recordLength = RECORD_HEADER_BYTES + payload.length;
+        if (recordLength > segmentBytes) {
+            return;
+        }
+        synchronized (writeLock) {
+            // compaction이 옮긴 레코드로 새 세그먼트가 다시 찰 수 있으므로 들어갈 자리가 생길 때까지 반복
+            while (activeSegment.writePosition + recordLength > activeSegment.capacity()) {
+                roll();
+                enforceLimits();
+            }
+            Segment segment = activeSegment;
+            int offset = segment.writePosition;
+            segment.buffer.putInt(offset + 4, payload.length);
+            segment.buffer.putInt(offset + 8, crc(payload));
+            segment.buffer.put(offset + RECORD_HEADER_BYTES, payload);
+            segment.buffer.putInt(offset, MAGIC);
+            segment.writePosition = offset + recordLength;
+            register(hash, new Location(segment, offset, recordLength, expiresAt));
+        }
+    }
+    
+    private void register(String hash, Location location) {
+        Location previous = index.put(hash, location);
+        if (previous != null) {
+            previous.segment.liveBytes.addAndGet(-previous.length);
+        }
+        location.segment.liveBytes.addAndGet(location.length);
+    }
+    
+    private void roll() throws IOException {
+        int nextId = segments.isEmpty() ? 1 : segments.get(segments.size() - 1).id + 1;
+        Path file = directory.resolve(String.format("%s%05d%s", SEGMENT_PREFIX, nextId, SEGMENT_SUFFIX));
+        Segment segment = new Segment(nextId, file, segmentBytes);
+        segments.add(segment);
+        activeSegment = segment;
+        log.debug("Disk cache rolled to new segment: {}", file);
+    }
+    
+    /**
+     * Compaction 후에도 전체 크기가 상한을 넘으면 가장 오래된 세그먼트 제거
+     */
+    private void enforceLimits() {
+        compactSegments();
+        while (segments.size() > 1 && totalMappedBytes() > maxBytes) {
+            Segment oldest = segments.get(0);
+            index.entrySet().removeIf(entry -> {
+                if (entry.getValue().segment == oldest) {
+                    evictionCount.increment();
+                    return true;
+                }
+                return false;
+            });
+            deleteSegment(oldest);
+        }
+    }
+    
+    /**
+     * 활성 세그먼트를 제외하고 유효 데이터 비율이 낮은 세그먼트 정리 (생성 중이거나 writeLock 보유 상태에서 호출)
+     */
+    private void compactSegments() {
+        for (Segment segment : segments) {
+            if (segment != activeSegment && liveRatio(segment) < COMPACTION_THRESHOLD) {
+                relocateAndDelete(segment);
+            }
+        }
+    }
+    
+    /**
+     * 유효 레코드를 활성 세그먼트로 복사한 뒤 세그먼트 파일 삭제
+     */
+    private void relocateAndDelete(Segment segment) {
+        long now = System.currentTimeMillis();
+        int moved = 0;
+        for (Map.Entry<String, Location> entry : new ArrayList<>(index.entrySet())) {
+            Location location = entry.getValue();
+            if (location.segment != segment) {
+                continue;
+            }
+            if (location.expiresAtMillis <= now) {
+                index.remove(entry.getKey(), location);
+                expirationCount.increment();
+                continue;
+            }
+            try {
+                if (activeSegment.writePosition + location.length > activeSegment.capacity()) {
+                    roll();
+                }
+                Segment target = activeSegment;
+                int offset = target.writePosition;
+                // append와 같이 길이 · CRC · 페이로드를 먼저 쓰고 magic을 마지막에 기록
+                target.buffer.put(offset + 4, segment.buffer, location.offset + 4, location.length - 4);
+                target.buffer.putInt(offset, MAGIC);
+                target.writePosition = offset + location.length;
+                if (index.replace(entry.getKey(), location, 
+                        new Location(target, offset, location.length, location.expiresAtMillis))) {
+                    target.liveBytes.addAndGet(location.length);
+                    moved++;
+                }
+            } catch (IOException e) {
+                log.warn("Failed to relocate disk cache record during compaction: {}", e.getMessage());
+                return;
+            }
+        }
+        deleteSegment(segment);
+        log.info("Disk cache compacted segment {} ({} live records moved)", segment.file.getFileName(), moved);
+    }
+    
+    private void deleteSegment(Segment segment) {
+        segments.remove(segment);
+        closeQuietly(segment);
+        try {
+            Files.deleteIfExists(segment.file);
+        } catch (IOException e) {
+            log.warn("Failed to delete disk cache segment {}: {}", segment.file, e.getMessage());
+        }
+    }
+    
+    private double liveRatio(Segment segment) {
+        return segment.writePosition == 0 ? 1.0 : (double) segment.liveBytes.get() / segment.writePosition;
+    }
+    
+    private long totalMappedBytes() {
+        return segments.stream().mapToLong(Segment::capacity).sum();
+    }
+    
+    private static void closeQuietly(Segment segment) {
+        try {
+            segment.channel.close();
+        } catch (IOException e) {
+            log.debug("Failed to close disk cache segment {}", segment.file, e);
+        }
+    }
+    
+    private static int segmentId(Path file) {
+        String name = file.getFileName().toString();
+        return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+    
+    // ------------------------------------------------------------------
+    // 레코드 인코딩
+    // ------------------------------------------------------------------
+    
+    private static byte[] encodePayload(byte[] hash, long expiresAt, int statusCode, 
+                                        String contentType, byte[] body) throws IOException {
+        byte[] contentTypeBytes = contentType == null 
+            ? new byte[0] : contentType.getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = gzip(body);
+        ByteBuffer payload = ByteBuffer.allocate(
+            HASH_BYTES + Long.BYTES + Integer.BYTES + Short.BYTES + contentTypeBytes.length 
+            + Integer.BYTES + compressed.length);
+        payload.put(hash)
+               .putLong(expiresAt)
+               .putInt(statusCode)
+               .putShort((short) contentTypeBytes.length)
+               .put(contentTypeBytes)
+               .putInt(compressed.length)
+               .put(compressed);
+        return payload.array();
+    }
+    
+    private static CachedResponse readRecord(Location location) throws IOException {
+        byte[] payload = new byte[location.length - RECORD_HEADER_BYTES];
+        location.segment.buffer.get(location.offset + RECORD_HEADER_BYTES, payload);
+        
+        ByteBuffer view = ByteBuffer.wrap(payload);
+        view.position(HASH_BYTES);
+        long expiresAt = view.getLong();
+        int statusCode = view.getInt();
+        byte[] contentTypeBytes = new byte[view.getShort()];
+        view.get(contentTypeBytes);
+        byte[] compressed = new byte[view.getInt()];
+        view.get(compressed);
+        
+        String contentType = new String(contentTypeBytes, StandardCharsets.UTF_8);
+        List<Header> headers = contentType.isEmpty() 
+            ? List.of() : List.of(new Header("Content-Type", contentType));
+        return new CachedResponse(statusCode, "HTTP/1.1 " + statusCode, contentType,
+                                  headers, gunzip(compressed), expiresAt);
+    }
+    
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(data);
+        }
+        return output.toByteArray();
+    }
+    
+    private static byte[] gunzip(byte[] data) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return gzip.readAllBytes();
+        }
+    }
+    
+    private static int crc(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return (int) crc.getValue();
+    }
+    
+    /**
+     * 요청 키의 SHA-256 해시 (hex)
+     */
+    private static String hash(RequestKey key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String material = String.join("\n", key.getMethod(), key.getPath(), key.getCanonicalQuery(),
+                                          key.getCanonicalBody(), String.valueOf(key.getCredential()));
+            return HexFormat.of().formatHex(digest.digest(material.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+    
+    private long ttlSeconds(String path) {
+        for (Map.Entry<String, Long> entry : ttlByPrefix) {
+            if (path.startsWith(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,77 @@
+package com.naver.openapi.client.cache;
+
+/**
+ * TinyLFU 접근 빈도 추정용 Count-Min Sketch (4-bit 카운터)
+ * 
+ * <p>키 자체를 저장하지 않고 해시 4개로 카운터를 갱신하므로 메모리가 캐시 크기에 비례해 작게 유지됩니다.
+ * 증가 횟수가 샘플 크기에 도달하면 모든 카운터를 절반으로 줄여(aging) 과거 인기 항목이 영원히 남지 않도록 합니다.</p>
+ * 
+ * <p>스레드 안전하지 않으므로 호출자가 동기화해야 합니다.</p>
+ */
+final class FrequencySketch {
+    
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final int[] SEEDS = {0x97CB3127, 0xB9F4D1A3, 0x6C62272E, 0x1B873593};
+    
+    private final byte[] counters;
+    private final int width;
+    private final int sampleSize;
+    private int additions;
+    
+    FrequencySketch(int expectedEntries) {
+        this.width = Integer.highestOneBit(Math.max(64, expectedEntries - 1) << 1);
+        this.counters = new byte[DEPTH * width];
+        this.sampleSize = 10 * width;
+    }
+    
+    /**
+     * 추정 접근 빈도 (0~15)
+     */
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int min = MAX_COUNT;
+        for (int row = 0; row < DEPTH; row++) {
+            min = Math.min(min, counters[index(hash, row)]);
+        }
+        return min;
+    }
+    
+    /**
+     * 접근 기록 (최소값과 같은 카운터만 증가시키는 conservative update)
+     */
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        int min = frequency(key);
+        if (min == MAX_COUNT) {
+            return;
+        }
+        for (int row = 0; row < DEPTH; row++) {
+            int index = index(hash, row);
+            if (counters[index] == min) {
+                counters[index]++;
+            }
+        }
+        if (++additions >= sampleSize) {
+            reset();
+        }
+    }
+    
+    private void reset() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = (byte) (counters[i] >>> 1);
+        }
+        additions >>>= 1;
+    }
+    
+    private int index(int hash, int row) {
+        int h = (hash ^ SEEDS[row]) * 0x9E3779B9;
+        h ^= h >>> 16;
+        return row * width + (h & (width - 1));
+    }
+    
+    private static int spread(int hash) {
+        int h = hash * 0x85EBCA6B;
+        return h ^ (h >>> 13);
+    }
+}
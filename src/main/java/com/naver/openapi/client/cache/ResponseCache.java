@@ -0,0 +1,336 @@
+package com.naver.openapi.client.cache;
+
+import com.naver.openapi.client.RequestKey;
+import com.naver.openapi.config.ApiConfig;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 검색 API 응답 인메모리 캐시 (W-TinyLFU, 크기 기반, 엔드포인트별 TTL)
+ * 
+ * <p><b>구조</b></p>
+ * <ul>
+ *   <li>Window LRU (전체 용량의 1%): 새로 들어온 항목</li>
+ *   <li>Main SLRU: Probation(20%) / Protected(80%)</li>
+ *   <li>Window에서 밀려난 후보는 {@link FrequencySketch}로 추정한 빈도가
+ *       Probation의 희생자보다 높을 때만 Main 영역에 남습니다 (TinyLFU 승인 정책)</li>
+ * </ul>
+ * 
+ * <p>조회는 {@link ConcurrentHashMap}에서 락 없이 수행하고, LRU 순서 갱신과 빈도 기록은
+ * {@code tryLock}으로 얻을 수 있을 때만 반영합니다 (경합 시 순서 갱신 생략).
+ * 따라서 캐시 적중 경로는 다른 스레드를 기다리지 않습니다.</p>
+ * 
+ * <p>TTL 설정(경로 prefix → 초)에 일치하는 GET 경로의 200 응답만 캐싱합니다.</p>
+ * <pre>
+ * naver.api.cache.ttl=/v1/search/news.json:60,/v1/search/book.json:3600,/v1/search/:300
+ * </pre>
+ */
+@Slf4j
+public class ResponseCache {
+    
+    private static final double WINDOW_RATIO = 0.01;
+    private static final double PROTECTED_RATIO = 0.8;
+    private static final int AVERAGE_ENTRY_BYTES = 8 * 1024;
+    
+    private enum Region { WINDOW, PROBATION, PROTECTED }
+    
+    private static final class Node {
+        final RequestKey key;
+        final CachedResponse value;
+        final int weight;
+        Region region = Region.WINDOW;
+        
+        Node(RequestKey key, CachedResponse value) {
+            this.key = key;
+            this.value = value;
+            this.weight = value.weight();
+        }
+    }
+    
+    private final boolean enabled;
+    private final long maxWeight;
+    private final long windowMaxWeight;
+    private final long protectedMaxWeight;
+    private final List<Map.Entry<String, Long>> ttlByPrefix;
+    
+    private final ConcurrentHashMap<RequestKey, Node> data = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final LinkedHashMap<RequestKey, Node> window = new LinkedHashMap<>();
+    private final LinkedHashMap<RequestKey, Node> probation = new LinkedHashMap<>();
+    private final LinkedHashMap<RequestKey, Node> protectedSegment = new LinkedHashMap<>();
+    private final FrequencySketch sketch;
+    private long windowWeight;
+    private long probationWeight;
+    private long protectedWeight;
+    
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder expirationCount = new LongAdder();
+    
+    public ResponseCache(ApiConfig apiConfig) {
+        this(apiConfig.isCacheEnabled(), apiConfig.getCacheMaxBytes(), apiConfig.getCacheTtlSeconds());
+    }
+    
+    public ResponseCache(boolean enabled, long maxBytes, Map<String, Long> ttlSecondsByPrefix) {
+        this.enabled = enabled;
+        this.maxWeight = maxBytes;
+        this.windowMaxWeight = Math.max(1, (long) (maxBytes * WINDOW_RATIO));
+        this.protectedMaxWeight = (long) ((maxBytes - windowMaxWeight) * PROTECTED_RATIO);
+        this.ttlByPrefix = ttlSecondsByPrefix.entrySet().stream()
+            .sorted(Comparator.comparingInt((Map.Entry<String, Long> entry) -> entry.getKey().length())
+                .reversed())
+            .toList();
+        this.sketch = new FrequencySketch((int) Math.min(1 << 20, Math.max(1, maxBytes / AVERAGE_ENTRY_BYTES)));
+        
+        if (enabled) {
+            log.info("Response cache enabled - maxBytes: {}, ttl: {}", maxBytes, ttlSecondsByPrefix);
+        }
+    }
+    
+    /**
+     * 캐싱 대상 경로 여부 (TTL 설정 prefix와 일치)
+     */
+    public boolean isCacheable(String path) {
+        return enabled && ttlSeconds(path) > 0;
+    }
+    
+    /**
+     * 캐시 조회 (없거나 만료되었으면 null)
+     */
+    public Response get(RequestKey key) {
+        if (!isCacheable(key.getPath())) {
+            return null;
+        }
+        Node node = data.get(key);
+        if (node == null) {
+            missCount.increment();
+            recordAccess(key, null);
+            return null;
+        }
+        if (node.value.isExpired(System.currentTimeMillis())) {
+            missCount.increment();
+            expirationCount.increment();
+            evictionLock.lock();
+            try {
+                if (data.remove(key, node)) {
+                    unlink(node);
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+            return null;
+        }
+        hitCount.increment();
+        recordAccess(key, node);
+        return node.value.toResponse();
+    }
+    
+    /**
+     * 응답 저장 (캐싱 대상인 200 응답만) 후 원본 응답을 그대로 반환
+     */
+    public Response putIfCacheable(RequestKey key, Response response) {
+        if (response.statusCode() != 200 || !isCacheable(key.getPath())) {
+            return response;
+        }
+        long expiresAt = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttlSeconds(key.getPath()));
+        Node node = new Node(key, CachedResponse.from(response, expiresAt));
+        if (node.weight > maxWeight) {
+            return response;
+        }
+        
+        evictionLock.lock();
+        try {
+            Node previous = data.put(key, node);
+            if (previous != null) {
+                unlink(previous);
+            }
+            window.put(key, node);
+            windowWeight += node.weight;
+            evict();
+        } finally {
+            evictionLock.unlock();
+        }
+        return response;
+    }
+    
+    /**
+     * 전체 비우기
+     */
+    public void invalidateAll() {
+        evictionLock.lock();
+        try {
+            data.clear();
+            window.clear();
+            probation.clear();
+            protectedSegment.clear();
+            windowWeight = 0;
+            probationWeight = 0;
+            protectedWeight = 0;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+    
+    public CacheStats getStats() {
+        return new CacheStats(
+            hitCount.sum(),
+            missCount.sum(),
+            evictionCount.sum(),
+            expirationCount.sum(),
+            data.size(),
+            windowWeight + probationWeight + protectedWeight);
+    }
+    
+    private long ttlSeconds(String path) {
+        for (Map.Entry<String, Long> entry : ttlByPrefix) {
+            if (path.startsWith(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return 0;
+    }
+    
+    /**
+     * 빈도 기록 및 LRU 순서 갱신 (락 경합 시 생략)
+     */
+    private void recordAccess(RequestKey key, Node node) {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            sketch.increment(key);
+            if (node != null && data.get(key) == node) {
+                onAccess(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+    
+    private void onAccess(Node node) {
+        switch (node.region) {
+            case WINDOW -> moveToTail(window, node);
+            case PROTECTED -> moveToTail(protectedSegment, node);
+            case PROBATION -> {
+                // 재접근된 Probation 항목은 Protected로 승격
+                probation.remove(node.key);
+                probationWeight -= node.weight;
+                node.region = Region.PROTECTED;
+                protectedSegment.put(node.key, node);
+                protectedWeight += node.weight;
+                while (protectedWeight > protectedMaxWeight && !protectedSegment.isEmpty()) {
+                    Node demoted = pollFirst(protectedSegment);
+                    protectedWeight -= demoted.weight;
+                    demoted.region = Region.PROBATION;
+                    probation.put(demoted.key, demoted);
+                    probationWeight += demoted.weight;
+                }
+            }
+        }
+    }
+    
+    /**
+     * Window 초과분을 Probation으로 내리고, 전체 용량 초과 시 TinyLFU 승인 정책으로 제거
+     */
+    private void evict() {
+        while (windowWeight > windowMaxWeight && !window.isEmpty()) {
+            Node candidate = pollFirst(window);
+            windowWeight -= candidate.weight;
+            candidate.region = Region.PROBATION;
+            probation.put(candidate.key, candidate);
+            probationWeight += candidate.weight;
+            admit(candidate);
+        }
+        while (totalWeight() > maxWeight) {
+            Node victim = firstOf(probation, firstOf(protectedSegment, firstOf(window, null)));
+            if (victim == null) {
+                break;
+            }
+            remove(victim);
+        }
+    }
+    
+    private void admit(Node candidate) {
+        while (totalWeight() > maxWeight && data.get(candidate.key) == candidate) {
+            Node victim = firstExcept(probation, candidate);
+            if (victim == null) {
+                victim = firstOf(protectedSegment, null);
+            }
+            if (victim == null) {
+                return;
+            }
+            if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                remove(victim);
+            } else {
+                remove(candidate);
+            }
+        }
+    }
+    
+    private void remove(Node node) {
+        if (data.remove(node.key, node)) {
+            unlink(node);
+            evictionCount.increment();
+        }
+    }
+    
+    private void unlink(Node node) {
+        switch (node.region) {
+            case WINDOW -> {
+                if (window.remove(node.key, node)) {
+                    windowWeight -= node.weight;
+                }
+            }
+            case PROBATION -> {
+                if (probation.remove(node.key, node)) {
+                    probationWeight -= node.weight;
+                }
+            }
+            case PROTECTED -> {
+                if (protectedSegment.remove(node.key, node)) {
+                    protectedWeight -= node.weight;
+                }
+            }
+        }
+    }
+    
+    private long totalWeight() {
+        return windowWeight + probationWeight + protectedWeight;
+    }
+    
+    private static void moveToTail(LinkedHashMap<RequestKey, Node> segment, Node node) {
+        segment.remove(node.key);
+        segment.put(node.key, node);
+    }
+    
+    private static Node pollFirst(LinkedHashMap<RequestKey, Node> segment) {
+        Iterator<Node> iterator = segment.values().iterator();
+        Node first = iterator.next();
+        iterator.remove();
+        return first;
+    }
+    
+    private static Node firstOf(LinkedHashMap<RequestKey, Node> segment, Node fallback) {
+        return segment.isEmpty() ? fallback : segment.values().iterator().next();
+    }
+    
+    private static Node firstExcept(LinkedHashMap<RequestKey, Node> segment, Node excluded) {
+        for (Node node : segment.values()) {
+            if (node != excluded) {
+                return node;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.naver.openapi.client.circuit;
+
+import lombok.Getter;
+
+/**
+ * 서킷이 열려 있어 요청이 전송되지 않고 거부되었을 때 발생
+ */
+@Getter
+public class CallNotPermittedException extends RuntimeException {
+    
+    private static final long serialVersionUID = 1L;
+    
+    private final String circuitName;
+    private final CircuitState state;
+    
+    public CallNotPermittedException(String circuitName, CircuitState state) {
+        super("Circuit '" + circuitName + "' is " + state + " - call not permitted");
+        this.circuitName = circuitName;
+        this.state = state;
+    }
+}
@@ -0,0 +1,199 @@
+package com.naver.openapi.client.circuit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 건수 기반 슬라이딩 윈도우 서킷 브레이커
+ * 
+ * <p>최근 {@code windowSize}건의 결과 중 실패율 또는 느린 호출 비율이 임계치(%) 이상이면 OPEN으로 전환하여
+ * {@code openDuration} 동안 요청을 즉시 거부합니다. 대기 후 HALF_OPEN에서 {@code halfOpenCalls}건을 시험 전송하고,
+ * 그 결과가 임계치 미만이면 CLOSED, 아니면 다시 OPEN으로 전환합니다.</p>
+ * 
+ * <p>CLOSED 상태의 허가 확인은 volatile 읽기 한 번이며, 결과 기록만 짧게 동기화합니다.</p>
+ */
+@Slf4j
+public class CircuitBreaker {
+    
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+    
+    private final String name;
+    private final int windowSize;
+    private final int minCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final List<CircuitBreakerListener> listeners;
+    
+    private volatile CircuitState state = CircuitState.CLOSED;
+    
+    // 이하 this 로 보호
+    private final byte[] outcomes;
+    private int cursor;
+    private int recordedCount;
+    private int failureCount;
+    private int slowCount;
+    private long openedAtNanos;
+    private int halfOpenPermits;
+    
+    private final LongAdder notPermittedCount = new LongAdder();
+    
+    public CircuitBreaker(String name, CircuitBreakerConfig config, List<CircuitBreakerListener> listeners) {
+        this.name = name;
+        this.windowSize = config.getWindowSize();
+        this.minCalls = Math.min(config.getMinCalls(), config.getWindowSize());
+        this.failureRateThreshold = config.getFailureRateThreshold();
+        this.slowCallRateThreshold = config.getSlowCallRateThreshold();
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(config.getSlowCallDurationMillis());
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(config.getOpenDurationMillis());
+        this.halfOpenCalls = config.getHalfOpenCalls();
+        this.listeners = listeners;
+        this.outcomes = new byte[windowSize];
+    }
+    
+    /**
+     * 요청 허가 확인
+     * 
+     * @throws CallNotPermittedException OPEN 상태이거나 HALF_OPEN 시험 요청 수를 모두 사용한 경우
+     */
+    public void acquirePermission() {
+        if (state == CircuitState.CLOSED) {
+            return;
+        }
+        synchronized (this) {
+            if (state == CircuitState.OPEN) {
+                if (System.nanoTime() - openedAtNanos < openNanos) {
+                    reject();
+                }
+                transitionTo(CircuitState.HALF_OPEN);
+            }
+            if (state == CircuitState.HALF_OPEN) {
+                if (halfOpenPermits <= 0) {
+                    reject();
+                }
+                halfOpenPermits--;
+            }
+        }
+    }
+    
+    /**
+     * 허가를 받았지만 요청을 보내지 못한 경우 반환 (HALF_OPEN 시험 요청 수 복구)
+     * 
+     * <p>허가 뒤 레이트 리미터 대기가 인터럽트되는 등 결과가 기록되지 않으면
+     * 시험 요청 수가 줄어든 채로 남아 HALF_OPEN에서 벗어나지 못하므로 반드시 호출해야 합니다.</p>
+     */
+    public synchronized void releasePermission() {
+        if (state == CircuitState.HALF_OPEN) {
+            halfOpenPermits = Math.min(halfOpenCalls, halfOpenPermits + 1);
+        }
+    }
+    
+    /**
+     * 응답 수신 기록 (5xx는 실패로 기록)
+     */
+    public void onResult(int statusCode, long durationNanos) {
+        record(statusCode >= 500, durationNanos >= slowCallNanos);
+    }
+    
+    /**
+     * 예외(타임아웃, 연결 실패 등) 기록
+     */
+    public void onError(long durationNanos) {
+        record(true, durationNanos >= slowCallNanos);
+    }
+    
+    private synchronized void record(boolean failure, boolean slow) {
+        if (state == CircuitState.OPEN) {
+            // OPEN 전환 전에 시작된 요청의 늦은 결과는 무시
+            return;
+        }
+        byte outcome = (byte) ((failure ? FAILURE : 0) | (slow ? SLOW : 0));
+        if (recordedCount == windowSize) {
+            byte evicted = outcomes[cursor];
+            failureCount -= evicted & FAILURE;
+            slowCount -= (evicted & SLOW) >> 1;
+        } else {
+            recordedCount++;
+        }
+        outcomes[cursor] = outcome;
+        cursor = (cursor + 1) % windowSize;
+        failureCount += outcome & FAILURE;
+        slowCount += (outcome & SLOW) >> 1;
+        
+        int required = state == CircuitState.HALF_OPEN ? halfOpenCalls : minCalls;
+        if (recordedCount < required) {
+            return;
+        }
+        if (getFailureRate() >= failureRateThreshold || getSlowCallRate() >= slowCallRateThreshold) {
+            transitionTo(CircuitState.OPEN);
+        } else if (state == CircuitState.HALF_OPEN) {
+            transitionTo(CircuitState.CLOSED);
+        }
+    }
+    
+    private void reject() {
+        notPermittedCount.increment();
+        throw new CallNotPermittedException(name, state);
+    }
+    
+    /**
+     * 상태 전환 (this 잠금 상태에서 호출) - 전환 시 윈도우 초기화
+     */
+    private void transitionTo(CircuitState next) {
+        CircuitState previous = state;
+        state = next;
+        cursor = 0;
+        recordedCount = 0;
+        failureCount = 0;
+        slowCount = 0;
+        if (next == CircuitState.OPEN) {
+            openedAtNanos = System.nanoTime();
+        } else if (next == CircuitState.HALF_OPEN) {
+            halfOpenPermits = halfOpenCalls;
+        }
+        
+        log.warn("Circuit '{}' {} -> {}", name, previous, next);
+        for (CircuitBreakerListener listener : listeners) {
+            try {
+                listener.onStateTransition(name, previous, next);
+            } catch (RuntimeException e) {
+                log.warn("Circuit breaker listener failed: {}", e.getMessage());
+            }
+        }
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public CircuitState getState() {
+        return state;
+    }
+    
+    /**
+     * 현재 윈도우의 실패율 (%)
+     */
+    public synchronized double getFailureRate() {
+        return recordedCount == 0 ? 0 : failureCount * 100.0 / recordedCount;
+    }
+    
+    /**
+     * 현재 윈도우의 느린 호출 비율 (%)
+     */
+    public synchronized double getSlowCallRate() {
+        return recordedCount == 0 ? 0 : slowCount * 100.0 / recordedCount;
+    }
+    
+    /**
+     * 서킷이 열려 있어 거부된 요청 수
+     */
+    public long getNotPermittedCount() {
+        return notPermittedCount.sum();
+    }
+}
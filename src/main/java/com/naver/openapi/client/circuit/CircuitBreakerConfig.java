@@ -0,0 +1,67 @@
+package com.naver.openapi.client.circuit;
+
+import com.naver.openapi.config.ApiConfig;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 서킷 브레이커 임계치 설정
+ */
+@Value
+@Builder
+public class CircuitBreakerConfig {
+    
+    /**
+     * 판단 기준이 되는 최근 호출 수
+     */
+    @Builder.Default
+    int windowSize = 20;
+    
+    /**
+     * 상태를 판단하기 위한 최소 호출 수
+     */
+    @Builder.Default
+    int minCalls = 10;
+    
+    /**
+     * OPEN 전환 실패율 (%)
+     */
+    @Builder.Default
+    double failureRateThreshold = 50;
+    
+    /**
+     * OPEN 전환 느린 호출 비율 (%)
+     */
+    @Builder.Default
+    double slowCallRateThreshold = 80;
+    
+    /**
+     * 느린 호출 기준 (ms)
+     */
+    @Builder.Default
+    long slowCallDurationMillis = 5000;
+    
+    /**
+     * OPEN 유지 시간 (ms), 이후 HALF_OPEN으로 전환
+     */
+    @Builder.Default
+    long openDurationMillis = 30000;
+    
+    /**
+     * HALF_OPEN 상태에서 허용하는 시험 호출 수
+     */
+    @Builder.Default
+    int halfOpenCalls = 3;
+    
+    public static CircuitBreakerConfig from(ApiConfig apiConfig) {
+        return CircuitBreakerConfig.builder()
+            .windowSize(apiConfig.getCircuitWindowSize())
+            .minCalls(apiConfig.getCircuitMinCalls())
+            .failureRateThreshold(apiConfig.getCircuitFailureRateThreshold())
+            .slowCallRateThreshold(apiConfig.getCircuitSlowCallRateThreshold())
+            .slowCallDurationMillis(apiConfig.getCircuitSlowCallDurationMillis())
+            .openDurationMillis(apiConfig.getCircuitOpenDurationMillis())
+            .halfOpenCalls(apiConfig.getCircuitHalfOpenCalls())
+            .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.naver.openapi.client.circuit;
+
+/**
+ * 서킷 브레이커 상태 변경 리스너
+ */
+@FunctionalInterface
+public interface CircuitBreakerListener {
+    
+    /**
+     * 상태 변경 시 호출 (상태 변경 스레드에서 동기 호출되므로 가볍게 처리할 것)
+     */
+    void onStateTransition(String name, CircuitState from, CircuitState to);
+}
@@ -0,0 +1,111 @@
+package com.naver.openapi.client.circuit;
+
+import com.naver.openapi.config.ApiConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 엔드포인트(경로 prefix)별 서킷 브레이커 관리
+ * 
+ * <p>요청 경로와 가장 길게 일치하는 prefix의 브레이커를 사용하고,
+ * 일치하는 항목이 없으면 기본 브레이커를 사용합니다.
+ * DataLab 장애가 검색 API 요청까지 막지 않도록 prefix별로 상태를 따로 관리합니다.</p>
+ * 
+ * <pre>
+ * naver.api.circuit.endpoints=/v1/search/,/v1/datalab/search
+ * </pre>
+ */
+@Slf4j
+public class CircuitBreakerRegistry {
+    
+    private final boolean enabled;
+    private final List<CircuitBreakerListener> listeners = new CopyOnWriteArrayList<>();
+    private final CircuitBreaker defaultBreaker;
+    private final List<CircuitBreaker> endpointBreakers;
+    
+    public CircuitBreakerRegistry(ApiConfig apiConfig) {
+        this.enabled = apiConfig.isCircuitEnabled();
+        CircuitBreakerConfig config = CircuitBreakerConfig.from(apiConfig);
+        this.defaultBreaker = new CircuitBreaker("default", config, listeners);
+        this.endpointBreakers = apiConfig.getCircuitEndpoints().stream()
+            .map(prefix -> new CircuitBreaker(prefix, config, listeners))
+            .sorted(Comparator.comparingInt((CircuitBreaker breaker) -> breaker.getName().length()).reversed())
+            .toList();
+        
+        if (enabled) {
+            log.info("Circuit breaker enabled - endpoints: {}, config: {}", apiConfig.getCircuitEndpoints(), config);
+        }
+    }
+    
+    /**
+     * 경로에 해당하는 브레이커 조회 (가장 긴 prefix 우선)
+     */
+    public CircuitBreaker forPath(String path) {
+        for (CircuitBreaker breaker : endpointBreakers) {
+            if (path.startsWith(breaker.getName())) {
+                return breaker;
+            }
+        }
+        return defaultBreaker;
+    }
+    
+    /**
+     * 경로별 요청 허가 확인
+     * 
+     * @throws CallNotPermittedException 서킷이 열려 있는 경우
+     */
+    public void acquirePermission(String path) {
+        if (enabled) {
+            forPath(path).acquirePermission();
+        }
+    }
+    
+    /**
+     * 전송하지 않은 요청의 허가 반환
+     */
+    public void releasePermission(String path) {
+        if (enabled) {
+            forPath(path).releasePermission();
+        }
+    }
+    
+    /**
+     * 응답 결과 기록
+     */
+    public void onResult(String path, int statusCode, long durationNanos) {
+        if (enabled) {
+            forPath(path).onResult(statusCode, durationNanos);
+        }
+    }
+    
+    /**
+     * 예외 기록
+     */
+    public void onError(String path, long durationNanos) {
+        if (enabled) {
+            forPath(path).onError(durationNanos);
+        }
+    }
+    
+    /**
+     * 상태 변경 리스너 등록 (모든 브레이커 공통)
+     */
+    public void addListener(CircuitBreakerListener listener) {
+        listeners.add(listener);
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public CircuitBreaker getDefaultBreaker() {
+        return defaultBreaker;
+    }
+    
+    public List<CircuitBreaker> getEndpointBreakers() {
+        return endpointBreakers;
+    }
+}
@@ -0,0 +1,13 @@
+package com.naver.openapi.client.circuit;
+
+/**
+ * 서킷 브레이커 상태
+ */
+public enum CircuitState {
+    /** 정상 - 모든 요청 허용 */
+    CLOSED,
+    /** 차단 - 대기 시간 동안 요청을 즉시 거부 */
+    OPEN,
+    /** 시험 - 제한된 수의 요청만 허용하여 회복 여부 판단 */
+    HALF_OPEN
+}
@@ -0,0 +1,200 @@
+package com.naver.openapi.client.coalesce;
+
+import com.naver.openapi.client.RequestKey;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 동일 요청 Single-Flight 병합
+ * 
+ * <p>같은 {@link RequestKey}의 요청이 이미 진행 중이면 새 HTTP 호출을 만들지 않고
+ * 진행 중인 호출의 응답을 함께 받습니다. 응답이 도착하면 키는 즉시 제거되므로
+ * 결과를 캐싱하지는 않습니다 (동시에 진행 중인 요청만 병합).</p>
+ * 
+ * <p>비동기 호출({@link #executeAsync})은 호출마다 별도 Future를 받으므로 한 호출을 취소해도
+ * 같은 요청을 기다리는 다른 호출은 영향을 받지 않습니다.</p>
+ * 
+ * <p>REST Assured와 JdkHttpTransport의 응답은 본문이 메모리에 버퍼링되어 있어
+ * 여러 스레드가 같은 {@link Response}를 읽어도 안전합니다.</p>
+ */
+@Slf4j
+public class RequestCoalescer {
+    
+    /**
+     * 진행 중인 요청 (결과 + 기다리는 호출 수)
+     */
+    private static final class Flight {
+        final CompletableFuture<Response> result = new CompletableFuture<>();
+        final AtomicInteger waiters = new AtomicInteger(1);
+        volatile Future<?> running;
+        
+        /**
+         * 기다리는 호출 추가 (모두 떠나 중단된 요청이면 false)
+         */
+        boolean join() {
+            while (true) {
+                int count = waiters.get();
+                if (count <= 0) {
+                    return false;
+                }
+                if (waiters.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+            }
+        }
+        
+        /**
+         * 기다리는 호출이 없으면 실행 중인 작업 인터럽트
+         */
+        void cancelIfAbandoned() {
+            Future<?> task = running;
+            if (task != null && waiters.get() <= 0) {
+                task.cancel(true);
+            }
+        }
+    }
+    
+    private final ConcurrentMap<RequestKey, Flight> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executedCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+    
+    /**
+     * 요청 실행 (진행 중인 동일 요청이 있으면 그 결과를 공유)
+     */
+    public Response execute(RequestKey key, Supplier<Response> call) {
+        Flight flight = new Flight();
+        Flight existing = joinOrLead(key, flight);
+        if (existing != null) {
+            return await(existing.result);
+        }
+        
+        executedCount.increment();
+        try {
+            Response response = call.get();
+            flight.result.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+    
+    /**
+     * 요청 비동기 실행 (진행 중인 동일 요청이 있으면 그 결과를 공유)
+     * 
+     * <p>반환된 Future는 호출마다 따로 만들어지므로 취소하거나 타임아웃되어도 해당 호출만 실패하고
+     * 공유 요청은 계속 진행됩니다. 기다리는 호출이 모두 떠난 경우에만 실행 중인 작업을 인터럽트합니다.</p>
+     */
+    public CompletableFuture<Response> executeAsync(RequestKey key, Supplier<Response> call, ExecutorService executor) {
+        Flight flight = new Flight();
+        Flight existing = joinOrLead(key, flight);
+        if (existing != null) {
+            return view(key, existing);
+        }
+        
+        executedCount.increment();
+        CompletableFuture<Response> view = view(key, flight);
+        try {
+            flight.running = executor.submit(() -> {
+                try {
+                    flight.result.complete(call.get());
+                } catch (Throwable e) {
+                    flight.result.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(key, flight);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, flight);
+            flight.result.completeExceptionally(e);
+        }
+        // 등록 전에 모든 호출이 떠났을 수 있음
+        flight.cancelIfAbandoned();
+        return view;
+    }
+    
+    /**
+     * 진행 중인 동일 요청에 합류하고 그 요청을 반환 (없으면 flight를 등록하고 null 반환)
+     */
+    private Flight joinOrLead(RequestKey key, Flight flight) {
+        while (true) {
+            Flight existing = inFlight.putIfAbsent(key, flight);
+            if (existing == null) {
+                return null;
+            }
+            if (existing.join()) {
+                coalescedCount.increment();
+                log.debug("Coalesced request: {}", key);
+                return existing;
+            }
+            // 기다리던 호출이 모두 떠나 중단 중인 요청은 새 요청으로 대체
+            inFlight.remove(key, existing);
+        }
+    }
+    
+    /**
+     * 호출별 Future (공유 결과를 전달받고, 먼저 실패하면 공유 요청에서 빠짐)
+     */
+    private CompletableFuture<Response> view(RequestKey key, Flight flight) {
+        CompletableFuture<Response> view = new CompletableFuture<>();
+        flight.result.whenComplete((response, error) -> {
+            if (error != null) {
+                view.completeExceptionally(error);
+            } else {
+                view.complete(response);
+            }
+        });
+        view.whenComplete((response, error) -> {
+            if (error != null && !flight.result.isDone() && flight.waiters.decrementAndGet() == 0) {
+                inFlight.remove(key, flight);
+                flight.cancelIfAbandoned();
+            }
+        });
+        return view;
+    }
+    
+    private static Response await(CompletableFuture<Response> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+    
+    /**
+     * 실제 HTTP 호출로 이어진 요청 수
+     */
+    public long getExecutedCount() {
+        return executedCount.sum();
+    }
+    
+    /**
+     * 진행 중인 요청에 병합되어 절약된 호출 수
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+    
+    /**
+     * 현재 진행 중인 고유 요청 수
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,216 @@
+package com.naver.openapi.client.datalab;
+
+import com.naver.openapi.client.decode.ResponseDecoder;
+import com.naver.openapi.model.request.SearchTrendRequest;
+import com.naver.openapi.model.request.SearchTrendRequest.KeywordGroup;
+import com.naver.openapi.model.response.SearchTrendResponse;
+import com.naver.openapi.model.response.SearchTrendResponse.TrendData;
+import com.naver.openapi.model.response.SearchTrendResponse.TrendResult;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * DataLab 검색어 트렌드 분할 요청 (5개 초과 키워드 그룹)
+ * 
+ * <p>DataLab은 요청당 키워드 그룹 5개까지만 받고, {@code ratio}를 요청 안에서 최댓값 100 기준으로 정규화합니다.
+ * 그래서 따로 보낸 요청의 ratio는 서로 비교할 수 없습니다.</p>
+ * 
+ * <p><b>동작 방식</b></p>
+ * <ol>
+ *   <li>기준(anchor) 그룹 1개 + 나머지 그룹 4개씩으로 요청을 나누어 병렬 전송</li>
+ *   <li>각 요청에서 기준 그룹의 ratio 합계가 첫 요청과 같아지도록 배율을 구해 모든 ratio에 적용</li>
+ *   <li>전체 결과의 최댓값이 100이 되도록 다시 정규화하여 하나의 응답으로 병합</li>
+ * </ol>
+ * 
+ * <p>기준 그룹은 모든 기간에 검색량이 있는 그룹이어야 하며, 검색량이 클수록 반올림 오차가 줄어듭니다.
+ * 기본값은 첫 번째 그룹입니다.</p>
+ */
+@Slf4j
+public class TrendFanOut {
+    
+    public static final int MAX_GROUPS_PER_REQUEST = 5;
+    public static final int MAX_KEYWORDS_PER_GROUP = 20;
+    
+    private final Function<SearchTrendRequest, Response> poster;
+    private final Executor executor;
+    
+    /**
+     * @param poster DataLab 요청 1회를 보내는 함수 (예: {@code body -> client.post(path, body)})
+     */
+    public TrendFanOut(Function<SearchTrendRequest, Response> poster, Executor executor) {
+        this.poster = poster;
+        this.executor = executor;
+    }
+    
+    /**
+     * 첫 번째 그룹을 기준으로 분할 조회
+     */
+    public SearchTrendResponse fetch(SearchTrendRequest request) {
+        return fetch(request, 0);
+    }
+    
+    /**
+     * 기준 그룹을 지정하여 분할 조회
+     * 
+     * @param anchorIndex keywordGroups 안의 기준 그룹 위치
+     */
+    public SearchTrendResponse fetch(SearchTrendRequest request, int anchorIndex) {
+        List<KeywordGroup> groups = request.getKeywordGroups();
+        validate(groups, anchorIndex);
+        if (groups.size() <= MAX_GROUPS_PER_REQUEST) {
+            return send(request);
+        }
+        
+        KeywordGroup anchor = groups.get(anchorIndex);
+        List<KeywordGroup> others = new ArrayList<>(groups);
+        others.remove(anchorIndex);
+        
+        List<CompletableFuture<SearchTrendResponse>> batches = new ArrayList<>();
+        List<Integer> batchSizes = new ArrayList<>();
+        for (int from = 0; from < others.size(); from += MAX_GROUPS_PER_REQUEST - 1) {
+            List<KeywordGroup> batchGroups = new ArrayList<>(MAX_GROUPS_PER_REQUEST);
+            batchGroups.add(anchor);
+            batchGroups.addAll(others.subList(from, Math.min(others.size(), from + MAX_GROUPS_PER_REQUEST - 1)));
+            SearchTrendRequest batch = request.toBuilder().keywordGroups(batchGroups).build();
+            batchSizes.add(batchGroups.size());
+            batches.add(CompletableFuture.supplyAsync(() -> send(batch), executor));
+        }
+        log.debug("DataLab fan-out: {} groups in {} requests (anchor: {})", 
+                  groups.size(), batches.size(), anchor.getGroupName());
+        
+        List<SearchTrendResponse> responses = batches.stream().map(TrendFanOut::await).toList();
+        for (int i = 0; i < responses.size(); i++) {
+            List<TrendResult> results = responses.get(i).getResults();
+            int returned = results == null ? 0 : results.size();
+            if (returned != batchSizes.get(i)) {
+                throw new IllegalStateException("DataLab returned " + returned + " results for a batch of " 
+                                                + batchSizes.get(i) + " keyword groups (batch " + (i + 1) + ")");
+            }
+        }
+        return merge(responses, groups.size(), anchorIndex);
+    }
+    
+    /**
+     * 기준 그룹 배율로 재조정 후 병합 (원래 그룹 순서 유지, ratio가 없는 기간은 그대로 둠)
+     */
+    private static SearchTrendResponse merge(List<SearchTrendResponse> responses, int groupCount, int anchorIndex) {
+        Map<String, Double> referenceAnchor = byPeriod(responses.get(0).getResults().get(0));
+        
+        TrendResult[] merged = new TrendResult[groupCount];
+        int otherIndex = 0;
+        for (int batch = 0; batch < responses.size(); batch++) {
+            List<TrendResult> results = responses.get(batch).getResults();
+            double scale = scaleFactor(referenceAnchor, byPeriod(results.get(0)), results.get(0).getTitle());
+            if (batch == 0) {
+                merged[anchorIndex] = rescale(results.get(0), scale);
+            }
+            for (int i = 1; i < results.size(); i++, otherIndex++) {
+                int position = otherIndex < anchorIndex ? otherIndex : otherIndex + 1;
+                merged[position] = rescale(results.get(i), scale);
+            }
+        }
+        
+        double max = 0;
+        for (TrendResult result : merged) {
+            for (TrendData data : result.getData()) {
+                if (data.getRatio() != null) {
+                    max = Math.max(max, data.getRatio());
+                }
+            }
+        }
+        if (max > 0) {
+            for (TrendResult result : merged) {
+                for (TrendData data : result.getData()) {
+                    if (data.getRatio() != null) {
+                        data.setRatio(data.getRatio() * 100.0 / max);
+                    }
+                }
+            }
+        }
+        
+        SearchTrendResponse first = responses.get(0);
+        return new SearchTrendResponse(first.getStartDate(), first.getEndDate(), first.getTimeUnit(), List.of(merged));
+    }
+    
+    /**
+     * 두 요청에 모두 있는 기간의 기준 그룹 ratio 합계 비율
+     */
+    private static double scaleFactor(Map<String, Double> reference, Map<String, Double> batch, String anchorName) {
+        double referenceSum = 0;
+        double batchSum = 0;
+        for (Map.Entry<String, Double> entry : batch.entrySet()) {
+            Double referenceRatio = reference.get(entry.getKey());
+            if (referenceRatio != null) {
+                referenceSum += referenceRatio;
+                batchSum += entry.getValue();
+            }
+        }
+        if (batchSum <= 0 || referenceSum <= 0) {
+            throw new IllegalStateException(
+                "Anchor group '" + anchorName + "' has no search volume to rescale batches - choose another anchor");
+        }
+        return referenceSum / batchSum;
+    }
+    
+    private static Map<String, Double> byPeriod(TrendResult result) {
+        Map<String, Double> ratios = new HashMap<>();
+        for (TrendData data : result.getData()) {
+            if (data.getRatio() != null) {
+                ratios.put(data.getPeriod(), data.getRatio());
+            }
+        }
+        return ratios;
+    }
+    
+    private static TrendResult rescale(TrendResult result, double scale) {
+        List<TrendData> data = new ArrayList<>(result.getData().size());
+        for (TrendData point : result.getData()) {
+            data.add(new TrendData(point.getPeriod(), point.getRatio() == null ? null : point.getRatio() * scale));
+        }
+        return new TrendResult(result.getTitle(), result.getKeywords(), data);
+    }
+    
+    private SearchTrendResponse send(SearchTrendRequest request) {
+        Response response = poster.apply(request);
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("DataLab request failed (status=" + response.statusCode() + "): " 
+                                            + response.asString());
+        }
+        return ResponseDecoder.decodeTrend(response);
+    }
+    
+    private static SearchTrendResponse await(CompletableFuture<SearchTrendResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+    
+    private static void validate(List<KeywordGroup> groups, int anchorIndex) {
+        if (groups == null || groups.isEmpty()) {
+            throw new IllegalArgumentException("keywordGroups is required");
+        }
+        if (anchorIndex < 0 || anchorIndex >= groups.size()) {
+            throw new IllegalArgumentException("anchorIndex out of range: " + anchorIndex);
+        }
+        for (KeywordGroup group : groups) {
+            if (group.getKeywords() == null || group.getKeywords().size() > MAX_KEYWORDS_PER_GROUP) {
+                throw new IllegalArgumentException(
+                    "Keyword group '" + group.getGroupName() + "' must have 1~" + MAX_KEYWORDS_PER_GROUP + " keywords");
+            }
+        }
+    }
+}
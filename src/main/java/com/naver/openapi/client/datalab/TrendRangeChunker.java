@@ -0,0 +1,195 @@
+package com.naver.openapi.client.datalab;
+
+import com.naver.openapi.model.request.SearchTrendRequest;
+import com.naver.openapi.model.response.SearchTrendResponse;
+import com.naver.openapi.model.response.SearchTrendResponse.TrendData;
+import com.naver.openapi.model.response.SearchTrendResponse.TrendResult;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * DataLab 장기간 조회 분할 (겹치는 기간 단위로 나누어 병렬 조회 후 이어 붙이기)
+ * 
+ * <p>조회 기간이 {@code chunkDays}보다 길면 앞 구간과 {@code overlapDays}만큼 겹치는 구간으로 나누어 동시에 요청합니다.
+ * 구간마다 ratio가 따로 정규화되므로, 겹치는 기간의 ratio 합계가 앞 구간과 같아지도록 뒤 구간에 배율을 적용해
+ * 이어 붙인 뒤 전체 최댓값이 100이 되도록 다시 정규화합니다.</p>
+ * 
+ * <p>구간 경계는 {@code timeUnit}에 맞춥니다. month는 월 단위, week는 시작일부터 7일 단위로 잘라
+ * 구간 끝의 기간이 일부만 집계되지 않도록 합니다.</p>
+ */
+@Slf4j
+public class TrendRangeChunker {
+    
+    private final Function<SearchTrendRequest, SearchTrendResponse> fetcher;
+    private final Executor executor;
+    private final int chunkDays;
+    private final int overlapDays;
+    
+    /**
+     * @param fetcher 구간 1개를 조회하는 함수 (예: {@link TrendFanOut#fetch(SearchTrendRequest)})
+     */
+    public TrendRangeChunker(Function<SearchTrendRequest, SearchTrendResponse> fetcher, Executor executor,
+                             int chunkDays, int overlapDays) {
+        if (overlapDays < 1 || overlapDays * 2 > chunkDays) {
+            throw new IllegalArgumentException("overlapDays must be between 1 and chunkDays / 2");
+        }
+        this.fetcher = fetcher;
+        this.executor = executor;
+        this.chunkDays = chunkDays;
+        this.overlapDays = overlapDays;
+    }
+    
+    public SearchTrendResponse fetch(SearchTrendRequest request) {
+        List<LocalDate[]> windows = split(
+            LocalDate.parse(request.getStartDate()), LocalDate.parse(request.getEndDate()), request.getTimeUnit());
+        if (windows.size() == 1) {
+            return fetcher.apply(request);
+        }
+        log.debug("DataLab range {} ~ {} split into {} windows", request.getStartDate(), request.getEndDate(), 
+                  windows.size());
+        
+        List<CompletableFuture<SearchTrendResponse>> parts = new ArrayList<>();
+        for (LocalDate[] window : windows) {
+            SearchTrendRequest part = request.toBuilder()
+                .startDate(window[0].toString())
+                .endDate(window[1].toString())
+                .build();
+            parts.add(CompletableFuture.supplyAsync(() -> fetcher.apply(part), executor));
+        }
+        return stitch(request, parts.stream().map(TrendRangeChunker::await).toList());
+    }
+    
+    /**
+     * 조회 기간을 timeUnit 경계에 맞춘 겹치는 구간으로 분할
+     */
+    List<LocalDate[]> split(LocalDate start, LocalDate end, String timeUnit) {
+        List<LocalDate[]> windows = new ArrayList<>();
+        LocalDate windowStart = start;
+        while (true) {
+            LocalDate windowEnd = windowStart.plusDays(chunkDays - 1L);
+            if (!windowEnd.isBefore(end)) {
+                windows.add(new LocalDate[] {windowStart, end});
+                return windows;
+            }
+            windowEnd = alignEnd(start, windowEnd, timeUnit);
+            windows.add(new LocalDate[] {windowStart, windowEnd});
+            
+            LocalDate nextStart = alignStart(start, windowEnd.minusDays(overlapDays - 1L), timeUnit);
+            if (!nextStart.isAfter(windowStart) || nextStart.isAfter(windowEnd)) {
+                throw new IllegalArgumentException(
+                    "chunkDays/overlapDays too small for timeUnit '" + timeUnit + "'");
+            }
+            windowStart = nextStart;
+        }
+    }
+    
+    /**
+     * date 이전(포함)의 마지막 기간 종료일
+     */
+    private static LocalDate alignEnd(LocalDate origin, LocalDate date, String timeUnit) {
+        return switch (timeUnit) {
+            case "month" -> date.equals(date.with(TemporalAdjusters.lastDayOfMonth()))
+                ? date : date.withDayOfMonth(1).minusDays(1);
+            case "week" -> alignStart(origin, date.plusDays(1), timeUnit).minusDays(1);
+            default -> date;
+        };
+    }
+    
+    /**
+     * date 이전(포함)의 마지막 기간 시작일
+     */
+    private static LocalDate alignStart(LocalDate origin, LocalDate date, String timeUnit) {
+        return switch (timeUnit) {
+            case "month" -> date.withDayOfMonth(1);
+            case "week" -> origin.plusWeeks(ChronoUnit.WEEKS.between(origin, date));
+            default -> date;
+        };
+    }
+    
+    /**
+     * 겹치는 기간으로 배율을 맞춰 구간 결과를 이어 붙임 (그룹 순서는 요청 순서, ratio가 없는 기간은 null 유지)
+     */
+    private static SearchTrendResponse stitch(SearchTrendRequest request, List<SearchTrendResponse> parts) {
+        List<TrendResult> firstResults = parts.get(0).getResults();
+        List<Map<String, Double>> series = new ArrayList<>();
+        for (TrendResult result : firstResults) {
+            Map<String, Double> ratios = new LinkedHashMap<>();
+            result.getData().forEach(data -> ratios.put(data.getPeriod(), data.getRatio()));
+            series.add(ratios);
+        }
+        
+        for (int part = 1; part < parts.size(); part++) {
+            List<TrendResult> results = parts.get(part).getResults();
+            int returned = results == null ? 0 : results.size();
+            if (returned != series.size()) {
+                throw new IllegalStateException("DataLab returned " + returned + " results for the window starting " 
+                    + parts.get(part).getStartDate() + " but " + series.size() + " for the first window");
+            }
+            double stitchedSum = 0;
+            double partSum = 0;
+            for (int group = 0; group < results.size(); group++) {
+                for (TrendData data : results.get(group).getData()) {
+                    Double stitched = series.get(group).get(data.getPeriod());
+                    if (stitched != null && data.getRatio() != null) {
+                        stitchedSum += stitched;
+                        partSum += data.getRatio();
+                    }
+                }
+            }
+            if (stitchedSum <= 0 || partSum <= 0) {
+                throw new IllegalStateException("No search volume in overlap before " 
+                    + parts.get(part).getStartDate() + " - increase overlapDays");
+            }
+            double scale = stitchedSum / partSum;
+            for (int group = 0; group < results.size(); group++) {
+                Map<String, Double> ratios = series.get(group);
+                for (TrendData data : results.get(group).getData()) {
+                    if (ratios.get(data.getPeriod()) == null) {
+                        ratios.put(data.getPeriod(), data.getRatio() == null ? null : data.getRatio() * scale);
+                    }
+                }
+            }
+        }
+        
+        double max = series.stream()
+            .flatMap(ratios -> ratios.values().stream())
+            .filter(Objects::nonNull)
+            .mapToDouble(Double::doubleValue)
+            .max()
+            .orElse(0);
+        double normalize = max > 0 ? 100.0 / max : 1;
+        
+        List<TrendResult> merged = new ArrayList<>();
+        for (int group = 0; group < firstResults.size(); group++) {
+            List<TrendData> data = new ArrayList<>();
+            series.get(group).forEach((period, ratio) -> data.add(
+                new TrendData(period, ratio == null ? null : ratio * normalize)));
+            TrendResult first = firstResults.get(group);
+            merged.add(new TrendResult(first.getTitle(), first.getKeywords(), data));
+        }
+        return new SearchTrendResponse(request.getStartDate(), request.getEndDate(), request.getTimeUnit(), merged);
+    }
+    
+    private static SearchTrendResponse await(CompletableFuture<SearchTrendResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
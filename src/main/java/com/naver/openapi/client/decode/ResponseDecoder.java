@@ -0,0 +1,135 @@
+package com.naver.openapi.client.decode;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.naver.openapi.model.response.SearchResponse;
+import com.naver.openapi.model.response.SearchResponse.SearchItem;
+import com.naver.openapi.model.response.SearchTrendResponse;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * 응답 본문 스트리밍 디코더
+ * 
+ * <p>{@code response.as(SearchResponse.class)}는 본문을 String으로 만든 뒤 바인딩하지만,
+ * 이 디코더는 본문 InputStream을 미리 구성된 공유 {@link ObjectReader}로 바로 파싱합니다.
+ * ObjectReader는 불변이므로 모든 스레드가 같은 인스턴스를 사용합니다.</p>
+ * 
+ * <p>{@code display=100} 같은 큰 페이지는 {@link #forEachSearchItem}이나 {@link #iterateSearchItems}로
+ * 아이템을 하나씩 처리하면 목록 전체를 메모리에 올리지 않습니다.</p>
+ * 
+ * <pre>
+ * SearchResponse page = ResponseDecoder.decodeSearch(response);
+ * 
+ * try (SearchItemIterator items = ResponseDecoder.iterateSearchItems(response)) {
+ *     while (items.hasNext()) {
+ *         process(items.next());
+ *     }
+ * }
+ * </pre>
+ */
+public final class ResponseDecoder {
+    
+    private static final JsonMapper MAPPER = JsonMapper.builder()
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        .build();
+    
+    private static final ObjectReader SEARCH_READER = MAPPER.readerFor(SearchResponse.class);
+    private static final ObjectReader TREND_READER = MAPPER.readerFor(SearchTrendResponse.class);
+    static final ObjectReader ITEM_READER = MAPPER.readerFor(SearchItem.class);
+    
+    private static final ClassValue<ObjectReader> READERS = new ClassValue<>() {
+        @Override
+        protected ObjectReader computeValue(Class<?> type) {
+            return MAPPER.readerFor(type);
+        }
+    };
+    
+    private ResponseDecoder() {
+    }
+    
+    /**
+     * 임의 타입으로 디코딩 (타입별 ObjectReader 재사용)
+     */
+    public static <T> T decode(Response response, Class<T> type) {
+        return read(READERS.get(type), response.asInputStream());
+    }
+    
+    /**
+     * 검색 API 응답 디코딩
+     */
+    public static SearchResponse decodeSearch(Response response) {
+        return decodeSearch(response.asInputStream());
+    }
+    
+    public static SearchResponse decodeSearch(InputStream body) {
+        return read(SEARCH_READER, body);
+    }
+    
+    /**
+     * DataLab 검색어 트렌드 응답 디코딩
+     */
+    public static SearchTrendResponse decodeTrend(Response response) {
+        return decodeTrend(response.asInputStream());
+    }
+    
+    public static SearchTrendResponse decodeTrend(InputStream body) {
+        return read(TREND_READER, body);
+    }
+    
+    /**
+     * 검색 결과 아이템을 하나씩 콜백으로 전달
+     * 
+     * @return 아이템을 제외한 응답 정보 (items는 null)
+     */
+    public static SearchResponse forEachSearchItem(Response response, Consumer<SearchItem> action) {
+        return forEachSearchItem(response.asInputStream(), action);
+    }
+    
+    public static SearchResponse forEachSearchItem(InputStream body, Consumer<SearchItem> action) {
+        try (SearchItemIterator items = iterateSearchItems(body)) {
+            items.forEachRemaining(action);
+            return items.getHeader();
+        }
+    }
+    
+    /**
+     * 검색 결과 아이템 Iterator (사용 후 close 필요)
+     */
+    public static SearchItemIterator iterateSearchItems(Response response) {
+        return iterateSearchItems(response.asInputStream());
+    }
+    
+    public static SearchItemIterator iterateSearchItems(InputStream body) {
+        try {
+            return new SearchItemIterator(MAPPER.createParser(body));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open search response stream", e);
+        }
+    }
+    
+    private static <T> T read(ObjectReader reader, InputStream body) {
+        try (InputStream in = body) {
+            return reader.readValue(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode response as " + reader.getValueType(), e);
+        }
+    }
+    
+    /**
+     * 현재 토큰이 객체/배열이면 통째로 건너뛰기
+     */
+    static void skipValue(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            parser.skipChildren();
+        }
+    }
+}
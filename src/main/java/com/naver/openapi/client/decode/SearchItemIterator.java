@@ -0,0 +1,105 @@
+package com.naver.openapi.client.decode;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.naver.openapi.model.response.SearchResponse;
+import com.naver.openapi.model.response.SearchResponse.SearchItem;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 검색 결과 아이템 스트리밍 Iterator
+ * 
+ * <p>JSON 토큰을 앞에서부터 읽으며 {@code items} 배열의 원소를 한 번에 하나씩 바인딩합니다.
+ * {@code items} 앞에 오는 필드(total, start, display, lastBuildDate)는 {@link #getHeader()}로 조회할 수 있고,
+ * 뒤에 오는 필드는 순회를 마친 뒤 반영됩니다.</p>
+ */
+public class SearchItemIterator implements Iterator<SearchItem>, AutoCloseable {
+    
+    private final JsonParser parser;
+    private final SearchResponse header = new SearchResponse();
+    private boolean inItems;
+    private SearchItem next;
+    private boolean finished;
+    
+    SearchItemIterator(JsonParser parser) throws IOException {
+        this.parser = parser;
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Search response must be a JSON object");
+        }
+        advance();
+    }
+    
+    @Override
+    public boolean hasNext() {
+        return next != null;
+    }
+    
+    @Override
+    public SearchItem next() {
+        if (next == null) {
+            throw new NoSuchElementException();
+        }
+        SearchItem current = next;
+        try {
+            advance();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read search item", e);
+        }
+        return current;
+    }
+    
+    /**
+     * 아이템을 제외한 응답 정보 (items는 null)
+     */
+    public SearchResponse getHeader() {
+        return header;
+    }
+    
+    /**
+     * 다음 아이템까지 읽기 (없으면 나머지 필드를 읽고 종료)
+     */
+    private void advance() throws IOException {
+        next = null;
+        while (!finished) {
+            if (inItems) {
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.START_OBJECT) {
+                    next = ResponseDecoder.ITEM_READER.readValue(parser);
+                    return;
+                }
+                inItems = false;
+                continue;
+            }
+            
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_OBJECT) {
+                finished = true;
+                close();
+                return;
+            }
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "items" -> inItems = value == JsonToken.START_ARRAY;
+                case "lastBuildDate" -> header.setLastBuildDate(parser.getValueAsString());
+                case "total" -> header.setTotal(parser.getValueAsInt());
+                case "start" -> header.setStart(parser.getValueAsInt());
+                case "display" -> header.setDisplay(parser.getValueAsInt());
+                default -> ResponseDecoder.skipValue(parser);
+            }
+        }
+    }
+    
+    @Override
+    public void close() {
+        try {
+            parser.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
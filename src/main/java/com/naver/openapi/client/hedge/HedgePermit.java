@@ -0,0 +1,34 @@
+package com.naver.openapi.client.hedge;
+
+/**
+ * 헤지 요청 전송 허가 (일일 쿼터와 Client ID 사용량 예약)
+ * 
+ * <p>{@link #tryAcquire}로 예약한 뒤 레이트 리미터 토큰이나 헤지 크레딧이 부족해 헤지를 보내지 않게 되면
+ * {@link HedgingExecutor}가 {@link #release}로 예약을 돌려줍니다.</p>
+ */
+public interface HedgePermit {
+    
+    /**
+     * 예산 확인 없이 항상 허가
+     */
+    HedgePermit UNLIMITED = new HedgePermit() {
+        @Override
+        public boolean tryAcquire() {
+            return true;
+        }
+        
+        @Override
+        public void release() {
+        }
+    };
+    
+    /**
+     * 예산이 남았으면 헤지 1건의 사용량을 예약하고 true, 아니면 false
+     */
+    boolean tryAcquire();
+    
+    /**
+     * 예약한 헤지를 보내지 않게 된 경우 예약 반환
+     */
+    void release();
+}
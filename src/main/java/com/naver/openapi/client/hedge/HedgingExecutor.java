@@ -0,0 +1,228 @@
+package com.naver.openapi.client.hedge;
+
+import com.naver.openapi.client.ratelimit.RateLimiterRegistry;
+import com.naver.openapi.config.ApiConfig;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 헤지 요청 실행기 (멱등 GET의 tail latency 단축)
+ * 
+ * <p>첫 요청이 최근 응답 시간의 설정 백분위(기본 p95) 안에 끝나지 않으면 동일한 요청을 한 번 더 보내고,
+ * 먼저 도착한 응답을 사용합니다. 늦은 쪽 요청은 취소됩니다
+ * ({@link com.naver.openapi.client.transport.JdkHttpTransport}는 HTTP 교환 자체를 중단).
+ * REST Assured 전송 계층은 요청을 취소할 수 없으므로 헤징은 {@code transport=jdk}에서만 켤 수 있습니다
+ * ({@link ApiConfig.Builder#build()}에서 검증).</p>
+ * 
+ * <p><b>쿼터 보호</b></p>
+ * <ul>
+ *   <li>헤지는 전체 요청의 {@code maxRatio} 비율을 넘지 않음 (요청마다 크레딧 적립, 헤지마다 1 소비)</li>
+ *   <li>헤지 요청은 레이트 리미터 토큰을 즉시 얻을 수 있을 때만 전송 (대기하지 않음)</li>
+ *   <li>헤지 요청도 일일 쿼터와 Client ID 사용량에 집계 ({@link HedgePermit}이 예산 확인 후 예약)</li>
+ *   <li>허가 → 레이트 리미터 토큰 → 크레딧 순으로 확인하고, 뒤 단계가 거절되면 앞에서 얻은 것을 반환</li>
+ *   <li>경로별 표본이 {@value LatencyWindow#MIN_SAMPLES}건 미만이면 헤지하지 않음</li>
+ * </ul>
+ */
+@Slf4j
+public class HedgingExecutor {
+    
+    private static final long SCALE = 1000;
+    private static final long MAX_CREDITS = 10 * SCALE;
+    
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long creditPerRequest;
+    private final RateLimiterRegistry rateLimiters;
+    
+    private final Map<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+    private final AtomicLong credits = new AtomicLong();
+    private final LongAdder hedgeCount = new LongAdder();
+    private final LongAdder hedgeWinCount = new LongAdder();
+    
+    public HedgingExecutor(ApiConfig apiConfig, RateLimiterRegistry rateLimiters) {
+        this.enabled = apiConfig.isHedgeEnabled();
+        this.percentile = apiConfig.getHedgePercentile();
+        this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(apiConfig.getHedgeMinDelayMillis());
+        this.creditPerRequest = (long) (apiConfig.getHedgeMaxRatio() * SCALE);
+        this.rateLimiters = rateLimiters;
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * 헤지를 적용하여 요청 실행
+     * 
+     * @param path 엔드포인트 경로 (응답 시간 통계 단위)
+     * @param call 요청 1회를 비동기로 시작하는 함수 (헤지 시 두 번 호출됨)
+     */
+    public Response execute(String path, Supplier<CompletableFuture<Response>> call) {
+        return execute(path, call, HedgePermit.UNLIMITED);
+    }
+    
+    /**
+     * 헤지를 적용하여 요청 실행 (헤지 전송 전 쿼터 확인 및 예약)
+     * 
+     * @param hedgePermit 헤지 요청을 보내기 직전 사용량 예약, 헤지를 보내지 않게 되면 반환
+     */
+    public Response execute(String path, Supplier<CompletableFuture<Response>> call, HedgePermit hedgePermit) {
+        LatencyWindow window = windows.computeIfAbsent(path, key -> new LatencyWindow(percentile));
+        credits.getAndUpdate(current -> Math.min(MAX_CREDITS, current + creditPerRequest));
+        
+        CompletableFuture<Response> primary = start(call, window);
+        long hedgeDelay = window.percentileNanos();
+        if (hedgeDelay < 0) {
+            return await(primary);
+        }
+        
+        try {
+            return primary.get(Math.max(minDelayNanos, hedgeDelay), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 지연 → 헤지 여부 판단
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            primary.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for response: " + path, e);
+        }
+        
+        if (!hedgePermit.tryAcquire()) {
+            return await(primary);
+        }
+        if (!rateLimiters.tryAcquire(path)) {
+            hedgePermit.release();
+            return await(primary);
+        }
+        if (!tryConsumeCredit()) {
+            rateLimiters.release(path);
+            hedgePermit.release();
+            return await(primary);
+        }
+        
+        hedgeCount.increment();
+        log.debug("Hedging slow request to {} after {} ms", path, TimeUnit.NANOSECONDS.toMillis(hedgeDelay));
+        CompletableFuture<Response> hedge = start(call, window);
+        CompletableFuture<Response> winner = firstCompleted(primary, hedge);
+        try {
+            Response response = await(winner);
+            if (hedge.isDone() && !hedge.isCompletedExceptionally() && hedge.join() == response) {
+                hedgeWinCount.increment();
+            }
+            return response;
+        } finally {
+            // 완료된 쪽에는 영향 없음, 진행 중인 쪽만 취소
+            primary.cancel(true);
+            hedge.cancel(true);
+        }
+    }
+    
+    private static CompletableFuture<Response> start(Supplier<CompletableFuture<Response>> call, LatencyWindow window) {
+        long startNanos = System.nanoTime();
+        CompletableFuture<Response> future = call.get();
+        future.whenComplete((response, error) -> {
+            if (error == null) {
+                window.record(System.nanoTime() - startNanos);
+            }
+        });
+        return future;
+    }
+    
+    /**
+     * 먼저 성공한 응답으로 완료 (둘 다 실패하면 마지막 예외로 실패)
+     */
+    private static CompletableFuture<Response> firstCompleted(CompletableFuture<Response> first,
+                                                              CompletableFuture<Response> second) {
+        CompletableFuture<Response> result = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        for (CompletableFuture<Response> future : List.of(first, second)) {
+            future.whenComplete((response, error) -> {
+                if (error == null) {
+                    result.complete(response);
+                } else if (failures.incrementAndGet() == 2) {
+                    result.completeExceptionally(error);
+                }
+            });
+        }
+        return result;
+    }
+    
+    private boolean tryConsumeCredit() {
+        while (true) {
+            long current = credits.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (credits.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+    
+    private static Response await(CompletableFuture<Response> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for response", e);
+        }
+    }
+    
+    private static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof IOException ioException) {
+            return new UncheckedIOException(ioException);
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+    
+    /**
+     * 현재 헤지 기준 지연 시간 (ms, 표본 부족 시 -1)
+     */
+    public long getHedgeDelayMillis(String path) {
+        LatencyWindow window = windows.get(path);
+        if (window == null || window.percentileNanos() < 0) {
+            return -1;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(Math.max(minDelayNanos, window.percentileNanos()));
+    }
+    
+    /**
+     * 전송된 헤지 요청 수
+     */
+    public long getHedgeCount() {
+        return hedgeCount.sum();
+    }
+    
+    /**
+     * 헤지 요청이 먼저 도착한 횟수
+     */
+    public long getHedgeWinCount() {
+        return hedgeWinCount.sum();
+    }
+}
@@ -0,0 +1,59 @@
+package com.naver.openapi.client.hedge;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 응답 시간 슬라이딩 윈도우 (엔드포인트 단위)
+ * 
+ * <p>고정 크기 링 버퍼에 최근 {@value #SIZE}건의 응답 시간을 락 없이 기록하고,
+ * {@value #RECOMPUTE_INTERVAL}건마다 백분위 값을 다시 계산해 캐싱합니다.
+ * 요청 경로에서는 캐싱된 값만 읽으므로 정렬 비용이 들지 않습니다.</p>
+ */
+class LatencyWindow {
+    
+    static final int SIZE = 256;
+    static final int MIN_SAMPLES = 20;
+    private static final int RECOMPUTE_INTERVAL = 16;
+    
+    private final double percentile;
+    private final AtomicLongArray samples = new AtomicLongArray(SIZE);
+    private final AtomicLong cursor = new AtomicLong();
+    private volatile long cachedPercentileNanos = -1;
+    
+    LatencyWindow(double percentile) {
+        this.percentile = percentile;
+    }
+    
+    void record(long latencyNanos) {
+        long index = cursor.getAndIncrement();
+        samples.set((int) (index % SIZE), latencyNanos);
+        long count = index + 1;
+        if (count >= MIN_SAMPLES && (count == MIN_SAMPLES || count % RECOMPUTE_INTERVAL == 0)) {
+            cachedPercentileNanos = compute(count);
+        }
+    }
+    
+    /**
+     * 캐싱된 백분위 응답 시간 (표본이 부족하면 -1)
+     */
+    long percentileNanos() {
+        return cachedPercentileNanos;
+    }
+    
+    long sampleCount() {
+        return cursor.get();
+    }
+    
+    private long compute(long count) {
+        int size = (int) Math.min(count, SIZE);
+        long[] snapshot = new long[size];
+        for (int i = 0; i < size; i++) {
+            snapshot[i] = samples.get(i);
+        }
+        Arrays.sort(snapshot);
+        int rank = (int) Math.ceil(percentile / 100.0 * size) - 1;
+        return snapshot[Math.max(0, Math.min(size - 1, rank))];
+    }
+}
@@ -0,0 +1,48 @@
+package com.naver.openapi.client.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * HTTP 호출 1건 (RestApiClient → 전송 계층) JFR 이벤트
+ * 
+ * <p>재시도·헤지 요청은 각각 별도 이벤트로 기록됩니다. 기록이 꺼져 있으면 {@code shouldCommit()}이 false이므로
+ * 필드 계산(본문 크기 등)을 건너뜁니다.</p>
+ */
+@Name(ApiCallEvent.NAME)
+@Label("Naver API HTTP Call")
+@Category({"Naver Open API", "HTTP"})
+@Description("HTTP exchange sent by RestApiClient")
+@StackTrace(false)
+public class ApiCallEvent extends jdk.jfr.Event {
+    
+    public static final String NAME = "com.naver.openapi.ApiCall";
+    
+    @Label("Method")
+    public String method;
+    
+    @Label("Path")
+    public String path;
+    
+    @Label("Status")
+    @Description("HTTP status code, -1 if no response was received")
+    public int status;
+    
+    @Label("Bytes In")
+    @DataAmount(DataAmount.BYTES)
+    public long bytesIn;
+    
+    @Label("Bytes Out")
+    @DataAmount(DataAmount.BYTES)
+    public long bytesOut;
+    
+    @Label("Transport")
+    public String transport;
+    
+    @Label("Error")
+    public String error;
+}
@@ -0,0 +1,58 @@
+package com.naver.openapi.client.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * NaverApiClient 요청 1건 (캐시, 재시도 포함) JFR 이벤트
+ * 
+ * <p>캐시 적중 시에는 HTTP 호출 없이 {@code cacheHit=true}로 기록되고,
+ * 그 외에는 재시도를 포함한 전체 소요 시간과 재시도 횟수가 기록됩니다.</p>
+ */
+@Name(ApiRequestEvent.NAME)
+@Label("Naver API Request")
+@Category({"Naver Open API"})
+@Description("Logical request handled by NaverApiClient, including cache lookups and retries")
+@StackTrace(false)
+public class ApiRequestEvent extends jdk.jfr.Event {
+    
+    public static final String NAME = "com.naver.openapi.ApiRequest";
+    
+    @Label("Method")
+    public String method;
+    
+    @Label("Path")
+    public String path;
+    
+    @Label("Status")
+    @Description("Final HTTP status code, -1 if the request failed without a response")
+    public int status;
+    
+    @Label("Retry Count")
+    public int retryCount;
+    
+    @Label("Cache Hit")
+    public boolean cacheHit;
+    
+    @Label("Cache")
+    @Description("memory or disk when served from a cache")
+    public String cache;
+    
+    /**
+     * 캐시 적중 기록 (기록이 꺼져 있으면 아무것도 하지 않음)
+     */
+    public static void cacheHit(String method, String path, String cache, int status) {
+        ApiRequestEvent event = new ApiRequestEvent();
+        if (event.shouldCommit()) {
+            event.method = method;
+            event.path = path;
+            event.status = status;
+            event.cacheHit = true;
+            event.cache = cache;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.naver.openapi.client.logging;
+
+import com.naver.openapi.client.transport.ApiRequest;
+import com.naver.openapi.config.ApiConfig;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 샘플링 기반 비동기 요청/응답 로거
+ * 
+ * <p>정상 응답은 {@code naver.api.logging.sampleRate} 비율만 기록하고(head sampling),
+ * 4xx/5xx 응답, 예외, {@code naver.api.logging.slowThreshold}(ms)보다 느린 호출은 항상 기록합니다(tail sampling).
+ * 호출 스레드는 기록 여부 판단과 큐 삽입만 수행하며, 본문 문자열 변환/잘라내기/출력은 전용 스레드에서 처리합니다.
+ * 큐가 가득 차면 기다리지 않고 버린 뒤 {@link #getDroppedCount()}에 집계합니다.</p>
+ * 
+ * <p>로그는 {@code com.naver.openapi.http} 로거로 출력되며(오류는 WARN, 나머지는 INFO),
+ * 헤더는 인증 Secret 노출을 막기 위해 이름만 남깁니다.</p>
+ */
+@Slf4j
+public class ApiCallLogger implements AutoCloseable {
+    
+    public static final String LOGGER_NAME = "com.naver.openapi.http";
+    
+    private static final Logger HTTP_LOG = LoggerFactory.getLogger(LOGGER_NAME);
+    private static final long DRAIN_TIMEOUT_MILLIS = 1000;
+    
+    /**
+     * 기록 사유
+     */
+    enum Reason {
+        SAMPLED, SLOW, ERROR
+    }
+    
+    /**
+     * 큐에 넣는 호출 정보 (문자열 변환 전 원본 참조만 보관)
+     */
+    private record Entry(ApiRequest request, Response response, Throwable error, long elapsedNanos, Reason reason) {
+    }
+    
+    private final boolean enabled;
+    private final double sampleRate;
+    private final long slowNanos;
+    private final int maxBodyChars;
+    private final BlockingQueue<Entry> queue;
+    private final Thread writer;
+    private final LongAdder loggedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private volatile boolean running = true;
+    
+    public ApiCallLogger(ApiConfig apiConfig) {
+        this.enabled = apiConfig.isLoggingEnabled();
+        this.sampleRate = apiConfig.getLoggingSampleRate();
+        this.slowNanos = TimeUnit.MILLISECONDS.toNanos(apiConfig.getLoggingSlowThresholdMillis());
+        this.maxBodyChars = apiConfig.getLoggingMaxBodyChars();
+        this.queue = new ArrayBlockingQueue<>(apiConfig.getLoggingQueueSize());
+        this.writer = enabled
+            ? Thread.ofPlatform().name("naver-api-logger").daemon(true).start(this::drain)
+            : null;
+    }
+    
+    /**
+     * 호출 결과 기록 요청 (기록 대상이 아니거나 큐가 가득 차면 즉시 반환)
+     * 
+     * @param response 응답 (예외로 끝난 호출이면 null)
+     * @param error 예외 (응답을 받았으면 null)
+     */
+    public void log(ApiRequest request, Response response, Throwable error, long elapsedNanos) {
+        if (!enabled || !running) {
+            return;
+        }
+        Reason reason = reasonOf(response, elapsedNanos);
+        if (reason == null) {
+            return;
+        }
+        if (!queue.offer(new Entry(request, response, error, elapsedNanos, reason))) {
+            droppedCount.increment();
+        }
+    }
+    
+    private Reason reasonOf(Response response, long elapsedNanos) {
+        if (response == null || response.statusCode() >= 400) {
+            return Reason.ERROR;
+        }
+        if (elapsedNanos >= slowNanos) {
+            return Reason.SLOW;
+        }
+        if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            return Reason.SAMPLED;
+        }
+        return null;
+    }
+    
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry entry = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (entry != null) {
+                    write(entry);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Failed to write API call log: {}", e.getMessage());
+            }
+        }
+    }
+    
+    private void write(Entry entry) {
+        ApiRequest request = entry.request();
+        StringBuilder line = new StringBuilder(256)
+            .append('[').append(entry.reason().name().toLowerCase()).append("] ")
+            .append(request.getMethod()).append(' ').append(request.getPath());
+        if (request.getQueryParams() != null && !request.getQueryParams().isEmpty()) {
+            line.append(" params=").append(request.getQueryParams());
+        }
+        if (request.getHeaders() != null && !request.getHeaders().isEmpty()) {
+            line.append(" headers=").append(request.getHeaders().keySet());
+        }
+        line.append(" -> ");
+        if (entry.response() != null) {
+            line.append(entry.response().statusCode());
+        } else {
+            line.append(entry.error() != null ? entry.error().getClass().getSimpleName() : "no response");
+        }
+        line.append(" (").append(TimeUnit.NANOSECONDS.toMillis(entry.elapsedNanos())).append(" ms)");
+        if (request.getBody() != null) {
+            line.append(" request=")
+                .append(truncate(new String(request.serializeBody(), StandardCharsets.UTF_8), maxBodyChars));
+        }
+        if (entry.response() != null) {
+            line.append(" response=").append(truncate(entry.response().asString(), maxBodyChars));
+        } else if (entry.error() != null && entry.error().getMessage() != null) {
+            line.append(" message=").append(truncate(entry.error().getMessage(), maxBodyChars));
+        }
+        
+        if (entry.reason() == Reason.ERROR) {
+            HTTP_LOG.warn(line.toString());
+        } else {
+            HTTP_LOG.info(line.toString());
+        }
+        loggedCount.increment();
+    }
+    
+    /**
+     * 최대 길이로 자르고 잘린 글자 수 표시 (서로게이트 쌍은 나누지 않음)
+     */
+    static String truncate(String text, int maxChars) {
+        if (text == null || text.length() <= maxChars) {
+            return text;
+        }
+        int end = Math.max(0, maxChars);
+        if (end > 0 && Character.isHighSurrogate(text.charAt(end - 1))) {
+            end--;
+        }
+        return text.substring(0, end) + "...(" + (text.length() - end) + " chars truncated)";
+    }
+    
+    /**
+     * 출력된 로그 수
+     */
+    public long getLoggedCount() {
+        return loggedCount.sum();
+    }
+    
+    /**
+     * 큐가 가득 차 버린 로그 수
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+    
+    /**
+     * 출력 대기 중인 로그 수
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * 대기 중인 로그를 최대 1초 동안 출력한 뒤 종료
+     */
+    @Override
+    public void close() {
+        running = false;
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.join(DRAIN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            writer.interrupt();
+        }
+    }
+}
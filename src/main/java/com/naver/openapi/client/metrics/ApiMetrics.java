@@ -0,0 +1,197 @@
+package com.naver.openapi.client.metrics;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 엔드포인트별 지연 시간 / 처리량 / 오류율 집계
+ * 
+ * <p>호출마다 (method, 경로 템플릿, 상태 코드 구간) 조합의 {@link LatencyHistogram}에 기록하며,
+ * 환경 이름은 모든 시계열에 공통 태그로 붙습니다. 기록 경로에 잠금이 없어 모든 호출에서 켜 둘 수 있습니다.</p>
+ * 
+ * <p>상태 코드 구간은 {@code 2xx}, {@code 4xx}, {@code 5xx} 등이며, 응답 없이 예외로 끝난 호출은 {@code error}입니다.</p>
+ */
+public class ApiMetrics {
+    
+    public static final String STATUS_ERROR = "error";
+    
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    
+    /**
+     * 시계열 태그 조합
+     */
+    private record SeriesKey(String method, String path, String status) {
+    }
+    
+    /**
+     * 시계열 하나의 스냅샷
+     */
+    @Value
+    public static class EndpointMetrics {
+        String method;
+        String path;
+        String status;
+        LatencySnapshot latency;
+        
+        /**
+         * 집계 시작 이후 초당 호출 수
+         */
+        double throughputPerSecond;
+    }
+    
+    private final String environment;
+    private final boolean enabled;
+    private final long startNanos = System.nanoTime();
+    private final Map<SeriesKey, LatencyHistogram> series = new ConcurrentHashMap<>();
+    
+    public ApiMetrics(String environment, boolean enabled) {
+        this.environment = environment;
+        this.enabled = enabled;
+    }
+    
+    /**
+     * 응답을 받은 호출 기록
+     */
+    public void record(String method, String path, int statusCode, long nanos) {
+        if (enabled) {
+            histogram(method, path, statusClass(statusCode)).recordNanos(nanos);
+        }
+    }
+    
+    /**
+     * 응답 없이 예외로 끝난 호출 기록
+     */
+    public void recordError(String method, String path, long nanos) {
+        if (enabled) {
+            histogram(method, path, STATUS_ERROR).recordNanos(nanos);
+        }
+    }
+    
+    private LatencyHistogram histogram(String method, String path, String status) {
+        return series.computeIfAbsent(new SeriesKey(method, pathTemplate(path), status), 
+                                      key -> new LatencyHistogram());
+    }
+    
+    static String statusClass(int statusCode) {
+        return switch (statusCode / 100) {
+            case 1 -> "1xx";
+            case 2 -> "2xx";
+            case 3 -> "3xx";
+            case 4 -> "4xx";
+            case 5 -> "5xx";
+            default -> STATUS_ERROR;
+        };
+    }
+    
+    /**
+     * 경로 템플릿 (쿼리 문자열 제거, 숫자로만 된 경로 구간은 {id}로 치환하여 시계열 수 제한)
+     */
+    static String pathTemplate(String path) {
+        int query = path.indexOf('?');
+        String base = query >= 0 ? path.substring(0, query) : path;
+        Matcher matcher = NUMERIC_SEGMENT.matcher(base);
+        return matcher.find() ? matcher.replaceAll("/{id}") : base;
+    }
+    
+    /**
+     * 모든 시계열 스냅샷 (경로, method, 상태 순)
+     */
+    public List<EndpointMetrics> snapshot() {
+        double elapsedSeconds = Math.max(1e-9, (System.nanoTime() - startNanos) / NANOS_PER_SECOND);
+        List<EndpointMetrics> snapshots = new ArrayList<>();
+        series.forEach((key, histogram) -> {
+            LatencySnapshot latency = histogram.snapshot();
+            snapshots.add(new EndpointMetrics(key.method(), key.path(), key.status(), latency,
+                                              latency.getCount() / elapsedSeconds));
+        });
+        snapshots.sort(Comparator.comparing(EndpointMetrics::getPath)
+            .thenComparing(EndpointMetrics::getMethod)
+            .thenComparing(EndpointMetrics::getStatus));
+        return snapshots;
+    }
+    
+    /**
+     * 오류율 (4xx/5xx 응답과 예외 비율, 호출이 없으면 0)
+     */
+    public double getErrorRate(String method, String path) {
+        String template = pathTemplate(path);
+        long total = 0;
+        long errors = 0;
+        for (Map.Entry<SeriesKey, LatencyHistogram> entry : series.entrySet()) {
+            SeriesKey key = entry.getKey();
+            if (key.method().equals(method) && key.path().equals(template)) {
+                long count = entry.getValue().getCount();
+                total += count;
+                if (isError(key.status())) {
+                    errors += count;
+                }
+            }
+        }
+        return total == 0 ? 0 : (double) errors / total;
+    }
+    
+    private static boolean isError(String status) {
+        return status.equals(STATUS_ERROR) || status.startsWith("4") || status.startsWith("5");
+    }
+    
+    /**
+     * Prometheus 텍스트 형식 (summary: 분위수, _sum, _count / gauge: 최댓값)
+     */
+    public String toPrometheusText() {
+        List<EndpointMetrics> snapshots = snapshot();
+        StringBuilder text = new StringBuilder(256 + snapshots.size() * 512);
+        text.append("# HELP naver_api_request_duration_seconds Naver Open API request latency\n")
+            .append("# TYPE naver_api_request_duration_seconds summary\n");
+        for (EndpointMetrics metrics : snapshots) {
+            LatencySnapshot latency = metrics.getLatency();
+            long[] values = {
+                latency.getP50Nanos(), latency.getP90Nanos(), latency.getP99Nanos(), latency.getP999Nanos()
+            };
+            for (int i = 0; i < QUANTILES.length; i++) {
+                appendSample(text, "naver_api_request_duration_seconds", metrics,
+                             ",quantile=\"" + QUANTILES[i] + "\"", values[i] / NANOS_PER_SECOND);
+            }
+            appendSample(text, "naver_api_request_duration_seconds_sum", metrics, "",
+                         latency.getTotalNanos() / NANOS_PER_SECOND);
+            appendSample(text, "naver_api_request_duration_seconds_count", metrics, "", latency.getCount());
+        }
+        text.append("# HELP naver_api_request_duration_seconds_max Slowest Naver Open API request\n")
+            .append("# TYPE naver_api_request_duration_seconds_max gauge\n");
+        for (EndpointMetrics metrics : snapshots) {
+            appendSample(text, "naver_api_request_duration_seconds_max", metrics, "",
+                         metrics.getLatency().getMaxNanos() / NANOS_PER_SECOND);
+        }
+        return text.toString();
+    }
+    
+    private void appendSample(StringBuilder text, String name, EndpointMetrics metrics, String extraLabels,
+                              double value) {
+        text.append(name)
+            .append("{env=\"").append(escape(environment))
+            .append("\",method=\"").append(escape(metrics.getMethod()))
+            .append("\",path=\"").append(escape(metrics.getPath()))
+            .append("\",status=\"").append(metrics.getStatus()).append('"')
+            .append(extraLabels)
+            .append("} ")
+            .append(value)
+            .append('\n');
+    }
+    
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
@@ -0,0 +1,107 @@
+package com.naver.openapi.client.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 잠금 없는 로그-선형 지연 시간 히스토그램 (나노초)
+ * 
+ * <p>2의 거듭제곱 구간마다 64개 하위 버킷으로 나누어 기록하므로 모든 값의 상대 오차는 1.6% 이하입니다
+ * (HdrHistogram 유효 숫자 2자리 수준). 기록은 배열 원소 하나의 원자적 증가뿐이라 경합이 있어도 대기하지 않으며,
+ * 범위({@link #MAX_TRACKABLE_NANOS}, 약 18분)를 넘는 값은 최댓값 버킷에 기록합니다.</p>
+ */
+public class LatencyHistogram {
+    
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT / 2;
+    private static final int MAX_EXPONENT = 40;
+    
+    public static final long MAX_TRACKABLE_NANOS = (1L << MAX_EXPONENT) - 1;
+    
+    private final AtomicLongArray counts = new AtomicLongArray(indexOf(MAX_TRACKABLE_NANOS) + 1);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    
+    /**
+     * 값 → 버킷 번호 (128 미만은 값 그대로, 이후 2의 거듭제곱 구간마다 64개)
+     */
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) Math.max(0, value);
+        }
+        int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS + 1;
+        return shift * SUB_BUCKET_HALF + (int) (value >>> shift);
+    }
+    
+    /**
+     * 버킷 번호 → 버킷 하한값
+     */
+    static long lowerBoundOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_HALF - 1;
+        return (long) (index - shift * SUB_BUCKET_HALF) << shift;
+    }
+    
+    /**
+     * 버킷 대표값 (하한과 다음 버킷 하한의 중간)
+     */
+    private static long valueOf(int index) {
+        long lower = lowerBoundOf(index);
+        long upper = lowerBoundOf(index + 1);
+        return lower + (upper - lower - 1) / 2;
+    }
+    
+    public void recordNanos(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_TRACKABLE_NANOS);
+        counts.incrementAndGet(indexOf(value));
+        totalCount.increment();
+        totalNanos.add(value);
+        long max = maxNanos.get();
+        while (value > max && !maxNanos.compareAndSet(max, value)) {
+            max = maxNanos.get();
+        }
+    }
+    
+    public long getCount() {
+        return totalCount.sum();
+    }
+    
+    /**
+     * 현재까지의 분포 스냅샷 (기록과 동시에 호출해도 안전하며, 진행 중인 기록은 포함되지 않을 수 있음)
+     */
+    public LatencySnapshot snapshot() {
+        int length = counts.length();
+        long[] copy = new long[length];
+        long count = 0;
+        for (int i = 0; i < length; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        long max = maxNanos.get();
+        long sum = totalNanos.sum();
+        return new LatencySnapshot(count, count == 0 ? 0 : sum / (double) count,
+                                   percentile(copy, count, 50, max), percentile(copy, count, 90, max),
+                                   percentile(copy, count, 99, max), percentile(copy, count, 99.9, max),
+                                   max, sum);
+    }
+    
+    private static long percentile(long[] counts, long total, double percentile, long max) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(valueOf(i), max);
+            }
+        }
+        return max;
+    }
+}
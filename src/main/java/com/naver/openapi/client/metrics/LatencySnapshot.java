@@ -0,0 +1,41 @@
+package com.naver.openapi.client.metrics;
+
+import lombok.Value;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지연 시간 분포 스냅샷 (나노초)
+ */
+@Value
+public class LatencySnapshot {
+    
+    long count;
+    double meanNanos;
+    long p50Nanos;
+    long p90Nanos;
+    long p99Nanos;
+    long p999Nanos;
+    long maxNanos;
+    long totalNanos;
+    
+    public double getP50Millis() {
+        return toMillis(p50Nanos);
+    }
+    
+    public double getP90Millis() {
+        return toMillis(p90Nanos);
+    }
+    
+    public double getP99Millis() {
+        return toMillis(p99Nanos);
+    }
+    
+    public double getP999Millis() {
+        return toMillis(p999Nanos);
+    }
+    
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,74 @@
+package com.naver.openapi.client.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Prometheus 수집용 내장 HTTP 엔드포인트 ({@code GET /metrics})
+ * 
+ * <pre>
+ * naver.api.metrics.port=9404
+ * </pre>
+ */
+@Slf4j
+public class MetricsHttpServer implements AutoCloseable {
+    
+    public static final String PATH = "/metrics";
+    
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    
+    private final HttpServer server;
+    
+    private MetricsHttpServer(HttpServer server) {
+        this.server = server;
+    }
+    
+    /**
+     * 엔드포인트 생성 및 시작
+     * 
+     * @param port 수신 포트 (0이면 임의의 빈 포트)
+     */
+    public static MetricsHttpServer start(ApiMetrics metrics, int port) {
+        HttpServer server;
+        try {
+            server = HttpServer.create(new InetSocketAddress(port), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start metrics endpoint on port " + port, e);
+        }
+        server.createContext(PATH, exchange -> handle(exchange, metrics));
+        server.start();
+        log.info("Metrics endpoint started - http://localhost:{}{}", server.getAddress().getPort(), PATH);
+        return new MetricsHttpServer(server);
+    }
+    
+    private static void handle(HttpExchange exchange, ApiMetrics metrics) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = metrics.toPrometheusText().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        }
+    }
+    
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+    
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,258 @@
+package com.naver.openapi.client.paging;
+
+import com.naver.openapi.model.request.SearchRequest;
+import com.naver.openapi.model.response.SearchResponse;
+import com.naver.openapi.model.response.SearchResponse.SearchItem;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 여러 검색어의 검색 결과를 {@link Flow.Publisher}로 스트리밍 (배압 지원)
+ * 
+ * <p>구독자의 {@code request(n)} 수요만큼만 페이지(display=100)를 요청합니다.
+ * 동시에 진행하거나 버퍼에 쌓아 두는 페이지는 최대 {@code maxPages}개이므로 느린 구독자에도 메모리가 일정하고,
+ * 수요가 큰 구독자는 {@code maxPages}개 요청을 동시에 진행하여 레이트 리밋 한도까지 처리량을 냅니다.</p>
+ * 
+ * <p>검색어 순서대로, 검색어 안에서는 페이지 순서대로 전달합니다. 구독마다 처음부터 다시 조회합니다 (cold publisher).</p>
+ * 
+ * <pre>
+ * naverApiClient.publish("/v1/search/news.json", requests).subscribe(subscriber);
+ * </pre>
+ */
+@Slf4j
+public class SearchItemPublisher implements Flow.Publisher<SearchItem> {
+    
+    private final SearchPageFetcher fetcher;
+    private final List<SearchRequest> requests;
+    private final int maxPages;
+    private final ExecutorService executor;
+    
+    /**
+     * @param fetcher  쿼리 파라미터로 한 페이지를 요청하는 함수 (예: {@code params -> client.get(path, params)})
+     * @param maxPages 동시에 진행하거나 버퍼링할 최대 페이지 수
+     */
+    public SearchItemPublisher(Function<Map<String, ?>, Response> fetcher, List<SearchRequest> requests,
+                               int maxPages, ExecutorService executor) {
+        requests.forEach(SearchPageFetcher::validate);
+        this.fetcher = new SearchPageFetcher(fetcher);
+        this.requests = List.copyOf(requests);
+        this.maxPages = Math.max(1, maxPages);
+        this.executor = executor;
+    }
+    
+    @Override
+    public void subscribe(Flow.Subscriber<? super SearchItem> subscriber) {
+        SearchSubscription subscription = new SearchSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.drain();
+    }
+    
+    /**
+     * 요청한 페이지 (응답 도착 전/후)
+     */
+    private record PageSlot(int queryIndex, boolean firstPage, Future<SearchResponse> future) {
+    }
+    
+    /**
+     * 구독 1건의 상태
+     * 
+     * <p>모든 상태 변경과 구독자 신호는 drain 루프 안에서만 일어나며,
+     * wip 카운터로 한 번에 하나의 스레드만 루프를 실행합니다.</p>
+     */
+    private class SearchSubscription implements Flow.Subscription {
+        
+        private final Flow.Subscriber<? super SearchItem> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+        
+        // 이하 drain 루프 전용
+        private final Deque<PageSlot> inFlight = new ArrayDeque<>();
+        private final Deque<SearchItem> buffer = new ArrayDeque<>();
+        private boolean done;
+        private int queryIndex;
+        private boolean firstPageScheduled;
+        private int nextStart;
+        private int lastStart = -1;
+        
+        SearchSubscription(Flow.Subscriber<? super SearchItem> subscriber) {
+            this.subscriber = subscriber;
+        }
+        
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("request must be positive (rule 3.9): " + n);
+            } else {
+                demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            drain();
+        }
+        
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+        
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (done) {
+                    return;
+                }
+                if (cancelled) {
+                    release();
+                    return;
+                }
+                if (invalidRequest != null) {
+                    fail(invalidRequest);
+                    return;
+                }
+                try {
+                    collectCompletedPages();
+                } catch (RuntimeException e) {
+                    fail(e);
+                    return;
+                }
+                
+                long requested = demand.get();
+                long emitted = 0;
+                while (emitted < requested && !buffer.isEmpty()) {
+                    subscriber.onNext(buffer.poll());
+                    emitted++;
+                    if (cancelled) {
+                        release();
+                        return;
+                    }
+                }
+                if (emitted > 0 && requested != Long.MAX_VALUE) {
+                    demand.addAndGet(-emitted);
+                }
+                
+                boolean canSchedule = advanceQuery();
+                if (buffer.isEmpty() && inFlight.isEmpty() && !canSchedule) {
+                    done = true;
+                    subscriber.onComplete();
+                    return;
+                }
+                
+                long outstanding = buffer.size() + (long) inFlight.size() * SearchPageFetcher.MAX_DISPLAY;
+                while (canSchedule && inFlight.size() < maxPages && outstanding < demand.get()) {
+                    schedule();
+                    outstanding += SearchPageFetcher.MAX_DISPLAY;
+                    canSchedule = advanceQuery();
+                }
+                
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+        
+        /**
+         * 응답이 도착한 첫 페이지로 다음 페이지 범위 확정, 앞에서부터 완료된 페이지를 버퍼로 이동
+         */
+        private void collectCompletedPages() {
+            for (PageSlot slot : inFlight) {
+                if (slot.firstPage() && slot.queryIndex() == queryIndex && lastStart < 0 
+                        && slot.future().state() == Future.State.SUCCESS) {
+                    lastStart = SearchPageFetcher.lastStart(slot.future().resultNow());
+                }
+            }
+            while (!inFlight.isEmpty() && inFlight.peek().future().isDone()) {
+                SearchResponse page = await(inFlight.poll().future());
+                if (page.getItems() != null) {
+                    buffer.addAll(page.getItems());
+                }
+            }
+        }
+        
+        /**
+         * 지금 요청할 수 있는 페이지가 있는지 확인 (현재 검색어를 다 요청했으면 다음 검색어로 이동)
+         */
+        private boolean advanceQuery() {
+            while (queryIndex < requests.size()) {
+                if (!firstPageScheduled) {
+                    return true;
+                }
+                if (lastStart < 0) {
+                    // 첫 페이지 응답 대기 중 (total 확인 전)
+                    return false;
+                }
+                if (nextStart <= lastStart) {
+                    return true;
+                }
+                queryIndex++;
+                firstPageScheduled = false;
+                lastStart = -1;
+            }
+            return false;
+        }
+        
+        private void schedule() {
+            SearchRequest request = requests.get(queryIndex);
+            boolean firstPage = !firstPageScheduled;
+            int start = firstPage ? SearchPageFetcher.firstStart(request) : nextStart;
+            firstPageScheduled = true;
+            nextStart = start + SearchPageFetcher.MAX_DISPLAY;
+            
+            // CompletableFuture.cancel은 실행 중인 스레드를 인터럽트하지 않으므로 FutureTask를 직접 실행 (완료 시 drain)
+            FutureTask<SearchResponse> task = new FutureTask<>(() -> fetcher.fetch(request, start)) {
+                @Override
+                protected void done() {
+                    drain();
+                }
+            };
+            inFlight.add(new PageSlot(queryIndex, firstPage, task));
+            executor.execute(task);
+        }
+        
+        private SearchResponse await(Future<SearchResponse> future) {
+            try {
+                return future.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for search page", e);
+            }
+        }
+        
+        private void fail(Throwable error) {
+            done = true;
+            release();
+            subscriber.onError(error);
+        }
+        
+        private void release() {
+            done = true;
+            buffer.clear();
+            PageSlot slot;
+            while ((slot = inFlight.poll()) != null) {
+                slot.future().cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.naver.openapi.client.paging;
+
+import com.naver.openapi.client.decode.ResponseDecoder;
+import com.naver.openapi.model.request.SearchRequest;
+import com.naver.openapi.model.response.SearchResponse;
+import io.restassured.response.Response;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 검색 결과 한 페이지 조회 (display=100 고정)
+ */
+class SearchPageFetcher {
+    
+    static final int MAX_DISPLAY = 100;
+    static final int MAX_START = 1000;
+    
+    private final Function<Map<String, ?>, Response> fetcher;
+    
+    SearchPageFetcher(Function<Map<String, ?>, Response> fetcher) {
+        this.fetcher = fetcher;
+    }
+    
+    SearchResponse fetch(SearchRequest request, int start) {
+        Response response = fetcher.apply(pageParams(request, start));
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Search page request failed (start=" + start + ", status=" 
+                                            + response.statusCode() + "): " + response.asString());
+        }
+        return ResponseDecoder.decodeSearch(response);
+    }
+    
+    /**
+     * 페이지 조회 후 요청할 수 있는 마지막 start (start 상한과 total 중 작은 값)
+     */
+    static int lastStart(SearchResponse firstPage) {
+        int received = firstPage.getItems() == null ? 0 : firstPage.getItems().size();
+        if (received < MAX_DISPLAY) {
+            return 0;
+        }
+        return firstPage.getTotal() == null ? MAX_START : Math.min(MAX_START, firstPage.getTotal());
+    }
+    
+    static int firstStart(SearchRequest request) {
+        return request.getStart() == null ? 1 : Math.max(1, request.getStart());
+    }
+    
+    static void validate(SearchRequest request) {
+        if (request.getQuery() == null || request.getQuery().isBlank()) {
+            throw new IllegalArgumentException("query is required for pagination");
+        }
+    }
+    
+    private static Map<String, Object> pageParams(SearchRequest request, int start) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("query", request.getQuery());
+        params.put("display", MAX_DISPLAY);
+        params.put("start", start);
+        if (request.getSort() != null) {
+            params.put("sort", request.getSort());
+        }
+        if (request.getFilter() != null) {
+            params.put("filter", request.getFilter());
+        }
+        return params;
+    }
+}
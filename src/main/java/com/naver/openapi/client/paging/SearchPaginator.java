@@ -0,0 +1,173 @@
+package com.naver.openapi.client.paging;
+
+import com.naver.openapi.model.request.SearchRequest;
+import com.naver.openapi.model.response.SearchResponse;
+import com.naver.openapi.model.response.SearchResponse.SearchItem;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 검색 API 자동 페이징 (다음 페이지 병렬 선조회)
+ * 
+ * <p>{@link SearchRequest}의 query/sort/filter/start를 기준으로 최대 {@code display}(100)씩 요청하며,
+ * Naver 검색 API의 {@code start} 상한(1000)과 응답의 {@code total}을 넘지 않습니다.
+ * 첫 페이지로 전체 건수를 확인한 뒤 다음 {@code prefetch}개 페이지를 동시에 요청하고,
+ * 아이템은 페이지 순서대로 지연(lazy) 반환합니다.</p>
+ * 
+ * <p>각 페이지 요청은 NaverApiClient를 거치므로 레이트 리밋, 재시도, 캐시가 그대로 적용됩니다.
+ * 순회를 중간에 멈추거나 Stream을 닫으면 아직 끝나지 않은 선조회 작업을 인터럽트하여 중단합니다
+ * (이미 전송된 요청은 쿼터를 소비).</p>
+ * 
+ * <pre>
+ * try (Stream&lt;SearchItem&gt; items = naverApiClient.paginate("/v1/search/blog.json", request).stream()) {
+ *     items.limit(500).forEach(this::process);
+ * }
+ * </pre>
+ */
+@Slf4j
+public class SearchPaginator implements Iterable<SearchItem> {
+    
+    public static final int MAX_DISPLAY = SearchPageFetcher.MAX_DISPLAY;
+    public static final int MAX_START = SearchPageFetcher.MAX_START;
+    
+    private final SearchPageFetcher fetcher;
+    private final SearchRequest request;
+    private final int prefetch;
+    private final ExecutorService executor;
+    
+    /**
+     * @param fetcher  쿼리 파라미터로 한 페이지를 요청하는 함수 (예: {@code params -> client.get(path, params)})
+     * @param prefetch 동시에 진행할 최대 페이지 요청 수
+     */
+    public SearchPaginator(Function<Map<String, ?>, Response> fetcher, SearchRequest request,
+                           int prefetch, ExecutorService executor) {
+        SearchPageFetcher.validate(request);
+        this.fetcher = new SearchPageFetcher(fetcher);
+        this.request = request;
+        this.prefetch = Math.max(1, prefetch);
+        this.executor = executor;
+    }
+    
+    @Override
+    public Iterator<SearchItem> iterator() {
+        return new PageIterator();
+    }
+    
+    /**
+     * 검색 결과 Stream (close 시 남은 선조회 요청 취소)
+     */
+    public Stream<SearchItem> stream() {
+        PageIterator iterator = new PageIterator();
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(iterator::close);
+    }
+    
+    /**
+     * 페이지 단위 선조회 Iterator
+     */
+    private class PageIterator implements Iterator<SearchItem>, AutoCloseable {
+        
+        private final Deque<Future<SearchResponse>> inFlight = new ArrayDeque<>();
+        private Iterator<SearchItem> current = Collections.emptyIterator();
+        private int nextStart;
+        private int lastStart = MAX_START;
+        private boolean exhausted;
+        
+        PageIterator() {
+            this.nextStart = SearchPageFetcher.firstStart(request);
+        }
+        
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                if (!loadNextPage()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        @Override
+        public SearchItem next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+        
+        private boolean loadNextPage() {
+            if (inFlight.isEmpty()) {
+                if (exhausted || nextStart > lastStart) {
+                    return false;
+                }
+                // 첫 페이지는 단독 요청 (total 확인 전에는 선조회하지 않음)
+                submitNext();
+            }
+            
+            SearchResponse page = await(inFlight.poll());
+            int received = page.getItems() == null ? 0 : page.getItems().size();
+            lastStart = Math.min(lastStart, SearchPageFetcher.lastStart(page));
+            if (received < MAX_DISPLAY) {
+                exhausted = true;
+                close();
+            } else {
+                while (inFlight.size() < prefetch && nextStart <= lastStart) {
+                    submitNext();
+                }
+            }
+            current = received == 0 ? Collections.emptyIterator() : page.getItems().iterator();
+            return true;
+        }
+        
+        private void submitNext() {
+            int start = nextStart;
+            nextStart += MAX_DISPLAY;
+            // CompletableFuture.cancel은 실행 중인 스레드를 인터럽트하지 않으므로 ExecutorService의 Future 사용
+            inFlight.add(executor.submit(() -> fetcher.fetch(request, start)));
+        }
+        
+        private SearchResponse await(Future<SearchResponse> future) {
+            try {
+                return future.get();
+            } catch (ExecutionException e) {
+                close();
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException(e.getCause());
+            } catch (InterruptedException e) {
+                close();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for search page", e);
+            }
+        }
+        
+        @Override
+        public void close() {
+            exhausted = true;
+            Future<SearchResponse> pending;
+            while ((pending = inFlight.poll()) != null) {
+                pending.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.naver.openapi.client.quota;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 엔드포인트 그룹의 일일 예산을 모두 썼거나 페이싱 대기가 너무 길어 요청이 전송되지 않았을 때 발생
+ */
+@Getter
+public class QuotaExhaustedException extends RuntimeException {
+    
+    private static final long serialVersionUID = 1L;
+    
+    private final String family;
+    
+    /**
+     * 다시 요청할 수 있는 시각
+     */
+    private final Instant retryAt;
+    
+    public QuotaExhaustedException(String family, Instant retryAt, String reason) {
+        super("Quota for '" + family + "' " + reason + " - retry at " + retryAt);
+        this.family = family;
+        this.retryAt = retryAt;
+    }
+}
@@ -0,0 +1,434 @@
+package com.naver.openapi.client.quota;
+
+import com.naver.openapi.client.auth.Credential;
+import com.naver.openapi.client.auth.CredentialPool;
+import com.naver.openapi.config.ApiConfig;
+import com.naver.openapi.config.PacingMode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 엔드포인트 그룹(경로 prefix)별 · Client ID별 일일 호출 수 장부
+ * 
+ * <p>네이버 일일 한도는 애플리케이션(Client ID)마다 API 종류별로 적용되므로
+ * 그룹별 예산({@code naver.api.quota.budgets})은 Client ID 하나 기준이며, 그룹 전체 예산은 Client ID 수만큼 늘어납니다.
+ * 예산을 다 쓰면 요청을 보내지 않고 {@link QuotaExhaustedException}으로 즉시 실패합니다.
+ * 전송 전 {@link #tryReserve}가 그룹 · Client ID 사용량을 CAS로 함께 올려 예약하므로
+ * 동시에 마지막 예산을 노린 호출이 여럿이어도 예산을 넘지 않으며, 예약 후 보내지 않은 요청은 {@link #release}로 반환합니다.</p>
+ * 
+ * <p><b>페이싱</b>: {@code even}/{@code curve} 모드에서는 하루 중 지금까지 쓸 수 있는 몫
+ * (예산 × 경과 비율 + burst)을 넘으면 몫이 생길 때까지 대기하고, 대기가 {@code maxWait}보다 길면 즉시 실패합니다.</p>
+ * 
+ * <p>사용량은 {@code naver.api.quota.file}에 주기적으로 저장되어 재시작 후에도 이어지며,
+ * 네이버 일일 한도 기준(KST 자정)에 초기화됩니다. 파일 저장은 요청 스레드가 아닌 백그라운드 스레드에서 수행하고,
+ * {@link #close()} 시 마지막으로 한 번 더 저장합니다.</p>
+ * 
+ * <pre>
+ * naver.api.quota.budgets=/v1/search/:25000,/v1/datalab/search:1000
+ * </pre>
+ */
+@Slf4j
+public class QuotaLedger implements AutoCloseable {
+    
+    private static final int HOURS_PER_DAY = 24;
+    private static final long MILLIS_PER_HOUR = TimeUnit.HOURS.toMillis(1);
+    private static final String DAY_KEY = "day";
+    private static final char KEY_SEPARATOR = '|';
+    
+    /**
+     * 엔드포인트 그룹별 사용량
+     */
+    private static final class Family {
+        final String prefix;
+        final long budget;
+        final AtomicLong total = new AtomicLong();
+        final Map<String, AtomicLong> usedByClientId = new ConcurrentHashMap<>();
+        
+        Family(String prefix, long budget) {
+            this.prefix = prefix;
+            this.budget = budget;
+        }
+        
+        AtomicLong counter(String clientId) {
+            return usedByClientId.computeIfAbsent(clientId, id -> new AtomicLong());
+        }
+    }
+    
+    private final boolean enabled;
+    private final List<Family> families;
+    private final int credentialCount;
+    private final PacingMode pacingMode;
+    private final double[] cumulativeShare;
+    private final long pacingBurst;
+    private final long pacingMaxWaitMillis;
+    private final Path file;
+    private final long flushIntervalMillis;
+    private final Clock clock;
+    private final ExecutorService flusher;
+    private final AtomicLong lastFlushMillis = new AtomicLong();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile LocalDate day;
+    private volatile long nextResetMillis;
+    
+    public QuotaLedger(ApiConfig apiConfig, int credentialCount) {
+        this(apiConfig, credentialCount, Clock.system(CredentialPool.NAVER_ZONE));
+    }
+    
+    QuotaLedger(ApiConfig apiConfig, int credentialCount, Clock clock) {
+        this.enabled = apiConfig.isQuotaEnabled();
+        this.families = apiConfig.getQuotaBudgets().entrySet().stream()
+            .map(entry -> new Family(entry.getKey(), entry.getValue()))
+            .sorted(Comparator.comparingInt((Family family) -> family.prefix.length()).reversed())
+            .toList();
+        this.credentialCount = Math.max(1, credentialCount);
+        this.pacingMode = apiConfig.getQuotaPacingMode();
+        this.cumulativeShare = cumulativeShare(pacingMode == PacingMode.CURVE
+            ? apiConfig.getQuotaPacingCurve() : List.of());
+        this.pacingBurst = apiConfig.getQuotaPacingBurst();
+        this.pacingMaxWaitMillis = apiConfig.getQuotaPacingMaxWaitMillis();
+        String fileName = apiConfig.getQuotaFile();
+        this.file = fileName == null || fileName.isBlank() ? null : Path.of(fileName);
+        this.flushIntervalMillis = apiConfig.getQuotaFlushIntervalMillis();
+        this.clock = clock.withZone(CredentialPool.NAVER_ZONE);
+        this.flusher = enabled && file != null
+            ? Executors.newSingleThreadExecutor(Thread.ofPlatform().name("naver-api-quota-flush").daemon(true).factory())
+            : null;
+        startDay(LocalDate.now(this.clock));
+        
+        if (enabled) {
+            load();
+            log.info("Quota ledger enabled - budgets per client ID: {}, pacing: {}, file: {}",
+                     apiConfig.getQuotaBudgets(), pacingMode.getName(), file);
+        }
+    }
+    
+    /**
+     * 시간대별 가중치 → 각 시각(정시)까지 누적 비율 (가중치가 없으면 균등)
+     */
+    private static double[] cumulativeShare(List<Double> weights) {
+        double[] cumulative = new double[HOURS_PER_DAY + 1];
+        double sum = weights.isEmpty() ? HOURS_PER_DAY : weights.stream().mapToDouble(Double::doubleValue).sum();
+        for (int hour = 0; hour < HOURS_PER_DAY; hour++) {
+            double weight = weights.isEmpty() ? 1 : weights.get(hour);
+            cumulative[hour + 1] = cumulative[hour] + weight / sum;
+        }
+        cumulative[HOURS_PER_DAY] = 1.0;
+        return cumulative;
+    }
+    
+    private Family forPath(String path) {
+        for (Family family : families) {
+            if (path.startsWith(family.prefix)) {
+                return family;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * 예산 확인 및 페이싱 대기 (요청 전송 전 호출, 예약은 {@link #tryReserve})
+     * 
+     * @throws QuotaExhaustedException 그룹 예산을 모두 썼거나 페이싱 대기가 maxWait보다 긴 경우
+     */
+    public void pace(String path) {
+        Family family = enabled ? forPath(path) : null;
+        if (family == null) {
+            return;
+        }
+        long now = clock.millis();
+        resetIfNewDay(now);
+        long budget = family.budget * credentialCount;
+        long used = family.total.get();
+        if (used >= budget) {
+            throw new QuotaExhaustedException(family.prefix, Instant.ofEpochMilli(nextResetMillis),
+                                              "exhausted (" + used + "/" + budget + ")");
+        }
+        if (pacingMode == PacingMode.NONE) {
+            return;
+        }
+        long allowedAt = allowedAtMillis((double) (used + 1 - pacingBurst) / budget);
+        long waitMillis = allowedAt - now;
+        if (waitMillis <= 0) {
+            return;
+        }
+        if (waitMillis > pacingMaxWaitMillis) {
+            throw new QuotaExhaustedException(family.prefix, Instant.ofEpochMilli(allowedAt),
+                                              "is ahead of pacing schedule (" + used + "/" + budget + ")");
+        }
+        LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(waitMillis));
+        if (Thread.interrupted()) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while pacing quota: " + family.prefix);
+        }
+    }
+    
+    /**
+     * 오늘 누적 비율이 share에 도달하는 시각
+     */
+    private long allowedAtMillis(double share) {
+        long dayStart = day.atStartOfDay(CredentialPool.NAVER_ZONE).toInstant().toEpochMilli();
+        if (share <= 0) {
+            return dayStart;
+        }
+        for (int hour = 0; hour < HOURS_PER_DAY; hour++) {
+            double from = cumulativeShare[hour];
+            double to = cumulativeShare[hour + 1];
+            if (share <= to && to > from) {
+                return dayStart + hour * MILLIS_PER_HOUR + (long) ((share - from) / (to - from) * MILLIS_PER_HOUR);
+            }
+        }
+        return nextResetMillis;
+    }
+    
+    /**
+     * Client ID가 해당 그룹 예산을 남겨 두었는지 확인 (선택용 확인일 뿐이며 예약은 {@link #tryReserve})
+     */
+    public boolean hasRemaining(String path, Credential credential) {
+        Family family = enabled ? forPath(path) : null;
+        return family == null || family.counter(credential.getClientId()).get() < family.budget;
+    }
+    
+    /**
+     * 호출 1건 예약 (요청 전송 전 호출)
+     * 
+     * <p>Client ID 예산과 그룹 전체 예산이 모두 남아 있을 때만 두 사용량을 함께 증가시킵니다.
+     * 예약한 뒤 요청을 보내지 않게 되면 {@link #release}로 반환해야 합니다.</p>
+     * 
+     * @return 예산이 없어 예약하지 못하면 false
+     */
+    public boolean tryReserve(String path, Credential credential) {
+        Family family = enabled ? forPath(path) : null;
+        if (family == null) {
+            return true;
+        }
+        resetIfNewDay(clock.millis());
+        AtomicLong counter = family.counter(credential.getClientId());
+        if (!incrementBelow(counter, family.budget)) {
+            return false;
+        }
+        if (!incrementBelow(family.total, family.budget * credentialCount)) {
+            decrement(counter);
+            return false;
+        }
+        onChanged();
+        return true;
+    }
+    
+    /**
+     * 예약했지만 보내지 않은 호출 1건 반환
+     */
+    public void release(String path, Credential credential) {
+        Family family = enabled ? forPath(path) : null;
+        if (family == null) {
+            return;
+        }
+        decrement(family.counter(credential.getClientId()));
+        decrement(family.total);
+        dirty.set(true);
+    }
+    
+    /**
+     * 예산과 무관하게 호출 1건 기록 (파일 저장은 백그라운드에서 수행)
+     */
+    public void record(String path, Credential credential) {
+        Family family = enabled ? forPath(path) : null;
+        if (family == null) {
+            return;
+        }
+        family.counter(credential.getClientId()).incrementAndGet();
+        family.total.incrementAndGet();
+        onChanged();
+    }
+    
+    private static boolean incrementBelow(AtomicLong counter, long limit) {
+        while (true) {
+            long current = counter.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (counter.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+    
+    /**
+     * 예약 이후 날짜가 바뀌어 초기화된 경우 음수가 되지 않도록 0에서 멈춤
+     */
+    private static void decrement(AtomicLong counter) {
+        counter.updateAndGet(current -> Math.max(0, current - 1));
+    }
+    
+    /**
+     * 변경 표시 후 저장 주기가 지났으면 백그라운드 저장 요청
+     */
+    private void onChanged() {
+        dirty.set(true);
+        long now = clock.millis();
+        long lastFlush = lastFlushMillis.get();
+        if (flusher != null && now - lastFlush >= flushIntervalMillis && lastFlushMillis.compareAndSet(lastFlush, now)) {
+            try {
+                flusher.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                // 종료 중 - close()에서 저장
+            }
+        }
+    }
+    
+    /**
+     * 오늘 사용량 (그룹 전체)
+     */
+    public long getUsed(String path) {
+        Family family = forPath(path);
+        return family != null ? family.total.get() : 0;
+    }
+    
+    /**
+     * 오늘 사용량 (Client ID별)
+     */
+    public long getUsed(String path, String clientId) {
+        Family family = forPath(path);
+        AtomicLong used = family != null ? family.usedByClientId.get(clientId) : null;
+        return used != null ? used.get() : 0;
+    }
+    
+    /**
+     * 오늘 남은 예산 (그룹 전체, 예산 미설정 경로는 Long.MAX_VALUE)
+     */
+    public long getRemaining(String path) {
+        Family family = forPath(path);
+        if (family == null) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, family.budget * credentialCount - family.total.get());
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    private void startDay(LocalDate today) {
+        this.day = today;
+        this.nextResetMillis = today.plusDays(1).atStartOfDay(CredentialPool.NAVER_ZONE).toInstant().toEpochMilli();
+    }
+    
+    private void resetIfNewDay(long now) {
+        if (now < nextResetMillis) {
+            return;
+        }
+        synchronized (this) {
+            if (now < nextResetMillis) {
+                return;
+            }
+            for (Family family : families) {
+                family.total.set(0);
+                family.usedByClientId.clear();
+            }
+            startDay(LocalDate.now(clock));
+            dirty.set(true);
+            log.info("Daily quota ledger reset - {}", day);
+        }
+    }
+    
+    /**
+     * 저장된 오늘 사용량 복원 (날짜가 다르면 무시)
+     */
+    private void load() {
+        if (file == null || !Files.exists(file)) {
+            return;
+        }
+        Properties stored = new Properties();
+        try (InputStream input = Files.newInputStream(file)) {
+            stored.load(input);
+        } catch (IOException e) {
+            log.warn("Failed to read quota ledger: {}", file, e);
+            return;
+        }
+        if (!day.toString().equals(stored.getProperty(DAY_KEY))) {
+            log.info("Quota ledger {} is from {} - starting fresh", file, stored.getProperty(DAY_KEY));
+            return;
+        }
+        for (String key : stored.stringPropertyNames()) {
+            int separator = key.lastIndexOf(KEY_SEPARATOR);
+            Family family = separator > 0 ? findFamily(key.substring(0, separator)) : null;
+            if (family != null) {
+                long used = Long.parseLong(stored.getProperty(key));
+                family.counter(key.substring(separator + 1)).set(used);
+                family.total.addAndGet(used);
+            }
+        }
+        log.info("Quota ledger restored from {}", file);
+    }
+    
+    private Family findFamily(String prefix) {
+        for (Family family : families) {
+            if (family.prefix.equals(prefix)) {
+                return family;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * 사용량을 파일에 저장 (임시 파일에 쓴 뒤 교체)
+     */
+    public synchronized void flush() {
+        if (file == null || !dirty.getAndSet(false)) {
+            return;
+        }
+        Properties snapshot = new Properties();
+        snapshot.setProperty(DAY_KEY, day.toString());
+        for (Family family : families) {
+            family.usedByClientId.forEach((clientId, used) ->
+                snapshot.setProperty(family.prefix + KEY_SEPARATOR + clientId, Long.toString(used.get())));
+        }
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try (OutputStream output = Files.newOutputStream(temp)) {
+                snapshot.store(output, "Naver Open API daily quota ledger");
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty.set(true);
+            log.warn("Failed to write quota ledger: {}", file, e);
+        }
+    }
+    
+    @Override
+    public void close() {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (enabled) {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.naver.openapi.client.ratelimit;
+
+import com.naver.openapi.config.ApiConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 엔드포인트(경로 prefix)별 레이트 리미터 관리
+ * 
+ * <p>요청 경로와 가장 길게 일치하는 prefix의 리미터를 사용하고,
+ * 일치하는 항목이 없으면 기본 리미터를 사용합니다.</p>
+ * 
+ * <pre>
+ * naver.api.rateLimit.endpoints=/v1/search/:10,/v1/datalab/search:5
+ * </pre>
+ */
+@Slf4j
+public class RateLimiterRegistry {
+    
+    private final boolean enabled;
+    private final TokenBucketRateLimiter defaultLimiter;
+    private final List<TokenBucketRateLimiter> endpointLimiters;
+    
+    public RateLimiterRegistry(ApiConfig apiConfig) {
+        this.enabled = apiConfig.isRateLimitEnabled();
+        this.defaultLimiter = new TokenBucketRateLimiter(
+            "default", apiConfig.getRateLimitPerSecond(), apiConfig.getRateLimitBurst());
+        this.endpointLimiters = apiConfig.getRateLimitEndpoints().entrySet().stream()
+            .map(entry -> new TokenBucketRateLimiter(
+                entry.getKey(), entry.getValue(), apiConfig.getRateLimitBurst()))
+            .sorted(Comparator.comparingInt((TokenBucketRateLimiter limiter) -> limiter.getName().length())
+                .reversed())
+            .toList();
+        
+        if (enabled) {
+            log.info("Rate limiting enabled - default: {}/s, endpoints: {}", 
+                     apiConfig.getRateLimitPerSecond(), apiConfig.getRateLimitEndpoints());
+        }
+    }
+    
+    /**
+     * 경로에 해당하는 리미터 조회 (가장 긴 prefix 우선)
+     */
+    public TokenBucketRateLimiter forPath(String path) {
+        for (TokenBucketRateLimiter limiter : endpointLimiters) {
+            if (path.startsWith(limiter.getName())) {
+                return limiter;
+            }
+        }
+        return defaultLimiter;
+    }
+    
+    /**
+     * 경로별 토큰 획득 (동기)
+     */
+    public void acquire(String path) {
+        if (enabled) {
+            forPath(path).acquire();
+        }
+    }
+    
+    /**
+     * 경로별 토큰 즉시 획득 시도 (대기하지 않음)
+     */
+    public boolean tryAcquire(String path) {
+        return !enabled || forPath(path).tryAcquire();
+    }
+    
+    /**
+     * 경로별 토큰 반환 (획득했지만 요청을 보내지 않은 경우)
+     */
+    public void release(String path) {
+        if (enabled) {
+            forPath(path).release();
+        }
+    }
+    
+    /**
+     * 응답 상태 코드를 리미터에 반영 (429 → 감속, 그 외 → 회복)
+     */
+    public void onResponse(String path, int statusCode) {
+        if (!enabled) {
+            return;
+        }
+        TokenBucketRateLimiter limiter = forPath(path);
+        if (statusCode == 429) {
+            limiter.onThrottled();
+        } else {
+            limiter.onSuccess();
+        }
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public TokenBucketRateLimiter getDefaultLimiter() {
+        return defaultLimiter;
+    }
+    
+    public List<TokenBucketRateLimiter> getEndpointLimiters() {
+        return Collections.unmodifiableList(endpointLimiters);
+    }
+
+}
@@ -0,0 +1,213 @@
+package com.naver.openapi.client.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Lock-free 토큰 버킷 레이트 리미터
+ * 
+ * <p>GCRA(Generic Cell Rate Algorithm) 방식으로 구현된 토큰 버킷입니다.
+ * 버킷 상태를 "다음 토큰의 이론적 도착 시각(TAT)" 하나로 표현하므로
+ * {@link AtomicLong} CAS 한 번으로 토큰을 예약할 수 있어 락 없이 모든 스레드에 적용됩니다.</p>
+ * 
+ * <p><b>적응형 속도 조절 (AIMD)</b></p>
+ * <ul>
+ *   <li>429 응답: {@link #onThrottled()} → 현재 속도를 절반으로 감소 (최소 속도까지)</li>
+ *   <li>정상 응답: {@link #onSuccess()} → 설정 속도까지 조금씩 회복</li>
+ * </ul>
+ */
+@Slf4j
+public class TokenBucketRateLimiter {
+    
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final double DECREASE_FACTOR = 0.5;
+    private static final double MIN_RATE_FRACTION = 0.1;
+    private static final long DECREASE_COOLDOWN_NANOS = NANOS_PER_SECOND;
+    
+    private final String name;
+    private final double configuredRate;
+    private final double minRate;
+    private final double increaseStep;
+    private final int burst;
+    
+    /**
+     * 다음 토큰의 이론적 도착 시각 (System.nanoTime 기준)
+     */
+    private final AtomicLong theoreticalArrival;
+    
+    /**
+     * 현재 적용 중인 초당 허용량 (double bits)
+     */
+    private final AtomicLong currentRateBits;
+    
+    private final AtomicLong lastDecreaseNanos = new AtomicLong(System.nanoTime() - DECREASE_COOLDOWN_NANOS);
+    private final AtomicLong throttledCount = new AtomicLong();
+    private final AtomicLong delayedCount = new AtomicLong();
+    
+    /**
+     * @param name 리미터 이름 (로깅용, 보통 경로 prefix)
+     * @param permitsPerSecond 초당 허용 요청 수
+     * @param burst 대기 없이 연속 허용되는 최대 요청 수
+     */
+    public TokenBucketRateLimiter(String name, double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be at least 1: " + burst);
+        }
+        this.name = name;
+        this.configuredRate = permitsPerSecond;
+        this.minRate = permitsPerSecond * MIN_RATE_FRACTION;
+        this.increaseStep = permitsPerSecond * 0.01;
+        this.burst = burst;
+        this.theoreticalArrival = new AtomicLong(System.nanoTime());
+        this.currentRateBits = new AtomicLong(Double.doubleToLongBits(permitsPerSecond));
+    }
+    
+    /**
+     * 토큰 1개를 예약하고 사용 가능 시점까지 남은 대기 시간(ns)을 반환
+     */
+    public long reserve() {
+        while (true) {
+            long now = System.nanoTime();
+            long interval = intervalNanos();
+            long tat = theoreticalArrival.get();
+            long next = Math.max(tat, now) + interval;
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                long waitNanos = next - now - interval * burst;
+                if (waitNanos > 0) {
+                    delayedCount.incrementAndGet();
+                    return waitNanos;
+                }
+                return 0;
+            }
+        }
+    }
+    
+    /**
+     * 대기 없이 토큰을 얻을 수 있을 때만 획득
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            long now = System.nanoTime();
+            long interval = intervalNanos();
+            long tat = theoreticalArrival.get();
+            long next = Math.max(tat, now) + interval;
+            if (next - now - interval * burst > 0) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return true;
+            }
+        }
+    }
+    
+    /**
+     * 예약했지만 쓰지 않은 토큰 1개 반환 (대기 중 인터럽트, 헤지 요청 취소 등으로 요청을 보내지 않은 경우)
+     * 
+     * <p>TAT를 한 간격 앞당기며, 버킷이 이미 가득 찬 상태(TAT ≤ 현재)면 아무것도 하지 않습니다.</p>
+     */
+    public void release() {
+        while (true) {
+            long now = System.nanoTime();
+            long tat = theoreticalArrival.get();
+            if (tat - now <= 0) {
+                return;
+            }
+            long previous = Math.max(now, tat - intervalNanos());
+            if (theoreticalArrival.compareAndSet(tat, previous)) {
+                return;
+            }
+        }
+    }
+    
+    /**
+     * 토큰 획득 (호출 스레드에서 대기)
+     * 
+     * <p>비동기 API도 Virtual Thread 위에서 이 메서드로 대기하므로 캐리어 스레드는 점유하지 않습니다.
+     * 대기 중 인터럽트되면 예약한 토큰을 반환하고 실패합니다.</p>
+     */
+    public void acquire() {
+        long waitNanos = reserve();
+        long deadline = System.nanoTime() + waitNanos;
+        while (waitNanos > 0) {
+            LockSupport.parkNanos(this, waitNanos);
+            if (Thread.interrupted()) {
+                release();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for rate limiter: " + name);
+            }
+            waitNanos = deadline - System.nanoTime();
+        }
+    }
+    
+    /**
+     * 429 (Too Many Requests) 응답 수신 시 속도를 절반으로 감소
+     * 연속된 429가 속도를 0으로 몰아가지 않도록 쿨다운 동안은 한 번만 감소
+     */
+    public void onThrottled() {
+        throttledCount.incrementAndGet();
+        long now = System.nanoTime();
+        long last = lastDecreaseNanos.get();
+        if (now - last < DECREASE_COOLDOWN_NANOS || !lastDecreaseNanos.compareAndSet(last, now)) {
+            return;
+        }
+        double decreased = updateRate(rate -> Math.max(minRate, rate * DECREASE_FACTOR));
+        log.warn("Rate limiter [{}] throttled by server, rate decreased to {}/s", name, 
+                 String.format("%.2f", decreased));
+    }
+    
+    /**
+     * 정상 응답 수신 시 설정 속도까지 점진적으로 회복
+     */
+    public void onSuccess() {
+        if (getCurrentRate() < configuredRate) {
+            updateRate(rate -> Math.min(configuredRate, rate + increaseStep));
+        }
+    }
+    
+    private double updateRate(DoubleUnaryOperator function) {
+        while (true) {
+            long bits = currentRateBits.get();
+            double updated = function.applyAsDouble(Double.longBitsToDouble(bits));
+            if (currentRateBits.compareAndSet(bits, Double.doubleToLongBits(updated))) {
+                return updated;
+            }
+        }
+    }
+    
+    private long intervalNanos() {
+        return (long) (NANOS_PER_SECOND / getCurrentRate());
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public double getConfiguredRate() {
+        return configuredRate;
+    }
+    
+    public double getCurrentRate() {
+        return Double.longBitsToDouble(currentRateBits.get());
+    }
+    
+    /**
+     * 서버로부터 받은 429 응답 수
+     */
+    public long getThrottledCount() {
+        return throttledCount.get();
+    }
+    
+    /**
+     * 대기가 필요했던 요청 수
+     */
+    public long getDelayedCount() {
+        return delayedCount.get();
+    }
+}
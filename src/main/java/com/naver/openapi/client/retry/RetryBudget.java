@@ -0,0 +1,55 @@
+package com.naver.openapi.client.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전역 재시도 예산 (재시도 폭주 방지)
+ * 
+ * <p>gRPC의 retry throttling과 같은 방식입니다.</p>
+ * <ul>
+ *   <li>실패(재시도 대상 응답/예외)마다 토큰 1개 차감</li>
+ *   <li>성공마다 {@code tokenRatio}만큼 적립 (최대 {@code maxTokens})</li>
+ *   <li>토큰이 최대치의 절반 이하이면 재시도 금지</li>
+ * </ul>
+ * <p>정상 상황에서는 거의 모든 재시도가 허용되지만, Naver 측 장애로 실패가 이어지면
+ * 재시도가 자동으로 멈추어 부하를 증폭시키지 않습니다.</p>
+ */
+public class RetryBudget {
+    
+    private static final long SCALE = 1000;
+    
+    private final long maxTokens;
+    private final long tokenRatio;
+    private final AtomicLong tokens;
+    
+    public RetryBudget(int maxTokens, double tokenRatio) {
+        this.maxTokens = maxTokens * SCALE;
+        this.tokenRatio = (long) (tokenRatio * SCALE);
+        this.tokens = new AtomicLong(this.maxTokens);
+    }
+    
+    /**
+     * 성공 기록 (토큰 적립)
+     */
+    public void onSuccess() {
+        tokens.getAndUpdate(current -> Math.min(maxTokens, current + tokenRatio));
+    }
+    
+    /**
+     * 실패 기록 (토큰 차감)
+     */
+    public void onFailure() {
+        tokens.getAndUpdate(current -> Math.max(0, current - SCALE));
+    }
+    
+    /**
+     * 재시도 허용 여부
+     */
+    public boolean canRetry() {
+        return tokens.get() > maxTokens / 2;
+    }
+    
+    public double getTokens() {
+        return (double) tokens.get() / SCALE;
+    }
+}
@@ -0,0 +1,235 @@
+package com.naver.openapi.client.retry;
+
+import com.naver.openapi.config.ApiConfig;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.nio.channels.ClosedByInterruptException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 재시도 실행기 (Decorrelated Jitter 백오프 + Retry-After + 전역 재시도 예산)
+ * 
+ * <p><b>정책 선택</b>: 엔드포인트 prefix 설정이 HTTP 메서드 설정보다 우선합니다.</p>
+ * <pre>
+ * naver.api.retry.methods=GET:3,POST:1
+ * naver.api.retry.endpoints=/v1/datalab/search:3
+ * </pre>
+ * 
+ * <p><b>대기 시간</b>: {@code min(maxDelay, random(baseDelay, 이전 대기 * 3))} (decorrelated jitter).
+ * 응답에 Retry-After 헤더가 있으면 그보다 짧게 기다리지 않으며, Retry-After가 maxDelay를 넘으면
+ * 재시도하지 않고 응답을 그대로 반환합니다.</p>
+ * 
+ * <p>재시도 대상: 설정된 상태 코드(기본 429, 500, 502, 503, 504) 응답과 소켓 타임아웃 등 I/O 예외.
+ * 인터럽트로 중단된 요청은 재시도 · 예산 차감 없이 즉시 전파합니다.</p>
+ */
+@Slf4j
+public class RetryExecutor {
+    
+    private static final int DEFAULT_MAX_ATTEMPTS = 1;
+    
+    private final boolean enabled;
+    private final Map<String, RetryPolicy> methodPolicies;
+    private final List<Map.Entry<String, RetryPolicy>> endpointPolicies;
+    private final RetryPolicy defaultPolicy;
+    private final RetryBudget budget;
+    
+    private final LongAdder retryCount = new LongAdder();
+    private final LongAdder budgetExhaustedCount = new LongAdder();
+    
+    public RetryExecutor(ApiConfig apiConfig) {
+        this.enabled = apiConfig.isRetryEnabled();
+        RetryPolicy basePolicy = RetryPolicy.builder()
+            .maxAttempts(DEFAULT_MAX_ATTEMPTS)
+            .baseDelayMillis(apiConfig.getRetryBaseDelayMillis())
+            .maxDelayMillis(apiConfig.getRetryMaxDelayMillis())
+            .retryableStatusCodes(apiConfig.getRetryStatusCodes())
+            .build();
+        this.defaultPolicy = basePolicy;
+        this.methodPolicies = apiConfig.getRetryMethodAttempts().entrySet().stream()
+            .collect(Collectors.toUnmodifiableMap(
+                entry -> entry.getKey().toUpperCase(),
+                entry -> basePolicy.toBuilder().maxAttempts(entry.getValue()).build()));
+        this.endpointPolicies = apiConfig.getRetryEndpointAttempts().entrySet().stream()
+            .map(entry -> Map.entry(entry.getKey(), basePolicy.toBuilder().maxAttempts(entry.getValue()).build()))
+            .sorted(Comparator.comparingInt((Map.Entry<String, RetryPolicy> entry) -> entry.getKey().length())
+                .reversed())
+            .toList();
+        this.budget = new RetryBudget(apiConfig.getRetryBudgetMaxTokens(), apiConfig.getRetryBudgetTokenRatio());
+    }
+    
+    /**
+     * 요청에 적용할 정책 조회 (엔드포인트 → 메서드 → 기본 순)
+     */
+    public RetryPolicy policyFor(String method, String path) {
+        for (Map.Entry<String, RetryPolicy> entry : endpointPolicies) {
+            if (path.startsWith(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return methodPolicies.getOrDefault(method.toUpperCase(), defaultPolicy);
+    }
+    
+    /**
+     * 정책에 따라 재시도하며 요청 실행
+     * 
+     * @param attempt 한 번의 시도 (레이트 리밋 포함)
+     * @return 마지막 시도의 응답 (재시도 후에도 실패한 경우 실패 응답 그대로)
+     */
+    public Response execute(String method, String path, Supplier<Response> attempt) {
+        RetryPolicy policy = policyFor(method, path);
+        if (!enabled || policy.getMaxAttempts() <= 1) {
+            return attempt.get();
+        }
+        
+        long previousDelay = policy.getBaseDelayMillis();
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            Response response = null;
+            RuntimeException failure = null;
+            try {
+                response = attempt.get();
+            } catch (RuntimeException e) {
+                if (!isRetryable(e)) {
+                    throw e;
+                }
+                failure = e;
+            }
+            
+            if (failure == null && !policy.isRetryable(response.statusCode())) {
+                budget.onSuccess();
+                return response;
+            }
+            budget.onFailure();
+            
+            long delay = nextDelay(policy, previousDelay);
+            previousDelay = delay;
+            Long retryAfter = response == null ? null : retryAfterMillis(response);
+            if (retryAfter != null) {
+                if (retryAfter > policy.getMaxDelayMillis()) {
+                    log.warn("{} {} - Retry-After {} ms exceeds max delay, not retrying", method, path, retryAfter);
+                    return response;
+                }
+                delay = Math.max(delay, retryAfter);
+            }
+            
+            if (attemptNumber >= policy.getMaxAttempts()) {
+                return giveUp(response, failure);
+            }
+            if (!budget.canRetry()) {
+                budgetExhaustedCount.increment();
+                log.warn("{} {} - retry budget exhausted, not retrying", method, path);
+                return giveUp(response, failure);
+            }
+            
+            retryCount.increment();
+            log.warn("Retrying {} {} (attempt {}/{}) in {} ms - cause: {}", method, path, 
+                     attemptNumber + 1, policy.getMaxAttempts(), delay,
+                     failure != null ? failure.toString() : "HTTP " + response.statusCode());
+            if (!sleep(delay)) {
+                return giveUp(response, failure);
+            }
+        }
+    }
+    
+    private static Response giveUp(Response response, RuntimeException failure) {
+        if (failure != null) {
+            throw failure;
+        }
+        return response;
+    }
+    
+    /**
+     * Decorrelated jitter: min(maxDelay, random(baseDelay, previousDelay * 3))
+     */
+    private static long nextDelay(RetryPolicy policy, long previousDelay) {
+        long base = policy.getBaseDelayMillis();
+        long upper = Math.max(base + 1, previousDelay * 3);
+        return Math.min(policy.getMaxDelayMillis(), ThreadLocalRandom.current().nextLong(base, upper));
+    }
+    
+    /**
+     * Retry-After 헤더 해석 (초 단위 숫자 또는 HTTP-date)
+     */
+    static Long retryAfterMillis(Response response) {
+        Headers headers = response.getHeaders();
+        String value = headers == null ? null : headers.getValue("Retry-After");
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Math.max(0, Long.parseLong(value.trim()) * 1000);
+        } catch (NumberFormatException ignored) {
+            // HTTP-date 형식
+        }
+        try {
+            ZonedDateTime retryAt = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, Duration.between(ZonedDateTime.now(retryAt.getZone()), retryAt).toMillis());
+        } catch (DateTimeParseException e) {
+            log.debug("Ignoring unparseable Retry-After header: {}", value);
+            return null;
+        }
+    }
+    
+    /**
+     * 소켓 타임아웃, 연결 실패 등 I/O 예외 여부 (원인 체인 포함)
+     * 
+     * <p>호출 스레드가 인터럽트된 경우(취소 · 타임아웃 · 종료)는 재시도하지 않습니다.
+     * {@link SocketTimeoutException}도 {@link InterruptedIOException}이지만 인터럽트가 아니므로 재시도 대상입니다.</p>
+     */
+    private static boolean isRetryable(Throwable error) {
+        if (Thread.currentThread().isInterrupted()) {
+            return false;
+        }
+        boolean ioFailure = false;
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ClosedByInterruptException
+                || cause instanceof InterruptedIOException && !(cause instanceof SocketTimeoutException)) {
+                return false;
+            }
+            ioFailure |= cause instanceof IOException;
+        }
+        return ioFailure;
+    }
+    
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    
+    /**
+     * 수행된 재시도 횟수
+     */
+    public long getRetryCount() {
+        return retryCount.sum();
+    }
+    
+    /**
+     * 재시도 예산 부족으로 재시도를 포기한 횟수
+     */
+    public long getBudgetExhaustedCount() {
+        return budgetExhaustedCount.sum();
+    }
+    
+    public RetryBudget getBudget() {
+        return budget;
+    }
+}
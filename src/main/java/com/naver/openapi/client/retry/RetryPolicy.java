@@ -0,0 +1,50 @@
+package com.naver.openapi.client.retry;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Set;
+
+/**
+ * 재시도 정책
+ * 
+ * <p>HTTP 메서드 또는 엔드포인트 단위로 {@link RetryExecutor}가 선택하여 적용합니다.</p>
+ */
+@Value
+@Builder(toBuilder = true)
+public class RetryPolicy {
+    
+    /**
+     * 재시도하지 않는 정책
+     */
+    public static final RetryPolicy NONE = RetryPolicy.builder().maxAttempts(1).build();
+    
+    /**
+     * 최초 요청을 포함한 최대 시도 횟수 (1 = 재시도 없음)
+     */
+    @Builder.Default
+    int maxAttempts = 3;
+    
+    /**
+     * 첫 재시도 대기 시간 (ms)
+     */
+    @Builder.Default
+    long baseDelayMillis = 100;
+    
+    /**
+     * 재시도 대기 시간 상한 (ms)
+     * Retry-After가 이 값을 넘으면 재시도하지 않고 응답을 그대로 반환
+     */
+    @Builder.Default
+    long maxDelayMillis = 5000;
+    
+    /**
+     * 재시도 대상 응답 상태 코드
+     */
+    @Builder.Default
+    Set<Integer> retryableStatusCodes = Set.of(429, 500, 502, 503, 504);
+    
+    public boolean isRetryable(int statusCode) {
+        return retryableStatusCodes.contains(statusCode);
+    }
+}
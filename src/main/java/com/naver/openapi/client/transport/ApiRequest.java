@@ -0,0 +1,76 @@
+package com.naver.openapi.client.transport;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 전송 계층에 전달되는 단일 HTTP 요청
+ * 
+ * <p>RestApiClient의 get/post/put/delete 메서드가 이 객체로 변환되어
+ * {@link HttpTransport} 구현체로 전달됩니다.</p>
+ */
+@Getter
+@Builder(toBuilder = true)
+public class ApiRequest {
+    
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    
+    /**
+     * HTTP 메서드 (GET, POST, PUT, DELETE)
+     */
+    private final String method;
+    
+    /**
+     * Base URL 기준 상대 경로 (예: /v1/search/blog.json)
+     */
+    private final String path;
+    
+    /**
+     * 요청 헤더 (null 가능)
+     */
+    private final Map<String, String> headers;
+    
+    /**
+     * 쿼리 파라미터 (null 가능)
+     */
+    private final Map<String, ?> queryParams;
+    
+    /**
+     * 요청 본문 (null 가능, JSON으로 직렬화)
+     */
+    private final Object body;
+    
+    public static ApiRequest of(String method, String path) {
+        return ApiRequest.builder().method(method).path(path).build();
+    }
+    
+    /**
+     * 요청 본문 JSON 직렬화 (byte[]/String은 그대로 사용, 본문이 없으면 빈 배열)
+     */
+    public byte[] serializeBody() {
+        if (body == null) {
+            return new byte[0];
+        }
+        if (body instanceof byte[] bytes) {
+            return bytes;
+        }
+        if (body instanceof String text) {
+            return text.getBytes(StandardCharsets.UTF_8);
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize request body: " + body.getClass().getName(), e);
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return method + " " + path;
+    }
+}
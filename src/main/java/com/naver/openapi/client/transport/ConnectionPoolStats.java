@@ -0,0 +1,39 @@
+package com.naver.openapi.client.transport;
+
+import lombok.Value;
+
+/**
+ * 커넥션 풀 런타임 통계 스냅샷
+ * 
+ * <p>값을 제공하지 않는 전송 계층은 해당 항목을 {@link #UNKNOWN}(-1)으로 채웁니다.</p>
+ */
+@Value
+public class ConnectionPoolStats {
+    
+    public static final int UNKNOWN = -1;
+    
+    /**
+     * 요청 처리에 사용 중인 커넥션 수
+     */
+    int leased;
+    
+    /**
+     * 커넥션 할당을 기다리는 요청 수
+     */
+    int pending;
+    
+    /**
+     * 재사용 대기 중인 유휴(keep-alive) 커넥션 수
+     */
+    int available;
+    
+    /**
+     * 전체 최대 커넥션 수
+     */
+    int maxTotal;
+    
+    /**
+     * 호스트(route)당 최대 커넥션 수
+     */
+    int maxPerRoute;
+}
@@ -0,0 +1,45 @@
+package com.naver.openapi.client.transport;
+
+import io.restassured.response.Response;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * HTTP 전송 계층 추상화
+ * 
+ * <p>RestApiClient는 요청을 직접 보내지 않고 이 인터페이스의 구현체에 위임합니다.
+ * 구현체는 {@link com.naver.openapi.config.ApiConfig#getTransportType()}으로 선택됩니다.</p>
+ * <ul>
+ *   <li>{@link RestAssuredTransport}: 기존 REST Assured 기반 동기 전송 (기본값)</li>
+ *   <li>{@link JdkHttpTransport}: java.net.http 기반 HTTP/2 + Virtual Thread 전송</li>
+ * </ul>
+ */
+public interface HttpTransport extends AutoCloseable {
+    
+    /**
+     * 요청 전송 (동기)
+     */
+    Response execute(ApiRequest request);
+    
+    /**
+     * 요청 전송 (비동기)
+     * 
+     * <p>반환된 Future를 취소하면 구현체가 지원하는 범위에서 진행 중인 요청도 중단됩니다.</p>
+     */
+    CompletableFuture<Response> executeAsync(ApiRequest request);
+    
+    /**
+     * 커넥션 풀 통계
+     */
+    ConnectionPoolStats getPoolStats();
+    
+    /**
+     * 전송 계층 이름 (로깅용)
+     */
+    String getName();
+    
+    @Override
+    default void close() {
+        // 기본 구현은 해제할 자원 없음
+    }
+}
@@ -0,0 +1,261 @@
+package com.naver.openapi.client.transport;
+
+import com.naver.openapi.config.ApiConfig;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * java.net.http.HttpClient 기반 전송 계층
+ * 
+ * <p>HTTP/2 멀티플렉싱으로 하나의 커넥션 위에서 여러 요청을 동시에 처리하고,
+ * 응답 처리는 Virtual Thread Executor에서 수행합니다.
+ * 응답은 REST Assured {@link Response}로 변환되므로 기존 호출부의
+ * {@code then().statusCode(...)}, {@code as(...)} 검증 코드는 그대로 동작합니다.</p>
+ * 
+ * <p><b>커넥션 풀</b>: JDK HttpClient의 풀 크기와 keep-alive 시간은 JVM 전역 시스템 프로퍼티
+ * ({@code jdk.httpclient.connectionPoolSize}, {@code jdk.httpclient.keepalive.timeout[.h2]})로만 설정할 수 있고,
+ * 프로세스의 모든 HttpClient에 적용되며 처음 사용될 때 한 번만 읽힙니다.
+ * 그래서 생성자는 이 값을 건드리지 않습니다. 실행 시 {@code -D} 옵션으로 지정하거나,
+ * 애플리케이션 시작 시 다른 HttpClient를 만들기 전에 {@link #applyPoolProperties(ApiConfig)}를 직접 호출하세요.
+ * {@code naver.api.pool.maxPerRoute} / {@code idleEviction}은 이 전송 계층에 적용되지 않으며,
+ * 기본값이 아닌 값으로 설정되어 있으면 생성 시 WARN 로그를 남깁니다.</p>
+ */
+@Slf4j
+public class JdkHttpTransport implements HttpTransport {
+    
+    private static final String CONTENT_TYPE_JSON = "application/json; charset=UTF-8";
+    private static final String POOL_SIZE_PROPERTY = "jdk.httpclient.connectionPoolSize";
+    
+    private final ApiConfig apiConfig;
+    private final String baseUrl;
+    private final Duration requestTimeout;
+    private final ExecutorService executor;
+    private final HttpClient httpClient;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    
+    public JdkHttpTransport(ApiConfig apiConfig) {
+        this.apiConfig = apiConfig;
+        this.baseUrl = stripTrailingSlash(apiConfig.getBaseUrl());
+        this.requestTimeout = Duration.ofMillis(apiConfig.getReadTimeout());
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(Duration.ofMillis(apiConfig.getConnectTimeout()))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .sslContext(TlsContexts.create(apiConfig))
+            .executor(executor)
+            .build();
+        warnIgnoredPoolSettings(apiConfig);
+    }
+    
+    /**
+     * 이 전송 계층에서 효과가 없는 풀 설정 경고 (기본값이면 생략)
+     */
+    private static void warnIgnoredPoolSettings(ApiConfig apiConfig) {
+        if (apiConfig.getPoolMaxPerRoute() != ApiConfig.DEFAULT_POOL_MAX_PER_ROUTE) {
+            log.warn("naver.api.pool.maxPerRoute={} is ignored by the jdk transport (HttpClient has no per-route limit)",
+                     apiConfig.getPoolMaxPerRoute());
+        }
+        if (apiConfig.getIdleEvictionMillis() != ApiConfig.DEFAULT_IDLE_EVICTION_MILLIS) {
+            log.warn("naver.api.pool.idleEviction={} is ignored by the jdk transport "
+                     + "(idle connections close after naver.api.pool.keepAlive)", apiConfig.getIdleEvictionMillis());
+        }
+        String poolSize = String.valueOf(apiConfig.getPoolMaxTotal());
+        String applied = System.getProperty(POOL_SIZE_PROPERTY);
+        if (apiConfig.getPoolMaxTotal() != ApiConfig.DEFAULT_POOL_MAX_TOTAL && !poolSize.equals(applied)) {
+            log.warn("naver.api.pool.maxTotal={} is not applied by the jdk transport ({}={}) - pass -D{}={} "
+                     + "or call JdkHttpTransport.applyPoolProperties before any HttpClient is created",
+                     poolSize, POOL_SIZE_PROPERTY, applied, POOL_SIZE_PROPERTY, poolSize);
+        }
+    }
+    
+    /**
+     * 설정의 풀 크기 · keep-alive 시간을 JDK HttpClient 시스템 프로퍼티로 반영 (이미 지정된 값은 덮어쓰지 않음)
+     * 
+     * <p>JVM 전역 설정이므로 같은 프로세스의 다른 HttpClient에도 적용되며,
+     * JDK HttpClient를 처음 사용하기 전에 호출해야 효과가 있습니다.</p>
+     */
+    public static void applyPoolProperties(ApiConfig apiConfig) {
+        long keepAliveSeconds = Math.max(1, apiConfig.getKeepAliveMillis() / 1000);
+        setIfAbsent(POOL_SIZE_PROPERTY, String.valueOf(apiConfig.getPoolMaxTotal()));
+        setIfAbsent("jdk.httpclient.keepalive.timeout", String.valueOf(keepAliveSeconds));
+        setIfAbsent("jdk.httpclient.keepalive.timeout.h2", String.valueOf(keepAliveSeconds));
+    }
+    
+    private static void setIfAbsent(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+    
+    @Override
+    public Response execute(ApiRequest request) {
+        inFlight.incrementAndGet();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(
+                toHttpRequest(request), HttpResponse.BodyHandlers.ofByteArray());
+            return toResponse(request, response);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new InterruptedIOException("Request interrupted: " + request));
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+    
+    @Override
+    public CompletableFuture<Response> executeAsync(ApiRequest request) {
+        inFlight.incrementAndGet();
+        CompletableFuture<HttpResponse<byte[]>> exchange = httpClient.sendAsync(
+            toHttpRequest(request), HttpResponse.BodyHandlers.ofByteArray());
+        // 결과를 받은 호출자가 getPoolStats()를 보면 이미 반영되어 있도록 변환 전에 감소
+        CompletableFuture<Response> result = exchange
+            .whenComplete((response, error) -> inFlight.decrementAndGet())
+            .thenApply(response -> toResponse(request, response));
+        
+        // 호출자가 결과 Future를 취소하면 진행 중인 HTTP 교환(스트림/소켓)도 중단
+        result.whenComplete((response, error) -> {
+            if (error instanceof CancellationException) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+    
+    /**
+     * ApiRequest → java.net.http.HttpRequest 변환
+     */
+    private HttpRequest toHttpRequest(ApiRequest request) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(buildUri(request))
+            .timeout(requestTimeout);
+        
+        if (request.getHeaders() != null) {
+            request.getHeaders().forEach(builder::header);
+        }
+        
+        if (request.getBody() != null) {
+            builder.header("Content-Type", CONTENT_TYPE_JSON)
+                   .method(request.getMethod(), HttpRequest.BodyPublishers.ofByteArray(request.serializeBody()));
+        } else {
+            builder.method(request.getMethod(), HttpRequest.BodyPublishers.noBody());
+        }
+        
+        if (apiConfig.isLoggingEnabled()) {
+            log.debug("→ {} {}", request.getMethod(), request.getPath());
+        }
+        return builder.build();
+    }
+    
+    /**
+     * Base URL + Path + Query String 조합
+     */
+    private URI buildUri(ApiRequest request) {
+        StringBuilder uri = new StringBuilder(baseUrl).append(request.getPath());
+        Map<String, ?> queryParams = request.getQueryParams();
+        if (queryParams != null && !queryParams.isEmpty()) {
+            char separator = request.getPath().indexOf('?') >= 0 ? '&' : '?';
+            for (Map.Entry<String, ?> entry : queryParams.entrySet()) {
+                if (entry.getValue() instanceof Iterable<?> values) {
+                    for (Object value : values) {
+                        appendQueryParam(uri, separator, entry.getKey(), value);
+                        separator = '&';
+                    }
+                } else {
+                    appendQueryParam(uri, separator, entry.getKey(), entry.getValue());
+                    separator = '&';
+                }
+            }
+        }
+        return URI.create(uri.toString());
+    }
+    
+    private static void appendQueryParam(StringBuilder uri, char separator, String key, Object value) {
+        uri.append(separator).append(encode(key));
+        if (value != null) {
+            uri.append('=').append(encode(String.valueOf(value)));
+        }
+    }
+    
+    /**
+     * REST Assured와 동일하게 공백을 %20으로 인코딩
+     */
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+    
+    /**
+     * java.net.http.HttpResponse → REST Assured Response 변환
+     */
+    private Response toResponse(ApiRequest request, HttpResponse<byte[]> response) {
+        List<Header> headers = new ArrayList<>();
+        response.headers().map().forEach((name, values) ->
+            values.forEach(value -> headers.add(new Header(name, value))));
+        
+        String version = response.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+        ResponseBuilder builder = new ResponseBuilder()
+            .setStatusCode(response.statusCode())
+            .setStatusLine(version + " " + response.statusCode())
+            .setHeaders(new Headers(headers))
+            .setBody(response.body());
+        response.headers().firstValue("Content-Type").ifPresent(builder::setContentType);
+        
+        if (apiConfig.isLoggingEnabled()) {
+            log.debug("← {} {} {} ({} bytes)", request.getMethod(), request.getPath(),
+                      response.statusCode(), response.body().length);
+        }
+        return builder.build();
+    }
+    
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+    
+    /**
+     * JDK HttpClient는 풀 내부 상태를 노출하지 않으므로 진행 중인 요청 수만 leased로 보고
+     * (maxTotal은 {@code jdk.httpclient.connectionPoolSize} 값, 0은 제한 없음)
+     */
+    @Override
+    public ConnectionPoolStats getPoolStats() {
+        return new ConnectionPoolStats(
+            inFlight.get(),
+            ConnectionPoolStats.UNKNOWN,
+            ConnectionPoolStats.UNKNOWN,
+            Integer.getInteger(POOL_SIZE_PROPERTY, ConnectionPoolStats.UNKNOWN),
+            ConnectionPoolStats.UNKNOWN);
+    }
+    
+    @Override
+    public String getName() {
+        return "jdk";
+    }
+    
+    @Override
+    public void close() {
+        httpClient.close();
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,191 @@
+package com.naver.openapi.client.transport;
+
+import com.naver.openapi.client.auth.Credential;
+import com.naver.openapi.config.ApiConfig;
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.LogConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.pool.PoolStats;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * REST Assured 기반 전송 계층 (기본값)
+ * 
+ * <p>요청마다 호출 스레드를 점유하는 동기 방식입니다.
+ * 비동기 호출은 Virtual Thread 위에서 동기 호출을 실행하여 제공합니다.</p>
+ * 
+ * <p>REST Assured는 기본적으로 요청마다 새 HttpClient를 만들고 닫기 때문에
+ * 매 호출이 TCP + TLS 핸드셰이크를 다시 수행합니다. 이 구현은 풀링 커넥션 매니저를 가진
+ * 단일 HttpClient를 재사용하도록 설정합니다 ({@code reuseHttpClientInstance}).
+ * REST Assured가 요구하는 HttpClient 4.x 구형 API를 사용하므로 deprecation 경고를 억제합니다.</p>
+ */
+@Slf4j
+@SuppressWarnings("deprecation")
+public class RestAssuredTransport implements HttpTransport {
+    
+    private final ApiConfig apiConfig;
+    private final PoolingClientConnectionManager connectionManager;
+    private final DefaultHttpClient httpClient;
+    private final ScheduledExecutorService idleConnectionEvictor;
+    private final RequestSpecification requestSpec;
+    private final ExecutorService asyncExecutor;
+    
+    public RestAssuredTransport(ApiConfig apiConfig) {
+        this.apiConfig = apiConfig;
+        this.connectionManager = createConnectionManager();
+        this.httpClient = createHttpClient();
+        this.idleConnectionEvictor = startIdleConnectionEvictor();
+        this.requestSpec = createRequestSpecification();
+        this.asyncExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+    
+    /**
+     * 풀링 커넥션 매니저 생성 (TLS 세션 캐시 포함)
+     */
+    private PoolingClientConnectionManager createConnectionManager() {
+        SchemeRegistry schemeRegistry = new SchemeRegistry();
+        schemeRegistry.register(new Scheme("http", 80, PlainSocketFactory.getSocketFactory()));
+        schemeRegistry.register(new Scheme("https", 443, new SSLSocketFactory(TlsContexts.create(apiConfig))));
+        
+        PoolingClientConnectionManager manager = new PoolingClientConnectionManager(schemeRegistry);
+        manager.setMaxTotal(apiConfig.getPoolMaxTotal());
+        manager.setDefaultMaxPerRoute(apiConfig.getPoolMaxPerRoute());
+        return manager;
+    }
+    
+    /**
+     * 공유 HttpClient 생성
+     * 서버가 Keep-Alive 헤더로 더 짧은 값을 주면 그 값을, 아니면 설정값을 사용
+     * 타임아웃은 HttpClientConfig 파라미터로 주면 REST Assured가 요청마다 다시 적용하므로 클라이언트에 한 번만 설정
+     */
+    private DefaultHttpClient createHttpClient() {
+        DefaultHttpClient client = new DefaultHttpClient(connectionManager);
+        HttpConnectionParams.setConnectionTimeout(client.getParams(), apiConfig.getConnectTimeout());
+        HttpConnectionParams.setSoTimeout(client.getParams(), apiConfig.getReadTimeout());
+        long keepAliveMillis = apiConfig.getKeepAliveMillis();
+        client.setKeepAliveStrategy((response, context) -> {
+            long serverHint = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverHint > 0 ? Math.min(serverHint, keepAliveMillis) : keepAliveMillis;
+        });
+        return client;
+    }
+    
+    /**
+     * 만료/유휴 커넥션 정리 스케줄러 시작
+     */
+    private ScheduledExecutorService startIdleConnectionEvictor() {
+        long idleMillis = apiConfig.getIdleEvictionMillis();
+        long intervalMillis = Math.max(1000, idleMillis / 2);
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("naver-api-idle-evictor").daemon(true).factory());
+        evictor.scheduleAtFixedRate(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(idleMillis, TimeUnit.MILLISECONDS);
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        return evictor;
+    }
+    
+    /**
+     * RequestSpecification 생성
+     */
+    private RequestSpecification createRequestSpecification() {
+        // 요청/응답 로그는 RestApiClient의 ApiCallLogger가 샘플링하여 비동기로 출력
+        // (REST Assured 로깅 필터는 모든 호출의 본문을 동기로 출력하므로 사용하지 않음)
+        return new RequestSpecBuilder()
+            .setBaseUri(apiConfig.getBaseUrl())
+            .setContentType(ContentType.JSON)
+            .setConfig(createRestAssuredConfig())
+            .build();
+    }
+    
+    /**
+     * RestAssured 설정 생성
+     */
+    private RestAssuredConfig createRestAssuredConfig() {
+        HttpClientConfig httpClientConfig = HttpClientConfig.httpClientConfig()
+            .httpClientFactory(() -> httpClient)
+            .reuseHttpClientInstance();
+        
+        // 검증 실패 로깅을 켜면 REST Assured가 모든 호출에 로깅 필터를 붙여 응답 본문을 호출 스레드에서 정리(pretty print)하므로
+        // 끄고, 오류 응답은 ApiCallLogger가 항상 기록 (blacklist는 .log()를 직접 호출할 때를 위해 유지)
+        LogConfig logConfig = LogConfig.logConfig()
+            .blacklistHeader(Credential.HEADER_CLIENT_SECRET);
+        
+        return RestAssuredConfig.config()
+            .httpClient(httpClientConfig)
+            .logConfig(logConfig);
+    }
+    
+    @Override
+    public Response execute(ApiRequest request) {
+        Response response = prepare(request).when().request(request.getMethod(), request.getPath());
+        // REST Assured는 본문을 처음 접근할 때 읽으므로 여기서 읽어 두어야 read timeout이 재시도/서킷 브레이커 안에서 발생하고
+        // 커넥션도 바로 풀에 반환됨 (읽은 본문은 응답 객체에 보관되어 이후 접근은 복사 없이 재사용)
+        response.asByteArray();
+        return response;
+    }
+    
+    /**
+     * 공유 RequestSpecification에 요청별 헤더/파라미터/본문을 적용 (전송 전 단계)
+     */
+    RequestSpecification prepare(ApiRequest request) {
+        RequestSpecification spec = RestAssured.given().spec(requestSpec);
+        if (request.getHeaders() != null) {
+            spec.headers(request.getHeaders());
+        }
+        if (request.getQueryParams() != null) {
+            spec.queryParams(request.getQueryParams());
+        }
+        if (request.getBody() != null) {
+            spec.body(request.getBody());
+        }
+        return spec;
+    }
+    
+    @Override
+    public CompletableFuture<Response> executeAsync(ApiRequest request) {
+        return CompletableFuture.supplyAsync(() -> execute(request), asyncExecutor);
+    }
+    
+    @Override
+    public ConnectionPoolStats getPoolStats() {
+        PoolStats stats = connectionManager.getTotalStats();
+        return new ConnectionPoolStats(
+            stats.getLeased(),
+            stats.getPending(),
+            stats.getAvailable(),
+            stats.getMax(),
+            connectionManager.getDefaultMaxPerRoute());
+    }
+    
+    @Override
+    public String getName() {
+        return "restassured";
+    }
+    
+    @Override
+    public void close() {
+        asyncExecutor.shutdown();
+        idleConnectionEvictor.shutdownNow();
+        connectionManager.shutdown();
+    }
+}
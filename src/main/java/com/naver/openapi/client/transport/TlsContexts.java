@@ -0,0 +1,30 @@
+package com.naver.openapi.client.transport;
+
+import com.naver.openapi.config.ApiConfig;
+
+import javax.net.ssl.SSLContext;
+import java.security.GeneralSecurityException;
+
+/**
+ * TLS 세션 캐시가 설정된 SSLContext 생성
+ * 
+ * <p>세션 캐시가 유지되는 동안에는 새 커넥션도 세션 재개(abbreviated handshake)로 연결되어
+ * 풀이 비워진 뒤의 재연결 비용이 줄어듭니다.</p>
+ */
+final class TlsContexts {
+    
+    private TlsContexts() {
+    }
+    
+    static SSLContext create(ApiConfig apiConfig) {
+        try {
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(null, null, null);
+            sslContext.getClientSessionContext().setSessionCacheSize(apiConfig.getTlsSessionCacheSize());
+            sslContext.getClientSessionContext().setSessionTimeout(apiConfig.getTlsSessionTimeoutSeconds());
+            return sslContext;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize TLS context", e);
+        }
+    }
+}
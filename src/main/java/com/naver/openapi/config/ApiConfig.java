@@ -4,7 +4,14 @@ import com.naver.openapi.utils.PropertyLoader;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * API 설정 관리 클래스
@@ -13,6 +20,13 @@ import java.util.Properties;
 @Getter
 public class ApiConfig {
     
+    /**
+     * 커넥션 풀 기본값 (JDK 전송 계층은 이 값과 다른 설정을 무시하므로 경고 기준으로도 사용)
+     */
+    public static final int DEFAULT_POOL_MAX_TOTAL = 200;
+    public static final int DEFAULT_POOL_MAX_PER_ROUTE = 50;
+    public static final long DEFAULT_IDLE_EVICTION_MILLIS = 60000;
+    
     private final Environment environment;
     private final String baseUrl;
     private final String clientId;
@@ -20,6 +34,68 @@ public class ApiConfig {
     private final int connectTimeout;
     private final int readTimeout;
     private final boolean loggingEnabled;
+    private final TransportType transportType;
+    private final int poolMaxTotal;
+    private final int poolMaxPerRoute;
+    private final long keepAliveMillis;
+    private final long idleEvictionMillis;
+    private final int tlsSessionCacheSize;
+    private final int tlsSessionTimeoutSeconds;
+    private final boolean rateLimitEnabled;
+    private final double rateLimitPerSecond;
+    private final int rateLimitBurst;
+    private final Map<String, Double> rateLimitEndpoints;
+    private final boolean coalescingEnabled;
+    private final boolean cacheEnabled;
+    private final long cacheMaxBytes;
+    private final Map<String, Long> cacheTtlSeconds;
+    private final boolean diskCacheEnabled;
+    private final String diskCacheDir;
+    private final int diskCacheSegmentBytes;
+    private final long diskCacheMaxBytes;
+    private final Map<String, Long> diskCacheTtlSeconds;
+    private final boolean retryEnabled;
+    private final long retryBaseDelayMillis;
+    private final long retryMaxDelayMillis;
+    private final Set<Integer> retryStatusCodes;
+    private final Map<String, Integer> retryMethodAttempts;
+    private final Map<String, Integer> retryEndpointAttempts;
+    private final int retryBudgetMaxTokens;
+    private final double retryBudgetTokenRatio;
+    private final boolean hedgeEnabled;
+    private final double hedgePercentile;
+    private final long hedgeMinDelayMillis;
+    private final double hedgeMaxRatio;
+    private final boolean circuitEnabled;
+    private final List<String> circuitEndpoints;
+    private final int circuitWindowSize;
+    private final int circuitMinCalls;
+    private final double circuitFailureRateThreshold;
+    private final double circuitSlowCallRateThreshold;
+    private final long circuitSlowCallDurationMillis;
+    private final long circuitOpenDurationMillis;
+    private final int circuitHalfOpenCalls;
+    private final int pagingPrefetch;
+    private final int datalabChunkDays;
+    private final int datalabOverlapDays;
+    private final long asyncTimeoutMillis;
+    private final List<CredentialEntry> credentials;
+    private final long credentialDailyQuota;
+    private final long credentialQuarantineMillis;
+    private final boolean quotaEnabled;
+    private final Map<String, Long> quotaBudgets;
+    private final String quotaFile;
+    private final long quotaFlushIntervalMillis;
+    private final PacingMode quotaPacingMode;
+    private final List<Double> quotaPacingCurve;
+    private final long quotaPacingBurst;
+    private final long quotaPacingMaxWaitMillis;
+    private final boolean metricsEnabled;
+    private final int metricsPort;
+    private final double loggingSampleRate;
+    private final long loggingSlowThresholdMillis;
+    private final int loggingMaxBodyChars;
+    private final int loggingQueueSize;
     
     private ApiConfig(Builder builder) {
         this.environment = builder.environment;
@@ -29,9 +105,71 @@ public class ApiConfig {
         this.connectTimeout = builder.connectTimeout;
         this.readTimeout = builder.readTimeout;
         this.loggingEnabled = builder.loggingEnabled;
+        this.transportType = builder.transportType;
+        this.poolMaxTotal = builder.poolMaxTotal;
+        this.poolMaxPerRoute = builder.poolMaxPerRoute;
+        this.keepAliveMillis = builder.keepAliveMillis;
+        this.idleEvictionMillis = builder.idleEvictionMillis;
+        this.tlsSessionCacheSize = builder.tlsSessionCacheSize;
+        this.tlsSessionTimeoutSeconds = builder.tlsSessionTimeoutSeconds;
+        this.rateLimitEnabled = builder.rateLimitEnabled;
+        this.rateLimitPerSecond = builder.rateLimitPerSecond;
+        this.rateLimitBurst = builder.rateLimitBurst;
+        this.coalescingEnabled = builder.coalescingEnabled;
+        this.cacheEnabled = builder.cacheEnabled;
+        this.cacheMaxBytes = builder.cacheMaxBytes;
+        this.diskCacheEnabled = builder.diskCacheEnabled;
+        this.diskCacheDir = builder.diskCacheDir;
+        this.diskCacheSegmentBytes = builder.diskCacheSegmentBytes;
+        this.diskCacheMaxBytes = builder.diskCacheMaxBytes;
+        this.retryEnabled = builder.retryEnabled;
+        this.retryBaseDelayMillis = builder.retryBaseDelayMillis;
+        this.retryMaxDelayMillis = builder.retryMaxDelayMillis;
+        this.retryBudgetMaxTokens = builder.retryBudgetMaxTokens;
+        this.retryBudgetTokenRatio = builder.retryBudgetTokenRatio;
+        this.hedgeEnabled = builder.hedgeEnabled;
+        this.hedgePercentile = builder.hedgePercentile;
+        this.hedgeMinDelayMillis = builder.hedgeMinDelayMillis;
+        this.hedgeMaxRatio = builder.hedgeMaxRatio;
+        this.circuitEnabled = builder.circuitEnabled;
+        this.circuitWindowSize = builder.circuitWindowSize;
+        this.circuitMinCalls = builder.circuitMinCalls;
+        this.circuitFailureRateThreshold = builder.circuitFailureRateThreshold;
+        this.circuitSlowCallRateThreshold = builder.circuitSlowCallRateThreshold;
+        this.circuitSlowCallDurationMillis = builder.circuitSlowCallDurationMillis;
+        this.circuitOpenDurationMillis = builder.circuitOpenDurationMillis;
+        this.circuitHalfOpenCalls = builder.circuitHalfOpenCalls;
+        this.pagingPrefetch = builder.pagingPrefetch;
+        this.datalabChunkDays = builder.datalabChunkDays;
+        this.datalabOverlapDays = builder.datalabOverlapDays;
+        this.asyncTimeoutMillis = builder.asyncTimeoutMillis;
+        this.credentialDailyQuota = builder.credentialDailyQuota;
+        this.credentialQuarantineMillis = builder.credentialQuarantineMillis;
+        this.quotaEnabled = builder.quotaEnabled;
+        this.quotaFile = builder.quotaFile;
+        this.quotaFlushIntervalMillis = builder.quotaFlushIntervalMillis;
+        this.quotaPacingMode = builder.quotaPacingMode;
+        this.quotaPacingBurst = builder.quotaPacingBurst;
+        this.quotaPacingMaxWaitMillis = builder.quotaPacingMaxWaitMillis;
+        this.metricsEnabled = builder.metricsEnabled;
+        this.metricsPort = builder.metricsPort;
+        this.loggingSampleRate = builder.loggingSampleRate;
+        this.loggingSlowThresholdMillis = builder.loggingSlowThresholdMillis;
+        this.loggingMaxBodyChars = builder.loggingMaxBodyChars;
+        this.loggingQueueSize = builder.loggingQueueSize;
+        this.diskCacheTtlSeconds = Map.copyOf(builder.diskCacheTtlSeconds);
+        this.cacheTtlSeconds = Map.copyOf(builder.cacheTtlSeconds);
+        this.rateLimitEndpoints = Map.copyOf(builder.rateLimitEndpoints);
+        this.retryStatusCodes = Set.copyOf(builder.retryStatusCodes);
+        this.retryMethodAttempts = Map.copyOf(builder.retryMethodAttempts);
+        this.retryEndpointAttempts = Map.copyOf(builder.retryEndpointAttempts);
+        this.circuitEndpoints = List.copyOf(builder.circuitEndpoints);
+        this.credentials = List.copyOf(builder.credentials);
+        this.quotaBudgets = Map.copyOf(builder.quotaBudgets);
+        this.quotaPacingCurve = List.copyOf(builder.quotaPacingCurve);
         
-        log.info("API Config initialized - Environment: {}, BaseURL: {}", 
-                 environment.getName(), baseUrl);
+        log.info("API Config initialized - Environment: {}, BaseURL: {}, Transport: {}", 
+                 environment.getName(), baseUrl, transportType.getName());
     }
     
     /**
@@ -43,17 +181,196 @@ public class ApiConfig {
         return new Builder()
             .environment(environment)
             .baseUrl(PropertyLoader.getRequiredProperty(properties, "naver.api.baseUrl"))
-            .clientId(PropertyLoader.getRequiredProperty(properties, "naver.clientId"))
-            .clientSecret(PropertyLoader.getRequiredProperty(properties, "naver.clientSecret"))
+            .clientId(PropertyLoader.getProperty(properties, "naver.clientId", null))
+            .clientSecret(PropertyLoader.getProperty(properties, "naver.clientSecret", null))
             .connectTimeout(Integer.parseInt(
                 PropertyLoader.getProperty(properties, "naver.api.connectTimeout", "5000")))
             .readTimeout(Integer.parseInt(
                 PropertyLoader.getProperty(properties, "naver.api.readTimeout", "10000")))
             .loggingEnabled(Boolean.parseBoolean(
                 PropertyLoader.getProperty(properties, "naver.api.logging.enabled", "true")))
+            .transportType(TransportType.fromString(
+                PropertyLoader.getProperty(properties, "naver.api.transport", "restassured")))
+            .poolMaxTotal(Integer.parseInt(
+                PropertyLoader.getProperty(properties, "naver.api.pool.maxTotal", String.valueOf(DEFAULT_POOL_MAX_TOTAL))))
+            .poolMaxPerRoute(Integer.parseInt(
+                PropertyLoader.getProperty(properties, "naver.api.pool.maxPerRoute", String.valueOf(DEFAULT_POOL_MAX_PER_ROUTE))))
+            .keepAliveMillis(Long.parseLong(
+                PropertyLoader.getProperty(properties, "naver.api.pool.keepAlive", "30000")))
+            .idleEvictionMillis(Long.parseLong(
+                PropertyLoader.getProperty(properties, "naver.api.pool.idleEviction", 
+                    String.valueOf(DEFAULT_IDLE_EVICTION_MILLIS))))
+            .tlsSessionCacheSize(Integer.parseInt(
+                PropertyLoader.getProperty(properties, "naver.api.tls.sessionCacheSize", "1000")))
+            .tlsSessionTimeoutSeconds(Integer.parseInt(
+                PropertyLoader.getProperty(properties, "naver.api.tls.sessionTimeout", "86400")))
+            .rateLimitEnabled(Boolean.parseBoolean(
+                PropertyLoader.getProperty(properties, "naver.api.rateLimit.enabled", "true")))
+            .rateLimitPerSecond(Double.parseDouble(
+                PropertyLoader.getProperty(properties, "naver.api.rateLimit.default", "10")))
+            .rateLimitBurst(Integer.parseInt(
+                PropertyLoader.getProperty(properties, "naver.api.rateLimit.burst", "1")))
+            .rateLimitEndpoints(parseMap(properties, "naver.api.rateLimit.endpoints", 
+                "/v1/search/:10,/v1/datalab/search:5", Double::parseDouble))
+            .coalescingEnabled(Boolean.parseBoolean(
+                PropertyLoader.getProperty(properties, "naver.api.coalescing.enabled", "true")))
+            .cacheEnabled(Boolean.parseBoolean(
+                PropertyLoader.getProperty(properties, "naver.api.cache.enabled", "true")))
+            .cacheMaxBytes(Long.parseLong(
+                PropertyLoader.getProperty(properties, "naver.api.cache.maxBytes", "67108864")))
+            .cacheTtlSeconds(parseMap(properties, "naver.api.cache.ttl", 
+                "/v1/search/news.json:60,/v1/search/book.json:3600,/v1/search/encyc.json:86400,/v1/search/:300", 
+                Long::parseLong))
+            .diskCacheEnabled(Boolean.parseBoolean(
+                PropertyLoader.getProperty(properties, "naver.api.cache.disk.enabled", "false")))
+            .diskCacheDir(PropertyLoader.getProperty(properties, "naver.api.cache.disk.dir", ".naver-api-cache"))
+            .diskCacheSegmentBytes(Integer.parseInt(
+                PropertyLoader.getProperty(properties, "naver.api.cache.disk.segmentBytes", "67108864")))
+            .diskCacheMaxBytes(Long.parseLong(
+                PropertyLoader.getProperty(properties, "naver.api.cache.disk.maxBytes", "1073741824")))
+            .diskCacheTtlSeconds(parseMap(properties, "naver.api.cache.disk.ttl", 
+                "/v1/datalab/search:604800,/v1/search/:3600", Long::parseLong))
+            .retryEnabled(Boolean.parseBoolean(
+                PropertyLoader.getProperty(properties, "naver.api.retry.enabled", "true")))
+            .retryBaseDelayMillis(Long.parseLong(
+                PropertyLoader.getProperty(properties, "naver.api.retry.baseDelay", "100")))
+            .retryMaxDelayMillis(Long.parseLong(
+                PropertyLoader.getProperty(properties, "naver.api.retry.maxDelay", "5000")))
+            .retryStatusCodes(parseStatusCodes(
+                PropertyLoader.getProperty(properties, "naver.api.retry.statusCodes", "429,500,502,503,504")))
+            .retryMethodAttempts(parseMap(properties, "naver.api.retry.methods", "GET:3,POST:1", Integer::parseInt))
+            .retryEndpointAttempts(parseMap(properties, "naver.api.retry.endpoints", 
+                "/v1/datalab/search:3", Integer::parseInt))
+            .retryBudgetMaxTokens(Integer.parseInt(
+                PropertyLoader.getProperty(properties, "naver.api.retry.budget.maxTokens", "100")))
+            .retryBudgetTokenRatio(Double.parseDouble(
+                PropertyLoader.getProperty(properties, "naver.api.retry.budget.tokenRatio", "0.1")))
+            .hedgeEnabled(Boolean.parseBoolean(
+                PropertyLoader.getProperty(properties, "naver.api.hedge.enabled", "false")))
+            .hedgePercentile(Double.parseDouble(
+                PropertyLoader.getProperty(properties, "naver.api.hedge.percentile", "95")))
+            .hedgeMinDelayMillis(Long.parseLong(
+                PropertyLoader.getProperty(properties, "naver.api.hedge.minDelay", "50")))
+            .hedgeMaxRatio(Double.parseDouble(
+                PropertyLoader.getProperty(properties, "naver.api.hedge.maxRatio", "0.05")))
+            .circuitEnabled(Boolean.parseBoolean(
+                PropertyLoader.getProperty(properties, "naver.api.circuit.enabled", "true")))
+            .circuitEndpoints(parseList(PropertyLoader.getProperty(
+                properties, "naver.api.circuit.endpoints", "/v1/search/,/v1/datalab/search")))
+            .circuitWindowSize(Integer.parseInt(
+                PropertyLoader.getProperty(properties, "naver.api.circuit.windowSize", "20")))
+            .circuitMinCalls(Integer.parseInt(
+                PropertyLoader.getProperty(properties, "naver.api.circuit.minCalls", "10")))
+            .circuitFailureRateThreshold(Double.parseDouble(
+                PropertyLoader.getProperty(properties, "naver.api.circuit.failureRate", "50")))
+            .circuitSlowCallRateThreshold(Double.parseDouble(
+                PropertyLoader.getProperty(properties, "naver.api.circuit.slowCallRate", "80")))
+            .circuitSlowCallDurationMillis(Long.parseLong(
+                PropertyLoader.getProperty(properties, "naver.api.circuit.slowCallDuration", "5000")))
+            .circuitOpenDurationMillis(Long.parseLong(
+                PropertyLoader.getProperty(properties, "naver.api.circuit.openDuration", "30000")))
+            .circuitHalfOpenCalls(Integer.parseInt(
+                PropertyLoader.getProperty(properties, "naver.api.circuit.halfOpenCalls", "3")))
+            .pagingPrefetch(Integer.parseInt(
+                PropertyLoader.getProperty(properties, "naver.api.paging.prefetch", "4")))
+            .datalabChunkDays(Integer.parseInt(
+                PropertyLoader.getProperty(properties, "naver.api.datalab.chunkDays", "366")))
+            .datalabOverlapDays(Integer.parseInt(
+                PropertyLoader.getProperty(properties, "naver.api.datalab.overlapDays", "28")))
+            .asyncTimeoutMillis(Long.parseLong(
+                PropertyLoader.getProperty(properties, "naver.api.async.timeout", "30000")))
+            .credentials(parseCredentials(PropertyLoader.getProperty(properties, "naver.api.credentials", "")))
+            .credentialDailyQuota(Long.parseLong(
+                PropertyLoader.getProperty(properties, "naver.api.credentials.dailyQuota", "25000")))
+            .credentialQuarantineMillis(Long.parseLong(
+                PropertyLoader.getProperty(properties, "naver.api.credentials.quarantine", "3600000")))
+            .quotaEnabled(Boolean.parseBoolean(
+                PropertyLoader.getProperty(properties, "naver.api.quota.enabled", "true")))
+            .quotaBudgets(parseMap(properties, "naver.api.quota.budgets", 
+                "/v1/search/:25000,/v1/datalab/search:1000", Long::parseLong))
+            .quotaFile(PropertyLoader.getProperty(properties, "naver.api.quota.file", ""))
+            .quotaFlushIntervalMillis(Long.parseLong(
+                PropertyLoader.getProperty(properties, "naver.api.quota.flushInterval", "5000")))
+            .quotaPacingMode(PacingMode.fromString(
+                PropertyLoader.getProperty(properties, "naver.api.quota.pacing.mode", "none")))
+            .quotaPacingCurve(parseDoubles(
+                PropertyLoader.getProperty(properties, "naver.api.quota.pacing.curve", "")))
+            .quotaPacingBurst(Long.parseLong(
+                PropertyLoader.getProperty(properties, "naver.api.quota.pacing.burst", "100")))
+            .quotaPacingMaxWaitMillis(Long.parseLong(
+                PropertyLoader.getProperty(properties, "naver.api.quota.pacing.maxWait", "1000")))
+            .metricsEnabled(Boolean.parseBoolean(
+                PropertyLoader.getProperty(properties, "naver.api.metrics.enabled", "true")))
+            .metricsPort(Integer.parseInt(
+                PropertyLoader.getProperty(properties, "naver.api.metrics.port", "-1")))
+            .loggingSampleRate(Double.parseDouble(
+                PropertyLoader.getProperty(properties, "naver.api.logging.sampleRate", "0.01")))
+            .loggingSlowThresholdMillis(Long.parseLong(
+                PropertyLoader.getProperty(properties, "naver.api.logging.slowThreshold", "1000")))
+            .loggingMaxBodyChars(Integer.parseInt(
+                PropertyLoader.getProperty(properties, "naver.api.logging.maxBodyChars", "2048")))
+            .loggingQueueSize(Integer.parseInt(
+                PropertyLoader.getProperty(properties, "naver.api.logging.queueSize", "1024")))
             .build();
     }
     
+    /**
+     * "key:value,key:value" 형식의 속성을 값 타입으로 변환 (속성이 없으면 기본값 사용)
+     */
+    private static <V> Map<String, V> parseMap(Properties properties, String key, String defaultValue,
+                                               Function<String, V> parser) {
+        Map<String, V> values = new LinkedHashMap<>();
+        PropertyLoader.getMapProperty(properties, key, defaultValue)
+            .forEach((name, value) -> values.put(name, parser.apply(value)));
+        return values;
+    }
+    
+    /**
+     * "429,500,503" 형식의 상태 코드 목록 변환
+     */
+    private static Set<Integer> parseStatusCodes(String value) {
+        Set<Integer> codes = new LinkedHashSet<>();
+        for (String code : parseList(value)) {
+            codes.add(Integer.parseInt(code));
+        }
+        return codes;
+    }
+    
+    /**
+     * "1,2.5,3" 형식의 숫자 목록 변환
+     */
+    private static List<Double> parseDoubles(String value) {
+        List<Double> values = new ArrayList<>();
+        for (String item : parseList(value)) {
+            values.add(Double.parseDouble(item));
+        }
+        return values;
+    }
+    
+    /**
+     * "a,b,c" 형식의 목록 변환 (빈 항목 제외)
+     */
+    private static List<String> parseList(String value) {
+        List<String> values = new ArrayList<>();
+        for (String item : value.split(",")) {
+            if (!item.isBlank()) {
+                values.add(item.trim());
+            }
+        }
+        return values;
+    }
+    
+    /**
+     * "id:secret:weight,id:secret:weight" 형식의 다중 Client ID 목록 변환
+     */
+    private static List<CredentialEntry> parseCredentials(String value) {
+        List<CredentialEntry> entries = new ArrayList<>();
+        for (String item : parseList(value)) {
+            entries.add(CredentialEntry.parse(item));
+        }
+        return entries;
+    }
+    
     /**
      * 시스템 프로퍼티에서 환경 정보 가져오기
      */
@@ -71,6 +388,68 @@ public class ApiConfig {
         private int connectTimeout = 5000;
         private int readTimeout = 10000;
         private boolean loggingEnabled = true;
+        private TransportType transportType = TransportType.REST_ASSURED;
+        private int poolMaxTotal = DEFAULT_POOL_MAX_TOTAL;
+        private int poolMaxPerRoute = DEFAULT_POOL_MAX_PER_ROUTE;
+        private long keepAliveMillis = 30000;
+        private long idleEvictionMillis = DEFAULT_IDLE_EVICTION_MILLIS;
+        private int tlsSessionCacheSize = 1000;
+        private int tlsSessionTimeoutSeconds = 86400;
+        private boolean rateLimitEnabled = true;
+        private double rateLimitPerSecond = 10;
+        private int rateLimitBurst = 1;
+        private Map<String, Double> rateLimitEndpoints = Map.of();
+        private boolean coalescingEnabled = true;
+        private boolean cacheEnabled = true;
+        private long cacheMaxBytes = 64L * 1024 * 1024;
+        private Map<String, Long> cacheTtlSeconds = Map.of();
+        private boolean diskCacheEnabled = false;
+        private String diskCacheDir = ".naver-api-cache";
+        private int diskCacheSegmentBytes = 64 * 1024 * 1024;
+        private long diskCacheMaxBytes = 1024L * 1024 * 1024;
+        private Map<String, Long> diskCacheTtlSeconds = Map.of();
+        private boolean retryEnabled = true;
+        private long retryBaseDelayMillis = 100;
+        private long retryMaxDelayMillis = 5000;
+        private Set<Integer> retryStatusCodes = Set.of(429, 500, 502, 503, 504);
+        private Map<String, Integer> retryMethodAttempts = Map.of("GET", 3);
+        private Map<String, Integer> retryEndpointAttempts = Map.of();
+        private int retryBudgetMaxTokens = 100;
+        private double retryBudgetTokenRatio = 0.1;
+        private boolean hedgeEnabled = false;
+        private double hedgePercentile = 95;
+        private long hedgeMinDelayMillis = 50;
+        private double hedgeMaxRatio = 0.05;
+        private boolean circuitEnabled = true;
+        private List<String> circuitEndpoints = List.of("/v1/search/", "/v1/datalab/search");
+        private int circuitWindowSize = 20;
+        private int circuitMinCalls = 10;
+        private double circuitFailureRateThreshold = 50;
+        private double circuitSlowCallRateThreshold = 80;
+        private long circuitSlowCallDurationMillis = 5000;
+        private long circuitOpenDurationMillis = 30000;
+        private int circuitHalfOpenCalls = 3;
+        private int pagingPrefetch = 4;
+        private int datalabChunkDays = 366;
+        private int datalabOverlapDays = 28;
+        private long asyncTimeoutMillis = 30000;
+        private List<CredentialEntry> credentials = new ArrayList<>();
+        private long credentialDailyQuota = 25000;
+        private long credentialQuarantineMillis = 3600000;
+        private boolean quotaEnabled = true;
+        private Map<String, Long> quotaBudgets = Map.of("/v1/search/", 25000L, "/v1/datalab/search", 1000L);
+        private String quotaFile = "";
+        private long quotaFlushIntervalMillis = 5000;
+        private PacingMode quotaPacingMode = PacingMode.NONE;
+        private List<Double> quotaPacingCurve = new ArrayList<>();
+        private long quotaPacingBurst = 100;
+        private long quotaPacingMaxWaitMillis = 1000;
+        private boolean metricsEnabled = true;
+        private int metricsPort = -1;
+        private double loggingSampleRate = 0.01;
+        private long loggingSlowThresholdMillis = 1000;
+        private int loggingMaxBodyChars = 2048;
+        private int loggingQueueSize = 1024;
         
         public Builder environment(Environment environment) {
             this.environment = environment;
@@ -107,16 +486,355 @@ public class ApiConfig {
             return this;
         }
         
+        public Builder transportType(TransportType transportType) {
+            this.transportType = transportType;
+            return this;
+        }
+        
+        public Builder poolMaxTotal(int poolMaxTotal) {
+            this.poolMaxTotal = poolMaxTotal;
+            return this;
+        }
+        
+        public Builder poolMaxPerRoute(int poolMaxPerRoute) {
+            this.poolMaxPerRoute = poolMaxPerRoute;
+            return this;
+        }
+        
+        public Builder keepAliveMillis(long keepAliveMillis) {
+            this.keepAliveMillis = keepAliveMillis;
+            return this;
+        }
+        
+        public Builder idleEvictionMillis(long idleEvictionMillis) {
+            this.idleEvictionMillis = idleEvictionMillis;
+            return this;
+        }
+        
+        public Builder tlsSessionCacheSize(int tlsSessionCacheSize) {
+            this.tlsSessionCacheSize = tlsSessionCacheSize;
+            return this;
+        }
+        
+        public Builder tlsSessionTimeoutSeconds(int tlsSessionTimeoutSeconds) {
+            this.tlsSessionTimeoutSeconds = tlsSessionTimeoutSeconds;
+            return this;
+        }
+        
+        public Builder rateLimitEnabled(boolean rateLimitEnabled) {
+            this.rateLimitEnabled = rateLimitEnabled;
+            return this;
+        }
+        
+        public Builder rateLimitPerSecond(double rateLimitPerSecond) {
+            this.rateLimitPerSecond = rateLimitPerSecond;
+            return this;
+        }
+        
+        public Builder rateLimitBurst(int rateLimitBurst) {
+            this.rateLimitBurst = rateLimitBurst;
+            return this;
+        }
+        
+        public Builder rateLimitEndpoints(Map<String, Double> rateLimitEndpoints) {
+            this.rateLimitEndpoints = rateLimitEndpoints;
+            return this;
+        }
+        
+        public Builder coalescingEnabled(boolean coalescingEnabled) {
+            this.coalescingEnabled = coalescingEnabled;
+            return this;
+        }
+        
+        public Builder cacheEnabled(boolean cacheEnabled) {
+            this.cacheEnabled = cacheEnabled;
+            return this;
+        }
+        
+        public Builder cacheMaxBytes(long cacheMaxBytes) {
+            this.cacheMaxBytes = cacheMaxBytes;
+            return this;
+        }
+        
+        public Builder cacheTtlSeconds(Map<String, Long> cacheTtlSeconds) {
+            this.cacheTtlSeconds = cacheTtlSeconds;
+            return this;
+        }
+        
+        public Builder diskCacheEnabled(boolean diskCacheEnabled) {
+            this.diskCacheEnabled = diskCacheEnabled;
+            return this;
+        }
+        
+        public Builder diskCacheDir(String diskCacheDir) {
+            this.diskCacheDir = diskCacheDir;
+            return this;
+        }
+        
+        public Builder diskCacheSegmentBytes(int diskCacheSegmentBytes) {
+            this.diskCacheSegmentBytes = diskCacheSegmentBytes;
+            return this;
+        }
+        
+        public Builder diskCacheMaxBytes(long diskCacheMaxBytes) {
+            this.diskCacheMaxBytes = diskCacheMaxBytes;
+            return this;
+        }
+        
+        public Builder diskCacheTtlSeconds(Map<String, Long> diskCacheTtlSeconds) {
+            this.diskCacheTtlSeconds = diskCacheTtlSeconds;
+            return this;
+        }
+        
+        public Builder retryEnabled(boolean retryEnabled) {
+            this.retryEnabled = retryEnabled;
+            return this;
+        }
+        
+        public Builder retryBaseDelayMillis(long retryBaseDelayMillis) {
+            this.retryBaseDelayMillis = retryBaseDelayMillis;
+            return this;
+        }
+        
+        public Builder retryMaxDelayMillis(long retryMaxDelayMillis) {
+            this.retryMaxDelayMillis = retryMaxDelayMillis;
+            return this;
+        }
+        
+        public Builder retryStatusCodes(Set<Integer> retryStatusCodes) {
+            this.retryStatusCodes = retryStatusCodes;
+            return this;
+        }
+        
+        public Builder retryMethodAttempts(Map<String, Integer> retryMethodAttempts) {
+            this.retryMethodAttempts = retryMethodAttempts;
+            return this;
+        }
+        
+        public Builder retryEndpointAttempts(Map<String, Integer> retryEndpointAttempts) {
+            this.retryEndpointAttempts = retryEndpointAttempts;
+            return this;
+        }
+        
+        public Builder retryBudgetMaxTokens(int retryBudgetMaxTokens) {
+            this.retryBudgetMaxTokens = retryBudgetMaxTokens;
+            return this;
+        }
+        
+        public Builder retryBudgetTokenRatio(double retryBudgetTokenRatio) {
+            this.retryBudgetTokenRatio = retryBudgetTokenRatio;
+            return this;
+        }
+        
+        public Builder hedgeEnabled(boolean hedgeEnabled) {
+            this.hedgeEnabled = hedgeEnabled;
+            return this;
+        }
+        
+        public Builder hedgePercentile(double hedgePercentile) {
+            this.hedgePercentile = hedgePercentile;
+            return this;
+        }
+        
+        public Builder hedgeMinDelayMillis(long hedgeMinDelayMillis) {
+            this.hedgeMinDelayMillis = hedgeMinDelayMillis;
+            return this;
+        }
+        
+        public Builder hedgeMaxRatio(double hedgeMaxRatio) {
+            this.hedgeMaxRatio = hedgeMaxRatio;
+            return this;
+        }
+        
+        public Builder circuitEnabled(boolean circuitEnabled) {
+            this.circuitEnabled = circuitEnabled;
+            return this;
+        }
+        
+        public Builder circuitEndpoints(List<String> circuitEndpoints) {
+            this.circuitEndpoints = circuitEndpoints;
+            return this;
+        }
+        
+        public Builder circuitWindowSize(int circuitWindowSize) {
+            this.circuitWindowSize = circuitWindowSize;
+            return this;
+        }
+        
+        public Builder circuitMinCalls(int circuitMinCalls) {
+            this.circuitMinCalls = circuitMinCalls;
+            return this;
+        }
+        
+        public Builder circuitFailureRateThreshold(double circuitFailureRateThreshold) {
+            this.circuitFailureRateThreshold = circuitFailureRateThreshold;
+            return this;
+        }
+        
+        public Builder circuitSlowCallRateThreshold(double circuitSlowCallRateThreshold) {
+            this.circuitSlowCallRateThreshold = circuitSlowCallRateThreshold;
+            return this;
+        }
+        
+        public Builder circuitSlowCallDurationMillis(long circuitSlowCallDurationMillis) {
+            this.circuitSlowCallDurationMillis = circuitSlowCallDurationMillis;
+            return this;
+        }
+        
+        public Builder circuitOpenDurationMillis(long circuitOpenDurationMillis) {
+            this.circuitOpenDurationMillis = circuitOpenDurationMillis;
+            return this;
+        }
+        
+        public Builder circuitHalfOpenCalls(int circuitHalfOpenCalls) {
+            this.circuitHalfOpenCalls = circuitHalfOpenCalls;
+            return this;
+        }
+        
+        public Builder pagingPrefetch(int pagingPrefetch) {
+            this.pagingPrefetch = pagingPrefetch;
+            return this;
+        }
+        
+        public Builder datalabChunkDays(int datalabChunkDays) {
+            this.datalabChunkDays = datalabChunkDays;
+            return this;
+        }
+        
+        public Builder datalabOverlapDays(int datalabOverlapDays) {
+            this.datalabOverlapDays = datalabOverlapDays;
+            return this;
+        }
+        
+        public Builder asyncTimeoutMillis(long asyncTimeoutMillis) {
+            this.asyncTimeoutMillis = asyncTimeoutMillis;
+            return this;
+        }
+        
+        public Builder credentials(List<CredentialEntry> credentials) {
+            this.credentials = credentials;
+            return this;
+        }
+        
+        public Builder credentialDailyQuota(long credentialDailyQuota) {
+            this.credentialDailyQuota = credentialDailyQuota;
+            return this;
+        }
+        
+        public Builder credentialQuarantineMillis(long credentialQuarantineMillis) {
+            this.credentialQuarantineMillis = credentialQuarantineMillis;
+            return this;
+        }
+        
+        public Builder quotaEnabled(boolean quotaEnabled) {
+            this.quotaEnabled = quotaEnabled;
+            return this;
+        }
+        
+        public Builder quotaBudgets(Map<String, Long> quotaBudgets) {
+            this.quotaBudgets = quotaBudgets;
+            return this;
+        }
+        
+        public Builder quotaFile(String quotaFile) {
+            this.quotaFile = quotaFile;
+            return this;
+        }
+        
+        public Builder quotaFlushIntervalMillis(long quotaFlushIntervalMillis) {
+            this.quotaFlushIntervalMillis = quotaFlushIntervalMillis;
+            return this;
+        }
+        
+        public Builder quotaPacingMode(PacingMode quotaPacingMode) {
+            this.quotaPacingMode = quotaPacingMode;
+            return this;
+        }
+        
+        public Builder quotaPacingCurve(List<Double> quotaPacingCurve) {
+            this.quotaPacingCurve = quotaPacingCurve;
+            return this;
+        }
+        
+        public Builder quotaPacingBurst(long quotaPacingBurst) {
+            this.quotaPacingBurst = quotaPacingBurst;
+            return this;
+        }
+        
+        public Builder quotaPacingMaxWaitMillis(long quotaPacingMaxWaitMillis) {
+            this.quotaPacingMaxWaitMillis = quotaPacingMaxWaitMillis;
+            return this;
+        }
+        
+        public Builder metricsEnabled(boolean metricsEnabled) {
+            this.metricsEnabled = metricsEnabled;
+            return this;
+        }
+        
+        public Builder metricsPort(int metricsPort) {
+            this.metricsPort = metricsPort;
+            return this;
+        }
+        
+        public Builder loggingSampleRate(double loggingSampleRate) {
+            this.loggingSampleRate = loggingSampleRate;
+            return this;
+        }
+        
+        public Builder loggingSlowThresholdMillis(long loggingSlowThresholdMillis) {
+            this.loggingSlowThresholdMillis = loggingSlowThresholdMillis;
+            return this;
+        }
+        
+        public Builder loggingMaxBodyChars(int loggingMaxBodyChars) {
+            this.loggingMaxBodyChars = loggingMaxBodyChars;
+            return this;
+        }
+        
+        public Builder loggingQueueSize(int loggingQueueSize) {
+            this.loggingQueueSize = loggingQueueSize;
+            return this;
+        }
+        
         public ApiConfig build() {
             if (baseUrl == null || baseUrl.isBlank()) {
                 throw new IllegalStateException("baseUrl is required");
             }
+            if ((clientId == null || clientId.isBlank()) && !credentials.isEmpty()) {
+                // 다중 Client ID만 설정된 경우 첫 번째 항목을 대표 Client ID로 사용
+                clientId = credentials.get(0).getClientId();
+                clientSecret = credentials.get(0).getClientSecret();
+            }
             if (clientId == null || clientId.isBlank()) {
                 throw new IllegalStateException("clientId is required");
             }
             if (clientSecret == null || clientSecret.isBlank()) {
                 throw new IllegalStateException("clientSecret is required");
             }
+            if (credentials.isEmpty()) {
+                credentials = List.of(CredentialEntry.of(clientId, clientSecret));
+            }
+            if (circuitWindowSize <= 0 || circuitHalfOpenCalls <= 0) {
+                throw new IllegalStateException("circuitWindowSize and circuitHalfOpenCalls must be positive");
+            }
+            if (hedgePercentile <= 0 || hedgePercentile >= 100) {
+                throw new IllegalStateException("hedgePercentile must be between 0 and 100 (exclusive)");
+            }
+            if (hedgeEnabled && transportType != TransportType.JDK) {
+                throw new IllegalStateException("hedgeEnabled requires transportType=jdk (REST Assured requests cannot be cancelled)");
+            }
+            if (!quotaPacingCurve.isEmpty() && quotaPacingCurve.size() != 24) {
+                throw new IllegalStateException("quotaPacingCurve must have 24 hourly weights");
+            }
+            if (loggingSampleRate < 0 || loggingSampleRate > 1) {
+                throw new IllegalStateException("loggingSampleRate must be between 0 and 1");
+            }
+            if (loggingQueueSize <= 0) {
+                throw new IllegalStateException("loggingQueueSize must be positive");
+            }
+            if (poolMaxPerRoute <= 0 || poolMaxPerRoute > poolMaxTotal) {
+                throw new IllegalStateException("poolMaxPerRoute must be between 1 and poolMaxTotal");
+            }
             return new ApiConfig(this);
         }
     }
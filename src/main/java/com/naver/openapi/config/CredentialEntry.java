@@ -0,0 +1,54 @@
+package com.naver.openapi.config;
+
+import lombok.ToString;
+import lombok.Value;
+
+/**
+ * 다중 Client ID 설정 항목 (naver.api.credentials)
+ * 
+ * <pre>
+ * naver.api.credentials=idA:secretA:2,idB:secretB:1:10000
+ * </pre>
+ * 
+ * <p>형식은 {@code clientId:clientSecret[:weight[:dailyQuota]]}이며,
+ * weight 기본값은 1, dailyQuota를 생략하면 {@code naver.api.credentials.dailyQuota}를 사용합니다.</p>
+ */
+@Value
+public class CredentialEntry {
+    
+    String clientId;
+    
+    @ToString.Exclude
+    String clientSecret;
+    
+    /**
+     * 요청 분배 가중치 (클수록 더 많이 사용)
+     */
+    int weight;
+    
+    /**
+     * 일일 호출 한도 (0 이하면 naver.api.credentials.dailyQuota 사용)
+     */
+    long dailyQuota;
+    
+    public static CredentialEntry of(String clientId, String clientSecret) {
+        return new CredentialEntry(clientId, clientSecret, 1, 0);
+    }
+    
+    /**
+     * "clientId:clientSecret[:weight[:dailyQuota]]" 형식 변환
+     */
+    public static CredentialEntry parse(String value) {
+        String[] parts = value.trim().split(":");
+        if (parts.length < 2 || parts.length > 4 || parts[0].isBlank() || parts[1].isBlank()) {
+            throw new IllegalStateException(
+                "Invalid credential entry (expected clientId:clientSecret[:weight[:dailyQuota]]): " + parts[0]);
+        }
+        int weight = parts.length > 2 ? Integer.parseInt(parts[2].trim()) : 1;
+        long dailyQuota = parts.length > 3 ? Long.parseLong(parts[3].trim()) : 0;
+        if (weight <= 0) {
+            throw new IllegalStateException("Credential weight must be positive: " + parts[0]);
+        }
+        return new CredentialEntry(parts[0].trim(), parts[1].trim(), weight, dailyQuota);
+    }
+}
@@ -6,7 +6,8 @@ package com.naver.openapi.config;
 public enum Environment {
     ALPHA("alpha", "Alpha 개발 환경"),
     BETA("beta", "Beta 검증 환경"),
-    REAL("real", "Real 운영 환경");
+    REAL("real", "Real 운영 환경"),
+    LOCAL("local", "Local 대역 서버 환경 (MockNaverApiServer)");
 
     private final String name;
     private final String description;
@@ -36,7 +37,7 @@ public enum Environment {
         }
         
         throw new IllegalArgumentException(
-            "Invalid environment: " + env + ". Valid values are: alpha, beta, real"
+            "Invalid environment: " + env + ". Valid values are: alpha, beta, real, local"
         );
     }
 }
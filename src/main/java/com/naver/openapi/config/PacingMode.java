@@ -0,0 +1,42 @@
+package com.naver.openapi.config;
+
+/**
+ * 일일 호출 예산 분배 방식
+ */
+public enum PacingMode {
+    NONE("none", "예산 안에서 제한 없이 호출"),
+    EVEN("even", "하루 동안 균등하게 분배"),
+    CURVE("curve", "시간대별 가중치(naver.api.quota.pacing.curve)에 따라 분배");
+
+    private final String name;
+    private final String description;
+
+    PacingMode(String name, String description) {
+        this.name = name;
+        this.description = description;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public static PacingMode fromString(String mode) {
+        if (mode == null || mode.isBlank()) {
+            return NONE; // 기본값
+        }
+
+        for (PacingMode pacingMode : values()) {
+            if (pacingMode.name.equalsIgnoreCase(mode.trim())) {
+                return pacingMode;
+            }
+        }
+
+        throw new IllegalArgumentException(
+            "Invalid pacing mode: " + mode + ". Valid values are: none, even, curve"
+        );
+    }
+}
@@ -0,0 +1,41 @@
+package com.naver.openapi.config;
+
+/**
+ * HTTP 전송 계층 구현 종류
+ */
+public enum TransportType {
+    REST_ASSURED("restassured", "REST Assured (Apache HttpClient) 기반 동기 전송"),
+    JDK("jdk", "java.net.http.HttpClient 기반 HTTP/2 + Virtual Thread 전송");
+
+    private final String name;
+    private final String description;
+
+    TransportType(String name, String description) {
+        this.name = name;
+        this.description = description;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public static TransportType fromString(String type) {
+        if (type == null || type.isBlank()) {
+            return REST_ASSURED; // 기본값
+        }
+
+        for (TransportType transportType : values()) {
+            if (transportType.name.equalsIgnoreCase(type.trim())) {
+                return transportType;
+            }
+        }
+
+        throw new IllegalArgumentException(
+            "Invalid transport: " + type + ". Valid values are: restassured, jdk"
+        );
+    }
+}
@@ -46,7 +46,7 @@ import java.util.List;
  * @see SearchTrendResponse
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)  // null 필드는 JSON에서 제외
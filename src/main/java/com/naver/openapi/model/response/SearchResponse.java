@@ -1,5 +1,6 @@
 package com.naver.openapi.model.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,6 +13,7 @@ import java.util.List;
  * 검색 API 응답 데이터
  */
 @Data
+@JsonIgnoreProperties(ignoreUnknown = true)
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -49,8 +51,10 @@ public class SearchResponse {
     
     /**
      * 검색 결과 아이템
+     * 검색 종류별 추가 필드(bloggername, originallink 등)는 무시
      */
     @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
     @Builder
     @NoArgsConstructor
     @AllArgsConstructor
@@ -4,6 +4,8 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Properties;
 
 /**
@@ -18,7 +20,7 @@ public class PropertyLoader {
     /**
      * 환경별 설정 파일 로드
      * 
-     * @param environment 환경 (alpha, beta, real)
+     * @param environment 환경 (alpha, beta, real, local)
      * @param isTest 테스트 환경 여부
      * @return Properties 객체
      */
@@ -72,4 +74,38 @@ public class PropertyLoader {
     public static String getProperty(Properties properties, String key, String defaultValue) {
         return properties.getProperty(key, defaultValue);
     }
+    
+    /**
+     * "key:value,key:value" 형식의 속성을 Map으로 가져오기 (선언 순서 유지)
+     * 
+     * <p>key에 ':'가 포함될 수 있도록 마지막 ':'를 구분자로 사용합니다.</p>
+     * 
+     * <pre>
+     * naver.api.rateLimit.endpoints=/v1/search/:10,/v1/datalab/search:5
+     * </pre>
+     */
+    public static Map<String, String> getMapProperty(Properties properties, String key) {
+        return getMapProperty(properties, key, "");
+    }
+    
+    /**
+     * "key:value,key:value" 형식의 속성 조회 (속성이 없으면 기본값 사용)
+     */
+    public static Map<String, String> getMapProperty(Properties properties, String key, String defaultValue) {
+        Map<String, String> values = new LinkedHashMap<>();
+        String value = properties.getProperty(key, defaultValue);
+        if (value == null || value.isBlank()) {
+            return values;
+        }
+        for (String entry : value.split(",")) {
+            String trimmed = entry.trim();
+            int separator = trimmed.lastIndexOf(':');
+            if (separator <= 0) {
+                throw new IllegalStateException(
+                    "Invalid entry for property " + key + " (expected key:value): " + trimmed);
+            }
+            values.put(trimmed.substring(0, separator).trim(), trimmed.substring(separator + 1).trim());
+        }
+        return values;
+    }
 }
@@ -3,6 +3,7 @@ package com.naver.openapi.base;
 import com.naver.openapi.client.NaverApiClient;
 import com.naver.openapi.config.ApiConfig;
 import com.naver.openapi.config.Environment;
+import com.naver.openapi.mock.MockNaverApiServer;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.*;
 
@@ -21,6 +22,11 @@ public abstract class TestBase {
     protected ApiConfig apiConfig;
     protected Environment environment;
     
+    /**
+     * local 환경용 대역 서버 (모든 테스트 클래스가 공유, JVM 종료 시 정지)
+     */
+    private static MockNaverApiServer localServer;
+    
     private Instant testStartTime;
     
     /**
@@ -72,6 +78,9 @@ public abstract class TestBase {
      */
     @AfterAll
     void tearDownAll() {
+        if (naverApiClient != null) {
+            naverApiClient.close();
+        }
         log.info("========================================");
         log.info("Test Suite Completed: {}", this.getClass().getSimpleName());
         log.info("========================================");
@@ -85,6 +94,9 @@ public abstract class TestBase {
             // 시스템 프로퍼티에서 환경 정보 로드
             apiConfig = ApiConfig.fromSystemProperty(true);
             environment = apiConfig.getEnvironment();
+            if (environment == Environment.LOCAL) {
+                startLocalServer(apiConfig);
+            }
             
             log.info("Successfully initialized environment: {}", environment.getName());
         } catch (Exception e) {
@@ -93,6 +105,16 @@ public abstract class TestBase {
         }
     }
     
+    /**
+     * local 환경이면 설정의 Base URL에 대역 서버 시작 (최초 1회)
+     */
+    private static synchronized void startLocalServer(ApiConfig apiConfig) {
+        if (localServer == null) {
+            localServer = MockNaverApiServer.forConfig(apiConfig);
+            Runtime.getRuntime().addShutdownHook(new Thread(localServer::close));
+        }
+    }
+    
     /**
      * API 클라이언트 초기화
      */
@@ -120,8 +142,14 @@ public abstract class TestBase {
     
     /**
      * 테스트 대기 (Rate Limit 방지)
+     * 
+     * <p>NaverApiClient의 레이트 리미터가 활성화되어 있으면 클라이언트가
+     * 모든 스레드에 걸쳐 호출 간격을 조절하므로 대기하지 않습니다.</p>
      */
     protected void waitForRateLimit(long milliseconds) {
+        if (naverApiClient.getRateLimiters().isEnabled()) {
+            return;
+        }
         try {
             log.debug("Waiting for {} ms to avoid rate limit", milliseconds);
             Thread.sleep(milliseconds);
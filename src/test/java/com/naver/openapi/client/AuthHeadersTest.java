@@ -0,0 +1,63 @@
+package com.naver.openapi.client;
+
+import com.naver.openapi.client.auth.Credential;
+import com.naver.openapi.config.ApiConfig;
+import org.junit.jupiter.api.*;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 인증 헤더 재사용 / Secret 마스킹 단위 테스트 (네트워크 불필요)
+ */
+@DisplayName("Auth Header Tests")
+class AuthHeadersTest {
+    
+    private static NaverApiClient naverApiClient;
+    
+    @BeforeAll
+    static void setUp() {
+        naverApiClient = new NaverApiClient(new ApiConfig.Builder()
+            .baseUrl("http://localhost")
+            .clientId("test-id")
+            .clientSecret("test-secret")
+            .build());
+    }
+    
+    @AfterAll
+    static void tearDown() {
+        naverApiClient.close();
+    }
+    
+    @Test
+    @DisplayName("커스텀 헤더가 없으면 매 요청 같은 인증 헤더 인스턴스 재사용")
+    void testAuthHeadersAreShared() {
+        // When
+        Map<String, String> first = naverApiClient.mergeHeaders(null);
+        Map<String, String> second = naverApiClient.mergeHeaders(Map.of());
+        
+        // Then
+        assertThat(first).isSameAs(second)
+            .containsEntry(Credential.HEADER_CLIENT_ID, "test-id")
+            .containsEntry(Credential.HEADER_CLIENT_SECRET, "test-secret");
+        assertThatThrownBy(() -> first.put("X-Test", "value")).isInstanceOf(UnsupportedOperationException.class);
+    }
+    
+    @Test
+    @DisplayName("커스텀 헤더는 인증 헤더와 병합")
+    void testCustomHeadersAreMerged() {
+        // When
+        Map<String, String> headers = naverApiClient.mergeHeaders(Map.of("X-Trace-Id", "abc"));
+        
+        // Then
+        assertThat(headers).containsEntry("X-Trace-Id", "abc").containsKey(Credential.HEADER_CLIENT_SECRET);
+    }
+    
+    @Test
+    @DisplayName("toString에 Secret이 노출되지 않음")
+    void testCredentialToStringHidesSecret() {
+        // When & Then
+        assertThat(naverApiClient.getCredential().toString()).contains("test-id").doesNotContain("test-secret");
+    }
+}
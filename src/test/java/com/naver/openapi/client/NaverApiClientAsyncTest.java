@@ -0,0 +1,204 @@
+package com.naver.openapi.client;
+
+import com.naver.openapi.client.circuit.CircuitBreaker;
+import com.naver.openapi.client.circuit.CircuitState;
+import com.naver.openapi.config.ApiConfig;
+import com.naver.openapi.config.TransportType;
+import com.naver.openapi.model.response.SearchResponse;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * NaverApiClient 비동기 API 테스트 (로컬 HTTP 서버 사용)
+ */
+@DisplayName("Async API Tests")
+class NaverApiClientAsyncTest {
+    
+    private static HttpServer server;
+    
+    @BeforeAll
+    static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/search/blog.json", exchange -> {
+            byte[] body = "{\"total\":1,\"start\":1,\"display\":1,\"items\":[{\"title\":\"async\"}]}"
+                .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.createContext("/v1/search/delayed.json", exchange -> {
+            try {
+                Thread.sleep(500);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"total\":1,\"start\":1,\"display\":1,\"items\":[{\"title\":\"delayed\"}]}"
+                .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.createContext("/v1/search/error.json", exchange -> {
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+        });
+        server.createContext("/v1/search/slow.json", exchange -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+    }
+    
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+    }
+    
+    private static ApiConfig config(TransportType transportType) {
+        return new ApiConfig.Builder()
+            .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+            .clientId("id")
+            .clientSecret("secret")
+            .readTimeout(10_000)
+            .transportType(transportType)
+            .rateLimitEnabled(false)
+            .cacheEnabled(false)
+            .build();
+    }
+    
+    @ParameterizedTest
+    @EnumSource(TransportType.class)
+    @DisplayName("응답을 지정한 타입으로 변환하여 비동기 반환")
+    void testTypedGetAsync(TransportType transportType) throws Exception {
+        // Given
+        try (NaverApiClient client = new NaverApiClient(config(transportType))) {
+            // When
+            SearchResponse response = client
+                .getAsync("/v1/search/blog.json", Map.of("query", "java"), SearchResponse.class)
+                .get(5, TimeUnit.SECONDS);
+            
+            // Then
+            assertThat(response.getItems()).extracting(SearchResponse.SearchItem::getTitle).containsExactly("async");
+        }
+    }
+    
+    @ParameterizedTest
+    @EnumSource(TransportType.class)
+    @DisplayName("타임아웃 시 진행 중인 요청을 중단하고 스레드 반환")
+    void testTimeoutAbortsRequest(TransportType transportType) throws Exception {
+        // Given
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        ApiConfig apiConfig = config(transportType);
+        try (NaverApiClient client = new NaverApiClient(apiConfig, new RestApiClient(apiConfig), executor)) {
+            // When
+            var future = client.getAsync("/v1/search/slow.json", Map.of("query", "java"), 
+                                         SearchResponse.class, Duration.ofMillis(200));
+            
+            // Then
+            assertThatThrownBy(future::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+            executor.shutdown();
+            assertThat(executor.awaitTermination(2, TimeUnit.SECONDS))
+                .as("request thread should be released long before the 5s server delay")
+                .isTrue();
+        }
+    }
+    
+    @ParameterizedTest
+    @EnumSource(TransportType.class)
+    @DisplayName("병합된 요청 중 하나를 취소해도 나머지 호출은 공유 응답을 받음")
+    void testCancellingOneCoalescedCallerKeepsSharedLoad(TransportType transportType) throws Exception {
+        // Given
+        try (NaverApiClient client = new NaverApiClient(config(transportType))) {
+            Map<String, Object> params = Map.of("query", "coalesce-" + transportType);
+            var leader = client.getAsync("/v1/search/delayed.json", params, SearchResponse.class);
+            var follower = client.getAsync("/v1/search/delayed.json", params, SearchResponse.class);
+            
+            // When - 먼저 시작한(실제 요청을 실행 중인) 호출 취소
+            leader.cancel(true);
+            
+            // Then
+            SearchResponse response = follower.get(5, TimeUnit.SECONDS);
+            assertThat(response.getItems()).extracting(SearchResponse.SearchItem::getTitle)
+                .containsExactly("delayed");
+            assertThat(leader).isCancelled();
+            assertThat(client.getCoalescer().getExecutedCount()).isEqualTo(1);
+            assertThat(client.getCoalescer().getCoalescedCount()).isEqualTo(1);
+        }
+    }
+    
+    @Test
+    @DisplayName("HALF_OPEN 시험 요청이 레이트 리미터 대기 중 인터럽트되면 허가를 돌려줌")
+    void testInterruptedHalfOpenProbeReleasesPermit() throws Exception {
+        // Given: 503 두 번으로 OPEN
+        ApiConfig apiConfig = new ApiConfig.Builder()
+            .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+            .clientId("id")
+            .clientSecret("secret")
+            .cacheEnabled(false)
+            .retryEnabled(false)
+            .rateLimitPerSecond(5)
+            .circuitMinCalls(2)
+            .circuitOpenDurationMillis(100)
+            .circuitHalfOpenCalls(1)
+            .build();
+        try (NaverApiClient client = new NaverApiClient(apiConfig)) {
+            CircuitBreaker breaker = client.getCircuitBreakers().forPath("/v1/search/blog.json");
+            client.get("/v1/search/error.json");
+            client.get("/v1/search/error.json");
+            assertThat(breaker.getState()).isEqualTo(CircuitState.OPEN);
+            Thread.sleep(150);
+            for (int i = 0; i < 5; i++) {
+                // 시험 요청이 약 1초 동안 토큰을 기다리도록 미리 예약
+                client.getRateLimiters().forPath("/v1/search/blog.json").reserve();
+            }
+            
+            // When: 유일한 시험 허가를 받은 호출이 토큰을 기다리는 중 인터럽트
+            AtomicReference<Throwable> probeError = new AtomicReference<>();
+            Thread probe = Thread.ofPlatform().start(() -> {
+                try {
+                    client.get("/v1/search/blog.json");
+                } catch (RuntimeException e) {
+                    probeError.set(e);
+                }
+            });
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+            while (breaker.getState() != CircuitState.HALF_OPEN || probe.getState() != Thread.State.TIMED_WAITING) {
+                assertThat(System.nanoTime()).as("probe should wait on the rate limiter").isLessThan(deadline);
+                Thread.onSpinWait();
+            }
+            probe.interrupt();
+            probe.join(2_000);
+            
+            // Then: 다음 요청이 시험 허가를 받아 전송되고 서킷이 닫힘
+            assertThat(probeError.get()).isInstanceOf(IllegalStateException.class);
+            assertThat(client.get("/v1/search/blog.json").statusCode()).isEqualTo(200);
+            assertThat(breaker.getState()).isEqualTo(CircuitState.CLOSED);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.naver.openapi.client.auth;
+
+import com.naver.openapi.config.CredentialEntry;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CredentialPool 단위 테스트 (네트워크 불필요)
+ */
+@DisplayName("Credential Pool Tests")
+class CredentialPoolTest {
+    
+    private static final String QUOTA_ERROR_BODY =
+        "{\"errorMessage\":\"Rate limit exceeded. (속도 제한을 초과했습니다.)\",\"errorCode\":\"010\"}";
+    
+    private final MutableClock clock = new MutableClock(
+        ZonedDateTime.of(2024, 3, 1, 23, 0, 0, 0, CredentialPool.NAVER_ZONE).toInstant());
+    
+    /**
+     * 선택 후 전송까지 기록
+     */
+    private static Credential send(CredentialPool pool) {
+        Credential credential = pool.acquire();
+        pool.onSent(credential);
+        return credential;
+    }
+    
+    private static Response response(int statusCode, String body) {
+        return new ResponseBuilder().setStatusCode(statusCode).setContentType("application/json").setBody(body).build();
+    }
+    
+    @Test
+    @DisplayName("가중치 비율대로 Client ID 분산")
+    void testWeightedLeastUsedSelection() {
+        // Given
+        CredentialPool pool = new CredentialPool(List.of(
+            CredentialEntry.parse("idA:secretA:3"), CredentialEntry.parse("idB:secretB:1")), 0, 60_000, clock);
+        
+        // When
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 400; i++) {
+            counts.merge(send(pool).getClientId(), 1, Integer::sum);
+        }
+        
+        // Then
+        assertThat(counts).containsEntry("idA", 300).containsEntry("idB", 100);
+        assertThat(pool.getRemaining(pool.getPrimary())).isEqualTo(Long.MAX_VALUE);
+    }
+    
+    @Test
+    @DisplayName("한도 초과 응답을 받은 Client ID는 격리 후 다른 Client ID 사용")
+    void testQuotaErrorQuarantinesCredential() {
+        // Given
+        CredentialPool pool = new CredentialPool(List.of(
+            CredentialEntry.parse("idA:secretA"), CredentialEntry.parse("idB:secretB")), 0, 60_000, clock);
+        Credential first = pool.acquire();
+        
+        // When
+        boolean quotaError = pool.onResponse(first, response(429, QUOTA_ERROR_BODY));
+        
+        // Then
+        assertThat(quotaError).isTrue();
+        assertThat(pool.isQuarantined(first)).isTrue();
+        for (int i = 0; i < 5; i++) {
+            assertThat(pool.acquire()).isNotSameAs(first);
+        }
+        
+        // When - 격리 시간 경과
+        clock.advanceMillis(60_000);
+        
+        // Then
+        assertThat(pool.isQuarantined(first)).isFalse();
+        assertThat(pool.acquire()).isSameAs(first);
+    }
+    
+    @Test
+    @DisplayName("초당 요청 제한 429는 격리하지 않음")
+    void testRateLimitErrorDoesNotQuarantine() {
+        // Given
+        CredentialPool pool = new CredentialPool(List.of(CredentialEntry.parse("idA:secretA")), 0, 60_000, clock);
+        Credential credential = pool.acquire();
+        
+        // When
+        boolean quotaError = pool.onResponse(credential, response(429, "{\"errorCode\":\"012\"}"));
+        
+        // Then
+        assertThat(quotaError).isFalse();
+        assertThat(pool.isQuarantined(credential)).isFalse();
+    }
+    
+    @Test
+    @DisplayName("일일 한도를 모두 쓰면 즉시 실패하고 KST 자정에 초기화")
+    void testDailyQuotaResetsAtNaverMidnight() {
+        // Given
+        CredentialPool pool = new CredentialPool(List.of(
+            CredentialEntry.parse("idA:secretA:1:2"), CredentialEntry.parse("idB:secretB:1:1")), 25_000, 60_000, clock);
+        send(pool);
+        send(pool);
+        send(pool);
+        
+        // When & Then
+        assertThatThrownBy(pool::acquire).isInstanceOf(CredentialExhaustedException.class);
+        
+        // When - 다음 날 00:00 KST
+        clock.advanceMillis(60 * 60 * 1000);
+        
+        // Then
+        assertThat(send(pool)).isNotNull();
+        assertThat(pool.getUsed(pool.getPrimary()) + pool.getUsed(pool.getCredentials().get(1))).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("선택만 하고 보내지 않은 요청은 사용량에 포함하지 않음")
+    void testUsageCountedOnlyWhenSent() {
+        // Given
+        CredentialPool pool = new CredentialPool(List.of(CredentialEntry.parse("idA:secretA:1:1")), 0, 60_000, clock);
+        
+        // When - 서킷 차단 · 리미터 대기 중단 등으로 전송하지 못함
+        Credential credential = pool.acquire();
+        
+        // Then
+        assertThat(pool.getUsed(credential)).isZero();
+        assertThat(pool.acquire()).isSameAs(credential);
+        
+        // When
+        pool.onSent(credential);
+        
+        // Then
+        assertThat(pool.getUsed(credential)).isEqualTo(1);
+        assertThatThrownBy(pool::acquire).isInstanceOf(CredentialExhaustedException.class);
+    }
+    
+    /**
+     * 테스트에서 시간을 직접 조절하는 Clock
+     */
+    private static class MutableClock extends Clock {
+        private volatile Instant now;
+        
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+        
+        void advanceMillis(long millis) {
+            now = now.plusMillis(millis);
+        }
+        
+        @Override
+        public ZoneId getZone() {
+            return CredentialPool.NAVER_ZONE;
+        }
+        
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+        
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
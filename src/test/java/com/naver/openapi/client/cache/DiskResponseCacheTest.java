@@ -0,0 +1,184 @@
+package com.naver.openapi.client.cache;
+
+import com.naver.openapi.client.RequestKey;
+import com.naver.openapi.model.request.SearchTrendRequest;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * DiskResponseCache 단위 테스트 (네트워크 불필요)
+ */
+@DisplayName("Disk Response Cache Tests")
+class DiskResponseCacheTest {
+    
+    private static final String DATALAB_PATH = "/v1/datalab/search";
+    private static final Map<String, Long> TTL = Map.of(DATALAB_PATH, 3600L);
+    
+    @TempDir
+    Path cacheDir;
+    
+    @Test
+    @DisplayName("재시작 후에도 DataLab 응답 재사용")
+    void testSurvivesRestart() {
+        // Given
+        RequestKey key = datalabKey("자바");
+        String body = "{\"startDate\":\"2024-01-01\",\"results\":[]}";
+        try (DiskResponseCache cache = open(1024 * 1024)) {
+            cache.putIfCacheable(key, response(body));
+        }
+        
+        // When
+        try (DiskResponseCache reopened = open(1024 * 1024)) {
+            Response cached = reopened.get(key);
+            
+            // Then
+            assertThat(cached).isNotNull();
+            assertThat(cached.statusCode()).isEqualTo(200);
+            assertThat(cached.getContentType()).isEqualTo("application/json;charset=UTF-8");
+            assertThat(cached.asString()).isEqualTo(body);
+            assertThat(reopened.get(datalabKey("파이썬"))).isNull();
+        }
+    }
+    
+    @Test
+    @DisplayName("본문이 다른 POST 요청은 다른 키")
+    void testBodyIsPartOfKey() {
+        try (DiskResponseCache cache = open(1024 * 1024)) {
+            cache.putIfCacheable(datalabKey("자바"), response("{\"v\":1}"));
+            cache.putIfCacheable(datalabKey("파이썬"), response("{\"v\":2}"));
+            
+            assertThat(cache.get(datalabKey("자바")).asString()).isEqualTo("{\"v\":1}");
+            assertThat(cache.get(datalabKey("파이썬")).asString()).isEqualTo("{\"v\":2}");
+        }
+    }
+    
+    @Test
+    @DisplayName("같은 키를 반복 저장하면 세그먼트가 교체되고 오래된 세그먼트는 compaction으로 삭제")
+    void testRollAndCompaction() throws IOException {
+        // Given - 세그먼트 4KB, 레코드 약 1KB (압축 불가능한 본문)
+        try (DiskResponseCache cache = open(4096)) {
+            for (int i = 0; i < 40; i++) {
+                cache.putIfCacheable(datalabKey("k" + (i % 2)), response(randomJson(i)));
+            }
+            
+            // Then - 최신 값만 유효하고 오래된 세그먼트는 정리됨
+            assertThat(cache.get(datalabKey("k0")).asString()).isEqualTo(randomJson(38));
+            assertThat(cache.get(datalabKey("k1")).asString()).isEqualTo(randomJson(39));
+            assertThat(cache.getStats().getEntryCount()).isEqualTo(2);
+            assertThat(segmentFiles()).hasSizeLessThanOrEqualTo(3);
+        }
+    }
+    
+    @Test
+    @DisplayName("compaction이 새 세그먼트를 채우면 한 번 더 넘어가서 저장")
+    void testRollsAgainWhenCompactionFillsSegment() throws IOException {
+        try (DiskResponseCache cache = open(4096)) {
+            // Given - 세그먼트 1: [a, b], a를 덮어써서 유효 비율 50% 미만
+            cache.putIfCacheable(datalabKey("a"), response(randomJson(1, 3100)));
+            cache.putIfCacheable(datalabKey("b"), response(randomJson(2, 2850)));
+            cache.putIfCacheable(datalabKey("a"), response(randomJson(3, 3100)));
+            
+            // When - 새 세그먼트로 넘어가면서 b가 옮겨진 뒤에는 들어갈 자리가 없는 레코드
+            cache.putIfCacheable(datalabKey("c"), response(randomJson(4, 3900)));
+            
+            // Then
+            assertThat(cache.get(datalabKey("a")).asString()).isEqualTo(randomJson(3, 3100));
+            assertThat(cache.get(datalabKey("b")).asString()).isEqualTo(randomJson(2, 2850));
+            assertThat(cache.get(datalabKey("c")).asString()).isEqualTo(randomJson(4, 3900));
+        }
+        try (DiskResponseCache reopened = open(4096)) {
+            assertThat(reopened.getStats().getEntryCount()).isEqualTo(3);
+            assertThat(reopened.get(datalabKey("b")).asString()).isEqualTo(randomJson(2, 2850));
+        }
+    }
+    
+    @Test
+    @DisplayName("끝이 잘린 레코드는 재시작 시 무시")
+    void testTornRecordIsIgnored() throws IOException {
+        // Given
+        try (DiskResponseCache cache = open(1024 * 1024)) {
+            cache.putIfCacheable(datalabKey("자바"), response("{\"v\":1}"));
+            cache.putIfCacheable(datalabKey("파이썬"), response("{\"v\":2}"));
+        }
+        // 두 번째 레코드의 CRC 손상
+        Path segment = segmentFiles().get(0);
+        byte[] bytes = Files.readAllBytes(segment);
+        int secondRecord = findSecondMagic(bytes);
+        bytes[secondRecord + 8] ^= 0x7F;
+        Files.write(segment, bytes);
+        
+        // When
+        try (DiskResponseCache reopened = open(1024 * 1024)) {
+            // Then
+            assertThat(reopened.get(datalabKey("자바"))).isNotNull();
+            assertThat(reopened.get(datalabKey("파이썬"))).isNull();
+        }
+    }
+    
+    private DiskResponseCache open(int segmentBytes) {
+        return new DiskResponseCache(true, cacheDir, segmentBytes, 64L * 1024 * 1024, TTL);
+    }
+    
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            return files.sorted().toList();
+        }
+    }
+    
+    private static int findSecondMagic(byte[] bytes) {
+        int found = 0;
+        for (int i = 0; i + 4 <= bytes.length; i++) {
+            if (bytes[i] == 'N' && bytes[i + 1] == 'A' && bytes[i + 2] == 'V' && bytes[i + 3] == 'C' && ++found == 2) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("second record not found");
+    }
+    
+    private static String randomJson(int seed) {
+        return randomJson(seed, 700);
+    }
+    
+    private static String randomJson(int seed, int length) {
+        StringBuilder value = new StringBuilder();
+        Random random = new Random(seed);
+        for (int i = 0; i < length; i++) {
+            value.append((char) ('a' + random.nextInt(26)));
+        }
+        return "{\"v\":\"" + value + "\"}";
+    }
+    
+    private static RequestKey datalabKey(String keyword) {
+        SearchTrendRequest request = SearchTrendRequest.builder()
+            .startDate("2024-01-01")
+            .endDate("2024-12-31")
+            .timeUnit("month")
+            .keywordGroups(List.of(SearchTrendRequest.KeywordGroup.builder()
+                .groupName(keyword)
+                .keywords(List.of(keyword))
+                .build()))
+            .build();
+        return RequestKey.of("POST", DATALAB_PATH, null, "id", request);
+    }
+    
+    private static Response response(String body) {
+        return new ResponseBuilder()
+            .setStatusCode(200)
+            .setStatusLine("HTTP/1.1 200")
+            .setContentType("application/json;charset=UTF-8")
+            .setBody(body)
+            .build();
+    }
+}
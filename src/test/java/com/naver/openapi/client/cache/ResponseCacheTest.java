@@ -0,0 +1,117 @@
+package com.naver.openapi.client.cache;
+
+import com.naver.openapi.client.RequestKey;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.*;
+
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ResponseCache 단위 테스트 (네트워크 불필요)
+ */
+@DisplayName("Response Cache Tests")
+class ResponseCacheTest {
+    
+    private static final String BLOG_PATH = "/v1/search/blog.json";
+    
+    @Test
+    @DisplayName("캐싱 대상 경로의 200 응답은 저장 후 적중")
+    void testHitAndMiss() {
+        // Given
+        ResponseCache cache = new ResponseCache(true, 1024 * 1024, Map.of("/v1/search/", 300L));
+        RequestKey key = key("맛집");
+        
+        // When
+        assertThat(cache.get(key)).isNull();
+        cache.putIfCacheable(key, response(200, "{\"total\":1}"));
+        Response cached = cache.get(key);
+        
+        // Then
+        assertThat(cached).isNotNull();
+        assertThat(cached.statusCode()).isEqualTo(200);
+        assertThat(cached.jsonPath().getInt("total")).isEqualTo(1);
+        assertThat(cache.getStats().getHitCount()).isEqualTo(1);
+        assertThat(cache.getStats().getMissCount()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("오류 응답과 TTL 미설정 경로는 캐싱하지 않음")
+    void testNotCacheable() {
+        // Given
+        ResponseCache cache = new ResponseCache(true, 1024 * 1024, Map.of("/v1/search/", 300L));
+        RequestKey datalabKey = RequestKey.of("GET", "/v1/datalab/search", null, "id");
+        
+        // When
+        cache.putIfCacheable(key("error"), response(400, "{}"));
+        cache.putIfCacheable(datalabKey, response(200, "{}"));
+        
+        // Then
+        assertThat(cache.get(key("error"))).isNull();
+        assertThat(cache.get(datalabKey)).isNull();
+        assertThat(cache.getStats().getEntryCount()).isZero();
+    }
+    
+    @Test
+    @DisplayName("TTL 경과 후 만료")
+    void testExpiration() throws InterruptedException {
+        // Given
+        ResponseCache cache = new ResponseCache(true, 1024 * 1024, Map.of("/v1/search/", 1L));
+        cache.putIfCacheable(key("뉴스"), response(200, "{}"));
+        
+        // When
+        Thread.sleep(1100);
+        
+        // Then
+        assertThat(cache.get(key("뉴스"))).isNull();
+        assertThat(cache.getStats().getExpirationCount()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("용량 초과 시 제거되고 자주 조회된 항목은 일회성 조회에 밀려나지 않음")
+    void testSizeBoundAndFrequencyAdmission() {
+        // Given - 항목 당 약 1.2KB, 용량 약 20개
+        ResponseCache cache = new ResponseCache(true, 25 * 1024, Map.of("/v1/search/", 300L));
+        String body = "{\"pad\":\"" + "x".repeat(1000) + "\"}";
+        for (int i = 0; i < 10; i++) {
+            cache.putIfCacheable(key("hot" + i), response(200, body));
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 10; i++) {
+                cache.get(key("hot" + i));
+            }
+        }
+        
+        // When - 한 번씩만 조회되는 항목 200개 유입
+        for (int i = 0; i < 200; i++) {
+            RequestKey scanKey = key("scan" + i);
+            cache.get(scanKey);
+            cache.putIfCacheable(scanKey, response(200, body));
+        }
+        
+        // Then
+        CacheStats stats = cache.getStats();
+        assertThat(stats.getWeightedSize()).isLessThanOrEqualTo(25 * 1024);
+        assertThat(stats.getEvictionCount()).isPositive();
+        long hotSurvivors = IntStream.range(0, 10)
+            .filter(i -> cache.get(key("hot" + i)) != null)
+            .count();
+        assertThat(hotSurvivors).isGreaterThanOrEqualTo(8);
+    }
+    
+    private static RequestKey key(String query) {
+        return RequestKey.of("GET", BLOG_PATH, Map.of("query", query), "id");
+    }
+    
+    private static Response response(int statusCode, String body) {
+        return new ResponseBuilder()
+            .setStatusCode(statusCode)
+            .setStatusLine("HTTP/1.1 " + statusCode)
+            .setContentType("application/json;charset=UTF-8")
+            .setBody(body)
+            .build();
+    }
+}
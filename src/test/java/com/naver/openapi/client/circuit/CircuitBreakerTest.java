@@ -0,0 +1,117 @@
+package com.naver.openapi.client.circuit;
+
+import com.naver.openapi.config.ApiConfig;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CircuitBreaker / CircuitBreakerRegistry 단위 테스트 (네트워크 불필요)
+ */
+@DisplayName("Circuit Breaker Tests")
+class CircuitBreakerTest {
+    
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    
+    private final List<String> transitions = new ArrayList<>();
+    
+    private CircuitBreaker breaker(long openDurationMillis) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.builder()
+            .windowSize(10)
+            .minCalls(4)
+            .failureRateThreshold(50)
+            .slowCallRateThreshold(80)
+            .slowCallDurationMillis(100)
+            .openDurationMillis(openDurationMillis)
+            .halfOpenCalls(2)
+            .build();
+        return new CircuitBreaker("/v1/datalab/search", config, 
+            List.of((name, from, to) -> transitions.add(from + "->" + to)));
+    }
+    
+    @Test
+    @DisplayName("실패율이 임계치를 넘으면 OPEN 후 요청 즉시 거부")
+    void testOpensOnFailureRate() {
+        // Given
+        CircuitBreaker breaker = breaker(60_000);
+        
+        // When
+        breaker.onResult(200, FAST);
+        breaker.onResult(503, FAST);
+        breaker.onError(FAST);
+        breaker.onResult(200, FAST);
+        
+        // Then
+        assertThat(breaker.getState()).isEqualTo(CircuitState.OPEN);
+        assertThatThrownBy(breaker::acquirePermission)
+            .isInstanceOf(CallNotPermittedException.class)
+            .hasMessageContaining("/v1/datalab/search");
+        assertThat(breaker.getNotPermittedCount()).isEqualTo(1);
+        assertThat(transitions).containsExactly("CLOSED->OPEN");
+    }
+    
+    @Test
+    @DisplayName("느린 호출 비율이 임계치를 넘으면 OPEN")
+    void testOpensOnSlowCallRate() {
+        // Given
+        CircuitBreaker breaker = breaker(60_000);
+        long slow = TimeUnit.MILLISECONDS.toNanos(500);
+        
+        // When
+        for (int i = 0; i < 4; i++) {
+            breaker.onResult(200, slow);
+        }
+        
+        // Then
+        assertThat(breaker.getState()).isEqualTo(CircuitState.OPEN);
+    }
+    
+    @Test
+    @DisplayName("대기 후 HALF_OPEN에서 시험 호출이 성공하면 CLOSED")
+    void testHalfOpenProbeCloses() throws Exception {
+        // Given
+        CircuitBreaker breaker = breaker(20);
+        for (int i = 0; i < 4; i++) {
+            breaker.onError(FAST);
+        }
+        Thread.sleep(30);
+        
+        // When
+        breaker.acquirePermission();
+        breaker.acquirePermission();
+        Throwable thirdProbe = catchThrowable(breaker::acquirePermission);
+        breaker.onResult(200, FAST);
+        breaker.onResult(200, FAST);
+        
+        // Then
+        assertThat(thirdProbe).isInstanceOf(CallNotPermittedException.class);
+        assertThat(breaker.getState()).isEqualTo(CircuitState.CLOSED);
+        assertThat(transitions).containsExactly("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED");
+    }
+    
+    @Test
+    @DisplayName("경로 prefix별로 독립된 브레이커 사용")
+    void testRegistryIsolatesEndpoints() {
+        // Given
+        ApiConfig apiConfig = new ApiConfig.Builder()
+            .baseUrl("http://localhost")
+            .clientId("id")
+            .clientSecret("secret")
+            .circuitMinCalls(2)
+            .build();
+        CircuitBreakerRegistry registry = new CircuitBreakerRegistry(apiConfig);
+        
+        // When
+        registry.onError("/v1/datalab/search", FAST);
+        registry.onError("/v1/datalab/search", FAST);
+        
+        // Then
+        assertThatThrownBy(() -> registry.acquirePermission("/v1/datalab/search"))
+            .isInstanceOf(CallNotPermittedException.class);
+        assertThatCode(() -> registry.acquirePermission("/v1/search/blog.json")).doesNotThrowAnyException();
+    }
+}
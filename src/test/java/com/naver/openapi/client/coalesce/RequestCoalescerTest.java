@@ -0,0 +1,116 @@
+package com.naver.openapi.client.coalesce;
+
+import com.naver.openapi.client.RequestKey;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RequestCoalescer / RequestKey 단위 테스트 (네트워크 불필요)
+ */
+@DisplayName("Request Coalescing Tests")
+class RequestCoalescerTest {
+    
+    @Test
+    @DisplayName("쿼리 파라미터 순서와 값 타입에 무관하게 같은 키 생성")
+    void testRequestKeyIsOrderInsensitive() {
+        // Given
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("query", "맛집");
+        first.put("display", 10);
+        Map<String, Object> second = new TreeMap<>();
+        second.put("display", "10");
+        second.put("query", "맛집");
+        
+        // When & Then
+        assertThat(RequestKey.of("GET", "/v1/search/blog.json", first, "id"))
+            .isEqualTo(RequestKey.of("GET", "/v1/search/blog.json", second, "id"))
+            .isNotEqualTo(RequestKey.of("GET", "/v1/search/blog.json", second, "other-id"));
+    }
+    
+    @Test
+    @DisplayName("값에 구분 문자가 들어 있어도 다른 요청과 키가 겹치지 않음")
+    void testRequestKeyEscapesSeparators() {
+        // Given
+        Map<String, Object> injected = Map.of("query", "a&display=100");
+        Map<String, Object> separate = Map.of("query", "a", "display", 100);
+        
+        // When
+        RequestKey injectedKey = RequestKey.of("GET", "/v1/search/blog.json", injected, "id");
+        RequestKey separateKey = RequestKey.of("GET", "/v1/search/blog.json", separate, "id");
+        
+        // Then
+        assertThat(injectedKey).isNotEqualTo(separateKey);
+        assertThat(injectedKey.getCanonicalQuery()).isEqualTo("query=a%26display%3D100");
+        assertThat(separateKey.getCanonicalQuery()).isEqualTo("display=100&query=a");
+    }
+    
+    @Test
+    @DisplayName("동시에 들어온 동일 요청은 한 번만 실행")
+    void testConcurrentIdenticalRequestsShareOneCall() throws Exception {
+        // Given
+        RequestCoalescer coalescer = new RequestCoalescer();
+        RequestKey key = RequestKey.of("GET", "/v1/search/news.json", Map.of("query", "java"), "id");
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        
+        // When
+        List<Future<Response>> futures = new ArrayList<>();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 20; i++) {
+                futures.add(executor.submit(() -> coalescer.execute(key, () -> {
+                    calls.incrementAndGet();
+                    await(release);
+                    return new ResponseBuilder().setStatusCode(200).setBody("{}").build();
+                })));
+            }
+            while (coalescer.getCoalescedCount() < 19) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+        }
+        
+        // Then
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(coalescer.getExecutedCount()).isEqualTo(1);
+        assertThat(coalescer.getCoalescedCount()).isEqualTo(19);
+        assertThat(coalescer.getInFlightCount()).isZero();
+        for (Future<Response> future : futures) {
+            assertThat(future.get().statusCode()).isEqualTo(200);
+        }
+    }
+    
+    @Test
+    @DisplayName("실행 중 예외 발생 시 예외 전파 후 진행 중 키 정리")
+    void testFailureClearsInFlightKey() {
+        // Given
+        RequestCoalescer coalescer = new RequestCoalescer();
+        RequestKey key = RequestKey.of("GET", "/v1/search/news.json", null, "id");
+        
+        // When & Then
+        assertThatThrownBy(() -> coalescer.execute(key, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(coalescer.getInFlightCount()).isZero();
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
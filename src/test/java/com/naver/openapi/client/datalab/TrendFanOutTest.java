@@ -0,0 +1,151 @@
+package com.naver.openapi.client.datalab;
+
+import com.naver.openapi.model.request.SearchTrendRequest;
+import com.naver.openapi.model.request.SearchTrendRequest.KeywordGroup;
+import com.naver.openapi.model.response.SearchTrendResponse;
+import com.naver.openapi.model.response.SearchTrendResponse.TrendResult;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * TrendFanOut 단위 테스트 (네트워크 불필요)
+ */
+@DisplayName("DataLab Fan-out Tests")
+class TrendFanOutTest {
+    
+    private static final List<String> PERIODS = List.of("2024-01-01", "2024-02-01", "2024-03-01");
+    private static final Executor DIRECT = Runnable::run;
+    
+    private final ConcurrentLinkedQueue<Integer> batchSizes = new ConcurrentLinkedQueue<>();
+    private Set<String> missingFirstPeriod = Set.of();
+    
+    /**
+     * 그룹 이름의 숫자를 검색량으로 사용하고, 요청 안에서 최댓값 100으로 정규화하는 가짜 DataLab
+     */
+    private Function<SearchTrendRequest, Response> fakeDatalab() {
+        return request -> {
+            List<KeywordGroup> groups = request.getKeywordGroups();
+            batchSizes.add(groups.size());
+            double max = groups.stream().mapToDouble(TrendFanOutTest::volume).max().orElse(1) * PERIODS.size();
+            String results = groups.stream()
+                .map(group -> {
+                    String data = IntStream.range(0, PERIODS.size())
+                        .mapToObj(i -> "{\"period\":\"" + PERIODS.get(i) + "\",\"ratio\":" 
+                                       + (i == 0 && missingFirstPeriod.contains(group.getGroupName())
+                                          ? "null" : volume(group) * (i + 1) * 100.0 / max) + "}")
+                        .collect(Collectors.joining(","));
+                    return "{\"title\":\"" + group.getGroupName() + "\",\"keywords\":[\"k\"],\"data\":[" + data + "]}";
+                })
+                .collect(Collectors.joining(","));
+            String body = "{\"startDate\":\"2024-01-01\",\"endDate\":\"2024-03-31\",\"timeUnit\":\"month\","
+                          + "\"results\":[" + results + "]}";
+            return new ResponseBuilder().setStatusCode(200).setContentType("application/json").setBody(body).build();
+        };
+    }
+    
+    private static double volume(KeywordGroup group) {
+        return Double.parseDouble(group.getGroupName().substring(1));
+    }
+    
+    private static SearchTrendRequest request(int groupCount) {
+        List<KeywordGroup> groups = new ArrayList<>();
+        for (int i = 1; i <= groupCount; i++) {
+            groups.add(KeywordGroup.builder().groupName("g" + i * 10).keywords(List.of("k")).build());
+        }
+        return SearchTrendRequest.builder()
+            .startDate("2024-01-01")
+            .endDate("2024-03-31")
+            .timeUnit("month")
+            .keywordGroups(groups)
+            .build();
+    }
+    
+    @Test
+    @DisplayName("5개 이하 그룹은 한 번만 요청")
+    void testSingleRequestWithinLimit() {
+        // When
+        SearchTrendResponse response = new TrendFanOut(fakeDatalab(), DIRECT).fetch(request(5));
+        
+        // Then
+        assertThat(batchSizes).containsExactly(5);
+        assertThat(response.getResults()).hasSize(5);
+    }
+    
+    @Test
+    @DisplayName("12개 그룹을 기준 그룹 포함 5개씩 나누고 하나의 공통 비율로 병합")
+    void testFanOutRescalesOntoCommonScale() {
+        // When
+        SearchTrendResponse response = new TrendFanOut(fakeDatalab(), DIRECT).fetch(request(12));
+        
+        // Then
+        assertThat(batchSizes).containsExactly(5, 5, 4);
+        assertThat(response.getResults()).extracting(TrendResult::getTitle)
+            .containsExactly("g10", "g20", "g30", "g40", "g50", "g60", "g70", "g80", "g90", "g100", "g110", "g120");
+        
+        // 가장 큰 그룹(g120)의 마지막 기간이 100, 나머지는 검색량에 비례
+        Map<String, Double> lastPeriod = response.getResults().stream()
+            .collect(Collectors.toMap(TrendResult::getTitle, result -> result.getData().get(2).getRatio()));
+        assertThat(lastPeriod.get("g120")).isCloseTo(100.0, within(1e-9));
+        assertThat(lastPeriod.get("g60")).isCloseTo(50.0, within(1e-9));
+        assertThat(lastPeriod.get("g10")).isCloseTo(100.0 / 12, within(1e-9));
+    }
+    
+    @Test
+    @DisplayName("기준 그룹 위치를 지정해도 원래 그룹 순서 유지")
+    void testCustomAnchorKeepsOrder() {
+        // When
+        SearchTrendResponse response = new TrendFanOut(fakeDatalab(), DIRECT).fetch(request(7), 6);
+        
+        // Then
+        assertThat(response.getResults()).extracting(TrendResult::getTitle)
+            .containsExactly("g10", "g20", "g30", "g40", "g50", "g60", "g70");
+        assertThat(response.getResults().get(6).getData().get(2).getRatio()).isCloseTo(100.0, within(1e-9));
+    }
+    
+    @Test
+    @DisplayName("ratio가 없는 기간은 병합 후에도 null로 유지")
+    void testNullRatiosAreCarriedThrough() {
+        // Given: 기준 그룹이 아닌 g30, g90의 첫 기간 ratio 없음
+        missingFirstPeriod = Set.of("g30", "g90");
+        
+        // When
+        SearchTrendResponse response = new TrendFanOut(fakeDatalab(), DIRECT).fetch(request(12));
+        
+        // Then
+        Map<String, TrendResult> byTitle = response.getResults().stream()
+            .collect(Collectors.toMap(TrendResult::getTitle, result -> result));
+        assertThat(byTitle.get("g30").getData().get(0).getRatio()).isNull();
+        assertThat(byTitle.get("g90").getData().get(0).getRatio()).isNull();
+        assertThat(byTitle.get("g30").getData().get(2).getRatio()).isCloseTo(25.0, within(1e-9));
+        assertThat(byTitle.get("g120").getData().get(2).getRatio()).isCloseTo(100.0, within(1e-9));
+    }
+    
+    @Test
+    @DisplayName("요청한 그룹 수와 응답 결과 수가 다르면 IllegalStateException")
+    void testMismatchedResultCountIsRejected() {
+        // Given: 마지막 그룹을 빠뜨리고 응답하는 DataLab
+        Function<SearchTrendRequest, Response> datalab = fakeDatalab();
+        Function<SearchTrendRequest, Response> truncating = request -> {
+            List<KeywordGroup> groups = request.getKeywordGroups();
+            return datalab.apply(request.toBuilder().keywordGroups(groups.subList(0, groups.size() - 1)).build());
+        };
+        
+        // When & Then
+        assertThatThrownBy(() -> new TrendFanOut(truncating, DIRECT).fetch(request(7)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("4 results for a batch of 5");
+    }
+}
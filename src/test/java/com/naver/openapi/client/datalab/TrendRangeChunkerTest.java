@@ -0,0 +1,156 @@
+package com.naver.openapi.client.datalab;
+
+import com.naver.openapi.model.request.SearchTrendRequest;
+import com.naver.openapi.model.request.SearchTrendRequest.KeywordGroup;
+import com.naver.openapi.model.response.SearchTrendResponse;
+import com.naver.openapi.model.response.SearchTrendResponse.TrendData;
+import com.naver.openapi.model.response.SearchTrendResponse.TrendResult;
+import org.junit.jupiter.api.*;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * TrendRangeChunker 단위 테스트 (네트워크 불필요)
+ */
+@DisplayName("DataLab Date-range Chunking Tests")
+class TrendRangeChunkerTest {
+    
+    private static final Executor DIRECT = Runnable::run;
+    private static final LocalDate ORIGIN = LocalDate.of(2016, 1, 1);
+    
+    private final ConcurrentLinkedQueue<String> windows = new ConcurrentLinkedQueue<>();
+    
+    /**
+     * 그룹 i의 일별 검색량이 (경과 일수 + 1) * (i + 1)이고, 요청 구간 안에서 최댓값 100으로 정규화하는 가짜 DataLab
+     */
+    private Function<SearchTrendRequest, SearchTrendResponse> fakeDatalab() {
+        return request -> {
+            windows.add(request.getStartDate() + "~" + request.getEndDate());
+            LocalDate start = LocalDate.parse(request.getStartDate());
+            LocalDate end = LocalDate.parse(request.getEndDate());
+            int groups = request.getKeywordGroups().size();
+            double max = volume(end, groups - 1);
+            List<TrendResult> results = new ArrayList<>();
+            for (int group = 0; group < groups; group++) {
+                List<TrendData> data = new ArrayList<>();
+                for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+                    data.add(new TrendData(day.toString(), volume(day, group) * 100.0 / max));
+                }
+                results.add(new TrendResult("g" + group, List.of("k"), data));
+            }
+            return new SearchTrendResponse(request.getStartDate(), request.getEndDate(), "date", results);
+        };
+    }
+    
+    private static double volume(LocalDate day, int group) {
+        return (ChronoUnit.DAYS.between(ORIGIN, day) + 1) * (group + 1);
+    }
+    
+    private static SearchTrendRequest request(String startDate, String endDate) {
+        return SearchTrendRequest.builder()
+            .startDate(startDate)
+            .endDate(endDate)
+            .timeUnit("date")
+            .keywordGroups(List.of(
+                KeywordGroup.builder().groupName("g0").keywords(List.of("k")).build(),
+                KeywordGroup.builder().groupName("g1").keywords(List.of("k")).build()))
+            .build();
+    }
+    
+    @Test
+    @DisplayName("짧은 기간은 분할하지 않음")
+    void testShortRangeIsSingleRequest() {
+        // When
+        new TrendRangeChunker(fakeDatalab(), DIRECT, 100, 10).fetch(request("2016-01-01", "2016-03-01"));
+        
+        // Then
+        assertThat(windows).containsExactly("2016-01-01~2016-03-01");
+    }
+    
+    @Test
+    @DisplayName("겹치는 구간으로 나누어 조회하고 하나의 연속 시계열로 이어 붙임")
+    void testStitchesOverlappingWindows() {
+        // When
+        SearchTrendResponse response = new TrendRangeChunker(fakeDatalab(), DIRECT, 100, 10)
+            .fetch(request("2016-01-01", "2016-12-31"));
+        
+        // Then
+        assertThat(windows).hasSize(4).first().isEqualTo("2016-01-01~2016-04-09");
+        TrendResult larger = response.getResults().get(1);
+        assertThat(larger.getData()).hasSize(366);
+        assertThat(larger.getData()).extracting(TrendData::getPeriod).doesNotHaveDuplicates();
+        assertThat(larger.getData().get(365).getRatio()).isCloseTo(100.0, within(1e-9));
+        assertThat(larger.getData().get(182).getRatio()).isCloseTo(183 * 100.0 / 366, within(1e-9));
+        assertThat(response.getResults().get(0).getData().get(365).getRatio()).isCloseTo(50.0, within(1e-9));
+    }
+    
+    @Test
+    @DisplayName("월 단위는 월 경계에 맞춰 분할")
+    void testMonthWindowsAlignToMonthBoundaries() {
+        // Given
+        TrendRangeChunker chunker = new TrendRangeChunker(fakeDatalab(), DIRECT, 100, 31);
+        
+        // When
+        List<LocalDate[]> split = chunker.split(LocalDate.of(2016, 1, 1), LocalDate.of(2016, 12, 31), "month");
+        
+        // Then
+        assertThat(split).allSatisfy(window -> assertThat(window[0].getDayOfMonth()).isEqualTo(1));
+        assertThat(split.get(0)[1]).isEqualTo(LocalDate.of(2016, 3, 31));
+        assertThat(split.get(1)[0]).isEqualTo(LocalDate.of(2016, 3, 1));
+        assertThat(split.get(split.size() - 1)[1]).isEqualTo(LocalDate.of(2016, 12, 31));
+    }
+    
+    @Test
+    @DisplayName("ratio가 없는 기간은 이어 붙인 뒤에도 null로 유지")
+    void testNullRatiosAreCarriedThrough() {
+        // Given: 두 번째 구간의 2016-06-01 ratio 없음 (g0)
+        Function<SearchTrendRequest, SearchTrendResponse> datalab = fakeDatalab();
+        Function<SearchTrendRequest, SearchTrendResponse> gappy = request -> {
+            SearchTrendResponse response = datalab.apply(request);
+            response.getResults().get(0).getData().stream()
+                .filter(data -> data.getPeriod().equals("2016-06-01"))
+                .forEach(data -> data.setRatio(null));
+            return response;
+        };
+        
+        // When
+        SearchTrendResponse response = new TrendRangeChunker(gappy, DIRECT, 100, 10)
+            .fetch(request("2016-01-01", "2016-12-31"));
+        
+        // Then
+        TrendResult smaller = response.getResults().get(0);
+        assertThat(smaller.getData()).hasSize(366);
+        assertThat(smaller.getData()).filteredOn(data -> data.getPeriod().equals("2016-06-01"))
+            .singleElement().extracting(TrendData::getRatio).isNull();
+        assertThat(smaller.getData().get(365).getRatio()).isCloseTo(50.0, within(1e-9));
+        assertThat(response.getResults().get(1).getData().get(365).getRatio()).isCloseTo(100.0, within(1e-9));
+    }
+    
+    @Test
+    @DisplayName("구간마다 응답 그룹 수가 다르면 IllegalStateException")
+    void testMismatchedGroupCountIsRejected() {
+        // Given: 첫 구간 이후로는 그룹 하나만 응답하는 DataLab
+        Function<SearchTrendRequest, SearchTrendResponse> datalab = fakeDatalab();
+        Function<SearchTrendRequest, SearchTrendResponse> truncating = request -> {
+            SearchTrendResponse response = datalab.apply(request);
+            if (!request.getStartDate().equals("2016-01-01")) {
+                response.getResults().remove(1);
+            }
+            return response;
+        };
+        
+        // When & Then
+        assertThatThrownBy(() -> new TrendRangeChunker(truncating, DIRECT, 100, 10)
+                .fetch(request("2016-01-01", "2016-12-31")))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("1 results");
+    }
+}
@@ -0,0 +1,93 @@
+package com.naver.openapi.client.decode;
+
+import com.naver.openapi.model.response.SearchResponse;
+import com.naver.openapi.model.response.SearchResponse.SearchItem;
+import com.naver.openapi.model.response.SearchTrendResponse;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ResponseDecoder / SearchItemIterator 단위 테스트 (네트워크 불필요)
+ */
+@DisplayName("Streaming Response Decoder Tests")
+class ResponseDecoderTest {
+    
+    private static final String SEARCH_BODY = """
+        {
+          "lastBuildDate": "Mon, 06 Jan 2025 10:00:00 +0900",
+          "total": 1234,
+          "start": 1,
+          "display": 2,
+          "items": [
+            {"title": "첫 번째", "link": "https://a.example", "description": "a", "bloggername": "extra"},
+            {"title": "두 번째", "link": "https://b.example", "description": "b", "tags": ["x", {"y": 1}]}
+          ]
+        }
+        """;
+    
+    private static Response response(String body) {
+        return new ResponseBuilder().setStatusCode(200).setContentType("application/json").setBody(body).build();
+    }
+    
+    @Test
+    @DisplayName("검색 응답을 InputStream에서 바로 디코딩 (알 수 없는 필드 무시)")
+    void testDecodeSearch() {
+        // When
+        SearchResponse searchResponse = ResponseDecoder.decodeSearch(response(SEARCH_BODY));
+        
+        // Then
+        assertThat(searchResponse.getTotal()).isEqualTo(1234);
+        assertThat(searchResponse.getItems()).extracting(SearchItem::getTitle).containsExactly("첫 번째", "두 번째");
+    }
+    
+    @Test
+    @DisplayName("아이템을 하나씩 콜백으로 전달하고 나머지 필드는 헤더로 반환")
+    void testForEachSearchItem() {
+        // Given
+        List<String> links = new ArrayList<>();
+        
+        // When
+        SearchResponse header = ResponseDecoder.forEachSearchItem(response(SEARCH_BODY), item -> links.add(item.getLink()));
+        
+        // Then
+        assertThat(links).containsExactly("https://a.example", "https://b.example");
+        assertThat(header.getDisplay()).isEqualTo(2);
+        assertThat(header.getLastBuildDate()).startsWith("Mon");
+        assertThat(header.getItems()).isNull();
+    }
+    
+    @Test
+    @DisplayName("빈 결과는 아이템 없이 종료")
+    void testIterateEmptyItems() {
+        // When
+        try (SearchItemIterator items = ResponseDecoder.iterateSearchItems(
+                response("{\"total\":0,\"start\":1,\"display\":0,\"items\":[]}"))) {
+            // Then
+            assertThat(items.hasNext()).isFalse();
+            assertThat(items.getHeader().getTotal()).isZero();
+        }
+    }
+    
+    @Test
+    @DisplayName("DataLab 트렌드 응답 디코딩")
+    void testDecodeTrend() {
+        // Given
+        String body = """
+            {"startDate":"2024-01-01","endDate":"2024-01-31","timeUnit":"month",
+             "results":[{"title":"한글","keywords":["한글"],"data":[{"period":"2024-01-01","ratio":100.0}]}]}
+            """;
+        
+        // When
+        SearchTrendResponse trend = ResponseDecoder.decodeTrend(response(body));
+        
+        // Then
+        assertThat(trend.getTimeUnit()).isEqualTo("month");
+        assertThat(trend.getResults().get(0).getData().get(0).getRatio()).isEqualTo(100.0);
+    }
+}
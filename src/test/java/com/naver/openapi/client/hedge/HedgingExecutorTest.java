@@ -0,0 +1,256 @@
+package com.naver.openapi.client.hedge;
+
+import com.naver.openapi.client.ratelimit.RateLimiterRegistry;
+import com.naver.openapi.config.ApiConfig;
+import com.naver.openapi.config.TransportType;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * HedgingExecutor 단위 테스트 (네트워크 불필요)
+ */
+@DisplayName("Hedged Request Tests")
+class HedgingExecutorTest {
+    
+    private static final String PATH = "/v1/search/blog.json";
+    
+    private static ApiConfig.Builder config(double maxRatio) {
+        return new ApiConfig.Builder()
+            .baseUrl("http://localhost")
+            .clientId("id")
+            .clientSecret("secret")
+            .transportType(TransportType.JDK)
+            .rateLimitEnabled(false)
+            .hedgeEnabled(true)
+            .hedgeMinDelayMillis(5)
+            .hedgeMaxRatio(maxRatio);
+    }
+    
+    private static HedgingExecutor executor(double maxRatio) {
+        ApiConfig apiConfig = config(maxRatio).build();
+        return new HedgingExecutor(apiConfig, new RateLimiterRegistry(apiConfig));
+    }
+    
+    /**
+     * 예약 · 반환 횟수를 세는 허가 (granted=false면 거절)
+     */
+    private static final class CountingPermit implements HedgePermit {
+        
+        private final boolean granted;
+        private final AtomicInteger acquired = new AtomicInteger();
+        private final AtomicInteger released = new AtomicInteger();
+        
+        CountingPermit(boolean granted) {
+            this.granted = granted;
+        }
+        
+        @Override
+        public boolean tryAcquire() {
+            if (!granted) {
+                return false;
+            }
+            acquired.incrementAndGet();
+            return true;
+        }
+        
+        @Override
+        public void release() {
+            released.incrementAndGet();
+        }
+    }
+    
+    private static CompletableFuture<Response> slow(long millis) {
+        return CompletableFuture.supplyAsync(() -> {
+            sleep(millis);
+            return response("slow");
+        });
+    }
+    
+    private static Response response(String body) {
+        return new ResponseBuilder().setStatusCode(200).setBody(body).build();
+    }
+    
+    private static void warmUp(HedgingExecutor executor) {
+        for (int i = 0; i < LatencyWindow.MIN_SAMPLES; i++) {
+            executor.execute(PATH, () -> CompletableFuture.completedFuture(response("fast")));
+        }
+    }
+    
+    @Test
+    @DisplayName("표본이 부족하면 헤지하지 않음")
+    void testNoHedgeWithoutSamples() {
+        // Given
+        HedgingExecutor executor = executor(1.0);
+        
+        // When
+        executor.execute(PATH, () -> CompletableFuture.supplyAsync(() -> response("only")));
+        
+        // Then
+        assertThat(executor.getHedgeCount()).isZero();
+        assertThat(executor.getHedgeDelayMillis(PATH)).isEqualTo(-1);
+    }
+    
+    @Test
+    @DisplayName("첫 요청이 늦으면 헤지 요청의 응답을 사용하고 늦은 요청은 취소")
+    void testSlowPrimaryIsHedgedAndCancelled() {
+        // Given
+        HedgingExecutor executor = executor(1.0);
+        warmUp(executor);
+        List<CompletableFuture<Response>> started = new ArrayList<>();
+        
+        // When
+        Response result = executor.execute(PATH, () -> {
+            CompletableFuture<Response> future = started.isEmpty()
+                ? new CompletableFuture<>()
+                : CompletableFuture.completedFuture(response("hedge"));
+            started.add(future);
+            return future;
+        });
+        
+        // Then
+        assertThat(result.asString()).isEqualTo("hedge");
+        assertThat(started.get(0)).isCancelled();
+        assertThat(executor.getHedgeCount()).isEqualTo(1);
+        assertThat(executor.getHedgeWinCount()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("헤지 비율 상한을 넘으면 헤지하지 않고 첫 요청을 기다림")
+    void testHedgeRatioCap() {
+        // Given
+        HedgingExecutor executor = executor(0.01);
+        warmUp(executor);
+        
+        // When
+        Response result = executor.execute(PATH, () -> CompletableFuture.supplyAsync(() -> {
+            sleep(30);
+            return response("slow");
+        }));
+        
+        // Then
+        assertThat(result.asString()).isEqualTo("slow");
+        assertThat(executor.getHedgeCount()).isZero();
+    }
+    
+    @Test
+    @DisplayName("헤지 요청은 전송 전에 쿼터 예약하고, 예산이 없으면 헤지하지 않음")
+    void testHedgeIsRecordedAgainstQuota() {
+        // Given
+        HedgingExecutor executor = executor(1.0);
+        warmUp(executor);
+        CountingPermit granted = new CountingPermit(true);
+        AtomicInteger sent = new AtomicInteger();
+        
+        // When - 예산 있음
+        Response hedged = executor.execute(PATH, () -> sent.incrementAndGet() == 1
+            ? slow(200)
+            : CompletableFuture.completedFuture(response("hedge")),
+            granted);
+        
+        // Then
+        assertThat(hedged.asString()).isEqualTo("hedge");
+        assertThat(granted.acquired.get()).isEqualTo(1);
+        assertThat(granted.released.get()).isZero();
+        assertThat(sent.get()).isEqualTo(2);
+        
+        // When - 예산 없음
+        sent.set(0);
+        Response unhedged = executor.execute(PATH, () -> {
+            sent.incrementAndGet();
+            return slow(30);
+        }, new CountingPermit(false));
+        
+        // Then
+        assertThat(unhedged.asString()).isEqualTo("slow");
+        assertThat(sent.get()).isEqualTo(1);
+        assertThat(executor.getHedgeCount()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("허가가 거절되면 레이트 리미터 토큰을 쓰지 않음")
+    void testRefusedPermitTakesNoToken() {
+        // Given
+        ApiConfig apiConfig = config(1.0).rateLimitEnabled(true).rateLimitPerSecond(0.1).rateLimitBurst(1).build();
+        RateLimiterRegistry rateLimiters = new RateLimiterRegistry(apiConfig);
+        HedgingExecutor executor = new HedgingExecutor(apiConfig, rateLimiters);
+        warmUp(executor);
+        
+        // When
+        executor.execute(PATH, () -> slow(30), new CountingPermit(false));
+        
+        // Then
+        assertThat(executor.getHedgeCount()).isZero();
+        assertThat(rateLimiters.tryAcquire(PATH)).isTrue();
+    }
+    
+    @Test
+    @DisplayName("레이트 리미터 토큰이 없으면 예약한 쿼터를 반환")
+    void testRateLimitRefusalReleasesPermit() {
+        // Given
+        ApiConfig apiConfig = config(1.0).rateLimitEnabled(true).rateLimitPerSecond(0.1).rateLimitBurst(1).build();
+        RateLimiterRegistry rateLimiters = new RateLimiterRegistry(apiConfig);
+        HedgingExecutor executor = new HedgingExecutor(apiConfig, rateLimiters);
+        warmUp(executor);
+        assertThat(rateLimiters.tryAcquire(PATH)).isTrue();
+        CountingPermit permit = new CountingPermit(true);
+        AtomicInteger sent = new AtomicInteger();
+        
+        // When
+        Response result = executor.execute(PATH, () -> {
+            sent.incrementAndGet();
+            return slow(30);
+        }, permit);
+        
+        // Then
+        assertThat(result.asString()).isEqualTo("slow");
+        assertThat(sent.get()).isEqualTo(1);
+        assertThat(permit.acquired.get()).isEqualTo(1);
+        assertThat(permit.released.get()).isEqualTo(1);
+        assertThat(executor.getHedgeCount()).isZero();
+    }
+    
+    @Test
+    @DisplayName("헤지 크레딧이 없으면 예약한 쿼터와 토큰을 모두 반환")
+    void testCreditRefusalReleasesPermitAndToken() {
+        // Given
+        ApiConfig apiConfig = config(0.01).rateLimitEnabled(true).rateLimitPerSecond(0.1).rateLimitBurst(1).build();
+        RateLimiterRegistry rateLimiters = new RateLimiterRegistry(apiConfig);
+        HedgingExecutor executor = new HedgingExecutor(apiConfig, rateLimiters);
+        warmUp(executor);
+        CountingPermit permit = new CountingPermit(true);
+        
+        // When
+        Response result = executor.execute(PATH, () -> slow(30), permit);
+        
+        // Then
+        assertThat(result.asString()).isEqualTo("slow");
+        assertThat(permit.acquired.get()).isEqualTo(1);
+        assertThat(permit.released.get()).isEqualTo(1);
+        assertThat(executor.getHedgeCount()).isZero();
+        assertThat(rateLimiters.tryAcquire(PATH)).isTrue();
+    }
+    
+    @Test
+    @DisplayName("REST Assured 전송 계층에서는 헤징을 켤 수 없음")
+    void testHedgeRequiresJdkTransport() {
+        assertThatThrownBy(() -> config(1.0).transportType(TransportType.REST_ASSURED).build())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("transportType=jdk");
+    }
+    
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
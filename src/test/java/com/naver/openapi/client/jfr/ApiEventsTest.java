@@ -0,0 +1,100 @@
+package com.naver.openapi.client.jfr;
+
+import com.naver.openapi.client.NaverApiClient;
+import com.naver.openapi.config.ApiConfig;
+import com.sun.net.httpserver.HttpServer;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * JFR 이벤트 발행 테스트 (로컬 HTTP 서버 사용)
+ */
+@DisplayName("JFR Event Tests")
+class ApiEventsTest {
+    
+    private static final byte[] BODY = "{\"total\":1,\"items\":[{\"title\":\"jfr\"}]}".getBytes(StandardCharsets.UTF_8);
+    
+    private static HttpServer server;
+    private static final AtomicInteger flakyCalls = new AtomicInteger();
+    
+    @TempDir
+    Path tempDir;
+    
+    @BeforeAll
+    static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/search/blog.json", exchange -> {
+            // 첫 호출은 503, 이후 200
+            int status = flakyCalls.getAndIncrement() == 0 ? 503 : 200;
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, BODY.length);
+            exchange.getResponseBody().write(BODY);
+            exchange.close();
+        });
+        server.start();
+    }
+    
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+    }
+    
+    @Test
+    @DisplayName("HTTP 호출마다 ApiCallEvent, 요청마다 재시도 횟수/캐시 적중을 담은 ApiRequestEvent 기록")
+    void testEventsAreRecorded() throws Exception {
+        // Given
+        ApiConfig apiConfig = new ApiConfig.Builder()
+            .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+            .clientId("id")
+            .clientSecret("secret")
+            .rateLimitEnabled(false)
+            .retryBaseDelayMillis(1)
+            .cacheTtlSeconds(Map.of("/v1/search/", 60L))
+            .build();
+        Path dump = tempDir.resolve("events.jfr");
+        
+        // When
+        try (Recording recording = new Recording();
+             NaverApiClient client = new NaverApiClient(apiConfig)) {
+            recording.enable(ApiCallEvent.NAME);
+            recording.enable(ApiRequestEvent.NAME);
+            recording.start();
+            client.get("/v1/search/blog.json", Map.of("query", "jfr"));
+            client.get("/v1/search/blog.json", Map.of("query", "jfr"));
+            recording.stop();
+            recording.dump(dump);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        
+        // Then
+        List<RecordedEvent> calls = events.stream()
+            .filter(event -> event.getEventType().getName().equals(ApiCallEvent.NAME)).toList();
+        List<RecordedEvent> requests = events.stream()
+            .filter(event -> event.getEventType().getName().equals(ApiRequestEvent.NAME)).toList();
+        
+        assertThat(calls).extracting(event -> event.getInt("status")).containsExactly(503, 200);
+        assertThat(calls).allSatisfy(event -> {
+            assertThat(event.getString("method")).isEqualTo("GET");
+            assertThat(event.getString("path")).isEqualTo("/v1/search/blog.json");
+            assertThat(event.getLong("bytesIn")).isEqualTo(BODY.length);
+        });
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(0).getInt("retryCount")).isEqualTo(1);
+        assertThat(requests.get(0).getBoolean("cacheHit")).isFalse();
+        assertThat(requests.get(1).getBoolean("cacheHit")).isTrue();
+        assertThat(requests.get(1).getString("cache")).isEqualTo("memory");
+    }
+}
@@ -0,0 +1,147 @@
+package com.naver.openapi.client.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.read.ListAppender;
+import com.naver.openapi.client.transport.ApiRequest;
+import com.naver.openapi.config.ApiConfig;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.*;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ApiCallLogger 단위 테스트 (네트워크 불필요)
+ */
+@DisplayName("API Call Logger Tests")
+class ApiCallLoggerTest {
+    
+    private static final ApiRequest BLOG = ApiRequest.builder()
+        .method("GET")
+        .path("/v1/search/blog.json")
+        .headers(Map.of("X-Naver-Client-Secret", "secret"))
+        .queryParams(Map.of("query", "test"))
+        .build();
+    
+    private final Logger httpLogger = (Logger) LoggerFactory.getLogger(ApiCallLogger.LOGGER_NAME);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    
+    @BeforeEach
+    void attachAppender() {
+        appender.start();
+        httpLogger.addAppender(appender);
+    }
+    
+    @AfterEach
+    void detachAppender() {
+        httpLogger.detachAppender(appender);
+    }
+    
+    private ApiConfig.Builder config() {
+        return new ApiConfig.Builder()
+            .baseUrl("http://localhost")
+            .clientId("id")
+            .clientSecret("secret")
+            .loggingEnabled(true)
+            .loggingSampleRate(0)
+            .loggingSlowThresholdMillis(1000);
+    }
+    
+    private static Response response(int statusCode, String body) {
+        return new ResponseBuilder().setStatusCode(statusCode).setBody(body).build();
+    }
+    
+    @Test
+    @DisplayName("샘플링되지 않은 정상 응답은 건너뛰고, 오류/예외/느린 호출은 항상 기록")
+    void testTailSampling() {
+        // Given
+        ApiCallLogger logger = new ApiCallLogger(config().build());
+        
+        // When
+        logger.log(BLOG, response(200, "{}"), null, TimeUnit.MILLISECONDS.toNanos(10));
+        logger.log(BLOG, response(500, "{\"errorCode\":\"SE99\"}"), null, TimeUnit.MILLISECONDS.toNanos(10));
+        logger.log(BLOG, null, new IllegalStateException("reset"), TimeUnit.MILLISECONDS.toNanos(10));
+        logger.log(BLOG, response(200, "{}"), null, TimeUnit.MILLISECONDS.toNanos(1500));
+        logger.close();
+        
+        // Then
+        assertThat(logger.getLoggedCount()).isEqualTo(3);
+        assertThat(appender.list).extracting(ILoggingEvent::getLevel)
+            .containsExactly(Level.WARN, Level.WARN, Level.INFO);
+        assertThat(appender.list.get(0).getFormattedMessage())
+            .startsWith("[error] GET /v1/search/blog.json params={query=test} headers=[X-Naver-Client-Secret] -> 500")
+            .contains("SE99")
+            .doesNotContain("secret]");
+        assertThat(appender.list.get(1).getFormattedMessage()).contains("-> IllegalStateException");
+        assertThat(appender.list.get(2).getFormattedMessage()).startsWith("[slow]");
+    }
+    
+    @Test
+    @DisplayName("본문은 최대 길이로 잘라 기록")
+    void testBodyTruncation() {
+        // Given
+        ApiCallLogger logger = new ApiCallLogger(config().loggingSampleRate(1.0).loggingMaxBodyChars(10).build());
+        
+        // When
+        logger.log(BLOG, response(200, "x".repeat(100)), null, 0);
+        logger.close();
+        
+        // Then
+        assertThat(appender.list).singleElement()
+            .extracting(ILoggingEvent::getFormattedMessage, as(STRING))
+            .endsWith("response=xxxxxxxxxx...(90 chars truncated)");
+        assertThat(ApiCallLogger.truncate("ab😀cd", 3)).startsWith("ab...");
+    }
+    
+    @Test
+    @DisplayName("큐가 가득 차면 호출 스레드를 막지 않고 버린 건수만 집계")
+    void testDropsWhenQueueIsFull() throws Exception {
+        // Given - 출력 스레드를 첫 로그에서 멈춰 둠
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AppenderBase<ILoggingEvent> blocking = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        blocking.start();
+        httpLogger.addAppender(blocking);
+        ApiCallLogger logger = new ApiCallLogger(config().loggingQueueSize(2).build());
+        
+        try {
+            logger.log(BLOG, response(500, "{}"), null, 0);
+            assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+            
+            // When
+            long startNanos = System.nanoTime();
+            for (int i = 0; i < 10; i++) {
+                logger.log(BLOG, response(500, "{}"), null, 0);
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            
+            // Then
+            assertThat(elapsedMillis).isLessThan(1000);
+            assertThat(logger.getPendingCount()).isEqualTo(2);
+            assertThat(logger.getDroppedCount()).isEqualTo(8);
+        } finally {
+            release.countDown();
+            logger.close();
+            httpLogger.detachAppender(blocking);
+        }
+        assertThat(logger.getLoggedCount()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,118 @@
+package com.naver.openapi.client.metrics;
+
+import org.junit.jupiter.api.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LatencyHistogram / ApiMetrics / MetricsHttpServer 단위 테스트 (외부 네트워크 불필요)
+ */
+@DisplayName("API Metrics Tests")
+class ApiMetricsTest {
+    
+    private static final String BLOG = "/v1/search/blog.json";
+    
+    @Test
+    @DisplayName("히스토그램 분위수는 상대 오차 1.6% 이내")
+    void testHistogramPercentileAccuracy() {
+        // Given - 1ms ~ 1000ms 균등 분포
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 1000; millis++) {
+            histogram.recordNanos(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+        
+        // When
+        LatencySnapshot snapshot = histogram.snapshot();
+        
+        // Then
+        assertThat(snapshot.getCount()).isEqualTo(1000);
+        assertThat(snapshot.getP50Millis()).isCloseTo(500, withinPercentage(1.6));
+        assertThat(snapshot.getP90Millis()).isCloseTo(900, withinPercentage(1.6));
+        assertThat(snapshot.getP99Millis()).isCloseTo(990, withinPercentage(1.6));
+        assertThat(snapshot.getP999Millis()).isCloseTo(999, withinPercentage(1.6));
+        assertThat(snapshot.getMaxNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(1000));
+    }
+    
+    @Test
+    @DisplayName("버킷 번호와 하한값은 서로 일치")
+    void testBucketBoundaries() {
+        // When & Then
+        IntStream.of(0, 1, 127, 128, 129, 255, 256, 1_000, 123_456_789).forEach(value -> {
+            int index = LatencyHistogram.indexOf(value);
+            assertThat(LatencyHistogram.lowerBoundOf(index)).isLessThanOrEqualTo(value);
+            assertThat(LatencyHistogram.lowerBoundOf(index + 1)).isGreaterThan(value);
+        });
+    }
+    
+    @Test
+    @DisplayName("동시 기록 시 누락 없음")
+    void testConcurrentRecording() throws Exception {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        
+        // When
+        for (int thread = 0; thread < 8; thread++) {
+            executor.submit(() -> IntStream.range(0, 10_000).forEach(i -> histogram.recordNanos(i * 1_000L)));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        
+        // Then
+        assertThat(histogram.snapshot().getCount()).isEqualTo(80_000);
+    }
+    
+    @Test
+    @DisplayName("상태 코드 구간별 집계와 오류율")
+    void testErrorRateByStatusClass() {
+        // Given
+        ApiMetrics metrics = new ApiMetrics("alpha", true);
+        
+        // When
+        for (int i = 0; i < 8; i++) {
+            metrics.record("GET", BLOG + "?query=test", 200, 1_000_000);
+        }
+        metrics.record("GET", BLOG, 429, 1_000_000);
+        metrics.recordError("GET", BLOG, 5_000_000);
+        
+        // Then
+        assertThat(metrics.getErrorRate("GET", BLOG)).isEqualTo(0.2);
+        assertThat(metrics.snapshot()).extracting(ApiMetrics.EndpointMetrics::getStatus)
+            .containsExactly("2xx", "4xx", "error");
+        assertThat(ApiMetrics.pathTemplate("/v1/items/12345/detail")).isEqualTo("/v1/items/{id}/detail");
+    }
+    
+    @Test
+    @DisplayName("Prometheus 엔드포인트로 분위수 노출")
+    void testPrometheusEndpoint() throws Exception {
+        // Given
+        ApiMetrics metrics = new ApiMetrics("alpha", true);
+        metrics.record("GET", BLOG, 200, 2_000_000);
+        
+        try (MetricsHttpServer server = MetricsHttpServer.start(metrics, 0)) {
+            // When
+            HttpResponse<String> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + MetricsHttpServer.PATH))
+                    .build(),
+                HttpResponse.BodyHandlers.ofString());
+            
+            // Then
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.body())
+                .contains("# TYPE naver_api_request_duration_seconds summary")
+                .contains("naver_api_request_duration_seconds{env=\"alpha\",method=\"GET\","
+                          + "path=\"/v1/search/blog.json\",status=\"2xx\",quantile=\"0.99\"}")
+                .contains("naver_api_request_duration_seconds_count{env=\"alpha\",method=\"GET\","
+                          + "path=\"/v1/search/blog.json\",status=\"2xx\"} 1.0");
+        }
+    }
+}
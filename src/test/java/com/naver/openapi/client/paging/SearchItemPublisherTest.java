@@ -0,0 +1,202 @@
+package com.naver.openapi.client.paging;
+
+import com.naver.openapi.model.request.SearchRequest;
+import com.naver.openapi.model.response.SearchResponse.SearchItem;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SearchItemPublisher 단위 테스트 (네트워크 불필요)
+ */
+@DisplayName("Search Item Publisher Tests")
+class SearchItemPublisherTest {
+    
+    private static ExecutorService executor;
+    
+    private final ConcurrentLinkedQueue<String> requestedPages = new ConcurrentLinkedQueue<>();
+    
+    @BeforeAll
+    static void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+    
+    @AfterAll
+    static void tearDown() {
+        executor.shutdownNow();
+    }
+    
+    /**
+     * 검색어별 전체 건수를 가진 가짜 검색 API
+     */
+    private Function<Map<String, ?>, Response> fakeSearch(Map<String, Integer> totals) {
+        return params -> {
+            String query = (String) params.get("query");
+            int start = (Integer) params.get("start");
+            int total = totals.get(query);
+            requestedPages.add(query + "@" + start);
+            String items = IntStream.range(start, Math.min(total + 1, start + 100))
+                .mapToObj(i -> "{\"title\":\"" + query + "-" + i + "\"}")
+                .collect(Collectors.joining(","));
+            String body = "{\"total\":" + total + ",\"items\":[" + items + "]}";
+            return new ResponseBuilder().setStatusCode(200).setContentType("application/json").setBody(body).build();
+        };
+    }
+    
+    /**
+     * 구독자가 지정 건수를 받을 때까지 대기 (첫 응답은 클래스 로딩으로 느릴 수 있음)
+     */
+    private static void awaitItems(TestSubscriber subscriber, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (subscriber.titles.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        // 추가 요청/전달이 없는지 확인할 수 있도록 잠시 더 대기
+        Thread.sleep(100);
+    }
+    
+    private static List<SearchRequest> queries(String... queries) {
+        return Arrays.stream(queries).map(query -> SearchRequest.builder().query(query).build()).toList();
+    }
+    
+    /**
+     * 수요를 직접 조절하는 테스트 구독자
+     */
+    private static class TestSubscriber implements Flow.Subscriber<SearchItem> {
+        final ConcurrentLinkedQueue<String> titles = new ConcurrentLinkedQueue<>();
+        final CompletableFuture<Void> completion = new CompletableFuture<>();
+        volatile Flow.Subscription subscription;
+        
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+        
+        @Override
+        public void onNext(SearchItem item) {
+            titles.add(item.getTitle());
+        }
+        
+        @Override
+        public void onError(Throwable throwable) {
+            completion.completeExceptionally(throwable);
+        }
+        
+        @Override
+        public void onComplete() {
+            completion.complete(null);
+        }
+    }
+    
+    @Test
+    @DisplayName("여러 검색어의 결과를 검색어/페이지 순서대로 모두 전달 후 완료")
+    void testPublishesAllQueriesInOrder() throws Exception {
+        // Given
+        SearchItemPublisher publisher = new SearchItemPublisher(
+            fakeSearch(Map.of("a", 250, "b", 150)), queries("a", "b"), 3, executor);
+        TestSubscriber subscriber = new TestSubscriber();
+        
+        // When
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        subscriber.completion.get(5, TimeUnit.SECONDS);
+        
+        // Then
+        assertThat(subscriber.titles).hasSize(400).startsWith("a-1").endsWith("b-150");
+        assertThat(subscriber.titles.stream().toList().subList(249, 251)).containsExactly("a-250", "b-1");
+    }
+    
+    @Test
+    @DisplayName("구독자 수요만큼만 페이지 요청")
+    void testDemandDrivesPageFetching() throws Exception {
+        // Given
+        SearchItemPublisher publisher = new SearchItemPublisher(
+            fakeSearch(Map.of("a", 1000)), queries("a"), 2, executor);
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+        
+        // When
+        subscriber.subscription.request(10);
+        awaitItems(subscriber, 10);
+        
+        // Then
+        assertThat(subscriber.titles).hasSize(10);
+        assertThat(requestedPages).containsExactly("a@1");
+        
+        // When - 추가 수요
+        subscriber.subscription.request(150);
+        awaitItems(subscriber, 160);
+        
+        // Then - 버퍼에 남은 90건 + 한 페이지만 추가 요청
+        assertThat(subscriber.titles).hasSize(160);
+        assertThat(requestedPages).containsExactly("a@1", "a@101");
+        assertThat(subscriber.completion).isNotDone();
+    }
+    
+    @Test
+    @DisplayName("구독 취소 후에는 신호를 보내지 않음")
+    void testCancelStopsEmission() throws Exception {
+        // Given
+        SearchItemPublisher publisher = new SearchItemPublisher(
+            fakeSearch(Map.of("a", 1000)), queries("a"), 2, executor);
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(5);
+        awaitItems(subscriber, 5);
+        
+        // When
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(100);
+        Thread.sleep(200);
+        
+        // Then
+        assertThat(subscriber.titles).hasSize(5);
+        assertThat(subscriber.completion).isNotDone();
+    }
+    
+    @Test
+    @DisplayName("구독 취소 시 진행 중인 페이지 요청을 인터럽트")
+    void testCancelInterruptsInFlightFetch() throws Exception {
+        // Given: 인터럽트될 때까지 응답하지 않는 검색 API
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Function<Map<String, ?>, Response> hanging = params -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException("cancelled");
+        };
+        SearchItemPublisher publisher = new SearchItemPublisher(hanging, queries("a"), 2, executor);
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(1);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        
+        // When
+        subscriber.subscription.cancel();
+        
+        // Then
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(subscriber.completion).isNotDone();
+    }
+}
@@ -0,0 +1,155 @@
+package com.naver.openapi.client.paging;
+
+import com.naver.openapi.model.request.SearchRequest;
+import com.naver.openapi.model.response.SearchResponse.SearchItem;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SearchPaginator 단위 테스트 (네트워크 불필요)
+ */
+@DisplayName("Search Paginator Tests")
+class SearchPaginatorTest {
+    
+    private static ExecutorService executor;
+    
+    private final ConcurrentLinkedQueue<Integer> requestedStarts = new ConcurrentLinkedQueue<>();
+    
+    @BeforeAll
+    static void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+    
+    @AfterAll
+    static void tearDown() {
+        executor.shutdownNow();
+    }
+    
+    /**
+     * total건의 결과를 가진 가짜 검색 API
+     */
+    private Function<Map<String, ?>, Response> fakeSearch(int total) {
+        return params -> {
+            int start = (Integer) params.get("start");
+            int display = (Integer) params.get("display");
+            requestedStarts.add(start);
+            String items = IntStream.range(start, Math.min(total + 1, start + display))
+                .mapToObj(i -> "{\"title\":\"item-" + i + "\"}")
+                .collect(Collectors.joining(","));
+            String body = "{\"total\":" + total + ",\"start\":" + start + ",\"display\":" + display 
+                          + ",\"items\":[" + items + "]}";
+            return new ResponseBuilder().setStatusCode(200).setContentType("application/json").setBody(body).build();
+        };
+    }
+    
+    private static SearchRequest request() {
+        return SearchRequest.builder().query("여행").build();
+    }
+    
+    @Test
+    @DisplayName("display=100으로 전체 결과를 순서대로 반환")
+    void testIteratesAllPagesInOrder() {
+        // Given
+        SearchPaginator paginator = new SearchPaginator(fakeSearch(250), request(), 3, executor);
+        
+        // When
+        List<String> titles;
+        try (Stream<SearchItem> items = paginator.stream()) {
+            titles = items.map(SearchItem::getTitle).toList();
+        }
+        
+        // Then
+        assertThat(titles).hasSize(250).startsWith("item-1", "item-2").endsWith("item-250");
+        assertThat(requestedStarts).containsExactlyInAnyOrder(1, 101, 201);
+    }
+    
+    @Test
+    @DisplayName("start 상한 1000을 넘는 페이지는 요청하지 않음")
+    void testRespectsStartCeiling() {
+        // Given
+        SearchPaginator paginator = new SearchPaginator(fakeSearch(50_000), request(), 4, executor);
+        
+        // When
+        long count;
+        try (Stream<SearchItem> items = paginator.stream()) {
+            count = items.count();
+        }
+        
+        // Then
+        assertThat(count).isEqualTo(1000);
+        assertThat(requestedStarts).hasSize(10).allMatch(start -> start <= SearchPaginator.MAX_START);
+    }
+    
+    @Test
+    @DisplayName("순회를 중간에 멈추면 선조회 범위 밖의 페이지는 요청하지 않음")
+    void testStopsEarly() {
+        // Given
+        SearchPaginator paginator = new SearchPaginator(fakeSearch(50_000), request(), 2, executor);
+        
+        // When
+        try (Stream<SearchItem> items = paginator.stream()) {
+            assertThat(items.limit(150).count()).isEqualTo(150);
+        }
+        
+        // Then
+        assertThat(requestedStarts.size()).isLessThanOrEqualTo(4);
+    }
+    
+    @Test
+    @DisplayName("Stream을 닫으면 진행 중인 선조회 요청을 인터럽트")
+    void testCloseInterruptsPrefetch() throws InterruptedException {
+        // Given - 첫 페이지 이후의 요청은 인터럽트될 때까지 대기
+        CountDownLatch prefetchStarted = new CountDownLatch(1);
+        CountDownLatch prefetchInterrupted = new CountDownLatch(1);
+        Function<Map<String, ?>, Response> search = fakeSearch(50_000);
+        SearchPaginator paginator = new SearchPaginator(params -> {
+            if ((Integer) params.get("start") > 1) {
+                prefetchStarted.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    prefetchInterrupted.countDown();
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return search.apply(params);
+        }, request(), 2, executor);
+        
+        // When
+        try (Stream<SearchItem> items = paginator.stream()) {
+            assertThat(items.limit(10).count()).isEqualTo(10);
+            assertThat(prefetchStarted.await(2, TimeUnit.SECONDS)).isTrue();
+        }
+        
+        // Then
+        assertThat(prefetchInterrupted.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+    
+    @Test
+    @DisplayName("실패 응답은 예외로 전달")
+    void testFailedPageThrows() {
+        // Given
+        SearchPaginator paginator = new SearchPaginator(
+            params -> new ResponseBuilder().setStatusCode(500).setBody("error").build(), request(), 2, executor);
+        
+        // When & Then
+        assertThatThrownBy(() -> paginator.iterator().hasNext())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("status=500");
+    }
+}
@@ -0,0 +1,234 @@
+package com.naver.openapi.client.quota;
+
+import com.naver.openapi.client.auth.Credential;
+import com.naver.openapi.client.auth.CredentialPool;
+import com.naver.openapi.config.ApiConfig;
+import com.naver.openapi.config.PacingMode;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * QuotaLedger 단위 테스트 (네트워크 불필요)
+ */
+@DisplayName("Quota Ledger Tests")
+class QuotaLedgerTest {
+    
+    private static final String SEARCH = "/v1/search/blog.json";
+    private static final String DATALAB = "/v1/datalab/search";
+    
+    private final Credential idA = Credential.of("idA", "secretA");
+    private final Credential idB = Credential.of("idB", "secretB");
+    private final MutableClock clock = new MutableClock(
+        ZonedDateTime.of(2024, 3, 1, 6, 0, 0, 0, CredentialPool.NAVER_ZONE).toInstant());
+    
+    @TempDir
+    Path tempDir;
+    
+    private ApiConfig.Builder config() {
+        return new ApiConfig.Builder()
+            .baseUrl("http://localhost")
+            .clientId("idA")
+            .clientSecret("secretA")
+            .quotaBudgets(Map.of("/v1/search/", 3L, DATALAB, 1000L));
+    }
+    
+    @Test
+    @DisplayName("그룹 예산을 모두 쓰면 요청 전에 즉시 실패 (재시도 시각은 KST 자정)")
+    void testBudgetExhausted() {
+        // Given
+        QuotaLedger ledger = new QuotaLedger(config().build(), 2, clock);
+        for (int i = 0; i < 3; i++) {
+            ledger.pace(SEARCH);
+            ledger.record(SEARCH, idA);
+        }
+        
+        // When & Then - idA는 소진, idB는 여유
+        assertThat(ledger.hasRemaining(SEARCH, idA)).isFalse();
+        assertThat(ledger.hasRemaining(SEARCH, idB)).isTrue();
+        assertThat(ledger.getRemaining(SEARCH)).isEqualTo(3);
+        for (int i = 0; i < 3; i++) {
+            ledger.pace(SEARCH);
+            ledger.record(SEARCH, idB);
+        }
+        
+        // Then
+        assertThatThrownBy(() -> ledger.pace(SEARCH))
+            .isInstanceOf(QuotaExhaustedException.class)
+            .extracting("retryAt")
+            .isEqualTo(ZonedDateTime.of(2024, 3, 2, 0, 0, 0, 0, CredentialPool.NAVER_ZONE).toInstant());
+        assertThatCode(() -> ledger.pace(DATALAB)).doesNotThrowAnyException();
+        
+        // When - 다음 날
+        clock.advanceMillis(18 * 60 * 60 * 1000L);
+        
+        // Then
+        assertThatCode(() -> ledger.pace(SEARCH)).doesNotThrowAnyException();
+        assertThat(ledger.getUsed(SEARCH)).isZero();
+    }
+    
+    @Test
+    @DisplayName("동시에 마지막 예산을 노려도 예약은 예산만큼만 성공")
+    void testConcurrentReservationsDoNotOvershoot() throws Exception {
+        // Given
+        QuotaLedger ledger = new QuotaLedger(config().build(), 2, clock);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger reserved = new AtomicInteger();
+        
+        // When - 16개 스레드가 같은 Client ID로 동시에 예약
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < 16; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    if (ledger.tryReserve(SEARCH, idA)) {
+                        reserved.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+        
+        // Then
+        assertThat(reserved.get()).isEqualTo(3);
+        assertThat(ledger.getUsed(SEARCH, "idA")).isEqualTo(3);
+        assertThat(ledger.getUsed(SEARCH)).isEqualTo(3);
+    }
+    
+    @Test
+    @DisplayName("그룹 예산이 차면 Client ID 예약도 되돌리고, 반환한 예약은 다시 사용 가능")
+    void testReservationRollbackAndRelease() {
+        // Given - Client ID 1개 기준 그룹 예산 3
+        QuotaLedger ledger = new QuotaLedger(config().build(), 1, clock);
+        assertThat(ledger.tryReserve(SEARCH, idA)).isTrue();
+        assertThat(ledger.tryReserve(SEARCH, idA)).isTrue();
+        assertThat(ledger.tryReserve(SEARCH, idB)).isTrue();
+        
+        // When & Then - 그룹 예산 소진: idB 사용량은 올라가지 않음
+        assertThat(ledger.tryReserve(SEARCH, idB)).isFalse();
+        assertThat(ledger.getUsed(SEARCH, "idB")).isEqualTo(1);
+        assertThat(ledger.getUsed(SEARCH)).isEqualTo(3);
+        
+        // When - 보내지 않은 요청 반환
+        ledger.release(SEARCH, idA);
+        
+        // Then
+        assertThat(ledger.getUsed(SEARCH, "idA")).isEqualTo(1);
+        assertThat(ledger.tryReserve(SEARCH, idB)).isTrue();
+        assertThat(ledger.getRemaining(SEARCH)).isZero();
+    }
+    
+    @Test
+    @DisplayName("사용량을 파일에 저장하고 같은 날 재시작 시 복원")
+    void testPersistsUsageAcrossRestarts() {
+        // Given
+        ApiConfig apiConfig = config().quotaFile(tempDir.resolve("quota.properties").toString()).build();
+        QuotaLedger ledger = new QuotaLedger(apiConfig, 1, clock);
+        ledger.record(SEARCH, idA);
+        ledger.record(DATALAB, idA);
+        ledger.record(DATALAB, idA);
+        ledger.close();
+        
+        // When
+        QuotaLedger restarted = new QuotaLedger(apiConfig, 1, clock);
+        
+        // Then
+        assertThat(restarted.getUsed(SEARCH, "idA")).isEqualTo(1);
+        assertThat(restarted.getUsed(DATALAB, "idA")).isEqualTo(2);
+        
+        // When - 다음 날 재시작
+        clock.advanceMillis(24 * 60 * 60 * 1000L);
+        QuotaLedger nextDay = new QuotaLedger(apiConfig, 1, clock);
+        
+        // Then
+        assertThat(nextDay.getUsed(DATALAB)).isZero();
+    }
+    
+    @Test
+    @DisplayName("저장 주기가 지나면 close 없이도 백그라운드에서 파일 저장")
+    void testFlushesInBackground() throws InterruptedException {
+        // Given
+        Path file = tempDir.resolve("quota.properties");
+        ApiConfig apiConfig = config().quotaFile(file.toString()).quotaFlushIntervalMillis(0).build();
+        QuotaLedger ledger = new QuotaLedger(apiConfig, 1, clock);
+        
+        // When
+        ledger.record(SEARCH, idA);
+        
+        // Then
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (!Files.exists(file) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(file).exists();
+        assertThat(new QuotaLedger(apiConfig, 1, clock).getUsed(SEARCH, "idA")).isEqualTo(1);
+        ledger.close();
+    }
+    
+    @Test
+    @DisplayName("균등 페이싱: 하루 중 경과 비율 + burst를 넘으면 실패")
+    void testEvenPacing() {
+        // Given - 06:00 KST, 예산 1000 → 250 + burst 10까지 허용
+        QuotaLedger ledger = new QuotaLedger(config()
+            .quotaPacingMode(PacingMode.EVEN)
+            .quotaPacingBurst(10)
+            .quotaPacingMaxWaitMillis(1000)
+            .build(), 1, clock);
+        for (int i = 0; i < 260; i++) {
+            ledger.pace(DATALAB);
+            ledger.record(DATALAB, idA);
+        }
+        
+        // When & Then
+        assertThatThrownBy(() -> ledger.pace(DATALAB)).isInstanceOf(QuotaExhaustedException.class);
+        
+        // When - 1시간 후 약 41건 추가 허용
+        clock.advanceMillis(60 * 60 * 1000L);
+        
+        // Then
+        assertThatCode(() -> ledger.pace(DATALAB)).doesNotThrowAnyException();
+    }
+    
+    /**
+     * 테스트에서 시간을 직접 조절하는 Clock
+     */
+    private static class MutableClock extends Clock {
+        private volatile Instant now;
+        
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+        
+        void advanceMillis(long millis) {
+            now = now.plusMillis(millis);
+        }
+        
+        @Override
+        public ZoneId getZone() {
+            return CredentialPool.NAVER_ZONE;
+        }
+        
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+        
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.naver.openapi.client.ratelimit;
+
+import com.naver.openapi.config.ApiConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.*;
+
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * TokenBucketRateLimiter / RateLimiterRegistry 단위 테스트 (네트워크 불필요)
+ */
+@Slf4j
+@DisplayName("Token Bucket Rate Limiter Tests")
+class TokenBucketRateLimiterTest {
+    
+    @Test
+    @DisplayName("burst 만큼은 대기 없이 허용하고 이후 요청은 대기")
+    void testBurstThenDelay() {
+        // Given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 1, 3);
+        
+        // When & Then
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.reserve()).isPositive();
+    }
+    
+    @Test
+    @DisplayName("여러 스레드에서 호출해도 전체 처리량이 설정 속도를 넘지 않음")
+    void testGlobalRateAcrossThreads() throws Exception {
+        // Given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 50, 1);
+        AtomicInteger acquired = new AtomicInteger();
+        
+        // When - 8개 스레드에서 총 25회 획득
+        long start = System.nanoTime();
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 25; i++) {
+                executor.submit(() -> {
+                    limiter.acquire();
+                    acquired.incrementAndGet();
+                });
+            }
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        
+        // Then - 50/s에서 25회는 최소 약 480ms 소요
+        assertThat(acquired.get()).isEqualTo(25);
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(450);
+        log.info("25 permits at 50/s took {} ms", elapsedMillis);
+    }
+    
+    @Test
+    @DisplayName("쓰지 않은 토큰을 반환하면 다시 대기 없이 획득 가능")
+    void testReleaseReturnsToken() {
+        // Given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 1, 2);
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        
+        // When
+        limiter.release();
+        
+        // Then
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+    }
+    
+    @Test
+    @DisplayName("대기 중 인터럽트되면 예약한 토큰을 반환")
+    void testInterruptedAcquireReleasesToken() throws Exception {
+        // Given - 1/s, burst 1에서 첫 토큰 사용
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 1, 1);
+        limiter.acquire();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread waiter = Thread.ofPlatform().start(() -> {
+            try {
+                limiter.acquire();
+            } catch (IllegalStateException e) {
+                failure.set(e);
+            }
+        });
+        
+        // When - 두 번째 토큰을 기다리는 중 인터럽트
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (waiter.getState() != Thread.State.TIMED_WAITING && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        waiter.interrupt();
+        waiter.join(2000);
+        
+        // Then - 다음 호출은 인터럽트된 예약 뒤가 아니라 그 자리(1초 이내)를 받음
+        assertThat(failure.get()).isInstanceOf(IllegalStateException.class);
+        assertThat(limiter.reserve()).isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+    
+    @Test
+    @DisplayName("429 응답 시 속도 절반 감소, 정상 응답으로 점진 회복")
+    void testAdaptiveRate() {
+        // Given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 10, 1);
+        
+        // When
+        limiter.onThrottled();
+        limiter.onThrottled(); // 쿨다운 내 중복 감소 없음
+        
+        // Then
+        assertThat(limiter.getCurrentRate()).isEqualTo(5.0);
+        assertThat(limiter.getThrottledCount()).isEqualTo(2);
+        
+        for (int i = 0; i < 1000; i++) {
+            limiter.onSuccess();
+        }
+        assertThat(limiter.getCurrentRate()).isEqualTo(10.0);
+    }
+    
+    @Test
+    @DisplayName("가장 긴 경로 prefix의 리미터 선택")
+    void testRegistryLongestPrefix() {
+        // Given
+        ApiConfig apiConfig = new ApiConfig.Builder()
+            .baseUrl("http://localhost")
+            .clientId("id")
+            .clientSecret("secret")
+            .rateLimitEndpoints(Map.of("/v1/search/", 10.0, "/v1/search/news.json", 2.0))
+            .build();
+        RateLimiterRegistry registry = new RateLimiterRegistry(apiConfig);
+        
+        // When & Then
+        assertThat(registry.forPath("/v1/search/news.json").getConfiguredRate()).isEqualTo(2.0);
+        assertThat(registry.forPath("/v1/search/blog.json").getConfiguredRate()).isEqualTo(10.0);
+        assertThat(registry.forPath("/v1/datalab/search")).isSameAs(registry.getDefaultLimiter());
+    }
+}
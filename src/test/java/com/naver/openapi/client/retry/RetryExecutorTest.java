@@ -0,0 +1,178 @@
+package com.naver.openapi.client.retry;
+
+import com.naver.openapi.config.ApiConfig;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.*;
+
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+import java.nio.channels.ClosedByInterruptException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RetryExecutor / RetryBudget 단위 테스트 (네트워크 불필요)
+ */
+@DisplayName("Retry Tests")
+class RetryExecutorTest {
+    
+    private static ApiConfig.Builder config() {
+        return new ApiConfig.Builder()
+            .baseUrl("http://localhost")
+            .clientId("id")
+            .clientSecret("secret")
+            .retryBaseDelayMillis(1)
+            .retryMaxDelayMillis(20)
+            .retryMethodAttempts(Map.of("GET", 3));
+    }
+    
+    private static Response response(int statusCode) {
+        return new ResponseBuilder().setStatusCode(statusCode).setBody("{}").build();
+    }
+    
+    @Test
+    @DisplayName("5xx 응답은 성공할 때까지 재시도")
+    void testRetriesUntilSuccess() {
+        // Given
+        RetryExecutor executor = new RetryExecutor(config().build());
+        AtomicInteger attempts = new AtomicInteger();
+        
+        // When
+        Response result = executor.execute("GET", "/v1/search/blog.json",
+            () -> attempts.incrementAndGet() < 3 ? response(503) : response(200));
+        
+        // Then
+        assertThat(result.statusCode()).isEqualTo(200);
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(executor.getRetryCount()).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("최대 시도 횟수를 넘으면 마지막 응답 반환, 4xx는 재시도하지 않음")
+    void testStopsAtMaxAttempts() {
+        // Given
+        RetryExecutor executor = new RetryExecutor(config().build());
+        AtomicInteger attempts = new AtomicInteger();
+        
+        // When
+        Response exhausted = executor.execute("GET", "/v1/search/blog.json",
+            () -> { attempts.incrementAndGet(); return response(500); });
+        Response notRetried = executor.execute("GET", "/v1/search/blog.json", () -> response(400));
+        
+        // Then
+        assertThat(exhausted.statusCode()).isEqualTo(500);
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(notRetried.statusCode()).isEqualTo(400);
+    }
+    
+    @Test
+    @DisplayName("I/O 예외는 재시도, 그 외 예외는 즉시 전파")
+    void testRetriesIoExceptions() {
+        // Given
+        RetryExecutor executor = new RetryExecutor(config().build());
+        AtomicInteger attempts = new AtomicInteger();
+        
+        // When
+        Response result = executor.execute("GET", "/v1/search/blog.json", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new UncheckedIOException(new SocketTimeoutException("Read timed out"));
+            }
+            return response(200);
+        });
+        
+        // Then
+        assertThat(result.statusCode()).isEqualTo(200);
+        assertThatThrownBy(() -> executor.execute("GET", "/v1/search/blog.json", () -> {
+            throw new IllegalArgumentException("bad request");
+        })).isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    @DisplayName("인터럽트로 중단된 요청은 재시도 · 예산 차감 없이 즉시 전파")
+    void testInterruptIsNotRetried() {
+        // Given
+        RetryExecutor executor = new RetryExecutor(config().build());
+        AtomicInteger attempts = new AtomicInteger();
+        double budgetBefore = executor.getBudget().getTokens();
+        
+        // When & Then - 인터럽트 원인
+        assertThatThrownBy(() -> executor.execute("GET", "/v1/search/blog.json", () -> {
+            attempts.incrementAndGet();
+            throw new UncheckedIOException(new InterruptedIOException("Request interrupted"));
+        })).isInstanceOf(UncheckedIOException.class);
+        assertThatThrownBy(() -> executor.execute("GET", "/v1/search/blog.json", () -> {
+            attempts.incrementAndGet();
+            throw new UncheckedIOException(new ClosedByInterruptException());
+        })).isInstanceOf(UncheckedIOException.class);
+        
+        // When & Then - 인터럽트 플래그가 설정된 스레드의 I/O 예외
+        try {
+            Thread.currentThread().interrupt();
+            assertThatThrownBy(() -> executor.execute("GET", "/v1/search/blog.json", () -> {
+                attempts.incrementAndGet();
+                throw new UncheckedIOException(new SocketTimeoutException("Read timed out"));
+            })).isInstanceOf(UncheckedIOException.class);
+        } finally {
+            Thread.interrupted();
+        }
+        
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(executor.getRetryCount()).isZero();
+        assertThat(executor.getBudget().getTokens()).isEqualTo(budgetBefore);
+    }
+    
+    @Test
+    @DisplayName("엔드포인트 설정이 메서드 설정보다 우선")
+    void testEndpointPolicyOverridesMethod() {
+        // Given
+        RetryExecutor executor = new RetryExecutor(config()
+            .retryEndpointAttempts(Map.of("/v1/datalab/search", 2))
+            .build());
+        
+        // When & Then
+        assertThat(executor.policyFor("POST", "/v1/datalab/search").getMaxAttempts()).isEqualTo(2);
+        assertThat(executor.policyFor("POST", "/v1/search/blog.json").getMaxAttempts()).isEqualTo(1);
+        assertThat(executor.policyFor("get", "/v1/search/blog.json").getMaxAttempts()).isEqualTo(3);
+    }
+    
+    @Test
+    @DisplayName("Retry-After가 최대 대기 시간을 넘으면 재시도하지 않음")
+    void testRetryAfterBeyondMaxDelay() {
+        // Given
+        RetryExecutor executor = new RetryExecutor(config().build());
+        AtomicInteger attempts = new AtomicInteger();
+        
+        // When
+        Response result = executor.execute("GET", "/v1/search/blog.json", () -> {
+            attempts.incrementAndGet();
+            return new ResponseBuilder().setStatusCode(429).setHeader("Retry-After", "120").build();
+        });
+        
+        // Then
+        assertThat(result.statusCode()).isEqualTo(429);
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("실패가 이어지면 재시도 예산이 소진되어 재시도 중단")
+    void testBudgetStopsRetryStorm() {
+        // Given
+        RetryBudget budget = new RetryBudget(10, 0.1);
+        
+        // When
+        for (int i = 0; i < 5; i++) {
+            budget.onFailure();
+        }
+        
+        // Then
+        assertThat(budget.canRetry()).isFalse();
+        for (int i = 0; i < 10; i++) {
+            budget.onSuccess();
+        }
+        assertThat(budget.canRetry()).isTrue();
+    }
+}
@@ -0,0 +1,320 @@
+package com.naver.openapi.client.transport;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.naver.openapi.config.ApiConfig;
+import com.naver.openapi.config.TransportType;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.*;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * JdkHttpTransport 테스트 (로컬 HTTP 서버 사용)
+ */
+@DisplayName("JdkHttpTransport Tests")
+class JdkHttpTransportTest {
+    
+    private static final String POOL_SIZE_PROPERTY = "jdk.httpclient.connectionPoolSize";
+    
+    private static HttpServer server;
+    private static final List<Integer> remotePorts = new CopyOnWriteArrayList<>();
+    private static volatile CountDownLatch blockedArrived;
+    private static volatile CountDownLatch blockedRelease;
+    
+    private JdkHttpTransport transport;
+    
+    @BeforeAll
+    static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/search/blog.json", exchange -> {
+            String query = exchange.getRequestURI().getRawQuery();
+            exchange.getResponseHeaders().add("X-Echo-Query", query == null ? "" : query);
+            respond(exchange, 200, "{\"total\":1,\"start\":1,\"display\":1,\"items\":[{\"title\":\"jdk\"}]}");
+        });
+        server.createContext("/v1/datalab/search", exchange -> {
+            exchange.getResponseHeaders().add("X-Echo-Method", exchange.getRequestMethod());
+            exchange.getResponseHeaders().add("X-Echo-Content-Type", exchange.getRequestHeaders().getFirst("Content-Type"));
+            exchange.getResponseHeaders().add("X-Echo-Client-Id", exchange.getRequestHeaders().getFirst("X-Naver-Client-Id"));
+            respond(exchange, 200, new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+        });
+        server.createContext("/v1/search/missing.json", exchange ->
+            respond(exchange, 404, "{\"errorMessage\":\"Not Found\",\"errorCode\":\"404\"}"));
+        server.createContext("/v1/search/error.json", exchange ->
+            respond(exchange, 500, "{\"errorMessage\":\"System error\",\"errorCode\":\"SE99\"}"));
+        server.createContext("/v1/search/port.json", exchange -> {
+            remotePorts.add(exchange.getRemoteAddress().getPort());
+            respond(exchange, 200, "{}");
+        });
+        server.createContext("/v1/search/blocked.json", exchange -> {
+            blockedArrived.countDown();
+            try {
+                blockedRelease.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "{}");
+        });
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+    }
+    
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+    }
+    
+    @BeforeEach
+    void setUp() {
+        transport = new JdkHttpTransport(config("http://127.0.0.1:" + server.getAddress().getPort()));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        transport.close();
+    }
+    
+    private static ApiConfig config(String baseUrl) {
+        return new ApiConfig.Builder()
+            .baseUrl(baseUrl)
+            .clientId("test-id")
+            .clientSecret("test-secret")
+            .transportType(TransportType.JDK)
+            .connectTimeout(2_000)
+            .readTimeout(5_000)
+            .build();
+    }
+    
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+    
+    @Test
+    @DisplayName("응답을 REST Assured Response로 변환 (상태, 헤더, 본문)")
+    void testConvertsResponse() {
+        // Given
+        ApiRequest request = ApiRequest.builder()
+            .method("GET")
+            .path("/v1/search/blog.json")
+            .queryParams(Map.of("query", "서울 맛집"))
+            .build();
+        
+        // When
+        Response response = transport.execute(request);
+        
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.getStatusLine()).isEqualTo("HTTP/1.1 200");
+        assertThat(response.getContentType()).startsWith("application/json");
+        assertThat(response.getHeader("X-Echo-Query"))
+            .isEqualTo("query=%EC%84%9C%EC%9A%B8%20%EB%A7%9B%EC%A7%91");
+        assertThat(response.jsonPath().getString("items[0].title")).isEqualTo("jdk");
+    }
+    
+    @Test
+    @DisplayName("POST 본문은 JSON으로 직렬화되고 요청 헤더가 전달됨")
+    void testPostsJsonBody() {
+        // Given
+        ApiRequest request = ApiRequest.builder()
+            .method("POST")
+            .path("/v1/datalab/search")
+            .headers(Map.of("X-Naver-Client-Id", "test-id"))
+            .body(Map.of("timeUnit", "month"))
+            .build();
+        
+        // When
+        Response response = transport.execute(request);
+        
+        // Then
+        assertThat(response.getHeader("X-Echo-Method")).isEqualTo("POST");
+        assertThat(response.getHeader("X-Echo-Content-Type")).startsWith("application/json");
+        assertThat(response.getHeader("X-Echo-Client-Id")).isEqualTo("test-id");
+        assertThat(response.jsonPath().getString("timeUnit")).isEqualTo("month");
+    }
+    
+    @Test
+    @DisplayName("오류 상태 코드는 예외 없이 본문과 함께 반환")
+    void testErrorStatusIsReturned() {
+        // When
+        Response notFound = transport.execute(ApiRequest.of("GET", "/v1/search/missing.json"));
+        Response serverError = transport.executeAsync(ApiRequest.of("GET", "/v1/search/error.json")).join();
+        
+        // Then
+        assertThat(notFound.getStatusCode()).isEqualTo(404);
+        assertThat(notFound.jsonPath().getString("errorCode")).isEqualTo("404");
+        assertThat(serverError.getStatusCode()).isEqualTo(500);
+        assertThat(serverError.jsonPath().getString("errorCode")).isEqualTo("SE99");
+    }
+    
+    @Test
+    @DisplayName("연결 실패는 UncheckedIOException으로 전달")
+    void testConnectFailureIsUnchecked() throws IOException {
+        // Given: 바로 닫은 포트
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        
+        // When & Then
+        try (JdkHttpTransport closed = new JdkHttpTransport(config("http://127.0.0.1:" + closedPort))) {
+            assertThatThrownBy(() -> closed.execute(ApiRequest.of("GET", "/v1/search/blog.json")))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasCauseInstanceOf(ConnectException.class);
+        }
+    }
+    
+    @Test
+    @DisplayName("순차 요청은 keep-alive 커넥션을 재사용")
+    void testReusesKeepAliveConnection() {
+        // Given
+        remotePorts.clear();
+        
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertThat(transport.execute(ApiRequest.of("GET", "/v1/search/port.json")).getStatusCode())
+                .isEqualTo(200);
+        }
+        
+        // Then
+        assertThat(remotePorts).hasSize(3);
+        assertThat(remotePorts.stream().distinct()).hasSize(1);
+    }
+    
+    @Test
+    @DisplayName("풀 통계: 진행 중인 요청은 leased, 나머지는 UNKNOWN")
+    void testPoolStatsTrackInFlight() throws Exception {
+        // Given
+        blockedArrived = new CountDownLatch(1);
+        blockedRelease = new CountDownLatch(1);
+        
+        // When
+        CompletableFuture<Response> pending = transport.executeAsync(ApiRequest.of("GET", "/v1/search/blocked.json"));
+        assertThat(blockedArrived.await(5, TimeUnit.SECONDS)).isTrue();
+        ConnectionPoolStats during = transport.getPoolStats();
+        blockedRelease.countDown();
+        pending.get(5, TimeUnit.SECONDS);
+        
+        // Then
+        assertThat(during.getLeased()).isEqualTo(1);
+        assertThat(during.getPending()).isEqualTo(ConnectionPoolStats.UNKNOWN);
+        assertThat(during.getAvailable()).isEqualTo(ConnectionPoolStats.UNKNOWN);
+        assertThat(during.getMaxPerRoute()).isEqualTo(ConnectionPoolStats.UNKNOWN);
+        assertThat(transport.getPoolStats().getLeased()).isZero();
+    }
+    
+    @Test
+    @DisplayName("풀 크기: 생성자는 시스템 프로퍼티를 바꾸지 않고 applyPoolProperties로만 반영")
+    void testPoolSizingIsOptIn() {
+        String saved = System.getProperty(POOL_SIZE_PROPERTY);
+        String savedKeepAlive = System.getProperty("jdk.httpclient.keepalive.timeout");
+        String savedKeepAliveH2 = System.getProperty("jdk.httpclient.keepalive.timeout.h2");
+        System.clearProperty(POOL_SIZE_PROPERTY);
+        System.clearProperty("jdk.httpclient.keepalive.timeout");
+        System.clearProperty("jdk.httpclient.keepalive.timeout.h2");
+        try {
+            // Given
+            ApiConfig config = new ApiConfig.Builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .clientId("test-id")
+                .clientSecret("test-secret")
+                .transportType(TransportType.JDK)
+                .poolMaxTotal(16)
+                .poolMaxPerRoute(8)
+                .keepAliveMillis(45_000)
+                .build();
+            
+            // When & Then: 생성만으로는 JVM 전역 프로퍼티를 건드리지 않음
+            try (JdkHttpTransport unsized = new JdkHttpTransport(config)) {
+                assertThat(System.getProperty(POOL_SIZE_PROPERTY)).isNull();
+                assertThat(unsized.getPoolStats().getMaxTotal()).isEqualTo(ConnectionPoolStats.UNKNOWN);
+            }
+            
+            // When & Then: 명시적으로 적용하면 풀 크기와 keep-alive(초)가 반영됨
+            JdkHttpTransport.applyPoolProperties(config);
+            assertThat(System.getProperty(POOL_SIZE_PROPERTY)).isEqualTo("16");
+            assertThat(System.getProperty("jdk.httpclient.keepalive.timeout")).isEqualTo("45");
+            assertThat(System.getProperty("jdk.httpclient.keepalive.timeout.h2")).isEqualTo("45");
+            assertThat(transport.getPoolStats().getMaxTotal()).isEqualTo(16);
+            
+            // When & Then: 이미 지정된 값은 덮어쓰지 않음
+            JdkHttpTransport.applyPoolProperties(new ApiConfig.Builder()
+                .baseUrl("http://127.0.0.1:1")
+                .clientId("test-id")
+                .clientSecret("test-secret")
+                .poolMaxTotal(64)
+                .build());
+            assertThat(System.getProperty(POOL_SIZE_PROPERTY)).isEqualTo("16");
+        } finally {
+            restore(POOL_SIZE_PROPERTY, saved);
+            restore("jdk.httpclient.keepalive.timeout", savedKeepAlive);
+            restore("jdk.httpclient.keepalive.timeout.h2", savedKeepAliveH2);
+        }
+    }
+    
+    private static void restore(String key, String value) {
+        if (value == null) {
+            System.clearProperty(key);
+        } else {
+            System.setProperty(key, value);
+        }
+    }
+    
+    @Test
+    @DisplayName("JDK 전송 계층이 무시하는 풀 설정이 기본값과 다르면 WARN 로그")
+    void testWarnsAboutIgnoredPoolSettings() {
+        Logger logger = (Logger) LoggerFactory.getLogger(JdkHttpTransport.class);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        String saved = System.getProperty(POOL_SIZE_PROPERTY);
+        System.clearProperty(POOL_SIZE_PROPERTY);
+        try {
+            // Given
+            ApiConfig.Builder builder = new ApiConfig.Builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .clientId("test-id")
+                .clientSecret("test-secret")
+                .transportType(TransportType.JDK);
+            
+            // When & Then: 기본값이면 경고 없음
+            new JdkHttpTransport(builder.build()).close();
+            assertThat(appender.list).noneMatch(event -> event.getLevel() == Level.WARN);
+            
+            // When & Then: 기본값이 아니면 설정마다 경고
+            new JdkHttpTransport(builder.poolMaxTotal(16).poolMaxPerRoute(8).idleEvictionMillis(5_000).build()).close();
+            assertThat(appender.list)
+                .filteredOn(event -> event.getLevel() == Level.WARN)
+                .extracting(ILoggingEvent::getFormattedMessage)
+                .hasSize(3)
+                .anyMatch(message -> message.startsWith("naver.api.pool.maxPerRoute=8"))
+                .anyMatch(message -> message.startsWith("naver.api.pool.idleEviction=5000"))
+                .anyMatch(message -> message.startsWith("naver.api.pool.maxTotal=16"));
+        } finally {
+            logger.detachAppender(appender);
+            restore(POOL_SIZE_PROPERTY, saved);
+        }
+    }
+}
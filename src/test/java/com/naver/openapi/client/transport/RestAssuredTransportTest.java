@@ -0,0 +1,46 @@
+package com.naver.openapi.client.transport;
+
+import com.naver.openapi.client.auth.Credential;
+import com.naver.openapi.config.ApiConfig;
+import io.restassured.config.LogConfig;
+import io.restassured.specification.FilterableRequestSpecification;
+import org.junit.jupiter.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RestAssuredTransport 요청 스펙 테스트 (네트워크 불필요)
+ */
+@DisplayName("RestAssuredTransport Tests")
+class RestAssuredTransportTest {
+    
+    private RestAssuredTransport transport;
+    
+    @BeforeEach
+    void setUp() {
+        transport = new RestAssuredTransport(new ApiConfig.Builder()
+            .baseUrl("http://127.0.0.1:18080")
+            .clientId("test-id")
+            .clientSecret("test-secret")
+            .build());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        transport.close();
+    }
+    
+    @Test
+    @DisplayName("요청마다 로깅 필터가 붙지 않고 Client Secret 헤더는 로그에서 가려짐")
+    void testNoLoggingFiltersPerRequest() {
+        // When
+        FilterableRequestSpecification spec = (FilterableRequestSpecification) transport.prepare(
+            ApiRequest.of("GET", "/v1/search/blog.json"));
+        LogConfig logConfig = spec.getConfig().getLogConfig();
+        
+        // Then
+        assertThat(logConfig.isLoggingOfRequestAndResponseIfValidationFailsEnabled()).isFalse();
+        assertThat(logConfig.blacklistedHeaders()).contains(Credential.HEADER_CLIENT_SECRET);
+        assertThat(spec.getDefinedFilters()).isEmpty();
+    }
+}
@@ -0,0 +1,141 @@
+package com.naver.openapi.mock;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link FaultInjectingProxy}가 요청 하나에 적용할 장애
+ * 
+ * <pre>{@code
+ * Fault.status(429)                                // 업스트림 호출 없이 429 응답
+ * Fault.reset()                                    // 응답 전에 TCP RST로 연결 끊기
+ * Fault.stall(Duration.ofSeconds(30))              // 본문 절반만 보내고 멈춤 (read timeout 유발)
+ * Fault.slowBody(64, Duration.ofMillis(50))        // 64 bytes씩 50ms 간격으로 전송
+ * Fault.none().withLatency(LatencyDistribution.logNormal(50, 0.5))
+ * Fault.status(500).withProbability(0.1)           // 10% 요청만 500
+ * }</pre>
+ */
+public final class Fault {
+    
+    /**
+     * 장애 종류
+     */
+    public enum Type {
+        /** 업스트림 응답을 그대로 전달 (지연만 적용 가능) */
+        NONE,
+        /** 업스트림 호출 없이 지정한 상태 코드로 응답 */
+        STATUS,
+        /** 응답 없이 TCP RST로 연결 종료 */
+        RESET,
+        /** 헤더와 본문 일부만 보낸 뒤 멈추고 연결 종료 */
+        STALL,
+        /** 본문을 조금씩 천천히 전송 */
+        SLOW_BODY
+    }
+    
+    private static final Fault NONE = new Fault(Type.NONE, 0, 0, Duration.ZERO, null, 1.0);
+    
+    private final Type type;
+    private final int statusCode;
+    private final int chunkBytes;
+    private final Duration duration;
+    private final LatencyDistribution latency;
+    private final double probability;
+    
+    private Fault(Type type, int statusCode, int chunkBytes, Duration duration, LatencyDistribution latency,
+                  double probability) {
+        this.type = type;
+        this.statusCode = statusCode;
+        this.chunkBytes = chunkBytes;
+        this.duration = duration;
+        this.latency = latency;
+        this.probability = probability;
+    }
+    
+    public static Fault none() {
+        return NONE;
+    }
+    
+    /**
+     * 업스트림 호출 없이 Naver API 오류 형식으로 응답 (429는 errorCode 012, 그 외 SE99)
+     */
+    public static Fault status(int statusCode) {
+        return new Fault(Type.STATUS, statusCode, 0, Duration.ZERO, null, 1.0);
+    }
+    
+    public static Fault reset() {
+        return new Fault(Type.RESET, 0, 0, Duration.ZERO, null, 1.0);
+    }
+    
+    /**
+     * 응답 헤더와 본문 절반을 보낸 뒤 지정한 시간 동안 아무것도 보내지 않고 연결 종료
+     */
+    public static Fault stall(Duration stallFor) {
+        return new Fault(Type.STALL, 0, 0, stallFor, null, 1.0);
+    }
+    
+    /**
+     * 응답 본문을 chunkBytes씩 interval 간격으로 전송
+     */
+    public static Fault slowBody(int chunkBytes, Duration interval) {
+        if (chunkBytes <= 0) {
+            throw new IllegalArgumentException("chunkBytes must be positive: " + chunkBytes);
+        }
+        return new Fault(Type.SLOW_BODY, 0, chunkBytes, interval, null, 1.0);
+    }
+    
+    /**
+     * 응답 전 지연 시간 추가 (서버 처리 시간에 해당)
+     */
+    public Fault withLatency(LatencyDistribution latency) {
+        return new Fault(type, statusCode, chunkBytes, duration, latency, probability);
+    }
+    
+    /**
+     * 지정한 확률로만 적용 (나머지 요청은 지연 없이 그대로 전달)
+     */
+    public Fault withProbability(double probability) {
+        if (probability < 0 || probability > 1) {
+            throw new IllegalArgumentException("probability must be between 0 and 1: " + probability);
+        }
+        return new Fault(type, statusCode, chunkBytes, duration, latency, probability);
+    }
+    
+    /**
+     * 이번 요청에 적용할지 결정 (적용하지 않으면 {@link #none()})
+     */
+    Fault roll() {
+        return probability >= 1 || ThreadLocalRandom.current().nextDouble() < probability ? this : NONE;
+    }
+    
+    long sampleLatencyMillis() {
+        return latency == null ? 0 : Math.max(0, latency.sampleMillis());
+    }
+    
+    public Type getType() {
+        return type;
+    }
+    
+    public int getStatusCode() {
+        return statusCode;
+    }
+    
+    public int getChunkBytes() {
+        return chunkBytes;
+    }
+    
+    public Duration getDuration() {
+        return duration;
+    }
+    
+    @Override
+    public String toString() {
+        return switch (type) {
+            case NONE -> "none";
+            case STATUS -> "status(" + statusCode + ")";
+            case RESET -> "reset";
+            case STALL -> "stall(" + duration.toMillis() + "ms)";
+            case SLOW_BODY -> "slowBody(" + chunkBytes + "B/" + duration.toMillis() + "ms)";
+        } + (latency != null ? "+latency" : "") + (probability < 1 ? "@" + probability : "");
+    }
+}
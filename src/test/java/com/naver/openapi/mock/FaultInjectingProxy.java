@@ -0,0 +1,434 @@
+package com.naver.openapi.mock;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 장애/지연 주입 프록시
+ * 
+ * <p>클라이언트와 업스트림(실제 API 또는 {@link MockNaverApiServer}) 사이에서 HTTP/1.1 요청을 중계하며,
+ * 요청마다 {@link Fault}를 적용합니다. TCP RST나 본문 일부 전송 후 멈춤처럼 HTTP 서버 API로는 만들 수 없는
+ * 장애를 재현하기 위해 소켓을 직접 다룹니다.</p>
+ * 
+ * <p>적용 순서: {@link #enqueue(Fault, int)}로 예약한 장애를 요청 순서대로 하나씩 소비하고,
+ * 예약이 없으면 {@link #setDefaultFault(Fault)}를 적용합니다.</p>
+ * 
+ * <pre>{@code
+ * try (FaultInjectingProxy proxy = FaultInjectingProxy.to(server.getBaseUrl())) {
+ *     proxy.setDefaultFault(Fault.none().withLatency(LatencyDistribution.logNormal(50, 0.5)));
+ *     proxy.enqueue(Fault.status(500), 2);   // 다음 두 요청은 500
+ *     proxy.enqueue(Fault.reset());          // 그다음 요청은 연결 끊김
+ *     ApiConfig apiConfig = new ApiConfig.Builder().baseUrl(proxy.getBaseUrl())...build();
+ * }
+ * }</pre>
+ */
+@Slf4j
+public class FaultInjectingProxy implements AutoCloseable {
+    
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+        "connection", "keep-alive", "proxy-connection", "transfer-encoding", "te", "trailer", "upgrade",
+        "http2-settings", "host", "content-length", "expect");
+    private static final int MAX_HEADER_BYTES = 64 * 1024;
+    
+    private final URI upstream;
+    private final ServerSocket serverSocket;
+    private final HttpClient upstreamClient;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private final ConcurrentLinkedDeque<Fault> scripted = new ConcurrentLinkedDeque<>();
+    private volatile Fault defaultFault = Fault.none();
+    private final LongAdder requestCount = new LongAdder();
+    private final Map<Fault.Type, LongAdder> injectedCounts = new EnumMap<>(Fault.Type.class);
+    
+    /**
+     * 요청 한 건 (요청 줄, 헤더, 본문)
+     */
+    private record ProxyRequest(String method, String target, List<String[]> headers, byte[] body,
+                                boolean closeAfter) {
+    }
+    
+    private FaultInjectingProxy(String upstreamBaseUrl, int port) {
+        this.upstream = URI.create(upstreamBaseUrl.endsWith("/")
+            ? upstreamBaseUrl.substring(0, upstreamBaseUrl.length() - 1)
+            : upstreamBaseUrl);
+        for (Fault.Type type : Fault.Type.values()) {
+            injectedCounts.put(type, new LongAdder());
+        }
+        this.upstreamClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+        try {
+            this.serverSocket = new ServerSocket();
+            serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start fault injecting proxy on port " + port, e);
+        }
+    }
+    
+    /**
+     * 임의의 빈 포트로 프록시 시작
+     */
+    public static FaultInjectingProxy to(String upstreamBaseUrl) {
+        return to(upstreamBaseUrl, 0);
+    }
+    
+    /**
+     * 지정한 포트로 프록시 시작
+     * 
+     * @param upstreamBaseUrl 중계 대상 Base URL (예: http://127.0.0.1:18080, https://openapi.naver.com)
+     * @param port 수신 포트 (0이면 임의의 빈 포트)
+     */
+    public static FaultInjectingProxy to(String upstreamBaseUrl, int port) {
+        return new FaultInjectingProxy(upstreamBaseUrl, port).start();
+    }
+    
+    /**
+     * 생성이 끝난 뒤 수락 스레드 시작
+     */
+    private FaultInjectingProxy start() {
+        Thread.ofPlatform().name("fault-proxy-acceptor").daemon(true).start(this::acceptLoop);
+        log.info("Fault injecting proxy started - {} -> {}", getBaseUrl(), upstream);
+        return this;
+    }
+    
+    /**
+     * 다음 요청 하나에 적용할 장애 예약
+     */
+    public FaultInjectingProxy enqueue(Fault fault) {
+        return enqueue(fault, 1);
+    }
+    
+    /**
+     * 다음 요청 times건에 같은 장애 예약 (429/500 연속 응답 등)
+     */
+    public FaultInjectingProxy enqueue(Fault fault, int times) {
+        for (int i = 0; i < times; i++) {
+            scripted.addLast(fault);
+        }
+        return this;
+    }
+    
+    /**
+     * 예약된 장애가 없을 때 모든 요청에 적용할 장애 (지연 분포, 확률적 오류 등)
+     */
+    public FaultInjectingProxy setDefaultFault(Fault fault) {
+        this.defaultFault = fault;
+        return this;
+    }
+    
+    /**
+     * 예약된 장애와 기본 장애 모두 제거
+     */
+    public void clear() {
+        scripted.clear();
+        defaultFault = Fault.none();
+    }
+    
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.add(socket);
+                executor.execute(() -> serve(socket));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    log.warn("Fault injecting proxy failed to accept connection: {}", e.getMessage());
+                }
+            }
+        }
+    }
+    
+    /**
+     * 연결 하나에서 Keep-Alive 요청을 순서대로 처리
+     */
+    private void serve(Socket socket) {
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            InputStream input = new BufferedInputStream(socket.getInputStream());
+            OutputStream output = socket.getOutputStream();
+            while (true) {
+                ProxyRequest request = readRequest(input);
+                if (request == null) {
+                    return;
+                }
+                requestCount.increment();
+                Fault fault = nextFault();
+                injectedCounts.get(fault.getType()).increment();
+                sleep(fault.sampleLatencyMillis());
+                if (!respond(socket, output, request, fault) || request.closeAfter()) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            log.debug("Fault injecting proxy connection closed: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            connections.remove(socket);
+        }
+    }
+    
+    private Fault nextFault() {
+        Fault fault = scripted.pollFirst();
+        return (fault != null ? fault : defaultFault).roll();
+    }
+    
+    /**
+     * 장애를 적용해 응답 (연결을 계속 쓸 수 있으면 true)
+     */
+    private boolean respond(Socket socket, OutputStream output, ProxyRequest request, Fault fault)
+            throws IOException, InterruptedException {
+        switch (fault.getType()) {
+            case RESET -> {
+                socket.setSoLinger(true, 0);
+                return false;
+            }
+            case STATUS -> {
+                String errorCode = fault.getStatusCode() == 429 ? "012" : "SE99";
+                byte[] body = ("{\"errorMessage\":\"Injected fault (" + fault.getStatusCode() + ")\","
+                               + "\"errorCode\":\"" + errorCode + "\"}").getBytes(StandardCharsets.UTF_8);
+                writeHead(output, fault.getStatusCode(), contentType("application/json;charset=UTF-8"), body.length);
+                output.write(body);
+                output.flush();
+                return true;
+            }
+            default -> {
+                // NONE, STALL, SLOW_BODY는 업스트림 응답을 받아 전달
+            }
+        }
+        
+        HttpResponse<byte[]> response;
+        try {
+            response = upstreamClient.send(toUpstream(request), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            byte[] body = ("Bad Gateway: " + e).getBytes(StandardCharsets.UTF_8);
+            writeHead(output, 502, contentType("text/plain;charset=UTF-8"), body.length);
+            output.write(body);
+            output.flush();
+            return true;
+        }
+        List<String[]> headers = new ArrayList<>();
+        response.headers().map().forEach((name, values) -> {
+            if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase()) && !name.startsWith(":")) {
+                values.forEach(value -> headers.add(new String[] {name, value}));
+            }
+        });
+        byte[] body = response.body();
+        writeHead(output, response.statusCode(), headers, body.length);
+        
+        switch (fault.getType()) {
+            case STALL -> {
+                output.write(body, 0, body.length / 2);
+                output.flush();
+                sleep(fault.getDuration().toMillis());
+                return false;
+            }
+            case SLOW_BODY -> {
+                output.flush();
+                for (int offset = 0; offset < body.length; offset += fault.getChunkBytes()) {
+                    output.write(body, offset, Math.min(fault.getChunkBytes(), body.length - offset));
+                    output.flush();
+                    sleep(fault.getDuration().toMillis());
+                }
+                return true;
+            }
+            default -> {
+                output.write(body);
+                output.flush();
+                return true;
+            }
+        }
+    }
+    
+    private HttpRequest toUpstream(ProxyRequest request) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(upstream + request.target()))
+            .method(request.method(), request.body().length == 0
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(request.body()));
+        for (String[] header : request.headers()) {
+            if (!HOP_BY_HOP_HEADERS.contains(header[0].toLowerCase())) {
+                builder.header(header[0], header[1]);
+            }
+        }
+        return builder.build();
+    }
+    
+    private static List<String[]> contentType(String value) {
+        return Collections.singletonList(new String[] {"Content-Type", value});
+    }
+    
+    private static void writeHead(OutputStream output, int status, List<String[]> headers, int contentLength)
+            throws IOException {
+        StringBuilder head = new StringBuilder(256).append("HTTP/1.1 ").append(status).append(' ')
+            .append(status < 400 ? "OK" : "Error").append("\r\n");
+        for (String[] header : headers) {
+            head.append(header[0]).append(": ").append(header[1]).append("\r\n");
+        }
+        head.append("Content-Length: ").append(contentLength).append("\r\n\r\n");
+        output.write(head.toString().getBytes(StandardCharsets.ISO_8859_1));
+    }
+    
+    /**
+     * HTTP/1.1 요청 읽기 (연결이 정상 종료되면 null)
+     */
+    private static ProxyRequest readRequest(InputStream input) throws IOException {
+        String requestLine = readLine(input);
+        if (requestLine == null) {
+            return null;
+        }
+        String[] parts = requestLine.split(" ");
+        if (parts.length < 3) {
+            throw new IOException("Malformed request line: " + requestLine);
+        }
+        List<String[]> headers = new ArrayList<>();
+        int contentLength = 0;
+        boolean chunked = false;
+        boolean closeAfter = parts[2].equals("HTTP/1.0");
+        int headerBytes = 0;
+        String line;
+        while ((line = readLine(input)) != null && !line.isEmpty()) {
+            headerBytes += line.length();
+            if (headerBytes > MAX_HEADER_BYTES) {
+                throw new IOException("Request headers too large");
+            }
+            int colon = line.indexOf(':');
+            if (colon <= 0) {
+                continue;
+            }
+            String name = line.substring(0, colon).trim();
+            String value = line.substring(colon + 1).trim();
+            headers.add(new String[] {name, value});
+            switch (name.toLowerCase()) {
+                case "content-length" -> contentLength = Integer.parseInt(value);
+                case "transfer-encoding" -> chunked = value.toLowerCase().contains("chunked");
+                case "connection" -> closeAfter = value.equalsIgnoreCase("close");
+                default -> {
+                    // 그대로 전달
+                }
+            }
+        }
+        byte[] body = chunked ? readChunked(input) : input.readNBytes(contentLength);
+        if (body.length < contentLength) {
+            throw new EOFException("Request body truncated");
+        }
+        return new ProxyRequest(parts[0], parts[1], headers, body, closeAfter);
+    }
+    
+    private static byte[] readChunked(InputStream input) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        while (true) {
+            String sizeLine = readLine(input);
+            if (sizeLine == null) {
+                throw new EOFException("Chunked body truncated");
+            }
+            int semicolon = sizeLine.indexOf(';');
+            int size = Integer.parseInt((semicolon >= 0 ? sizeLine.substring(0, semicolon) : sizeLine).trim(), 16);
+            if (size == 0) {
+                String trailer;
+                while ((trailer = readLine(input)) != null && !trailer.isEmpty()) {
+                    // 트레일러 헤더 무시
+                }
+                return body.toByteArray();
+            }
+            body.write(input.readNBytes(size));
+            readLine(input);
+        }
+    }
+    
+    /**
+     * CRLF로 끝나는 한 줄 읽기 (스트림 끝이면 null)
+     */
+    private static String readLine(InputStream input) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+        int b;
+        while ((b = input.read()) != -1) {
+            if (b == '\n') {
+                byte[] bytes = line.toByteArray();
+                int length = bytes.length > 0 && bytes[bytes.length - 1] == '\r' ? bytes.length - 1 : bytes.length;
+                return new String(bytes, 0, length, StandardCharsets.ISO_8859_1);
+            }
+            line.write(b);
+        }
+        return line.size() == 0 ? null : line.toString(StandardCharsets.ISO_8859_1);
+    }
+    
+    private static void sleep(long millis) throws InterruptedException {
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+    
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + getPort();
+    }
+    
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+    
+    /**
+     * 받은 요청 수
+     */
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+    
+    /**
+     * 장애 종류별 적용 횟수 ({@link Fault.Type#NONE}은 그대로 전달한 요청 수)
+     */
+    public long getInjectedCount(Fault.Type type) {
+        return injectedCounts.get(type).sum();
+    }
+    
+    /**
+     * 수신 중지 및 열린 연결 모두 종료
+     */
+    @Override
+    public void close() {
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            log.debug("Failed to close proxy server socket: {}", e.getMessage());
+        }
+        for (Socket socket : connections) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                log.debug("Failed to close proxy connection: {}", e.getMessage());
+            }
+        }
+        executor.shutdownNow();
+        upstreamClient.shutdownNow();
+        log.info("Fault injecting proxy stopped - {} requests", getRequestCount());
+    }
+}
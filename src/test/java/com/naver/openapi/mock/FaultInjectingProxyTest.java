@@ -0,0 +1,146 @@
+package com.naver.openapi.mock;
+
+import com.naver.openapi.client.NaverApiClient;
+import com.naver.openapi.client.auth.Credential;
+import com.naver.openapi.config.ApiConfig;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * FaultInjectingProxy 단위 테스트 (MockNaverApiServer를 업스트림으로 사용, 외부 네트워크 불필요)
+ */
+@DisplayName("Fault Injecting Proxy Tests")
+class FaultInjectingProxyTest {
+    
+    private static final String BLOG_PATH = "/v1/search/blog.json";
+    
+    private MockNaverApiServer server;
+    private FaultInjectingProxy proxy;
+    
+    @BeforeEach
+    void setUp() {
+        server = MockNaverApiServer.builder().credential("id", "secret").rateLimit(1000, 1000).build();
+        proxy = FaultInjectingProxy.to(server.getBaseUrl());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        proxy.close();
+        server.close();
+    }
+    
+    private ApiConfig.Builder config() {
+        return new ApiConfig.Builder()
+            .baseUrl(proxy.getBaseUrl())
+            .clientId("id")
+            .clientSecret("secret")
+            .loggingEnabled(false)
+            .rateLimitEnabled(false)
+            .cacheEnabled(false)
+            .retryBaseDelayMillis(1)
+            .retryMaxDelayMillis(20);
+    }
+    
+    private HttpResponse<String> get(HttpClient httpClient) throws Exception {
+        return httpClient.send(HttpRequest.newBuilder(URI.create(proxy.getBaseUrl() + BLOG_PATH + "?query=java"))
+                                   .header(Credential.HEADER_CLIENT_ID, "id")
+                                   .header(Credential.HEADER_CLIENT_SECRET, "secret")
+                                   .build(),
+                               HttpResponse.BodyHandlers.ofString());
+    }
+    
+    /**
+     * lastBuildDate는 초 단위로 바뀌므로 본문 비교에서 제외
+     */
+    private static String withoutBuildDate(String body) {
+        return body.replaceFirst("\"lastBuildDate\":\"[^\"]*\"", "");
+    }
+    
+    @Test
+    @DisplayName("500 연속 응답은 재시도로 복구되고 주입 횟수가 기록됨")
+    void testStatusBurstIsRetried() {
+        // Given
+        proxy.enqueue(Fault.status(500), 2);
+        NaverApiClient client = new NaverApiClient(config().build());
+        
+        // When
+        Response response = client.get(BLOG_PATH, Map.of("query", "java"));
+        
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(client.getRetryExecutor().getRetryCount()).isEqualTo(2);
+        assertThat(proxy.getInjectedCount(Fault.Type.STATUS)).isEqualTo(2);
+        assertThat(proxy.getRequestCount()).isEqualTo(3);
+        assertThat(server.getRequestCount()).isEqualTo(1);
+        client.close();
+    }
+    
+    @Test
+    @DisplayName("연결 끊김은 I/O 예외로 전달되고, 이후 요청은 정상 처리")
+    void testConnectionReset() throws Exception {
+        // Given - JDK HttpClient는 GET을 한 번 자동 재시도하므로 POST로 확인
+        proxy.enqueue(Fault.reset());
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        HttpRequest post = HttpRequest.newBuilder(URI.create(proxy.getBaseUrl() + MockNaverApiServer.DATALAB_PATH))
+            .header(Credential.HEADER_CLIENT_ID, "id")
+            .header(Credential.HEADER_CLIENT_SECRET, "secret")
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString("{}"))
+            .build();
+        
+        // When & Then
+        assertThatThrownBy(() -> httpClient.send(post, HttpResponse.BodyHandlers.ofString()))
+            .isInstanceOf(IOException.class);
+        assertThat(get(httpClient).statusCode()).isEqualTo(200);
+        assertThat(proxy.getInjectedCount(Fault.Type.RESET)).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("본문 전송이 멈추면 read timeout으로 빠르게 실패")
+    void testStalledReadTimesOut() {
+        // Given
+        proxy.enqueue(Fault.stall(Duration.ofSeconds(5)));
+        NaverApiClient client = new NaverApiClient(config().readTimeout(300).retryEnabled(false).build());
+        
+        // When
+        long start = System.nanoTime();
+        Throwable thrown = catchThrowable(() -> client.get(BLOG_PATH, Map.of("query", "java")));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        
+        // Then
+        assertThat(thrown).isNotNull();
+        assertThat(elapsedMillis).isLessThan(3000);
+        client.close();
+    }
+    
+    @Test
+    @DisplayName("지연과 느린 본문은 응답 시간에 반영되고 본문은 손상되지 않음")
+    void testLatencyAndSlowBody() throws Exception {
+        // Given
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        String expected = get(httpClient).body();
+        proxy.enqueue(Fault.slowBody(expected.length() / 4 + 1, Duration.ofMillis(50))
+                          .withLatency(LatencyDistribution.fixed(100)));
+        
+        // When
+        long start = System.nanoTime();
+        HttpResponse<String> response = get(httpClient);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(withoutBuildDate(response.body())).isEqualTo(withoutBuildDate(expected));
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(100 + 3 * 50);
+        assertThat(proxy.getInjectedCount(Fault.Type.SLOW_BODY)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,49 @@
+package com.naver.openapi.mock;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 주입할 지연 시간 분포 (ms)
+ * 
+ * <pre>{@code
+ * LatencyDistribution.fixed(100)
+ * LatencyDistribution.uniform(20, 80)
+ * LatencyDistribution.logNormal(50, 0.5)      // 중앙값 50ms, 긴 꼬리
+ * LatencyDistribution.bimodal(30, 2000, 0.02) // 2%는 2초 (헤지/타임아웃 측정용)
+ * }</pre>
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+    
+    /**
+     * 다음 요청에 적용할 지연 시간 (ms, 0 이상)
+     */
+    long sampleMillis();
+    
+    static LatencyDistribution fixed(long millis) {
+        return () -> millis;
+    }
+    
+    static LatencyDistribution uniform(long minMillis, long maxMillis) {
+        return () -> ThreadLocalRandom.current().nextLong(minMillis, maxMillis + 1);
+    }
+    
+    /**
+     * 로그 정규 분포 (실제 API 응답 시간처럼 오른쪽 꼬리가 긴 분포)
+     * 
+     * @param medianMillis 중앙값
+     * @param sigma 로그 표준편차 (클수록 꼬리가 김, 0.5면 p99가 중앙값의 약 3.2배)
+     */
+    static LatencyDistribution logNormal(double medianMillis, double sigma) {
+        return () -> Math.round(medianMillis * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+    
+    /**
+     * 대부분은 빠르고 일부만 매우 느린 분포
+     * 
+     * @param slowProbability 느린 응답 비율 (0~1)
+     */
+    static LatencyDistribution bimodal(long fastMillis, long slowMillis, double slowProbability) {
+        return () -> ThreadLocalRandom.current().nextDouble() < slowProbability ? slowMillis : fastMillis;
+    }
+}
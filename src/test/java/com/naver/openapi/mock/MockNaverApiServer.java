@@ -0,0 +1,408 @@
+package com.naver.openapi.mock;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naver.openapi.client.auth.Credential;
+import com.naver.openapi.client.auth.CredentialPool;
+import com.naver.openapi.client.ratelimit.TokenBucketRateLimiter;
+import com.naver.openapi.config.ApiConfig;
+import com.naver.openapi.config.CredentialEntry;
+import com.naver.openapi.config.Environment;
+import com.naver.openapi.model.request.SearchTrendRequest;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 오프라인 부하/통합 테스트용 Naver Open API 대역 서버
+ * 
+ * <p>{@code GET /v1/search/{blog,news,book,...}.json}과 {@code POST /v1/datalab/search}를
+ * 실제 API와 같은 응답 형식, 페이지 규칙(display 1~100, start 1~1000), 오류 코드로 구현합니다.
+ * 요청마다 {@code X-Naver-Client-Id}/{@code X-Naver-Client-Secret}을 확인하고,
+ * Client ID별 초당 요청 수(429, errorCode 012)와 일일 한도(429, errorCode 010)를 적용합니다.</p>
+ * 
+ * <pre>{@code
+ * try (MockNaverApiServer server = MockNaverApiServer.builder().credential("id", "secret").build()) {
+ *     ApiConfig apiConfig = new ApiConfig.Builder()
+ *         .baseUrl(server.getBaseUrl())
+ *         .clientId("id")
+ *         .clientSecret("secret")
+ *         .build();
+ * }
+ * }</pre>
+ * 
+ * <p>{@code local} 환경 설정({@code -Plocal})은 이 서버를 가리키며, 단독 실행도 가능합니다
+ * ({@link #main(String[])}).</p>
+ */
+@Slf4j
+public class MockNaverApiServer implements AutoCloseable {
+    
+    public static final String SEARCH_PATH = "/v1/search/";
+    public static final String DATALAB_PATH = "/v1/datalab/search";
+    
+    private static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+    private static final String SEARCH_SUFFIX = ".json";
+    private static final int MAX_DISPLAY = 100;
+    private static final int MAX_START = 1000;
+    
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private final SearchResultGenerator searchGenerator;
+    private final TrendResultGenerator trendGenerator = new TrendResultGenerator();
+    private final Map<String, String> credentials;
+    private final double rateLimitPerSecond;
+    private final int rateLimitBurst;
+    private final long searchDailyQuota;
+    private final long datalabDailyQuota;
+    private final Map<String, TokenBucketRateLimiter> rateLimiters = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> usage = new ConcurrentHashMap<>();
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder rateLimitedCount = new LongAdder();
+    
+    /**
+     * API 오류 응답 (실제 API와 같은 {@code errorMessage}/{@code errorCode} 형식)
+     */
+    private static class ApiError extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        private final int status;
+        private final String errorCode;
+        
+        ApiError(int status, String errorCode, String errorMessage) {
+            super(errorMessage, null, false, false);
+            this.status = status;
+            this.errorCode = errorCode;
+        }
+    }
+    
+    private MockNaverApiServer(Builder builder) {
+        this.credentials = Map.copyOf(builder.credentials);
+        this.rateLimitPerSecond = builder.rateLimitPerSecond;
+        this.rateLimitBurst = builder.rateLimitBurst;
+        this.searchDailyQuota = builder.searchDailyQuota;
+        this.datalabDailyQuota = builder.datalabDailyQuota;
+        this.searchGenerator = new SearchResultGenerator(objectMapper, builder.clock);
+        try {
+            this.server = HttpServer.create(new InetSocketAddress(builder.host, builder.port), builder.backlog);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start mock Naver API server on port " + builder.port, e);
+        }
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        log.info("Mock Naver API server started - {} (client IDs: {})", getBaseUrl(), credentials.keySet());
+    }
+    
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    /**
+     * 설정의 Base URL 포트와 Client ID/Secret으로 서버 시작
+     */
+    public static MockNaverApiServer forConfig(ApiConfig apiConfig) {
+        URI baseUri = URI.create(apiConfig.getBaseUrl());
+        Builder builder = builder()
+            .host(baseUri.getHost())
+            .port(baseUri.getPort() < 0 ? 80 : baseUri.getPort());
+        for (CredentialEntry entry : apiConfig.getCredentials()) {
+            builder.credential(entry.getClientId(), entry.getClientSecret());
+        }
+        return builder.build();
+    }
+    
+    /**
+     * 단독 실행 ({@code local} 환경 설정 사용, 종료 시 Ctrl+C)
+     */
+    public static void main(String[] args) {
+        MockNaverApiServer server = forConfig(ApiConfig.fromEnvironment(Environment.LOCAL, false));
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+    }
+    
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requestCount.increment();
+            try {
+                byte[] body = route(exchange);
+                send(exchange, 200, body);
+            } catch (ApiError e) {
+                send(exchange, e.status, error(e.errorCode, e.getMessage()));
+            } catch (RuntimeException e) {
+                log.warn("Mock server failed to handle {}: {}", exchange.getRequestURI(), e.toString());
+                send(exchange, 500, error("SE99", "System Error (시스템 에러)"));
+            }
+        }
+    }
+    
+    private byte[] route(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String family;
+        if (path.startsWith(SEARCH_PATH) && path.endsWith(SEARCH_SUFFIX)) {
+            family = SEARCH_PATH;
+            requireMethod(exchange, "GET");
+        } else if (path.equals(DATALAB_PATH)) {
+            family = DATALAB_PATH;
+            requireMethod(exchange, "POST");
+        } else {
+            throw new ApiError(404, "404", "Not Exist Api (존재하지 않는 API입니다.)");
+        }
+        
+        String clientId = authenticate(exchange);
+        TokenBucketRateLimiter rateLimiter = rateLimiter(clientId);
+        if (rateLimiter != null && !rateLimiter.tryAcquire()) {
+            rateLimitedCount.increment();
+            throw new ApiError(429, "012", "Rate limit exceeded. (속도 제한을 초과했습니다.)");
+        }
+        long quota = family.equals(SEARCH_PATH) ? searchDailyQuota : datalabDailyQuota;
+        if (usage.computeIfAbsent(family + '|' + clientId, key -> new AtomicLong()).incrementAndGet() > quota) {
+            rateLimitedCount.increment();
+            throw new ApiError(429, "010", "Request limit Exceeded (요청 한도를 초과했습니다.)");
+        }
+        
+        if (family.equals(SEARCH_PATH)) {
+            String type = path.substring(SEARCH_PATH.length(), path.length() - SEARCH_SUFFIX.length());
+            return search(type, queryParams(exchange.getRequestURI().getRawQuery()));
+        }
+        return datalab(exchange.getRequestBody());
+    }
+    
+    private static void requireMethod(HttpExchange exchange, String method) {
+        if (!method.equals(exchange.getRequestMethod())) {
+            throw new ApiError(405, "405", "Method Not Allowed (" + method + "만 지원합니다.)");
+        }
+    }
+    
+    /**
+     * 인증 헤더 확인 (실패 시 401, errorCode 024)
+     */
+    private String authenticate(HttpExchange exchange) {
+        String clientId = exchange.getRequestHeaders().getFirst(Credential.HEADER_CLIENT_ID);
+        String clientSecret = exchange.getRequestHeaders().getFirst(Credential.HEADER_CLIENT_SECRET);
+        String expected = clientId == null ? null : credentials.get(clientId);
+        if (expected == null) {
+            throw new ApiError(401, "024", "Not Exist Client ID : Authentication failed. (인증에 실패했습니다.)");
+        }
+        if (!expected.equals(clientSecret)) {
+            throw new ApiError(401, "024", "Invalid Client Secret : Authentication failed. (인증에 실패했습니다.)");
+        }
+        return clientId;
+    }
+    
+    /**
+     * Client ID별 레이트 리미터 (제한 없음이면 null)
+     */
+    private TokenBucketRateLimiter rateLimiter(String clientId) {
+        if (rateLimitPerSecond <= 0) {
+            return null;
+        }
+        return rateLimiters.computeIfAbsent(clientId,
+            id -> new TokenBucketRateLimiter("mock:" + id, rateLimitPerSecond, rateLimitBurst));
+    }
+    
+    private byte[] search(String type, Map<String, String> params) throws IOException {
+        if (!SearchResultGenerator.TYPES.contains(type)) {
+            throw new ApiError(404, "SE05", "Invalid search api (존재하지 않는 검색 api 입니다.)");
+        }
+        String query = params.get("query");
+        if (query == null || query.isBlank()) {
+            throw new ApiError(400, "SE01", "Incorrect query request (잘못된 쿼리요청입니다.)");
+        }
+        int display = intParam(params, "display", 10, MAX_DISPLAY, "SE02", "Invalid display value (부적절한 display 값입니다.)");
+        int start = intParam(params, "start", 1, MAX_START, "SE03", "Invalid start value (부적절한 start 값입니다.)");
+        String sort = params.getOrDefault("sort", "sim");
+        if (!sort.equals("sim") && !sort.equals("date")) {
+            throw new ApiError(400, "SE04", "Invalid sort value (부적절한 sort 값입니다.)");
+        }
+        return objectMapper.writeValueAsBytes(searchGenerator.generate(type, query, start, display, sort));
+    }
+    
+    private static int intParam(Map<String, String> params, String name, int defaultValue, int max,
+                                String errorCode, String errorMessage) {
+        String value = params.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            if (parsed >= 1 && parsed <= max) {
+                return parsed;
+            }
+        } catch (NumberFormatException ignored) {
+            // 아래에서 400 응답
+        }
+        throw new ApiError(400, errorCode, errorMessage);
+    }
+    
+    private byte[] datalab(InputStream requestBody) throws IOException {
+        SearchTrendRequest request;
+        try {
+            request = objectMapper.readValue(requestBody, SearchTrendRequest.class);
+        } catch (IOException e) {
+            throw new ApiError(400, "400", "Invalid request body (요청 본문이 올바르지 않습니다.)");
+        }
+        String invalid = TrendResultGenerator.validate(request);
+        if (invalid != null) {
+            throw new ApiError(400, "400", invalid);
+        }
+        return objectMapper.writeValueAsBytes(trendGenerator.generate(request));
+    }
+    
+    private static Map<String, String> queryParams(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            params.putIfAbsent(name, value);
+        }
+        return params;
+    }
+    
+    private byte[] error(String errorCode, String errorMessage) throws IOException {
+        Map<String, String> body = new LinkedHashMap<>();
+        body.put("errorMessage", errorMessage);
+        body.put("errorCode", errorCode);
+        return objectMapper.writeValueAsBytes(body);
+    }
+    
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+    
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + getPort();
+    }
+    
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+    
+    /**
+     * 받은 요청 수 (오류 응답 포함)
+     */
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+    
+    /**
+     * 속도 제한/일일 한도로 거절한 요청 수
+     */
+    public long getRateLimitedCount() {
+        return rateLimitedCount.sum();
+    }
+    
+    /**
+     * Client ID의 엔드포인트 그룹({@link #SEARCH_PATH}, {@link #DATALAB_PATH})별 오늘 사용량
+     */
+    public long getUsed(String family, String clientId) {
+        AtomicLong used = usage.get(family + '|' + clientId);
+        return used == null ? 0 : used.get();
+    }
+    
+    /**
+     * 일일 사용량 초기화 (실제 API의 KST 자정 초기화에 해당)
+     */
+    public void resetUsage() {
+        usage.clear();
+    }
+    
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+        log.info("Mock Naver API server stopped - {} requests, {} rate limited",
+                 getRequestCount(), getRateLimitedCount());
+    }
+    
+    public static class Builder {
+        private String host = "127.0.0.1";
+        private int port = 0;
+        private int backlog = 1024;
+        private final Map<String, String> credentials = new LinkedHashMap<>();
+        private double rateLimitPerSecond = 10;
+        private int rateLimitBurst = 10;
+        private long searchDailyQuota = 25_000;
+        private long datalabDailyQuota = 1_000;
+        private Clock clock = Clock.system(CredentialPool.NAVER_ZONE);
+        
+        public Builder host(String host) {
+            this.host = host;
+            return this;
+        }
+        
+        /**
+         * 수신 포트 (0이면 임의의 빈 포트)
+         */
+        public Builder port(int port) {
+            this.port = port;
+            return this;
+        }
+        
+        public Builder backlog(int backlog) {
+            this.backlog = backlog;
+            return this;
+        }
+        
+        public Builder credential(String clientId, String clientSecret) {
+            this.credentials.put(clientId, clientSecret);
+            return this;
+        }
+        
+        /**
+         * Client ID별 초당 요청 수 (0 이하면 제한 없음)
+         */
+        public Builder rateLimit(double permitsPerSecond, int burst) {
+            this.rateLimitPerSecond = permitsPerSecond;
+            this.rateLimitBurst = burst;
+            return this;
+        }
+        
+        /**
+         * Client ID별 일일 한도 (검색 / DataLab)
+         */
+        public Builder dailyQuota(long searchDailyQuota, long datalabDailyQuota) {
+            this.searchDailyQuota = searchDailyQuota;
+            this.datalabDailyQuota = datalabDailyQuota;
+            return this;
+        }
+        
+        public Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+        
+        public MockNaverApiServer build() {
+            if (credentials.isEmpty()) {
+                throw new IllegalStateException("at least one credential is required");
+            }
+            return new MockNaverApiServer(this);
+        }
+    }
+}
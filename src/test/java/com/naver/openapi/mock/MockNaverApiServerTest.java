@@ -0,0 +1,145 @@
+package com.naver.openapi.mock;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naver.openapi.client.auth.Credential;
+import org.junit.jupiter.api.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * MockNaverApiServer 단위 테스트 (외부 네트워크 불필요)
+ */
+@DisplayName("Mock Naver API Server Tests")
+class MockNaverApiServerTest {
+    
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    
+    private HttpResponse<String> get(MockNaverApiServer server, String pathAndQuery, String secret) throws Exception {
+        return httpClient.send(HttpRequest.newBuilder(URI.create(server.getBaseUrl() + pathAndQuery))
+                                   .header(Credential.HEADER_CLIENT_ID, "id")
+                                   .header(Credential.HEADER_CLIENT_SECRET, secret)
+                                   .build(),
+                               HttpResponse.BodyHandlers.ofString());
+    }
+    
+    @Test
+    @DisplayName("같은 검색어는 total이 고정되고, 페이지마다 다른 아이템을 반환")
+    void testSearchPagination() throws Exception {
+        try (MockNaverApiServer server = MockNaverApiServer.builder().credential("id", "secret").build()) {
+            // When
+            JsonNode first = OBJECT_MAPPER.readTree(
+                get(server, "/v1/search/blog.json?query=%EB%A7%9B%EC%A7%91&display=100&start=1", "secret").body());
+            JsonNode second = OBJECT_MAPPER.readTree(
+                get(server, "/v1/search/blog.json?query=%EB%A7%9B%EC%A7%91&display=100&start=101", "secret").body());
+            JsonNode again = OBJECT_MAPPER.readTree(
+                get(server, "/v1/search/blog.json?query=%EB%A7%9B%EC%A7%91&display=100&start=1", "secret").body());
+            
+            // Then
+            assertThat(first.get("total").asInt()).isEqualTo(second.get("total").asInt());
+            assertThat(first.get("start").asInt()).isEqualTo(1);
+            assertThat(second.get("start").asInt()).isEqualTo(101);
+            assertThat(first.get("items")).hasSize(100);
+            assertThat(first.get("items").get(0).get("title").asText()).contains("<b>맛집</b>");
+            assertThat(first.get("items").get(0).has("bloggername")).isTrue();
+            assertThat(first.get("items").get(0)).isNotEqualTo(second.get("items").get(0));
+            assertThat(again.get("items")).isEqualTo(first.get("items"));
+        }
+    }
+    
+    @Test
+    @DisplayName("인증 실패, 잘못된 파라미터는 실제 API와 같은 오류 코드로 응답")
+    void testErrors() throws Exception {
+        try (MockNaverApiServer server = MockNaverApiServer.builder().credential("id", "secret").build()) {
+            // When
+            HttpResponse<String> unauthorized = get(server, "/v1/search/blog.json?query=a", "wrong");
+            HttpResponse<String> badDisplay = get(server, "/v1/search/blog.json?query=a&display=101", "secret");
+            HttpResponse<String> badStart = get(server, "/v1/search/news.json?query=a&start=1001", "secret");
+            HttpResponse<String> unknownApi = get(server, "/v1/search/unknown.json?query=a", "secret");
+            
+            // Then
+            assertThat(unauthorized.statusCode()).isEqualTo(401);
+            assertThat(OBJECT_MAPPER.readTree(unauthorized.body()).get("errorCode").asText()).isEqualTo("024");
+            assertThat(badDisplay.statusCode()).isEqualTo(400);
+            assertThat(OBJECT_MAPPER.readTree(badDisplay.body()).get("errorCode").asText()).isEqualTo("SE02");
+            assertThat(OBJECT_MAPPER.readTree(badStart.body()).get("errorCode").asText()).isEqualTo("SE03");
+            assertThat(OBJECT_MAPPER.readTree(unknownApi.body()).get("errorCode").asText()).isEqualTo("SE05");
+        }
+    }
+    
+    @Test
+    @DisplayName("초당 요청 수와 일일 한도를 넘으면 429 (errorCode 012 / 010)")
+    void testRateLimitAndQuota() throws Exception {
+        try (MockNaverApiServer server = MockNaverApiServer.builder()
+                 .credential("id", "secret")
+                 .rateLimit(1, 2)
+                 .dailyQuota(3, 1)
+                 .build()) {
+            // When - burst 2 이후 즉시 호출
+            int first = get(server, "/v1/search/blog.json?query=a", "secret").statusCode();
+            int second = get(server, "/v1/search/blog.json?query=a", "secret").statusCode();
+            HttpResponse<String> throttled = get(server, "/v1/search/blog.json?query=a", "secret");
+            
+            // Then
+            assertThat(first).isEqualTo(200);
+            assertThat(second).isEqualTo(200);
+            assertThat(throttled.statusCode()).isEqualTo(429);
+            assertThat(OBJECT_MAPPER.readTree(throttled.body()).get("errorCode").asText()).isEqualTo("012");
+            
+            // When - 토큰 보충 후 한도(3) 초과
+            Thread.sleep(1100);
+            get(server, "/v1/search/blog.json?query=a", "secret");
+            Thread.sleep(1100);
+            HttpResponse<String> exhausted = get(server, "/v1/search/blog.json?query=a", "secret");
+            
+            // Then
+            assertThat(exhausted.statusCode()).isEqualTo(429);
+            assertThat(OBJECT_MAPPER.readTree(exhausted.body()).get("errorCode").asText()).isEqualTo("010");
+            assertThat(server.getUsed(MockNaverApiServer.SEARCH_PATH, "id")).isEqualTo(4);
+            assertThat(server.getRateLimitedCount()).isEqualTo(2);
+        }
+    }
+    
+    @Test
+    @DisplayName("DataLab 트렌드는 모든 그룹 중 최댓값이 100")
+    void testDatalabTrend() throws Exception {
+        try (MockNaverApiServer server = MockNaverApiServer.builder().credential("id", "secret").build()) {
+            // Given
+            String body = """
+                {"startDate":"2024-01-01","endDate":"2024-12-31","timeUnit":"month",
+                 "keywordGroups":[{"groupName":"자바","keywords":["자바","java"]},
+                                  {"groupName":"파이썬","keywords":["파이썬","python"]}]}
+                """;
+            
+            // When
+            HttpResponse<String> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(server.getBaseUrl() + MockNaverApiServer.DATALAB_PATH))
+                    .header(Credential.HEADER_CLIENT_ID, "id")
+                    .header(Credential.HEADER_CLIENT_SECRET, "secret")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(),
+                HttpResponse.BodyHandlers.ofString());
+            
+            // Then
+            assertThat(response.statusCode()).isEqualTo(200);
+            JsonNode results = OBJECT_MAPPER.readTree(response.body()).get("results");
+            assertThat(results).hasSize(2);
+            assertThat(results.get(0).get("data")).hasSize(12);
+            double max = 0;
+            for (JsonNode result : results) {
+                for (JsonNode data : result.get("data")) {
+                    max = Math.max(max, data.get("ratio").asDouble());
+                }
+            }
+            assertThat(max).isEqualTo(100.0);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.naver.openapi.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 검색 API 응답 생성기
+ * 
+ * <p>(검색 종류, 검색어, 정렬, 위치)로 결정되는 난수로 아이템을 만들기 때문에
+ * 같은 요청은 항상 같은 결과를 돌려주고, 페이지가 바뀌면 다른 아이템이 나옵니다.
+ * 아이템 필드와 본문 길이는 실제 API 응답과 비슷하게 맞춥니다 (블로그 아이템 약 500 bytes).</p>
+ */
+class SearchResultGenerator {
+    
+    /**
+     * 지원하는 검색 종류 ({@code /v1/search/{type}.json})
+     */
+    static final Set<String> TYPES = Set.of(
+        "blog", "news", "book", "cafearticle", "kin", "webkr", "encyc", "doc", "image", "shop", "local");
+    
+    private static final DateTimeFormatter RFC_1123 =
+        DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss Z", Locale.ENGLISH);
+    private static final DateTimeFormatter COMPACT_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    
+    private static final String[] PHRASES = {
+        "직접 다녀온 후기를 정리했습니다", "처음 시작하는 분들을 위한 기본 정보", "자주 묻는 질문과 답변 모음",
+        "최근 달라진 점을 비교해 보았습니다", "가격과 구성, 장단점을 한눈에", "현장 사진과 함께 자세히 소개합니다",
+        "전문가가 알려주는 실전 팁", "주말에 가볍게 즐기기 좋은 코스", "실패하지 않는 선택 기준",
+        "사용 3개월 차 솔직한 평가"
+    };
+    private static final String[] NAMES = {"하늘", "바다", "별빛", "도담", "라온", "새봄", "이든", "누리"};
+    private static final String[] CATEGORIES = {"디지털/가전", "생활/건강", "식품", "패션의류", "도서", "스포츠/레저"};
+    
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    
+    SearchResultGenerator(ObjectMapper objectMapper, Clock clock) {
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+    
+    /**
+     * 검색어별 총 결과 수 (1,000 ~ 약 200만, 검색어마다 고정)
+     */
+    static int totalOf(String query) {
+        return 1_000 + Math.floorMod(query.hashCode() * 31 + 17, 2_000_000);
+    }
+    
+    ObjectNode generate(String type, String query, int start, int display, String sort) {
+        int total = totalOf(query);
+        int count = Math.max(0, Math.min(display, total - start + 1));
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("lastBuildDate", RFC_1123.format(now));
+        root.put("total", total);
+        root.put("start", start);
+        root.put("display", count);
+        ArrayNode items = root.putArray("items");
+        for (int position = start; position < start + count; position++) {
+            long seed = ((long) (type + '|' + query + '|' + sort).hashCode() << 32) ^ position;
+            items.add(item(type, query, position, "date".equals(sort), now, new SplittableRandom(seed)));
+        }
+        return root;
+    }
+    
+    private ObjectNode item(String type, String query, int position, boolean byDate, ZonedDateTime now,
+                            SplittableRandom random) {
+        // 날짜순이면 위치가 뒤일수록 오래된 문서
+        ZonedDateTime published = byDate
+            ? now.minusMinutes(position * 37L + random.nextInt(30))
+            : now.minusMinutes(random.nextInt(60 * 24 * 365));
+        String name = NAMES[random.nextInt(NAMES.length)];
+        String account = "user" + random.nextInt(1000, 10000);
+        String id = Long.toString(random.nextLong(100_000_000_000L, 999_999_999_999L));
+        
+        ObjectNode item = objectMapper.createObjectNode();
+        item.put("title", title(query, random));
+        switch (type) {
+            case "blog" -> {
+                item.put("link", "https://blog.naver.com/" + account + "/" + id);
+                item.put("description", description(query, random));
+                item.put("bloggername", name + "의 기록");
+                item.put("bloggerlink", "blog.naver.com/" + account);
+                item.put("postdate", COMPACT_DATE.format(published));
+            }
+            case "news" -> {
+                item.put("originallink", "https://www.news" + random.nextInt(100) + ".co.kr/article/" + id);
+                item.put("link", "https://n.news.naver.com/mnews/article/" + random.nextInt(1000) + "/" + id);
+                item.put("description", description(query, random));
+                item.put("pubDate", RFC_1123.format(published));
+            }
+            case "book" -> {
+                item.put("link", "https://search.shopping.naver.com/book/catalog/" + id);
+                item.put("image", "https://shopping-phinf.pstatic.net/main_" + id + "/" + id + ".jpg");
+                item.put("author", name + "^" + NAMES[random.nextInt(NAMES.length)]);
+                item.put("discount", Integer.toString(random.nextInt(10, 60) * 1000));
+                item.put("publisher", name + "출판");
+                item.put("pubdate", COMPACT_DATE.format(published));
+                item.put("isbn", "979" + id.substring(0, 10));
+                item.put("description", description(query, random) + " " + description(query, random));
+            }
+            case "cafearticle" -> {
+                item.put("link", "https://cafe.naver.com/" + account + "/" + position);
+                item.put("description", description(query, random));
+                item.put("cafename", name + " 카페");
+                item.put("cafeurl", "https://cafe.naver.com/" + account);
+            }
+            case "encyc" -> {
+                item.put("link", "https://terms.naver.com/entry.naver?docId=" + id);
+                item.put("description", description(query, random));
+                item.put("thumbnail", "https://dbscthumb-phinf.pstatic.net/" + id + ".jpg");
+            }
+            case "image" -> {
+                item.put("link", "https://blogfiles.pstatic.net/" + id + ".jpg");
+                item.put("thumbnail", "https://search.pstatic.net/common/?src=" + id);
+                item.put("sizeheight", Integer.toString(random.nextInt(300, 1200)));
+                item.put("sizewidth", Integer.toString(random.nextInt(300, 1600)));
+            }
+            case "shop" -> {
+                int price = random.nextInt(10, 500) * 100;
+                item.put("link", "https://search.shopping.naver.com/gate.nhn?id=" + id);
+                item.put("image", "https://shopping-phinf.pstatic.net/main_" + id + "/" + id + ".jpg");
+                item.put("lprice", Integer.toString(price));
+                item.put("hprice", "");
+                item.put("mallName", name + "몰");
+                item.put("productId", id);
+                item.put("productType", Integer.toString(random.nextInt(1, 4)));
+                item.put("brand", name);
+                item.put("maker", name + "전자");
+                item.put("category1", CATEGORIES[random.nextInt(CATEGORIES.length)]);
+                item.put("category2", "");
+                item.put("category3", "");
+                item.put("category4", "");
+            }
+            case "local" -> {
+                item.put("link", "");
+                item.put("category", CATEGORIES[random.nextInt(CATEGORIES.length)]);
+                item.put("description", "");
+                item.put("telephone", "");
+                item.put("address", "서울특별시 중구 명동 " + random.nextInt(1, 200));
+                item.put("roadAddress", "서울특별시 중구 명동길 " + random.nextInt(1, 100));
+                item.put("mapx", Integer.toString(1269800000 + random.nextInt(100000)));
+                item.put("mapy", Integer.toString(375600000 + random.nextInt(100000)));
+            }
+            default -> {
+                // kin, webkr, doc
+                item.put("link", "https://" + type + ".naver.com/" + id);
+                item.put("description", description(query, random));
+            }
+        }
+        return item;
+    }
+    
+    private static String title(String query, SplittableRandom random) {
+        return "<b>" + query + "</b> " + PHRASES[random.nextInt(PHRASES.length)];
+    }
+    
+    /**
+     * 실제 응답처럼 검색어를 &lt;b&gt; 태그로 강조한 요약 (약 150~250자)
+     */
+    private static String description(String query, SplittableRandom random) {
+        StringBuilder text = new StringBuilder(256);
+        int sentences = random.nextInt(3, 6);
+        for (int i = 0; i < sentences; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            if (random.nextInt(3) == 0) {
+                text.append("<b>").append(query).append("</b> ");
+            }
+            text.append(PHRASES[random.nextInt(PHRASES.length)]).append('.');
+        }
+        return text.toString();
+    }
+}
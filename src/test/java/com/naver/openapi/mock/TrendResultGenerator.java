@@ -0,0 +1,115 @@
+package com.naver.openapi.mock;
+
+import com.naver.openapi.model.request.SearchTrendRequest;
+import com.naver.openapi.model.response.SearchTrendResponse;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * DataLab 검색어 트렌드 응답 생성기
+ * 
+ * <p>검색어 그룹마다 고정된 기본 검색량에 계절성과 잡음을 더한 값을 만들고,
+ * 실제 API처럼 모든 그룹을 통틀어 가장 큰 값이 100이 되도록 비율을 맞춥니다.</p>
+ */
+class TrendResultGenerator {
+    
+    private static final LocalDate MIN_DATE = LocalDate.of(2016, 1, 1);
+    private static final Set<String> TIME_UNITS = Set.of("date", "week", "month");
+    private static final Set<String> DEVICES = Set.of("pc", "mo");
+    private static final Set<String> GENDERS = Set.of("m", "f");
+    private static final int MAX_GROUPS = 5;
+    private static final int MAX_KEYWORDS = 20;
+    
+    /**
+     * 요청 검증 (실패 시 오류 메시지, 정상이면 null)
+     */
+    static String validate(SearchTrendRequest request) {
+        LocalDate startDate;
+        LocalDate endDate;
+        try {
+            startDate = LocalDate.parse(String.valueOf(request.getStartDate()));
+            endDate = LocalDate.parse(String.valueOf(request.getEndDate()));
+        } catch (DateTimeParseException e) {
+            return "Invalid parameter: startDate/endDate must be yyyy-MM-dd";
+        }
+        if (startDate.isBefore(MIN_DATE) || endDate.isBefore(startDate)) {
+            return "Invalid parameter: date range must start from 2016-01-01 and end after startDate";
+        }
+        if (!TIME_UNITS.contains(request.getTimeUnit())) {
+            return "Invalid parameter: timeUnit must be one of date, week, month";
+        }
+        List<SearchTrendRequest.KeywordGroup> groups = request.getKeywordGroups();
+        if (groups == null || groups.isEmpty() || groups.size() > MAX_GROUPS) {
+            return "Invalid parameter: keywordGroups must have 1 to " + MAX_GROUPS + " groups";
+        }
+        for (SearchTrendRequest.KeywordGroup group : groups) {
+            if (group.getGroupName() == null || group.getGroupName().isBlank()
+                || group.getKeywords() == null || group.getKeywords().isEmpty()
+                || group.getKeywords().size() > MAX_KEYWORDS) {
+                return "Invalid parameter: each keyword group needs a groupName and 1 to " + MAX_KEYWORDS + " keywords";
+            }
+        }
+        if (request.getDevice() != null && !DEVICES.contains(request.getDevice())) {
+            return "Invalid parameter: device must be pc or mo";
+        }
+        if (request.getGender() != null && !GENDERS.contains(request.getGender())) {
+            return "Invalid parameter: gender must be m or f";
+        }
+        return null;
+    }
+    
+    SearchTrendResponse generate(SearchTrendRequest request) {
+        LocalDate startDate = LocalDate.parse(request.getStartDate());
+        LocalDate endDate = LocalDate.parse(request.getEndDate());
+        List<LocalDate> periods = periods(startDate, endDate, request.getTimeUnit());
+        
+        List<double[]> volumes = new ArrayList<>();
+        double max = 0;
+        for (SearchTrendRequest.KeywordGroup group : request.getKeywordGroups()) {
+            SplittableRandom random = new SplittableRandom(String.join("|", group.getKeywords()).hashCode());
+            double base = 100 + random.nextInt(10_000);
+            double[] values = new double[periods.size()];
+            for (int i = 0; i < values.length; i++) {
+                double season = 1 + 0.3 * Math.sin(2 * Math.PI * periods.get(i).getDayOfYear() / 365.0);
+                values[i] = base * season * (0.8 + 0.4 * random.nextDouble());
+                max = Math.max(max, values[i]);
+            }
+            volumes.add(values);
+        }
+        
+        List<SearchTrendResponse.TrendResult> results = new ArrayList<>();
+        for (int g = 0; g < volumes.size(); g++) {
+            SearchTrendRequest.KeywordGroup group = request.getKeywordGroups().get(g);
+            List<SearchTrendResponse.TrendData> data = new ArrayList<>(periods.size());
+            for (int i = 0; i < periods.size(); i++) {
+                double ratio = Math.round(volumes.get(g)[i] / max * 100 * 100_000) / 100_000.0;
+                data.add(new SearchTrendResponse.TrendData(periods.get(i).toString(), ratio));
+            }
+            results.add(new SearchTrendResponse.TrendResult(group.getGroupName(), group.getKeywords(), data));
+        }
+        return new SearchTrendResponse(request.getStartDate(), request.getEndDate(), request.getTimeUnit(), results);
+    }
+    
+    /**
+     * 구간 시작일 목록 (주간은 월요일, 월간은 1일 기준이며 첫 구간은 조회 시작일)
+     */
+    private static List<LocalDate> periods(LocalDate startDate, LocalDate endDate, String timeUnit) {
+        List<LocalDate> periods = new ArrayList<>();
+        LocalDate period = startDate;
+        while (!period.isAfter(endDate)) {
+            periods.add(period);
+            period = switch (timeUnit) {
+                case "week" -> period.plusDays(7 - (period.getDayOfWeek().getValue() - 1));
+                case "month" -> period.withDayOfMonth(1).plusMonths(1);
+                default -> period.plus(1, ChronoUnit.DAYS);
+            };
+        }
+        return periods;
+    }
+}